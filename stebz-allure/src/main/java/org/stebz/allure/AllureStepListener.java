@@ -47,6 +47,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Allure {@code StepListener} implementation.
@@ -65,6 +66,7 @@ public class AllureStepListener implements StepListener {
   private final boolean commentParam;
   private final String commentParamName;
   private final boolean isStebzAnnotationsUsed;
+  private final AllureStepStream stream;
 
   /**
    * Ctor.
@@ -94,6 +96,12 @@ public class AllureStepListener implements StepListener {
     this.commentParam = properties.getBoolean("stebz.allure.commentParam", true);
     this.commentParamName = properties.getString("stebz.allure.commentParamName", "Comment");
     this.isStebzAnnotationsUsed = isStebzAnnotationsUsed();
+    this.stream = this.enabled && properties.getBoolean("stebz.allure.streaming", false)
+      ? AllureStepStream.start(
+        properties.getString("stebz.allure.streamingDir", ""),
+        properties.getInteger("stebz.allure.streamingQueueCapacity", 1024)
+      )
+      : null;
   }
 
   /**
@@ -153,7 +161,7 @@ public class AllureStepListener implements StepListener {
                                     final T value,
                                     final Boolean excluded,
                                     final Parameter.Mode mode) {
-    Allure.getLifecycle().updateStep(stepResult ->
+    updateCurrentStep(stepResult ->
       stepResult.getParameters().add(ResultsUtils.createParameter(name, value, excluded, mode))
     );
     return value;
@@ -167,7 +175,7 @@ public class AllureStepListener implements StepListener {
    */
   public static void stepParameter(final ThrowingConsumer<? super Parameter, ?> update) {
     if (update == null) { throw new NullPointerException("update arg is null"); }
-    Allure.getLifecycle().updateStep(stepResult -> {
+    updateCurrentStep(stepResult -> {
       final Parameter parameter = new Parameter();
       ThrowingConsumer.unchecked(update).accept(parameter);
       stepResult.getParameters().add(parameter);
@@ -180,7 +188,7 @@ public class AllureStepListener implements StepListener {
    * @param name the step name
    */
   public static void stepName(final String name) {
-    Allure.getLifecycle().updateStep(stepResult ->
+    updateCurrentStep(stepResult ->
       stepResult.setName(name)
     );
   }
@@ -193,7 +201,7 @@ public class AllureStepListener implements StepListener {
    */
   public static void stepName(final ThrowingFunction<? super String, String, ?> update) {
     if (update == null) { throw new NullPointerException("update arg is null"); }
-    Allure.getLifecycle().updateStep(stepResult ->
+    updateCurrentStep(stepResult ->
       stepResult.setName(ThrowingFunction.unchecked(update).apply(stepResult.getName()))
     );
   }
@@ -204,7 +212,7 @@ public class AllureStepListener implements StepListener {
    * @param status the step status
    */
   public static void stepStatus(final Status status) {
-    Allure.getLifecycle().updateStep(stepResult ->
+    updateCurrentStep(stepResult ->
       stepResult.setStatus(status)
     );
   }
@@ -217,7 +225,7 @@ public class AllureStepListener implements StepListener {
    */
   public static void stepStatus(final Throwable exception) {
     if (exception == null) { throw new NullPointerException("exception arg is null"); }
-    Allure.getLifecycle().updateStep(stepResult ->
+    updateCurrentStep(stepResult ->
       stepResult.setStatus(ResultsUtils.getStatus(exception).orElse(Status.BROKEN))
         .setStatusDetails(ResultsUtils.getStatusDetails(exception).orElse(null))
     );
@@ -231,7 +239,14 @@ public class AllureStepListener implements StepListener {
    */
   public static void updateStep(final ThrowingConsumer<? super StepResult, ?> update) {
     if (update == null) { throw new NullPointerException("update arg is null"); }
-    Allure.getLifecycle().updateStep(ThrowingConsumer.unchecked(update)::accept);
+    updateCurrentStep(ThrowingConsumer.unchecked(update)::accept);
+  }
+
+  private static void updateCurrentStep(final Consumer<StepResult> update) {
+    final AllureStepStream stream = AllureStepStream.instance();
+    if (stream == null || !stream.updateStep(update)) {
+      Allure.getLifecycle().updateStep(update);
+    }
   }
 
   @Override
@@ -276,7 +291,11 @@ public class AllureStepListener implements StepListener {
       this.processStepName(step, step.getName(), params)
     ));
 
-    Allure.getLifecycle().startStep(UUID.randomUUID().toString(), stepResult);
+    if (this.stream != null) {
+      this.stream.startStep(stepResult);
+    } else {
+      Allure.getLifecycle().startStep(UUID.randomUUID().toString(), stepResult);
+    }
   }
 
   @Override
@@ -290,12 +309,17 @@ public class AllureStepListener implements StepListener {
       return;
     }
 
-    final AllureLifecycle allureLifecycle = Allure.getLifecycle();
-    allureLifecycle.updateStep(stepResult -> {
+    final Consumer<StepResult> update = stepResult -> {
       if (stepResult.getStatus() == null) {
         stepResult.setStatus(Status.PASSED);
       }
-    });
+    };
+    if (this.stream != null) {
+      this.stream.stopStep(update);
+      return;
+    }
+    final AllureLifecycle allureLifecycle = Allure.getLifecycle();
+    allureLifecycle.updateStep(update);
     allureLifecycle.stopStep();
   }
 
@@ -310,11 +334,15 @@ public class AllureStepListener implements StepListener {
       return;
     }
 
-    final AllureLifecycle allureLifecycle = Allure.getLifecycle();
-    allureLifecycle.updateStep(stepResult ->
+    final Consumer<StepResult> update = stepResult ->
       stepResult.setStatus(ResultsUtils.getStatus(exception).orElse(Status.BROKEN))
-        .setStatusDetails(ResultsUtils.getStatusDetails(exception).orElse(null))
-    );
+        .setStatusDetails(ResultsUtils.getStatusDetails(exception).orElse(null));
+    if (this.stream != null) {
+      this.stream.stopStep(update);
+      return;
+    }
+    final AllureLifecycle allureLifecycle = Allure.getLifecycle();
+    allureLifecycle.updateStep(update);
     allureLifecycle.stopStep();
   }
 
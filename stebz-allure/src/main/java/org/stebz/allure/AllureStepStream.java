@@ -0,0 +1,688 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.allure;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.util.PropertiesUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming writer of Stebz steps. Serializes step results incrementally to staging files on a background thread and
+ * assembles the final test result file when the test result is written by the Allure lifecycle. Streamed root steps
+ * and steps of the Allure lifecycle (for example, {@code @Step} methods) are merged by start time.
+ *
+ * @see AllureStepListener
+ * @see AllureStreamingTestListener
+ */
+final class AllureStepStream {
+  private static final Logger LOGGER = Logger.getLogger(AllureStepStream.class.getName());
+  private static final Object LOCK = new Object();
+  private static final int CHUNK_SIZE = 8 * 1024;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final long CLOSE_TIMEOUT_SECONDS = 30L;
+  private static final Pattern STEPS_KEY_WITH_PREVIOUS_COMMA = Pattern.compile(",\\s*\"steps\"\\s*:\\s*\\[\\s*]");
+  private static final Pattern STEPS_KEY_WITH_NEXT_COMMA = Pattern.compile("\"steps\"\\s*:\\s*\\[\\s*]\\s*,?");
+  private static volatile AllureStepStream instance = null;
+  private final Path resultsDir;
+  private final Path stagingDir;
+  private final boolean deleteStagingDir;
+  private final ThreadLocal<ThreadState> threadState;
+  private final Set<String> stagedTests;
+  private final Map<String, List<RootStep>> lifecycleSteps;
+  private final BlockingQueue<Task> queue;
+  private final Thread writerThread;
+
+  private AllureStepStream(final Path resultsDir,
+                           final Path stagingDir,
+                           final boolean deleteStagingDir,
+                           final int queueCapacity) {
+    this.resultsDir = resultsDir;
+    this.stagingDir = stagingDir;
+    this.deleteStagingDir = deleteStagingDir;
+    this.threadState = ThreadLocal.withInitial(ThreadState::new);
+    this.stagedTests = ConcurrentHashMap.newKeySet();
+    this.lifecycleSteps = new ConcurrentHashMap<>();
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.writerThread = new Thread(this::writeLoop, "stebz-allure-writer");
+    this.writerThread.setDaemon(true);
+    this.writerThread.start();
+    Runtime.getRuntime().addShutdownHook(new Thread(this::close, "stebz-allure-writer-shutdown"));
+  }
+
+  /**
+   * Returns started {@code AllureStepStream} instance or {@code null} if streaming is not started.
+   *
+   * @return started {@code AllureStepStream} instance or {@code null}
+   */
+  static AllureStepStream instance() {
+    return instance;
+  }
+
+  /**
+   * Starts {@code AllureStepStream} if it is not started yet and returns it.
+   *
+   * @param stagingDir    the staging directory path or empty string to use a temporary directory
+   * @param queueCapacity the capacity of the writer queue, producers wait if the queue is full
+   * @return started {@code AllureStepStream} instance
+   */
+  static AllureStepStream start(final String stagingDir,
+                                final int queueCapacity) {
+    final AllureStepStream current = instance;
+    if (current != null) {
+      return current;
+    }
+    synchronized (LOCK) {
+      if (instance == null) {
+        final Path resultsDir = Paths.get(
+          PropertiesUtils.loadAllureProperties().getProperty("allure.results.directory", "allure-results")
+        );
+        try {
+          instance = new AllureStepStream(
+            resultsDir,
+            stagingDir.isEmpty()
+              ? Files.createTempDirectory("stebz-allure-")
+              : Files.createDirectories(Paths.get(stagingDir)),
+            stagingDir.isEmpty(),
+            queueCapacity
+          );
+        } catch (final IOException ex) {
+          throw new IllegalStateException("Failed to create Allure steps staging directory cause " + ex, ex);
+        }
+      }
+      return instance;
+    }
+  }
+
+  void startStep(final StepResult stepResult) {
+    final ThreadState state = this.threadState.get();
+    if (state.depth == 0) {
+      final String testUuid = Allure.getLifecycle().getCurrentTestCase().orElse(null);
+      state.testUuid = testUuid;
+      if (testUuid != null && !testUuid.equals(state.lastTestUuid)) {
+        state.lastTestUuid = testUuid;
+        this.stagedTests.add(testUuid);
+      }
+    } else if (state.testUuid != null) {
+      final Frame parent = state.frames[state.depth - 1];
+      writeHeader(state.buffer, parent);
+      if (parent.hasChildren) {
+        state.buffer.append(',');
+      }
+      parent.hasChildren = true;
+    }
+    stepResult.setStart(System.currentTimeMillis());
+    state.push(stepResult);
+  }
+
+  void stopStep(final Consumer<StepResult> update) {
+    final ThreadState state = this.threadState.get();
+    if (state.depth == 0) {
+      return;
+    }
+    final Frame frame = state.pop();
+    final StepResult stepResult = frame.stepResult;
+    if (state.testUuid == null) {
+      frame.stepResult = null;
+      return;
+    }
+    update.accept(stepResult);
+    stepResult.setStop(System.currentTimeMillis());
+    final StringBuilder sb = state.buffer;
+    writeHeader(sb, frame);
+    frame.stepResult = null;
+    sb.append(']');
+    if (stepResult.getStatus() != null) {
+      sb.append(",\"status\":");
+      appendString(sb, stepResult.getStatus().name().toLowerCase(Locale.ROOT));
+    }
+    appendStatusDetails(sb, stepResult.getStatusDetails());
+    sb.append(",\"stop\":").append(stepResult.getStop()).append('}');
+    if (state.depth == 0 || sb.length() >= CHUNK_SIZE) {
+      /* root step chunk ends exactly at the end of the root step, its file range is recorded for merging */
+      this.enqueue(new ChunkTask(state.testUuid, Thread.currentThread().getId(), sb.toString(),
+        state.depth == 0, stepResult.getStart()));
+      sb.setLength(0);
+    }
+  }
+
+  boolean updateStep(final Consumer<? super StepResult> update) {
+    final ThreadState state = this.threadState.get();
+    if (state.depth == 0 || state.testUuid == null) {
+      return false;
+    }
+    update.accept(state.frames[state.depth - 1].stepResult);
+    return true;
+  }
+
+  void beforeTestWrite(final TestResult result) {
+    final String uuid = result.getUuid();
+    if (uuid != null && this.stagedTests.contains(uuid)) {
+      final List<StepResult> steps = result.getSteps();
+      if (steps != null && !steps.isEmpty()) {
+        final List<RootStep> rootSteps = new ArrayList<>(steps.size());
+        for (final StepResult step : steps) {
+          final StringBuilder sb = new StringBuilder();
+          appendStepResult(sb, step);
+          rootSteps.add(new RootStep(startOf(step), sb.toString(), null, 0L, 0L));
+        }
+        this.lifecycleSteps.put(uuid, rootSteps);
+        steps.clear();
+      }
+    }
+  }
+
+  void afterTestWrite(final TestResult result) {
+    final String uuid = result.getUuid();
+    if (uuid != null && this.stagedTests.remove(uuid)) {
+      this.enqueue(new AssembleTask(uuid, this.lifecycleSteps.remove(uuid)));
+    }
+  }
+
+  /* waits for the queue space instead of dropping streamed steps */
+  private void enqueue(final Task task) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        this.queue.put(task);
+        break;
+      } catch (final InterruptedException ex) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void close() {
+    this.enqueue(StopTask.INSTANCE);
+    try {
+      this.writerThread.join(TimeUnit.SECONDS.toMillis(CLOSE_TIMEOUT_SECONDS));
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void writeLoop() {
+    final Map<String, Map<Long, StagingFile>> stagingFiles = new HashMap<>();
+    final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    while (true) {
+      final Task task;
+      try {
+        task = this.queue.take();
+      } catch (final InterruptedException ex) {
+        break;
+      }
+      if (task == StopTask.INSTANCE) {
+        break;
+      }
+      try {
+        task.run(this, stagingFiles, encoder, buffer);
+      } catch (final IOException | RuntimeException ex) {
+        LOGGER.log(Level.WARNING, "Stebz Allure steps streaming failed", ex);
+      }
+    }
+    stagingFiles.values().forEach(files -> files.values().forEach(StagingFile::delete));
+    if (this.deleteStagingDir) {
+      try {
+        Files.deleteIfExists(this.stagingDir);
+      } catch (final IOException ex) {
+        LOGGER.log(Level.WARNING, "Failed to delete Stebz Allure steps staging directory " + this.stagingDir, ex);
+      }
+    }
+  }
+
+  private static long startOf(final StepResult stepResult) {
+    final Long start = stepResult.getStart();
+    return start == null ? 0L : start;
+  }
+
+  private static void writeHeader(final StringBuilder sb,
+                                  final Frame frame) {
+    if (frame.headerWritten) {
+      return;
+    }
+    frame.headerWritten = true;
+    final StepResult stepResult = frame.stepResult;
+    sb.append("{\"name\":");
+    appendString(sb, stepResult.getName());
+    sb.append(",\"stage\":\"finished\",\"start\":").append(stepResult.getStart());
+    appendParameters(sb, stepResult.getParameters());
+    sb.append(",\"steps\":[");
+  }
+
+  private static void appendStepResult(final StringBuilder sb,
+                                       final StepResult stepResult) {
+    sb.append("{\"name\":");
+    appendString(sb, stepResult.getName());
+    if (stepResult.getStatus() != null) {
+      sb.append(",\"status\":");
+      appendString(sb, stepResult.getStatus().name().toLowerCase(Locale.ROOT));
+    }
+    appendStatusDetails(sb, stepResult.getStatusDetails());
+    if (stepResult.getStage() != null) {
+      sb.append(",\"stage\":");
+      appendString(sb, stepResult.getStage().name().toLowerCase(Locale.ROOT));
+    }
+    if (stepResult.getStart() != null) {
+      sb.append(",\"start\":").append(stepResult.getStart());
+    }
+    if (stepResult.getStop() != null) {
+      sb.append(",\"stop\":").append(stepResult.getStop());
+    }
+    appendParameters(sb, stepResult.getParameters());
+    final List<Attachment> attachments = stepResult.getAttachments();
+    if (attachments != null && !attachments.isEmpty()) {
+      sb.append(",\"attachments\":[");
+      for (int idx = 0; idx < attachments.size(); idx++) {
+        final Attachment attachment = attachments.get(idx);
+        if (idx != 0) {
+          sb.append(',');
+        }
+        sb.append("{\"name\":");
+        appendString(sb, attachment.getName());
+        sb.append(",\"source\":");
+        appendString(sb, attachment.getSource());
+        sb.append(",\"type\":");
+        appendString(sb, attachment.getType());
+        sb.append('}');
+      }
+      sb.append(']');
+    }
+    sb.append(",\"steps\":[");
+    final List<StepResult> steps = stepResult.getSteps();
+    if (steps != null) {
+      for (int idx = 0; idx < steps.size(); idx++) {
+        if (idx != 0) {
+          sb.append(',');
+        }
+        appendStepResult(sb, steps.get(idx));
+      }
+    }
+    sb.append("]}");
+  }
+
+  private static void appendParameters(final StringBuilder sb,
+                                       final List<Parameter> parameters) {
+    if (parameters == null || parameters.isEmpty()) {
+      return;
+    }
+    sb.append(",\"parameters\":[");
+    for (int idx = 0; idx < parameters.size(); idx++) {
+      final Parameter parameter = parameters.get(idx);
+      if (idx != 0) {
+        sb.append(',');
+      }
+      sb.append("{\"name\":");
+      appendString(sb, parameter.getName());
+      sb.append(",\"value\":");
+      appendString(sb, parameter.getValue());
+      if (parameter.getExcluded() != null) {
+        sb.append(",\"excluded\":").append(parameter.getExcluded());
+      }
+      if (parameter.getMode() != null) {
+        sb.append(",\"mode\":");
+        appendString(sb, parameter.getMode().name().toLowerCase(Locale.ROOT));
+      }
+      sb.append('}');
+    }
+    sb.append(']');
+  }
+
+  private static void appendStatusDetails(final StringBuilder sb,
+                                          final StatusDetails statusDetails) {
+    if (statusDetails == null) {
+      return;
+    }
+    sb.append(",\"statusDetails\":{\"message\":");
+    appendString(sb, statusDetails.getMessage());
+    sb.append(",\"trace\":");
+    appendString(sb, statusDetails.getTrace());
+    sb.append('}');
+  }
+
+  private static void appendString(final StringBuilder sb,
+                                   final String value) {
+    if (value == null) {
+      sb.append("null");
+      return;
+    }
+    sb.append('"');
+    for (int idx = 0; idx < value.length(); idx++) {
+      final char ch = value.charAt(idx);
+      switch (ch) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          if (ch < 0x20) {
+            sb.append(String.format("\\u%04x", (int) ch));
+          } else {
+            sb.append(ch);
+          }
+      }
+    }
+    sb.append('"');
+  }
+
+  private static void write(final FileChannel channel,
+                            final CharSequence value,
+                            final CharsetEncoder encoder,
+                            final ByteBuffer buffer) throws IOException {
+    final CharBuffer chars = CharBuffer.wrap(value);
+    encoder.reset();
+    CoderResult result;
+    do {
+      result = encoder.encode(chars, buffer, true);
+      if (result.isError()) {
+        result.throwException();
+      }
+      drain(channel, buffer);
+    } while (result.isOverflow());
+    do {
+      result = encoder.flush(buffer);
+      drain(channel, buffer);
+    } while (result.isOverflow());
+  }
+
+  private static void drain(final FileChannel channel,
+                            final ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  private interface Task {
+
+    void run(AllureStepStream stream,
+             Map<String, Map<Long, StagingFile>> stagingFiles,
+             CharsetEncoder encoder,
+             ByteBuffer buffer) throws IOException;
+  }
+
+  private enum StopTask implements Task {
+    INSTANCE;
+
+    @Override
+    public void run(final AllureStepStream stream,
+                    final Map<String, Map<Long, StagingFile>> stagingFiles,
+                    final CharsetEncoder encoder,
+                    final ByteBuffer buffer) {
+    }
+  }
+
+  private static final class ChunkTask implements Task {
+    private final String testUuid;
+    private final long threadId;
+    private final String chunk;
+    private final boolean rootEnd;
+    private final long rootStart;
+
+    private ChunkTask(final String testUuid,
+                      final long threadId,
+                      final String chunk,
+                      final boolean rootEnd,
+                      final Long rootStart) {
+      this.testUuid = testUuid;
+      this.threadId = threadId;
+      this.chunk = chunk;
+      this.rootEnd = rootEnd;
+      this.rootStart = rootStart == null ? 0L : rootStart;
+    }
+
+    @Override
+    public void run(final AllureStepStream stream,
+                    final Map<String, Map<Long, StagingFile>> stagingFiles,
+                    final CharsetEncoder encoder,
+                    final ByteBuffer buffer) throws IOException {
+      StagingFile stagingFile = stagingFiles
+        .computeIfAbsent(this.testUuid, key -> new LinkedHashMap<>())
+        .get(this.threadId);
+      if (stagingFile == null) {
+        final Path path = stream.stagingDir.resolve(this.testUuid + "-" + this.threadId + ".json.part");
+        stagingFile = new StagingFile(path, FileChannel.open(path, StandardOpenOption.CREATE,
+          StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+        stagingFiles.get(this.testUuid).put(this.threadId, stagingFile);
+      }
+      write(stagingFile.channel, this.chunk, encoder, buffer);
+      if (this.rootEnd) {
+        final long position = stagingFile.channel.position();
+        stagingFile.rootSteps.add(new RootStep(this.rootStart, null, stagingFile.channel, stagingFile.rootFrom,
+          position));
+        stagingFile.rootFrom = position;
+      }
+    }
+  }
+
+  private static final class AssembleTask implements Task {
+    private final String testUuid;
+    private final List<RootStep> lifecycleSteps;
+
+    private AssembleTask(final String testUuid,
+                         final List<RootStep> lifecycleSteps) {
+      this.testUuid = testUuid;
+      this.lifecycleSteps = lifecycleSteps;
+    }
+
+    @Override
+    public void run(final AllureStepStream stream,
+                    final Map<String, Map<Long, StagingFile>> stagingFiles,
+                    final CharsetEncoder encoder,
+                    final ByteBuffer buffer) throws IOException {
+      final Map<Long, StagingFile> files = stagingFiles.remove(this.testUuid);
+      final List<StagingFile> parts = files == null ? new ArrayList<>() : new ArrayList<>(files.values());
+      try {
+        final Path resultFile = stream.resultsDir.resolve(this.testUuid + "-result.json");
+        if (!Files.exists(resultFile)) {
+          return;
+        }
+        String head = new String(Files.readAllBytes(resultFile), StandardCharsets.UTF_8).trim();
+        final int closingIdx = head.lastIndexOf('}');
+        if (closingIdx < 0) {
+          return;
+        }
+        head = head.substring(0, closingIdx);
+        head = STEPS_KEY_WITH_PREVIOUS_COMMA.matcher(head).replaceFirst("");
+        head = STEPS_KEY_WITH_NEXT_COMMA.matcher(head).replaceFirst("").trim();
+        final Path tempFile = stream.resultsDir.resolve(this.testUuid + "-result.json.tmp");
+        try (FileChannel out = FileChannel.open(tempFile,
+          StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+          write(out, head.endsWith("{") ? head + "\"steps\":[" : head + ",\"steps\":[", encoder, buffer);
+          final List<RootStep> rootSteps = new ArrayList<>();
+          if (this.lifecycleSteps != null) {
+            rootSteps.addAll(this.lifecycleSteps);
+          }
+          for (final StagingFile part : parts) {
+            rootSteps.addAll(part.rootSteps);
+          }
+          /* stable sort, lifecycle steps go first among steps with equal start time */
+          rootSteps.sort(Comparator.comparingLong(rootStep -> rootStep.start));
+          for (int idx = 0; idx < rootSteps.size(); idx++) {
+            if (idx != 0) {
+              write(out, ",", encoder, buffer);
+            }
+            rootSteps.get(idx).write(out, encoder, buffer);
+          }
+          write(out, "]}", encoder, buffer);
+        }
+        try {
+          Files.move(tempFile, resultFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException ex) {
+          Files.move(tempFile, resultFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        for (final StagingFile part : parts) {
+          part.delete();
+        }
+      }
+    }
+  }
+
+  private static final class StagingFile {
+    private final Path path;
+    private final FileChannel channel;
+    private final List<RootStep> rootSteps;
+    private long rootFrom;
+
+    private StagingFile(final Path path,
+                        final FileChannel channel) {
+      this.path = path;
+      this.channel = channel;
+      this.rootSteps = new ArrayList<>();
+      this.rootFrom = 0L;
+    }
+
+    private void delete() {
+      try {
+        this.channel.close();
+      } catch (final IOException ignored) {
+        /* ignored */
+      }
+      try {
+        Files.deleteIfExists(this.path);
+      } catch (final IOException ex) {
+        LOGGER.log(Level.WARNING, "Failed to delete Stebz Allure steps staging file " + this.path, ex);
+      }
+    }
+  }
+
+  /* root step of the test result: serialized lifecycle step or range of a staging file */
+  private static final class RootStep {
+    private final long start;
+    private final String json;
+    private final FileChannel channel;
+    private final long from;
+    private final long to;
+
+    private RootStep(final long start,
+                     final String json,
+                     final FileChannel channel,
+                     final long from,
+                     final long to) {
+      this.start = start;
+      this.json = json;
+      this.channel = channel;
+      this.from = from;
+      this.to = to;
+    }
+
+    private void write(final FileChannel out,
+                       final CharsetEncoder encoder,
+                       final ByteBuffer buffer) throws IOException {
+      if (this.json != null) {
+        AllureStepStream.write(out, this.json, encoder, buffer);
+        return;
+      }
+      long position = this.from;
+      while (position < this.to) {
+        position += this.channel.transferTo(position, this.to - position, out);
+      }
+    }
+  }
+
+  private static final class Frame {
+    private StepResult stepResult;
+    private boolean headerWritten;
+    private boolean hasChildren;
+  }
+
+  private static final class ThreadState {
+    private final StringBuilder buffer = new StringBuilder(CHUNK_SIZE);
+    private Frame[] frames = new Frame[16];
+    private int depth = 0;
+    private String testUuid = null;
+    private String lastTestUuid = null;
+
+    private void push(final StepResult stepResult) {
+      if (this.depth == this.frames.length) {
+        final Frame[] newFrames = new Frame[this.frames.length * 2];
+        System.arraycopy(this.frames, 0, newFrames, 0, this.frames.length);
+        this.frames = newFrames;
+      }
+      Frame frame = this.frames[this.depth];
+      if (frame == null) {
+        frame = new Frame();
+        this.frames[this.depth] = frame;
+      }
+      frame.stepResult = stepResult;
+      frame.headerWritten = false;
+      frame.hasChildren = false;
+      this.depth++;
+    }
+
+    private Frame pop() {
+      return this.frames[--this.depth];
+    }
+  }
+}
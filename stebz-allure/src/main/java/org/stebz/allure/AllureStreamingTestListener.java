@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.allure;
+
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.TestResult;
+
+/**
+ * Allure {@code TestLifecycleListener} implementation that assembles streamed Stebz steps into the test result file.
+ * Takes no effect if {@code stebz.allure.streaming} property is disabled.
+ *
+ * @see AllureStepListener
+ */
+public class AllureStreamingTestListener implements TestLifecycleListener {
+
+  /**
+   * Ctor.
+   */
+  public AllureStreamingTestListener() {
+  }
+
+  @Override
+  public void beforeTestWrite(final TestResult result) {
+    final AllureStepStream stream = AllureStepStream.instance();
+    if (stream != null) {
+      stream.beforeTestWrite(result);
+    }
+  }
+
+  @Override
+  public void afterTestWrite(final TestResult result) {
+    final AllureStepStream stream = AllureStepStream.instance();
+    if (stream != null) {
+      stream.afterTestWrite(result);
+    }
+  }
+}
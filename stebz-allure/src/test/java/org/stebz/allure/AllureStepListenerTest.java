@@ -151,6 +151,33 @@ final class AllureStepListenerTest {
       .isNull();
   }
 
+  @Test
+  void onStepStartAndSuccessMethodsInStreamingMode() {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.allure.streaming", "true");
+    final RunnableStep step = RunnableStep.of(RunnableStep.emptyBody());
+    final NullableOptional<Object> optionalContext = NullableOptional.empty();
+    final AllureStepListener listener = new AllureStepListener(new PropertiesReader.Of(properties));
+    final AtomicReference<StepResult> lifecycleStepRef = new AtomicReference<>();
+    final AtomicReference<StepResult> streamedStepRef = new AtomicReference<>();
+
+    listener.onStepStart(step, optionalContext);
+    try {
+      Allure.getLifecycle().updateStep(lifecycleStepRef::set);
+      AllureStepListener.updateStep(streamedStepRef::set);
+      assertThat(lifecycleStepRef.get())
+        .isNull();
+      assertThat(streamedStepRef.get())
+        .isNotNull();
+    } finally {
+      listener.onStepSuccess(step, optionalContext, NullableOptional.empty());
+    }
+    assertThat(streamedStepRef.get().getStatus())
+      .isSameAs(Status.PASSED);
+    assertThat(streamedStepRef.get().getStop())
+      .isNotNull();
+  }
+
   @Test
   void stepParameter4ArgsMethod() {
     final String argName = "arg name";
@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.allure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import org.junit.jupiter.api.Test;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AllureStepStream}.
+ */
+final class AllureStepStreamTest {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @Test
+  void streamedStepsShouldBeAssembledToValidNestedTestResult() throws Exception {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.allure.streaming", "true");
+    final AllureStepListener listener = new AllureStepListener(new PropertiesReader.Of(properties));
+    final RunnableStep root = RunnableStep.of("Root \"quoted\"", RunnableStep.emptyBody());
+    final RunnableStep child1 = RunnableStep.of("Child 1", RunnableStep.emptyBody());
+    final RunnableStep grandchild = RunnableStep.of("Grandchild\nwith line break", RunnableStep.emptyBody());
+    final RunnableStep child2 = RunnableStep.of("Child 2", RunnableStep.emptyBody());
+    final RunnableStep root2 = RunnableStep.of("Root 2", RunnableStep.emptyBody());
+    final NullableOptional<Object> context = NullableOptional.empty();
+    final AllureLifecycle lifecycle = Allure.getLifecycle();
+    final String uuid = UUID.randomUUID().toString();
+
+    lifecycle.scheduleTestCase(new TestResult().setUuid(uuid).setName("streamed test"));
+    lifecycle.startTestCase(uuid);
+    listener.onStepStart(root, context);
+    listener.onStepStart(child1, context);
+    listener.onStepStart(grandchild, context);
+    listener.onStepSuccess(grandchild, context, NullableOptional.empty());
+    listener.onStepSuccess(child1, context, NullableOptional.empty());
+    listener.onStepStart(child2, context);
+    listener.onStepFailure(child2, context, new AssertionError("child 2 failed"));
+    listener.onStepFailure(root, context, new AssertionError("child 2 failed"));
+    listener.onStepStart(root2, context);
+    listener.onStepSuccess(root2, context, NullableOptional.empty());
+    lifecycle.stopTestCase(uuid);
+    lifecycle.writeTestCase(uuid);
+
+    final JsonNode result = awaitAssembledResult(uuid);
+    assertThat(result.get("uuid").asText())
+      .isEqualTo(uuid);
+    assertThat(result.get("name").asText())
+      .isEqualTo("streamed test");
+    final JsonNode steps = result.get("steps");
+    assertThat(steps.size())
+      .isEqualTo(2);
+    final JsonNode rootNode = steps.get(0);
+    assertThat(rootNode.get("name").asText())
+      .isEqualTo("Root \"quoted\"");
+    assertThat(rootNode.get("status").asText())
+      .isEqualTo("failed");
+    assertThat(rootNode.get("steps").size())
+      .isEqualTo(2);
+    final JsonNode child1Node = rootNode.get("steps").get(0);
+    assertThat(child1Node.get("name").asText())
+      .isEqualTo("Child 1");
+    assertThat(child1Node.get("status").asText())
+      .isEqualTo("passed");
+    assertThat(child1Node.get("steps").size())
+      .isEqualTo(1);
+    assertThat(child1Node.get("steps").get(0).get("name").asText())
+      .isEqualTo("Grandchild\nwith line break");
+    assertThat(child1Node.get("steps").get(0).get("steps").size())
+      .isZero();
+    final JsonNode child2Node = rootNode.get("steps").get(1);
+    assertThat(child2Node.get("name").asText())
+      .isEqualTo("Child 2");
+    assertThat(child2Node.get("statusDetails").get("message").asText())
+      .isEqualTo("child 2 failed");
+    assertThat(steps.get(1).get("name").asText())
+      .isEqualTo("Root 2");
+  }
+
+  @Test
+  void lifecycleAndStreamedStepsShouldBeMergedByStartTime() throws Exception {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.allure.streaming", "true");
+    final AllureStepListener listener = new AllureStepListener(new PropertiesReader.Of(properties));
+    final RunnableStep first = RunnableStep.of("First", RunnableStep.emptyBody());
+    final RunnableStep last = RunnableStep.of("Last", RunnableStep.emptyBody());
+    final NullableOptional<Object> context = NullableOptional.empty();
+    final AllureLifecycle lifecycle = Allure.getLifecycle();
+    final String uuid = UUID.randomUUID().toString();
+    final String lifecycleStepUuid = UUID.randomUUID().toString();
+
+    lifecycle.scheduleTestCase(new TestResult().setUuid(uuid).setName("merged test"));
+    lifecycle.startTestCase(uuid);
+    listener.onStepStart(first, context);
+    listener.onStepSuccess(first, context, NullableOptional.empty());
+    Thread.sleep(5L);
+    lifecycle.startStep(uuid, lifecycleStepUuid, new StepResult().setName("Lifecycle"));
+    lifecycle.stopStep(lifecycleStepUuid);
+    Thread.sleep(5L);
+    listener.onStepStart(last, context);
+    listener.onStepSuccess(last, context, NullableOptional.empty());
+    lifecycle.stopTestCase(uuid);
+    lifecycle.writeTestCase(uuid);
+
+    final JsonNode steps = awaitAssembledResult(uuid).get("steps");
+    assertThat(steps.size())
+      .isEqualTo(3);
+    assertThat(steps.get(0).get("name").asText())
+      .isEqualTo("First");
+    assertThat(steps.get(1).get("name").asText())
+      .isEqualTo("Lifecycle");
+    assertThat(steps.get(2).get("name").asText())
+      .isEqualTo("Last");
+  }
+
+  private static JsonNode awaitAssembledResult(final String uuid) throws Exception {
+    final Path resultsDir = Paths.get("target/allure-results");
+    final Path resultFile = resultsDir.resolve(uuid + "-result.json");
+    final Path tempFile = resultsDir.resolve(uuid + "-result.json.tmp");
+    final long deadline = System.nanoTime() + 10_000_000_000L;
+    while (true) {
+      if (Files.exists(resultFile) && !Files.exists(tempFile)) {
+        final JsonNode result = MAPPER.readTree(resultFile.toFile());
+        final JsonNode steps = result.get("steps");
+        if (steps != null && steps.size() != 0) {
+          return result;
+        }
+      }
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError("Streamed steps are not assembled to " + resultFile);
+      }
+      Thread.sleep(10L);
+    }
+  }
+}
@@ -0,0 +1,315 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.budget;
+
+import dev.jlet.function.ThrowingConsumer;
+import dev.jlet.function.ThrowingFunction;
+import dev.jlet.function.ThrowingRunnable;
+import dev.jlet.function.ThrowingSupplier;
+import org.stebz.core.attribute.SimpleStepAttribute;
+import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.extension.InterceptStep;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.step.StepObj;
+import org.stebz.core.step.executable.ConsumerStep;
+import org.stebz.core.step.executable.FunctionStep;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.core.step.executable.SupplierStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Budget {@link StebzExtension}. Measures the step duration and compares it with the step budget: exceeding the soft
+ * threshold is exposed as a warning via {@link #BUDGET_STATUS} attribute to step success and failure listeners,
+ * exceeding the hard threshold fails the step after completion with {@link BudgetExceededError}. Violations are
+ * aggregated in {@link BudgetReport}.
+ *
+ * @see #BUDGET
+ * @see #budget
+ * @see WithBudget
+ */
+public class BudgetExtension implements InterceptStep {
+
+  /**
+   * Budget step attribute.
+   *
+   * @see WithBudget
+   */
+  public static final SimpleStepAttribute<BudgetOptions> BUDGET = SimpleStepAttribute.nullable("extension:budget");
+
+  /**
+   * Budget step attribute. Alias for {@link #BUDGET}.
+   *
+   * @see WithBudget
+   */
+  public static final SimpleStepAttribute<BudgetOptions> budget = BUDGET;
+
+  /**
+   * Step budget status attribute. Available to step success and failure listeners of steps with budget.
+   */
+  public static final SimpleStepAttribute<StepBudgetStatus> BUDGET_STATUS =
+    SimpleStepAttribute.nullable("extension:budget_status");
+  private static final Logger LOGGER = Logger.getLogger(BudgetExtension.class.getName());
+  private static final SimpleStepAttribute<WithBudget> BUDGET_ANNOT = SimpleStepAttribute.nullable(WithBudget.KEY);
+  private static final AtomicBoolean GLOBAL_REPORT_HOOK = new AtomicBoolean();
+  private final boolean enabled;
+  private final int order;
+  private final BudgetReport report;
+
+  /**
+   * Ctor.
+   */
+  public BudgetExtension() {
+    this(StartupPropertiesReader.get());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   */
+  public BudgetExtension(final PropertiesReader properties) {
+    this(properties, BudgetReport.global());
+  }
+
+  /**
+   * Ctor. The report file is written at JVM shutdown only for {@link BudgetReport#global()} report, the hook is
+   * registered once per JVM.
+   *
+   * @param properties the properties reader
+   * @param report     the report
+   */
+  public BudgetExtension(final PropertiesReader properties,
+                         final BudgetReport report) {
+    if (report == null) { throw new NullPointerException("report arg is null"); }
+    this.enabled = properties.getBoolean("stebz.budget.enabled", true)
+      && !properties.getBoolean("stebz.emptySteps.dryRun", false);
+    this.order = properties.getInteger("stebz.budget.order", LATE_ORDER);
+    this.report = report;
+    if (this.enabled
+      && report == BudgetReport.global()
+      && properties.getBoolean("stebz.budget.writeReport", true)
+      && GLOBAL_REPORT_HOOK.compareAndSet(false, true)) {
+      final Path file = Paths.get(properties.getString("stebz.budget.reportFile", "target/stebz-budget-report.txt"));
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> writeReport(report, file), "stebz-budget-report"));
+    }
+  }
+
+  /**
+   * Returns {@code BudgetOptions} without thresholds. Alias for {@link #budgetOptions()} method.
+   *
+   * @return {@code BudgetOptions}
+   */
+  public static BudgetOptions budget() {
+    return budgetOptions();
+  }
+
+  /**
+   * Returns {@code BudgetOptions} without thresholds.
+   *
+   * @return {@code BudgetOptions}
+   */
+  public static BudgetOptions budgetOptions() {
+    return BudgetOptions.DEFAULT;
+  }
+
+  @Override
+  public int order() {
+    return this.order;
+  }
+
+  @Override
+  public StepObj<?> interceptStep(final StepObj<?> step,
+                                  final NullableOptional<Object> context) {
+    if (!this.enabled) {
+      return step;
+    }
+
+    final long softNanos;
+    final long hardNanos;
+    final WithBudget annot = step.get(BUDGET_ANNOT);
+    if (annot != null) {
+      softNanos = annot.unit().toNanos(annot.soft());
+      hardNanos = annot.unit().toNanos(annot.hard());
+    } else {
+      final BudgetOptions options = step.get(BUDGET);
+      if (options != null) {
+        softNanos = options.soft.toNanos();
+        hardNanos = options.hard.toNanos();
+      } else {
+        return step;
+      }
+    }
+    if (softNanos <= 0L && hardNanos <= 0L) {
+      return step;
+    }
+
+    final StepBudgetStatus status = new StepBudgetStatus(softNanos, hardNanos);
+    final String stepName = step.getKeywordAndName();
+    if (step instanceof RunnableStep) {
+      final RunnableStep runnableStep = (RunnableStep) step.with(BUDGET_STATUS, status);
+      final ThrowingRunnable<?> origin = runnableStep.getBody();
+      return runnableStep.withBody(() -> {
+        this.measure(() -> {
+          origin.run();
+          return null;
+        }, stepName, status);
+      });
+    } else if (step instanceof ConsumerStep) {
+      @SuppressWarnings("unchecked")
+      final ConsumerStep<Object> consumerStep = (ConsumerStep<Object>) step.with(BUDGET_STATUS, status);
+      final ThrowingConsumer<Object, ?> origin = consumerStep.getBody();
+      return consumerStep.withBody(ctx -> {
+        this.measure(() -> {
+          origin.accept(ctx);
+          return null;
+        }, stepName, status);
+      });
+    } else if (step instanceof SupplierStep) {
+      @SuppressWarnings("unchecked")
+      final SupplierStep<Object> supplierStep = (SupplierStep<Object>) step.with(BUDGET_STATUS, status);
+      final ThrowingSupplier<Object, ?> origin = supplierStep.getBody();
+      return supplierStep.withBody(() -> this.measure(origin, stepName, status));
+    } else if (step instanceof FunctionStep) {
+      @SuppressWarnings("unchecked")
+      final FunctionStep<Object, Object> functionStep = (FunctionStep<Object, Object>) step.with(BUDGET_STATUS, status);
+      final ThrowingFunction<Object, Object, ?> origin = functionStep.getBody();
+      return functionStep.withBody(ctx -> this.measure(() -> origin.apply(ctx), stepName, status));
+    }
+    return step;
+  }
+
+  private Object measure(final ThrowingSupplier<Object, ?> body,
+                         final String stepName,
+                         final StepBudgetStatus status) throws Throwable {
+    final long startNanos = System.nanoTime();
+    final Object result;
+    try {
+      result = body.get();
+    } catch (final Throwable ex) {
+      status.complete(System.nanoTime() - startNanos);
+      this.report.add(stepName, status);
+      throw ex;
+    }
+    final StepBudgetStatus.Violation violation = status.complete(System.nanoTime() - startNanos);
+    this.report.add(stepName, status);
+    if (violation == StepBudgetStatus.Violation.HARD) {
+      throw new BudgetExceededError(status.toString());
+    }
+    return result;
+  }
+
+  static void writeReport(final BudgetReport report,
+                          final Path file) {
+    if (report.isEmpty()) {
+      return;
+    }
+    try {
+      final Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      try (PrintStream out = new PrintStream(buffer, true, "UTF-8")) {
+        out.println("# " + ManagementFactory.getRuntimeMXBean().getName() + ' ' + Instant.now());
+        report.print(out);
+        out.println();
+      }
+      /* parallel forks append their sections to the same file */
+      try (FileChannel channel = FileChannel.open(file,
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+           FileLock ignored = channel.lock()) {
+        final ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        while (bytes.hasRemaining()) {
+          channel.write(bytes);
+        }
+      }
+    } catch (final IOException ex) {
+      LOGGER.log(Level.WARNING, "Failed to write budget report to " + file, ex);
+    }
+  }
+
+  /**
+   * Budget options.
+   *
+   * @see #BUDGET
+   */
+  public static final class BudgetOptions {
+    private static final BudgetOptions DEFAULT = new BudgetOptions(Duration.ZERO, Duration.ZERO);
+    private final Duration soft;
+    private final Duration hard;
+
+    /**
+     * Ctor.
+     */
+    private BudgetOptions(final Duration soft,
+                          final Duration hard) {
+      this.soft = soft;
+      this.hard = hard;
+    }
+
+    /**
+     * Returns {@code BudgetOptions} with given soft threshold of the step duration. Exceeding it is reported as a
+     * warning.
+     *
+     * @param soft the soft threshold
+     * @return {@code BudgetOptions} with given soft threshold
+     * @throws NullPointerException if {@code soft} arg is null
+     */
+    public BudgetOptions soft(final Duration soft) {
+      if (soft == null) { throw new NullPointerException("soft arg is null"); }
+      return new BudgetOptions(soft, this.hard);
+    }
+
+    /**
+     * Returns {@code BudgetOptions} with given hard threshold of the step duration. Exceeding it fails the step after
+     * completion.
+     *
+     * @param hard the hard threshold
+     * @return {@code BudgetOptions} with given hard threshold
+     * @throws NullPointerException if {@code hard} arg is null
+     */
+    public BudgetOptions hard(final Duration hard) {
+      if (hard == null) { throw new NullPointerException("hard arg is null"); }
+      return new BudgetOptions(this.soft, hard);
+    }
+  }
+}
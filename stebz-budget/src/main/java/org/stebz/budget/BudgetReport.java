@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.budget;
+
+import java.io.PrintStream;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Budget violations aggregated per step name.
+ */
+public final class BudgetReport {
+  private static final BudgetReport GLOBAL = new BudgetReport();
+  private final Map<String, Entry> entries;
+
+  /**
+   * Ctor.
+   */
+  public BudgetReport() {
+    this.entries = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns global {@code BudgetReport} filled by {@link BudgetExtension}.
+   *
+   * @return global {@code BudgetReport}
+   */
+  public static BudgetReport global() {
+    return GLOBAL;
+  }
+
+  /**
+   * Adds step budget status if the budget is exceeded.
+   *
+   * @param stepName the step name
+   * @param status   the step budget status
+   */
+  public void add(final String stepName,
+                  final StepBudgetStatus status) {
+    if (stepName == null) { throw new NullPointerException("stepName arg is null"); }
+    if (status == null) { throw new NullPointerException("status arg is null"); }
+    if (status.violation() != StepBudgetStatus.Violation.NONE) {
+      this.entries.computeIfAbsent(stepName, key -> new Entry()).add(status);
+    }
+  }
+
+  /**
+   * Returns entries sorted by hard and soft violations count in descending order.
+   *
+   * @return entries
+   */
+  public Map<String, Entry> entries() {
+    final Map<String, Entry> result = new LinkedHashMap<>();
+    this.entries.entrySet().stream()
+      .sorted(Comparator.comparingLong((Map.Entry<String, Entry> entry) -> entry.getValue().hardViolations())
+        .thenComparingLong(entry -> entry.getValue().softViolations())
+        .reversed())
+      .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+    return result;
+  }
+
+  /**
+   * Returns {@code true} if there are no budget violations.
+   *
+   * @return {@code true} if there are no budget violations
+   */
+  public boolean isEmpty() {
+    return this.entries.isEmpty();
+  }
+
+  /**
+   * Removes all entries.
+   */
+  public void reset() {
+    this.entries.clear();
+  }
+
+  /**
+   * Prints report.
+   *
+   * @param out the print stream
+   */
+  public void print(final PrintStream out) {
+    if (out == null) { throw new NullPointerException("out arg is null"); }
+    out.println(String.format(Locale.ROOT, "%10s %10s %16s %16s %16s  %s",
+      "hard", "soft", "max ms", "hard budget ms", "soft budget ms", "step"));
+    this.entries().forEach((name, entry) -> out.println(String.format(Locale.ROOT, "%10d %10d %16.3f %16.3f %16.3f  %s",
+      entry.hardViolations(),
+      entry.softViolations(),
+      entry.maxDurationNanos() / 1_000_000.0,
+      entry.hardNanos() / 1_000_000.0,
+      entry.softNanos() / 1_000_000.0,
+      name)));
+  }
+
+  /**
+   * Budget violations of steps with the same name.
+   */
+  public static final class Entry {
+    private final LongAdder hardViolations = new LongAdder();
+    private final LongAdder softViolations = new LongAdder();
+    private final LongAccumulator maxDuration = new LongAccumulator(Math::max, 0L);
+    private volatile long softNanos;
+    private volatile long hardNanos;
+
+    private void add(final StepBudgetStatus status) {
+      if (status.violation() == StepBudgetStatus.Violation.HARD) {
+        this.hardViolations.increment();
+      } else {
+        this.softViolations.increment();
+      }
+      this.maxDuration.accumulate(status.durationNanos());
+      this.softNanos = status.softNanos();
+      this.hardNanos = status.hardNanos();
+    }
+
+    /**
+     * Returns number of hard threshold violations.
+     *
+     * @return number of hard threshold violations
+     */
+    public long hardViolations() {
+      return this.hardViolations.sum();
+    }
+
+    /**
+     * Returns number of soft threshold violations.
+     *
+     * @return number of soft threshold violations
+     */
+    public long softViolations() {
+      return this.softViolations.sum();
+    }
+
+    /**
+     * Returns max duration of steps exceeded the budget in nanos.
+     *
+     * @return max duration in nanos
+     */
+    public long maxDurationNanos() {
+      return this.maxDuration.get();
+    }
+
+    /**
+     * Returns the last soft threshold in nanos.
+     *
+     * @return soft threshold in nanos
+     */
+    public long softNanos() {
+      return this.softNanos;
+    }
+
+    /**
+     * Returns the last hard threshold in nanos.
+     *
+     * @return hard threshold in nanos
+     */
+    public long hardNanos() {
+      return this.hardNanos;
+    }
+  }
+}
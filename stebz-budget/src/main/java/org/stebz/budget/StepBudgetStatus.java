@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.budget;
+
+import java.util.Locale;
+
+/**
+ * Step budget status: thresholds, measured duration and violation.
+ *
+ * @see BudgetExtension#BUDGET_STATUS
+ */
+public final class StepBudgetStatus {
+  private final long softNanos;
+  private final long hardNanos;
+  private volatile long durationNanos;
+  private volatile Violation violation;
+
+  /**
+   * Ctor.
+   *
+   * @param softNanos the soft threshold in nanos, not checked if not positive
+   * @param hardNanos the hard threshold in nanos, not checked if not positive
+   */
+  StepBudgetStatus(final long softNanos,
+                   final long hardNanos) {
+    this.softNanos = softNanos;
+    this.hardNanos = hardNanos;
+    this.durationNanos = -1L;
+    this.violation = Violation.NONE;
+  }
+
+  Violation complete(final long durationNanos) {
+    final Violation result;
+    if (this.hardNanos > 0L && durationNanos > this.hardNanos) {
+      result = Violation.HARD;
+    } else if (this.softNanos > 0L && durationNanos > this.softNanos) {
+      result = Violation.SOFT;
+    } else {
+      result = Violation.NONE;
+    }
+    this.durationNanos = durationNanos;
+    this.violation = result;
+    return result;
+  }
+
+  /**
+   * Returns soft threshold in nanos, not checked if not positive.
+   *
+   * @return soft threshold in nanos
+   */
+  public long softNanos() {
+    return this.softNanos;
+  }
+
+  /**
+   * Returns hard threshold in nanos, not checked if not positive.
+   *
+   * @return hard threshold in nanos
+   */
+  public long hardNanos() {
+    return this.hardNanos;
+  }
+
+  /**
+   * Returns measured step duration in nanos, or {@code -1} if the step is not completed yet.
+   *
+   * @return measured step duration in nanos
+   */
+  public long durationNanos() {
+    return this.durationNanos;
+  }
+
+  /**
+   * Returns budget violation.
+   *
+   * @return budget violation
+   */
+  public Violation violation() {
+    return this.violation;
+  }
+
+  /**
+   * Returns {@code true} if the soft threshold is exceeded but the hard one is not.
+   *
+   * @return {@code true} if the soft threshold is exceeded but the hard one is not
+   */
+  public boolean isWarning() {
+    return this.violation == Violation.SOFT;
+  }
+
+  @Override
+  public String toString() {
+    final Violation current = this.violation;
+    return current.message(this.durationNanos, current == Violation.HARD ? this.hardNanos : this.softNanos);
+  }
+
+  /**
+   * Budget violation.
+   */
+  public enum Violation {
+
+    /**
+     * Budget is not exceeded.
+     */
+    NONE,
+
+    /**
+     * Soft threshold is exceeded.
+     */
+    SOFT,
+
+    /**
+     * Hard threshold is exceeded.
+     */
+    HARD;
+
+    String message(final long durationNanos,
+                   final long thresholdNanos) {
+      if (this == NONE) {
+        return "Step budget is not exceeded";
+      }
+      return String.format(Locale.ROOT, "Step took %.3fms, %s budget is %.3fms",
+        durationNanos / 1e6, this.name().toLowerCase(Locale.ROOT), thresholdNanos / 1e6);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.budget;
+
+import org.stebz.annotation.StepAttributeAnnotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Step performance budget. Annotation attribute alternative to {@link BudgetExtension#BUDGET} attribute.
+ *
+ * @see BudgetExtension
+ */
+@Documented
+@Target(value = {ElementType.METHOD, ElementType.CONSTRUCTOR, ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+@StepAttributeAnnotation(WithBudget.KEY)
+public @interface WithBudget {
+  /**
+   * {@link WithBudget} step attribute annotation key.
+   */
+  String KEY = "extension:with_budget";
+
+  /**
+   * Soft threshold of the step duration, in time units. Exceeding it is reported as a warning. Not checked if not
+   * positive.
+   *
+   * @return soft threshold
+   * @see #unit()
+   */
+  long soft() default 0L;
+
+  /**
+   * Hard threshold of the step duration, in time units. Exceeding it fails the step after completion. Not checked if
+   * not positive.
+   *
+   * @return hard threshold
+   * @see #unit()
+   */
+  long hard() default 0L;
+
+  /**
+   * Threshold time unit.
+   *
+   * @return threshold time unit
+   */
+  TimeUnit unit() default TimeUnit.MILLISECONDS;
+}
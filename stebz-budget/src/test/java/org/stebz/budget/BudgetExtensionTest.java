@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.budget;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.stebz.core.step.StepObj;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.core.step.executable.SupplierStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.stebz.budget.BudgetExtension.budgetOptions;
+
+/**
+ * Tests for {@link BudgetExtension}.
+ */
+final class BudgetExtensionTest {
+
+  @Test
+  void stepWithoutBudgetShouldNotBeChanged() {
+    final RunnableStep step = RunnableStep.of("step", () -> { });
+    final BudgetExtension extension = new BudgetExtension(properties(), new BudgetReport());
+
+    assertThat(extension.interceptStep(step, NullableOptional.empty()))
+      .isSameAs(step);
+  }
+
+  @Test
+  void softThresholdViolationShouldBeReportedAsWarning() throws Throwable {
+    final BudgetReport report = new BudgetReport();
+    final SupplierStep<Object> step = SupplierStep.<Object>of("slow step", () -> {
+      Thread.sleep(20L);
+      return "result";
+    }).with(BudgetExtension.BUDGET, budgetOptions().soft(Duration.ofMillis(1L)).hard(Duration.ofSeconds(10L)));
+    final BudgetExtension extension = new BudgetExtension(properties(), report);
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThat(((SupplierStep<?>) resultStep).getBody().get())
+      .isEqualTo("result");
+    final StepBudgetStatus status = resultStep.get(BudgetExtension.BUDGET_STATUS);
+    assertThat(status.isWarning())
+      .isTrue();
+    assertThat(status.durationNanos())
+      .isGreaterThanOrEqualTo(Duration.ofMillis(20L).toNanos());
+    assertThat(report.entries())
+      .containsOnlyKeys("slow step");
+    assertThat(report.entries().get("slow step").softViolations())
+      .isEqualTo(1L);
+  }
+
+  @Test
+  void hardThresholdViolationShouldFailStep() {
+    final BudgetReport report = new BudgetReport();
+    final RunnableStep step = RunnableStep.of("slow step", () -> Thread.sleep(20L))
+      .with(BudgetExtension.BUDGET, budgetOptions().hard(Duration.ofMillis(1L)));
+    final BudgetExtension extension = new BudgetExtension(properties(), report);
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThatCode(() -> ((RunnableStep) resultStep).getBody().run())
+      .isInstanceOf(BudgetExceededError.class)
+      .hasMessageContaining("hard budget");
+    assertThat(resultStep.get(BudgetExtension.BUDGET_STATUS).violation())
+      .isEqualTo(StepBudgetStatus.Violation.HARD);
+    assertThat(report.entries().get("slow step").hardViolations())
+      .isEqualTo(1L);
+  }
+
+  @Test
+  void stepWithinBudgetShouldNotBeReported() throws Throwable {
+    final BudgetReport report = new BudgetReport();
+    final RunnableStep step = RunnableStep.of("fast step", () -> { })
+      .with(BudgetExtension.BUDGET, budgetOptions().soft(Duration.ofSeconds(10L)));
+    final BudgetExtension extension = new BudgetExtension(properties(), report);
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    ((RunnableStep) resultStep).getBody().run();
+    assertThat(resultStep.get(BudgetExtension.BUDGET_STATUS).violation())
+      .isEqualTo(StepBudgetStatus.Violation.NONE);
+    assertThat(report.isEmpty())
+      .isTrue();
+  }
+
+  @Test
+  void dryRunStepsShouldNotBeMeasured() {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.budget.writeReport", "false");
+    properties.setProperty("stebz.emptySteps.dryRun", "true");
+    final RunnableStep step = RunnableStep.of("step", () -> { })
+      .with(BudgetExtension.BUDGET, budgetOptions().hard(Duration.ofMillis(1L)));
+    final BudgetExtension extension = new BudgetExtension(new PropertiesReader.Of(properties), new BudgetReport());
+
+    assertThat(extension.interceptStep(step, NullableOptional.empty()))
+      .isSameAs(step);
+  }
+
+  @Test
+  void reportShouldBeAppendedToFile(@TempDir final Path dir) throws Throwable {
+    final BudgetReport report = new BudgetReport();
+    final StepBudgetStatus status = new StepBudgetStatus(1L, 0L);
+    status.complete(2L);
+    report.add("slow step", status);
+    final Path file = dir.resolve("target").resolve("stebz-budget-report.txt");
+
+    BudgetExtension.writeReport(report, file);
+    BudgetExtension.writeReport(report, file);
+    assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).split("slow step", -1))
+      .hasSize(3);
+  }
+
+  private static PropertiesReader properties() {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.budget.writeReport", "false");
+    return new PropertiesReader.Of(properties);
+  }
+}
@@ -24,29 +24,36 @@
 package org.stebz.cleanstacktrace;
 
 import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.executor.StepStack;
 import org.stebz.core.extension.BeforeStepFailure;
 import org.stebz.core.extension.StebzExtension;
 import org.stebz.core.step.StepObj;
 import org.stebz.util.container.NullableOptional;
 import org.stebz.util.property.PropertiesReader;
 
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
 /**
- * Clean stack trace {@link StebzExtension}.
+ * Clean stack trace {@link StebzExtension}. In lazy mode stack traces are cleaned only when the failure leaves the
+ * outermost step, failures caught by nested steps are not cleaned at all.
  */
 public class CleanStackTraceExtension implements BeforeStepFailure {
   private static final String STEBZ_CLASS_NAME_PREFIX = "org.stebz.";
   private static final String ASPECTJ_CLASS_NAME_PREFIX = "org.aspectj.";
   private static final String ASPECTJ_CLASS_NAME_PART = "$AjcClosure";
   private static final String ASPECTJ_METHOD_NAME_PART = "_aroundBody";
-  private final Predicate<StackTraceElement> stackTraceElementFilter;
+  private final StackTraceFilter stackTraceFilter;
+  private final CleanedExceptions cleanedExceptions;
   private final boolean enabled;
   private final int order;
   private final boolean clearRelated;
+  private final boolean lazy;
 
   /**
    * Ctor.
@@ -64,28 +71,29 @@ public class CleanStackTraceExtension implements BeforeStepFailure {
     this.enabled = properties.getBoolean("stebz.cleanStackTrace.enabled", true);
     this.order = properties.getInteger("stebz.cleanStackTrace.order", MIDDLE_ORDER);
     this.clearRelated = properties.getBoolean("stebz.cleanStackTrace.clearRelated", true);
+    this.lazy = properties.getBoolean("stebz.cleanStackTrace.lazy", false);
     final boolean clearStebzLines = properties.getBoolean("stebz.cleanStackTrace.clearStebzLines", true);
     Boolean clearAspectjLines = properties.getBoolean("stebz.cleanStackTrace.clearAspectjLines", null);
     if (clearAspectjLines == null) {
       clearAspectjLines = isStebzAnnotationsUsed();
     }
-    if (clearStebzLines && clearAspectjLines) {
-      this.stackTraceElementFilter = stElem ->
-        !stElem.getClassName().startsWith(STEBZ_CLASS_NAME_PREFIX)
-          && !stElem.getClassName().startsWith(ASPECTJ_CLASS_NAME_PREFIX)
-          && !stElem.getClassName().contains(ASPECTJ_CLASS_NAME_PART)
-          && !stElem.getMethodName().contains(ASPECTJ_METHOD_NAME_PART);
-    } else if (clearStebzLines) {
-      this.stackTraceElementFilter = stElem ->
-        !stElem.getClassName().startsWith(STEBZ_CLASS_NAME_PREFIX);
-    } else if (clearAspectjLines) {
-      this.stackTraceElementFilter = stElem ->
-        !stElem.getClassName().startsWith(ASPECTJ_CLASS_NAME_PREFIX)
-          && !stElem.getClassName().contains(ASPECTJ_CLASS_NAME_PART)
-          && !stElem.getMethodName().contains(ASPECTJ_METHOD_NAME_PART);
+    if (clearStebzLines || clearAspectjLines) {
+      final List<String> classNamePrefixes = new ArrayList<>();
+      if (clearStebzLines) {
+        classNamePrefixes.add(STEBZ_CLASS_NAME_PREFIX);
+      }
+      if (clearAspectjLines) {
+        classNamePrefixes.add(ASPECTJ_CLASS_NAME_PREFIX);
+      }
+      this.stackTraceFilter = StackTraceFilter.of(
+        classNamePrefixes,
+        clearAspectjLines ? Collections.singletonList(ASPECTJ_CLASS_NAME_PART) : Collections.emptyList(),
+        clearAspectjLines ? Collections.singletonList(ASPECTJ_METHOD_NAME_PART) : Collections.emptyList()
+      );
     } else {
-      this.stackTraceElementFilter = stElem -> true;
+      this.stackTraceFilter = StackTraceFilter.none();
     }
+    this.cleanedExceptions = new CleanedExceptions();
   }
 
   private static boolean isStebzAnnotationsUsed() {
@@ -107,34 +115,49 @@ public class CleanStackTraceExtension implements BeforeStepFailure {
                                 final NullableOptional<Object> context,
                                 final Throwable exception) {
     if (this.enabled) {
+      /* the failed step is still in the stack */
+      if (this.lazy && StepStack.current().depth() > 1) {
+        return;
+      }
       if (this.clearRelated) {
-        relatedExceptions(new HashSet<>(), exception).forEach(this::clearException);
-      } else {
+        this.clearRelatedExceptions(exception);
+      } else if (this.cleanedExceptions.add(exception)) {
         this.clearException(exception);
       }
     }
   }
 
-  private void clearException(final Throwable exception) {
-    final StackTraceElement[] originST = exception.getStackTrace();
-    if (originST.length != 0) {
-      exception.setStackTrace(
-        Arrays.stream(originST)
-          .filter(this.stackTraceElementFilter)
-          .toArray(StackTraceElement[]::new)
-      );
+  /* already cleaned exceptions are not cleaned again, but their causes and suppressed exceptions are still walked:
+     suppressed exceptions can be attached after the first cleaning, for example by soft assertions or hedging */
+  private void clearRelatedExceptions(final Throwable mainEx) {
+    final Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    final Deque<Throwable> pending = new ArrayDeque<>();
+    pending.push(mainEx);
+    while (!pending.isEmpty()) {
+      final Throwable currentEx = pending.pop();
+      if (!visited.add(currentEx)) {
+        continue;
+      }
+      if (this.cleanedExceptions.add(currentEx)) {
+        this.clearException(currentEx);
+      }
+      final Throwable causeEx = currentEx.getCause();
+      if (causeEx != null) {
+        pending.push(causeEx);
+      }
+      for (final Throwable suppressedEx : currentEx.getSuppressed()) {
+        pending.push(suppressedEx);
+      }
     }
   }
 
-  private static Set<Throwable> relatedExceptions(final Set<Throwable> exceptions,
-                                                  final Throwable mainEx) {
-    for (Throwable currentEx = mainEx; currentEx != null; currentEx = currentEx.getCause()) {
-      if (exceptions.add(currentEx)) {
-        for (final Throwable suppressedEx : currentEx.getSuppressed()) {
-          relatedExceptions(exceptions, suppressedEx);
-        }
+  private void clearException(final Throwable exception) {
+    final StackTraceElement[] originST = exception.getStackTrace();
+    if (originST.length != 0) {
+      final StackTraceElement[] cleanST = this.stackTraceFilter.filter(originST);
+      if (cleanST != originST) {
+        exception.setStackTrace(cleanST);
       }
     }
-    return exceptions;
   }
 }
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.cleanstacktrace;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Identity-based set of already cleaned exceptions. Exceptions are weakly referenced and do not leak.
+ */
+final class CleanedExceptions {
+  private final Set<Key> keys;
+  private final ReferenceQueue<Throwable> queue;
+
+  /**
+   * Ctor.
+   */
+  CleanedExceptions() {
+    this.keys = new HashSet<>();
+    this.queue = new ReferenceQueue<>();
+  }
+
+  /**
+   * Adds given exception to the set.
+   *
+   * @param exception the exception
+   * @return true if the set did not already contain given exception
+   */
+  synchronized boolean add(final Throwable exception) {
+    this.expunge();
+    return this.keys.add(new Key(exception, this.queue));
+  }
+
+  private void expunge() {
+    for (Object ref = this.queue.poll(); ref != null; ref = this.queue.poll()) {
+      this.keys.remove(ref);
+    }
+  }
+
+  private static final class Key extends WeakReference<Throwable> {
+    private final int hash;
+
+    private Key(final Throwable exception,
+                final ReferenceQueue<Throwable> queue) {
+      super(exception, queue);
+      this.hash = System.identityHashCode(exception);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      final Throwable exception = this.get();
+      return exception != null && exception == ((Key) obj).get();
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.cleanstacktrace;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stack trace elements filter. Class name prefixes are compiled to a prefix tree, so each class name is scanned once
+ * regardless of the number of prefixes.
+ */
+final class StackTraceFilter {
+  private static final StackTraceFilter NONE = new StackTraceFilter(new Node(), new String[0], new String[0]);
+  private final Node classNamePrefixes;
+  private final String[] classNameParts;
+  private final String[] methodNameParts;
+
+  private StackTraceFilter(final Node classNamePrefixes,
+                           final String[] classNameParts,
+                           final String[] methodNameParts) {
+    this.classNamePrefixes = classNamePrefixes;
+    this.classNameParts = classNameParts;
+    this.methodNameParts = methodNameParts;
+  }
+
+  /**
+   * Returns filter that excludes nothing.
+   *
+   * @return filter that excludes nothing
+   */
+  static StackTraceFilter none() {
+    return NONE;
+  }
+
+  /**
+   * Returns filter that excludes stack trace elements matching any of given patterns.
+   *
+   * @param classNamePrefixes the class name prefixes
+   * @param classNameParts    the class name parts
+   * @param methodNameParts   the method name parts
+   * @return filter
+   */
+  static StackTraceFilter of(final List<String> classNamePrefixes,
+                             final List<String> classNameParts,
+                             final List<String> methodNameParts) {
+    final Node root = new Node();
+    for (final String prefix : classNamePrefixes) {
+      Node node = root;
+      for (int idx = 0; idx < prefix.length(); ++idx) {
+        node = node.child(prefix.charAt(idx));
+      }
+      node.terminal = true;
+    }
+    return new StackTraceFilter(
+      root,
+      classNameParts.toArray(new String[0]),
+      methodNameParts.toArray(new String[0])
+    );
+  }
+
+  /**
+   * Returns true if the stack trace element should be excluded.
+   *
+   * @param element the stack trace element
+   * @return true if the stack trace element should be excluded
+   */
+  boolean isExcluded(final StackTraceElement element) {
+    final String className = element.getClassName();
+    Node node = this.classNamePrefixes;
+    for (int idx = 0; !node.terminal; ++idx) {
+      if (idx == className.length() || (node = node.next(className.charAt(idx))) == null) {
+        break;
+      }
+    }
+    if (node != null && node.terminal) {
+      return true;
+    }
+    for (final String part : this.classNameParts) {
+      if (className.contains(part)) {
+        return true;
+      }
+    }
+    if (this.methodNameParts.length != 0) {
+      final String methodName = element.getMethodName();
+      for (final String part : this.methodNameParts) {
+        if (methodName.contains(part)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns filtered stack trace or the same array if there are no excluded elements.
+   *
+   * @param stackTrace the stack trace
+   * @return filtered stack trace
+   */
+  StackTraceElement[] filter(final StackTraceElement[] stackTrace) {
+    StackTraceElement[] result = null;
+    int size = 0;
+    for (int idx = 0; idx < stackTrace.length; ++idx) {
+      final StackTraceElement element = stackTrace[idx];
+      if (this.isExcluded(element)) {
+        if (result == null) {
+          result = new StackTraceElement[stackTrace.length - 1];
+          System.arraycopy(stackTrace, 0, result, 0, idx);
+          size = idx;
+        }
+      } else if (result != null) {
+        result[size++] = element;
+      }
+    }
+    return result == null
+      ? stackTrace
+      : Arrays.copyOf(result, size);
+  }
+
+  private static final class Node {
+    private char[] chars = new char[0];
+    private Node[] nodes = new Node[0];
+    private boolean terminal = false;
+
+    private Node next(final char ch) {
+      final char[] chars = this.chars;
+      for (int idx = 0; idx < chars.length; ++idx) {
+        if (chars[idx] == ch) {
+          return this.nodes[idx];
+        }
+      }
+      return null;
+    }
+
+    private Node child(final char ch) {
+      Node node = this.next(ch);
+      if (node == null) {
+        node = new Node();
+        this.chars = Arrays.copyOf(this.chars, this.chars.length + 1);
+        this.nodes = Arrays.copyOf(this.nodes, this.nodes.length + 1);
+        this.chars[this.chars.length - 1] = ch;
+        this.nodes[this.nodes.length - 1] = node;
+      }
+      return node;
+    }
+  }
+}
@@ -24,13 +24,22 @@
 package org.stebz.cleanstacktrace;
 
 import org.junit.jupiter.api.Test;
+import org.stebz.core.executor.StepExecutor;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.listener.StepListener;
 import org.stebz.core.step.StepObj;
+import org.stebz.core.step.executable.RunnableStep;
 import org.stebz.util.container.NullableOptional;
 import org.stebz.util.property.PropertiesReader;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -58,4 +67,137 @@ final class CleanStackTraceExtensionTest {
     assertThat(causeSuppressedEx.getStackTrace())
       .allMatch(stElem -> !stElem.getClassName().startsWith("org.stebz."));
   }
+
+  @Test
+  void extensionShouldCleanEachExceptionOnce() {
+    final Throwable exception = new Throwable();
+    final CleanStackTraceExtension extension = new CleanStackTraceExtension(new PropertiesReader.Of(new Properties()));
+    final StackTraceElement stebzElement = new StackTraceElement("org.stebz.Some", "method", "Some.java", 1);
+
+    extension.beforeStepFailure(mock(StepObj.class), NullableOptional.empty(), exception);
+    exception.setStackTrace(new StackTraceElement[]{stebzElement});
+    extension.beforeStepFailure(mock(StepObj.class), NullableOptional.empty(), exception);
+    assertThat(exception.getStackTrace())
+      .containsExactly(stebzElement);
+  }
+
+  @Test
+  void extensionShouldCleanSuppressedExceptionsAddedAfterCleaning() {
+    final Throwable causeEx = new Throwable();
+    final Throwable mainException = new Throwable(causeEx);
+    final CleanStackTraceExtension extension = new CleanStackTraceExtension(new PropertiesReader.Of(new Properties()));
+
+    extension.beforeStepFailure(mock(StepObj.class), NullableOptional.empty(), mainException);
+    final Throwable suppressedEx = new Throwable();
+    final Throwable causeSuppressedEx = new Throwable();
+    mainException.addSuppressed(suppressedEx);
+    causeEx.addSuppressed(causeSuppressedEx);
+    /* cycle */
+    suppressedEx.addSuppressed(mainException);
+    extension.beforeStepFailure(mock(StepObj.class), NullableOptional.empty(), mainException);
+    assertThat(suppressedEx.getStackTrace())
+      .allMatch(stElem -> !stElem.getClassName().startsWith("org.stebz."));
+    assertThat(causeSuppressedEx.getStackTrace())
+      .allMatch(stElem -> !stElem.getClassName().startsWith("org.stebz."));
+  }
+
+  @Test
+  void lazyExtensionShouldCleanOnlyOutermostStepFailure() {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.cleanStackTrace.lazy", "true");
+    final CleanStackTraceExtension extension = new CleanStackTraceExtension(new PropertiesReader.Of(properties));
+    final List<Integer> stackTraceSizes = new ArrayList<>();
+    final StepListener listener = new StepListener() {
+      @Override
+      public void onStepStart(final StepObj<?> step,
+                              final NullableOptional<Object> context) {
+      }
+
+      @Override
+      public void onStepSuccess(final StepObj<?> step,
+                                final NullableOptional<Object> context,
+                                final NullableOptional<Object> result) {
+      }
+
+      @Override
+      public void onStepFailure(final StepObj<?> step,
+                                final NullableOptional<Object> context,
+                                final Throwable exception) {
+        stackTraceSizes.add(exception.getStackTrace().length);
+      }
+    };
+    final StepExecutor executor = new StepExecutor.Of(
+      new StepListener[]{listener},
+      new StebzExtension[]{extension}
+    );
+    final RuntimeException exception = new RuntimeException();
+    exception.setStackTrace(new StackTraceElement[]{
+      element("org.stebz.core.Step", "run"),
+      element("org.example.Test", "test")
+    });
+
+    assertThatCode(() -> executor.execute(RunnableStep.of("outer", () ->
+      executor.execute(RunnableStep.of("inner", () -> {
+        throw exception;
+      }))
+    ))).isSameAs(exception);
+    assertThat(stackTraceSizes)
+      .containsExactly(2, 1);
+  }
+
+  @Test
+  void stackTraceFilterShouldMatchClassNamePrefixesAndParts() {
+    final StackTraceFilter filter = StackTraceFilter.of(
+      Arrays.asList("org.stebz.", "org.aspectj."),
+      Collections.singletonList("$AjcClosure"),
+      Collections.singletonList("_aroundBody")
+    );
+    final StackTraceElement userElement = element("org.example.Test", "test");
+    final StackTraceElement[] stackTrace = {
+      element("org.stebz.core.Step", "run"),
+      userElement,
+      element("org.aspectj.runtime.Closure", "run"),
+      element("org.example.Test$AjcClosure1", "run"),
+      element("org.example.Test", "test_aroundBody0"),
+      element("org.stebzz.Other", "run")
+    };
+
+    assertThat(filter.filter(stackTrace))
+      .containsExactly(userElement, stackTrace[5]);
+    assertThat(filter.filter(new StackTraceElement[]{userElement}))
+      .containsExactly(userElement);
+    assertThat(StackTraceFilter.none().filter(stackTrace))
+      .isSameAs(stackTrace);
+  }
+
+  @Test
+  void cleanedExceptionsShouldBeIdentityBased() {
+    final CleanedExceptions cleanedExceptions = new CleanedExceptions();
+    final Throwable exception = new EqualException();
+
+    assertThat(cleanedExceptions.add(exception))
+      .isTrue();
+    assertThat(cleanedExceptions.add(exception))
+      .isFalse();
+    assertThat(cleanedExceptions.add(new EqualException()))
+      .isTrue();
+  }
+
+  private static StackTraceElement element(final String className,
+                                           final String methodName) {
+    return new StackTraceElement(className, methodName, null, -1);
+  }
+
+  private static final class EqualException extends RuntimeException {
+
+    @Override
+    public boolean equals(final Object obj) {
+      return obj instanceof EqualException;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
 }
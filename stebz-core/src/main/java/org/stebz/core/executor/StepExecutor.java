@@ -37,6 +37,7 @@ import org.stebz.core.extension.InterceptStepException;
 import org.stebz.core.extension.InterceptStepResult;
 import org.stebz.core.extension.StebzExtension;
 import org.stebz.core.listener.StepListener;
+import org.stebz.core.metrics.StebzMetrics;
 import org.stebz.core.step.StepObj;
 import org.stebz.core.step.executable.ConsumerStep;
 import org.stebz.core.step.executable.FunctionStep;
@@ -113,6 +114,24 @@ public interface StepExecutor {
     return Of.INSTANCE.get();
   }
 
+  /**
+   * Returns stack of steps executed by the current thread.
+   *
+   * @return stack of steps executed by the current thread
+   */
+  static StepStack stepStack() {
+    return StepStack.current();
+  }
+
+  /**
+   * Returns step currently executed by the current thread or null if no step is executing.
+   *
+   * @return step currently executed by the current thread or null
+   */
+  static StepObj<?> currentStep() {
+    return StepStack.current().currentStep();
+  }
+
   /**
    * Default {@code StepExecutor} implementation.
    */
@@ -153,6 +172,21 @@ public interface StepExecutor {
       this.afterFailureExts = extsOfType(AfterStepFailure.class, AfterStepFailure[]::new, extensions);
     }
 
+    /**
+     * Ctor of the instrumented executor. Time spent in each listener callback and each extension phase is recorded to
+     * histograms of given metrics, see {@link StebzMetrics#callbackHistograms()}. Listeners and extensions are
+     * decorated once here, so the non-instrumented executor has no overhead.
+     *
+     * @param listeners  listener list
+     * @param extensions extension list
+     * @param metrics    the metrics
+     */
+    public Of(final StepListener[] listeners,
+              final StebzExtension[] extensions,
+              final StebzMetrics metrics) {
+      this(TimedStepListener.wrap(listeners, metrics), TimedExtensions.wrap(extensions, metrics));
+    }
+
     private static <E extends StebzExtension> E[] extsOfType(final Class<E> type,
                                                              final IntFunction<E[]> arrayGenerator,
                                                              final StebzExtension[] extensions) {
@@ -218,50 +252,56 @@ public interface StepExecutor {
       for (final InterceptStep ext : this.interceptStepExts) {
         step = ext.interceptStep(step, optionalContext);
       }
-      this.logStart(step, optionalContext);
-
-      /* action */
-      Object result = null;
-      Throwable exception = null;
+      final StepStack stack = StepStack.current();
+      stack.push(step);
       try {
-        result = action.apply(step, context);
-      } catch (final Throwable ex) {
-        exception = ex;
-      }
+        this.logStart(step, optionalContext);
+
+        /* action */
+        Object result = null;
+        Throwable exception = null;
+        try {
+          result = action.apply(step, context);
+        } catch (final Throwable ex) {
+          exception = ex;
+        }
 
-      if (exception == null) {
+        if (exception == null) {
 
-        /* success */
-        final NullableOptional<Object> optionalResult;
-        if (hasResult) {
-          for (final InterceptStepResult ext : this.interceptResultExts) {
-            result = ext.interceptStepResult(step, optionalContext, result);
+          /* success */
+          final NullableOptional<Object> optionalResult;
+          if (hasResult) {
+            for (final InterceptStepResult ext : this.interceptResultExts) {
+              result = ext.interceptStepResult(step, optionalContext, result);
+            }
+            optionalResult = NullableOptional.of(result);
+          } else {
+            optionalResult = NullableOptional.empty();
           }
-          optionalResult = NullableOptional.of(result);
+          this.logSuccess(step, optionalContext, optionalResult);
+          return result;
         } else {
-          optionalResult = NullableOptional.empty();
-        }
-        this.logSuccess(step, optionalContext, optionalResult);
-        return result;
-      } else {
 
-        /* failure */
-        boolean hiddenException = false;
-        boolean thrownException = true;
-        for (final InterceptStepException ext : this.interceptExceptionExts) {
-          exception = ext.interceptStepException(step, optionalContext, exception);
-          hiddenException = ext.hiddenStepException(step, optionalContext, exception, hiddenException);
-          thrownException = ext.thrownStepException(step, optionalContext, exception, thrownException);
-        }
-        if (hiddenException) {
-          this.logSuccess(step, optionalContext, NullableOptional.empty());
-        } else {
-          this.logFailure(step, optionalContext, exception);
-        }
-        if (thrownException) {
-          throw unchecked(exception);
+          /* failure */
+          boolean hiddenException = false;
+          boolean thrownException = true;
+          for (final InterceptStepException ext : this.interceptExceptionExts) {
+            exception = ext.interceptStepException(step, optionalContext, exception);
+            hiddenException = ext.hiddenStepException(step, optionalContext, exception, hiddenException);
+            thrownException = ext.thrownStepException(step, optionalContext, exception, thrownException);
+          }
+          if (hiddenException) {
+            this.logSuccess(step, optionalContext, NullableOptional.empty());
+          } else {
+            this.logFailure(step, optionalContext, exception);
+          }
+          if (thrownException) {
+            throw unchecked(exception);
+          }
+          return null;
         }
-        return null;
+      } finally {
+        stack.pop();
       }
     }
 
@@ -346,6 +386,18 @@ public interface StepExecutor {
           listeners = emptyList();
         }
 
+        if (properties.getBoolean("stebz.instrumentation.enabled", false)) {
+          final StebzMetrics metrics = StebzMetrics.global();
+          if (properties.getBoolean("stebz.instrumentation.report", true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> metrics.printCallbackReport(System.out),
+              "stebz-instrumentation-report"));
+          }
+          return new Of(
+            listeners.toArray(new StepListener[0]),
+            extensions.toArray(new StebzExtension[0]),
+            metrics
+          );
+        }
         return new Of(
           listeners.toArray(new StepListener[0]),
           extensions.toArray(new StebzExtension[0])
@@ -0,0 +1,264 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.core.executor;
+
+import org.stebz.core.step.StepObj;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stack of steps executed by the current thread. Maintained by {@link StepExecutor.Of}: a step is pushed after
+ * {@code InterceptStep} extensions and popped after the last success or failure listener and extension.
+ * Not thread-safe, must be used only by the owner thread. Only {@link #activeStep(Thread)} and {@link #activeSteps()}
+ * methods can be called from any thread, for example by samplers and watchdogs.
+ */
+public final class StepStack {
+  private static final ThreadLocal<StepStack> CURRENT = ThreadLocal.withInitial(StepStack::new);
+  private static final int ID_BLOCK_SIZE = 1024;
+  private static final AtomicLong ID_BLOCK_SEQ = new AtomicLong(1L);
+  private static final Map<Thread, StepStack> ACTIVE = new ConcurrentHashMap<>();
+  private final Thread owner;
+  private StepObj<?>[] steps;
+  private long[] ids;
+  private long[] startNanos;
+  private int depth;
+  private long nextId;
+  private long idBlockEnd;
+  private volatile StepObj<?> activeStep;
+
+  private StepStack() {
+    this.owner = Thread.currentThread();
+    this.steps = new StepObj<?>[16];
+    this.ids = new long[16];
+    this.startNanos = new long[16];
+    this.depth = 0;
+    this.nextId = 0L;
+    this.idBlockEnd = 0L;
+    this.activeStep = null;
+  }
+
+  /**
+   * Returns step stack of the current thread.
+   *
+   * @return step stack of the current thread
+   */
+  public static StepStack current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Returns step currently executed (innermost) by given thread or null if the thread does not execute any step.
+   * Can be called from any thread.
+   *
+   * @param thread the thread
+   * @return step currently executed by given thread or null
+   * @throws NullPointerException if {@code thread} arg is null
+   */
+  public static StepObj<?> activeStep(final Thread thread) {
+    if (thread == null) { throw new NullPointerException("thread arg is null"); }
+    final StepStack stack = ACTIVE.get(thread);
+    return stack == null ? null : stack.activeStep;
+  }
+
+  /**
+   * Returns snapshot of threads executing steps with their currently executing (innermost) steps. Can be called from
+   * any thread.
+   *
+   * @return snapshot of threads executing steps
+   */
+  public static Map<Thread, StepObj<?>> activeSteps() {
+    final Map<Thread, StepObj<?>> result = new HashMap<>();
+    ACTIVE.forEach((thread, stack) -> {
+      final StepObj<?> step = stack.activeStep;
+      if (step != null) {
+        result.put(thread, step);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Returns number of currently executing steps.
+   *
+   * @return number of currently executing steps
+   */
+  public int depth() {
+    return this.depth;
+  }
+
+  /**
+   * Returns {@code true} if no step is executing.
+   *
+   * @return {@code true} if no step is executing
+   */
+  public boolean isEmpty() {
+    return this.depth == 0;
+  }
+
+  /**
+   * Returns currently executing (innermost) step or null if no step is executing.
+   *
+   * @return currently executing step or null
+   */
+  public StepObj<?> currentStep() {
+    return this.depth == 0 ? null : this.steps[this.depth - 1];
+  }
+
+  /**
+   * Returns id of currently executing (innermost) step or {@code 0} if no step is executing.
+   * Ids are unique within the JVM and increase within a thread; each thread takes ids in blocks, so ids of different
+   * threads are not ordered by start time.
+   *
+   * @return id of currently executing step or {@code 0}
+   */
+  public long currentStepId() {
+    return this.depth == 0 ? 0L : this.ids[this.depth - 1];
+  }
+
+  /**
+   * Returns {@link System#nanoTime()} of currently executing (innermost) step start or {@code 0} if no step is
+   * executing. The time is taken when the step is pushed, after {@code InterceptStep} extensions.
+   *
+   * @return start nano time of currently executing step or {@code 0}
+   */
+  public long currentStepStartNanos() {
+    return this.depth == 0 ? 0L : this.startNanos[this.depth - 1];
+  }
+
+  /**
+   * Returns parent of currently executing step or null if there is no parent.
+   *
+   * @return parent of currently executing step or null
+   */
+  public StepObj<?> parentStep() {
+    return this.depth < 2 ? null : this.steps[this.depth - 2];
+  }
+
+  /**
+   * Returns id of parent of currently executing step or {@code 0} if there is no parent.
+   *
+   * @return id of parent of currently executing step or {@code 0}
+   */
+  public long parentStepId() {
+    return this.depth < 2 ? 0L : this.ids[this.depth - 2];
+  }
+
+  /**
+   * Returns step at given level, where {@code 0} is the root step.
+   *
+   * @param level the level
+   * @return step at given level
+   * @throws IndexOutOfBoundsException if {@code level} arg is out of {@code [0, depth())} range
+   */
+  public StepObj<?> step(final int level) {
+    this.checkLevel(level);
+    return this.steps[level];
+  }
+
+  /**
+   * Returns id of step at given level, where {@code 0} is the root step.
+   *
+   * @param level the level
+   * @return id of step at given level
+   * @throws IndexOutOfBoundsException if {@code level} arg is out of {@code [0, depth())} range
+   */
+  public long stepId(final int level) {
+    this.checkLevel(level);
+    return this.ids[level];
+  }
+
+  /**
+   * Returns {@link System#nanoTime()} of start of step at given level, where {@code 0} is the root step.
+   *
+   * @param level the level
+   * @return start nano time of step at given level
+   * @throws IndexOutOfBoundsException if {@code level} arg is out of {@code [0, depth())} range
+   */
+  public long stepStartNanos(final int level) {
+    this.checkLevel(level);
+    return this.startNanos[level];
+  }
+
+  /**
+   * Returns unmodifiable copy of currently executing steps from the root step to the innermost step.
+   *
+   * @return currently executing steps
+   */
+  public List<StepObj<?>> path() {
+    if (this.depth == 0) {
+      return Collections.emptyList();
+    }
+    final List<StepObj<?>> path = new ArrayList<>(this.depth);
+    for (int idx = 0; idx < this.depth; ++idx) {
+      path.add(this.steps[idx]);
+    }
+    return Collections.unmodifiableList(path);
+  }
+
+  void push(final StepObj<?> step) {
+    if (this.depth == this.steps.length) {
+      final int length = this.depth << 1;
+      this.steps = Arrays.copyOf(this.steps, length);
+      this.ids = Arrays.copyOf(this.ids, length);
+      this.startNanos = Arrays.copyOf(this.startNanos, length);
+    }
+    this.steps[this.depth] = step;
+    if (this.nextId == this.idBlockEnd) {
+      this.nextId = ID_BLOCK_SEQ.getAndAdd(ID_BLOCK_SIZE);
+      this.idBlockEnd = this.nextId + ID_BLOCK_SIZE;
+    }
+    this.ids[this.depth] = this.nextId++;
+    this.startNanos[this.depth] = System.nanoTime();
+    this.depth++;
+    this.activeStep = step;
+    if (this.depth == 1) {
+      ACTIVE.put(this.owner, this);
+    }
+  }
+
+  void pop() {
+    if (this.depth != 0) {
+      this.steps[--this.depth] = null;
+      if (this.depth == 0) {
+        this.activeStep = null;
+        ACTIVE.remove(this.owner);
+      } else {
+        this.activeStep = this.steps[this.depth - 1];
+      }
+    }
+  }
+
+  private void checkLevel(final int level) {
+    if (level < 0 || level >= this.depth) {
+      throw new IndexOutOfBoundsException("level " + level + " is out of [0, " + this.depth + ") range");
+    }
+  }
+}
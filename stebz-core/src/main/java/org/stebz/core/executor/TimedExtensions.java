@@ -0,0 +1,359 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.core.executor;
+
+import org.stebz.core.extension.AfterStepFailure;
+import org.stebz.core.extension.AfterStepStart;
+import org.stebz.core.extension.AfterStepSuccess;
+import org.stebz.core.extension.BeforeStepFailure;
+import org.stebz.core.extension.BeforeStepStart;
+import org.stebz.core.extension.BeforeStepSuccess;
+import org.stebz.core.extension.InterceptStep;
+import org.stebz.core.extension.InterceptStepContext;
+import org.stebz.core.extension.InterceptStepException;
+import org.stebz.core.extension.InterceptStepResult;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.metrics.StebzMetrics;
+import org.stebz.core.metrics.TimeHistogram;
+import org.stebz.core.step.StepObj;
+import org.stebz.util.container.NullableOptional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code StebzExtension} decorators recording callback time of the origin extensions to {@link StebzMetrics}.
+ * Each decorator implements a single extension phase.
+ */
+final class TimedExtensions {
+
+  private TimedExtensions() {
+  }
+
+  /**
+   * Returns decorated extensions, one decorator per implemented phase of each extension, in the origin order.
+   *
+   * @param extensions the extensions
+   * @param metrics    the metrics
+   * @return decorated extensions
+   * @throws NullPointerException if {@code extensions} arg or {@code metrics} arg is null
+   */
+  static StebzExtension[] wrap(final StebzExtension[] extensions,
+                               final StebzMetrics metrics) {
+    if (extensions == null) { throw new NullPointerException("extensions arg is null"); }
+    if (metrics == null) { throw new NullPointerException("metrics arg is null"); }
+    final List<StebzExtension> result = new ArrayList<>();
+    for (final StebzExtension ext : extensions) {
+      final String name = ext.getClass().getName();
+      if (ext instanceof InterceptStepContext) {
+        result.add(new TimedInterceptStepContext((InterceptStepContext) ext, metrics, name));
+      }
+      if (ext instanceof InterceptStep) {
+        result.add(new TimedInterceptStep((InterceptStep) ext, metrics, name));
+      }
+      if (ext instanceof InterceptStepResult) {
+        result.add(new TimedInterceptStepResult((InterceptStepResult) ext, metrics, name));
+      }
+      if (ext instanceof InterceptStepException) {
+        result.add(new TimedInterceptStepException((InterceptStepException) ext, metrics, name));
+      }
+      if (ext instanceof BeforeStepStart) {
+        result.add(new TimedBeforeStepStart((BeforeStepStart) ext, metrics, name));
+      }
+      if (ext instanceof AfterStepStart) {
+        result.add(new TimedAfterStepStart((AfterStepStart) ext, metrics, name));
+      }
+      if (ext instanceof BeforeStepSuccess) {
+        result.add(new TimedBeforeStepSuccess((BeforeStepSuccess) ext, metrics, name));
+      }
+      if (ext instanceof AfterStepSuccess) {
+        result.add(new TimedAfterStepSuccess((AfterStepSuccess) ext, metrics, name));
+      }
+      if (ext instanceof BeforeStepFailure) {
+        result.add(new TimedBeforeStepFailure((BeforeStepFailure) ext, metrics, name));
+      }
+      if (ext instanceof AfterStepFailure) {
+        result.add(new TimedAfterStepFailure((AfterStepFailure) ext, metrics, name));
+      }
+    }
+    return result.toArray(new StebzExtension[0]);
+  }
+
+  private abstract static class Timed<E extends StebzExtension> implements StebzExtension {
+    final E origin;
+    final TimeHistogram histogram;
+
+    Timed(final E origin,
+          final StebzMetrics metrics,
+          final String name,
+          final String method) {
+      this.origin = origin;
+      this.histogram = metrics.callbackHistogram(name + '#' + method);
+    }
+
+    @Override
+    public final int order() {
+      return this.origin.order();
+    }
+  }
+
+  private static final class TimedInterceptStepContext extends Timed<InterceptStepContext>
+    implements InterceptStepContext {
+
+    TimedInterceptStepContext(final InterceptStepContext origin,
+                              final StebzMetrics metrics,
+                              final String name) {
+      super(origin, metrics, name, "interceptStepContext");
+    }
+
+    @Override
+    public Object interceptStepContext(final StepObj<?> step,
+                                       final Object context) {
+      final long start = System.nanoTime();
+      try {
+        return this.origin.interceptStepContext(step, context);
+      } finally {
+        this.histogram.record(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private static final class TimedInterceptStep extends Timed<InterceptStep> implements InterceptStep {
+
+    TimedInterceptStep(final InterceptStep origin,
+                       final StebzMetrics metrics,
+                       final String name) {
+      super(origin, metrics, name, "interceptStep");
+    }
+
+    @Override
+    public StepObj<?> interceptStep(final StepObj<?> step,
+                                    final NullableOptional<Object> context) {
+      final long start = System.nanoTime();
+      try {
+        return this.origin.interceptStep(step, context);
+      } finally {
+        this.histogram.record(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private static final class TimedInterceptStepResult extends Timed<InterceptStepResult>
+    implements InterceptStepResult {
+
+    TimedInterceptStepResult(final InterceptStepResult origin,
+                             final StebzMetrics metrics,
+                             final String name) {
+      super(origin, metrics, name, "interceptStepResult");
+    }
+
+    @Override
+    public Object interceptStepResult(final StepObj<?> step,
+                                      final NullableOptional<Object> context,
+                                      final Object result) {
+      final long start = System.nanoTime();
+      try {
+        return this.origin.interceptStepResult(step, context, result);
+      } finally {
+        this.histogram.record(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private static final class TimedInterceptStepException extends Timed<InterceptStepException>
+    implements InterceptStepException {
+    private final TimeHistogram hiddenHistogram;
+    private final TimeHistogram thrownHistogram;
+
+    TimedInterceptStepException(final InterceptStepException origin,
+                                final StebzMetrics metrics,
+                                final String name) {
+      super(origin, metrics, name, "interceptStepException");
+      this.hiddenHistogram = metrics.callbackHistogram(name + "#hiddenStepException");
+      this.thrownHistogram = metrics.callbackHistogram(name + "#thrownStepException");
+    }
+
+    @Override
+    public Throwable interceptStepException(final StepObj<?> step,
+                                            final NullableOptional<Object> context,
+                                            final Throwable exception) {
+      final long start = System.nanoTime();
+      try {
+        return this.origin.interceptStepException(step, context, exception);
+      } finally {
+        this.histogram.record(System.nanoTime() - start);
+      }
+    }
+
+    @Override
+    public boolean hiddenStepException(final StepObj<?> step,
+                                       final NullableOptional<Object> context,
+                                       final Throwable exception,
+                                       final boolean currentState) {
+      final long start = System.nanoTime();
+      try {
+        return this.origin.hiddenStepException(step, context, exception, currentState);
+      } finally {
+        this.hiddenHistogram.record(System.nanoTime() - start);
+      }
+    }
+
+    @Override
+    public boolean thrownStepException(final StepObj<?> step,
+                                       final NullableOptional<Object> context,
+                                       final Throwable exception,
+                                       final boolean currentState) {
+      final long start = System.nanoTime();
+      try {
+        return this.origin.thrownStepException(step, context, exception, currentState);
+      } finally {
+        this.thrownHistogram.record(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private static final class TimedBeforeStepStart extends Timed<BeforeStepStart> implements BeforeStepStart {
+
+    TimedBeforeStepStart(final BeforeStepStart origin,
+                         final StebzMetrics metrics,
+                         final String name) {
+      super(origin, metrics, name, "beforeStepStart");
+    }
+
+    @Override
+    public void beforeStepStart(final StepObj<?> step,
+                                final NullableOptional<Object> context) {
+      final long start = System.nanoTime();
+      try {
+        this.origin.beforeStepStart(step, context);
+      } finally {
+        this.histogram.record(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private static final class TimedAfterStepStart extends Timed<AfterStepStart> implements AfterStepStart {
+
+    TimedAfterStepStart(final AfterStepStart origin,
+                        final StebzMetrics metrics,
+                        final String name) {
+      super(origin, metrics, name, "afterStepStart");
+    }
+
+    @Override
+    public void afterStepStart(final StepObj<?> step,
+                               final NullableOptional<Object> context) {
+      final long start = System.nanoTime();
+      try {
+        this.origin.afterStepStart(step, context);
+      } finally {
+        this.histogram.record(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private static final class TimedBeforeStepSuccess extends Timed<BeforeStepSuccess> implements BeforeStepSuccess {
+
+    TimedBeforeStepSuccess(final BeforeStepSuccess origin,
+                           final StebzMetrics metrics,
+                           final String name) {
+      super(origin, metrics, name, "beforeStepSuccess");
+    }
+
+    @Override
+    public void beforeStepSuccess(final StepObj<?> step,
+                                  final NullableOptional<Object> context,
+                                  final NullableOptional<Object> result) {
+      final long start = System.nanoTime();
+      try {
+        this.origin.beforeStepSuccess(step, context, result);
+      } finally {
+        this.histogram.record(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private static final class TimedAfterStepSuccess extends Timed<AfterStepSuccess> implements AfterStepSuccess {
+
+    TimedAfterStepSuccess(final AfterStepSuccess origin,
+                          final StebzMetrics metrics,
+                          final String name) {
+      super(origin, metrics, name, "afterStepSuccess");
+    }
+
+    @Override
+    public void afterStepSuccess(final StepObj<?> step,
+                                 final NullableOptional<Object> context,
+                                 final NullableOptional<Object> result) {
+      final long start = System.nanoTime();
+      try {
+        this.origin.afterStepSuccess(step, context, result);
+      } finally {
+        this.histogram.record(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private static final class TimedBeforeStepFailure extends Timed<BeforeStepFailure> implements BeforeStepFailure {
+
+    TimedBeforeStepFailure(final BeforeStepFailure origin,
+                           final StebzMetrics metrics,
+                           final String name) {
+      super(origin, metrics, name, "beforeStepFailure");
+    }
+
+    @Override
+    public void beforeStepFailure(final StepObj<?> step,
+                                  final NullableOptional<Object> context,
+                                  final Throwable exception) {
+      final long start = System.nanoTime();
+      try {
+        this.origin.beforeStepFailure(step, context, exception);
+      } finally {
+        this.histogram.record(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private static final class TimedAfterStepFailure extends Timed<AfterStepFailure> implements AfterStepFailure {
+
+    TimedAfterStepFailure(final AfterStepFailure origin,
+                          final StebzMetrics metrics,
+                          final String name) {
+      super(origin, metrics, name, "afterStepFailure");
+    }
+
+    @Override
+    public void afterStepFailure(final StepObj<?> step,
+                                 final NullableOptional<Object> context,
+                                 final Throwable exception) {
+      final long start = System.nanoTime();
+      try {
+        this.origin.afterStepFailure(step, context, exception);
+      } finally {
+        this.histogram.record(System.nanoTime() - start);
+      }
+    }
+  }
+}
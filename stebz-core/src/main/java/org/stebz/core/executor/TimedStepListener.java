@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.core.executor;
+
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.metrics.StebzMetrics;
+import org.stebz.core.metrics.TimeHistogram;
+import org.stebz.core.step.StepObj;
+import org.stebz.util.container.NullableOptional;
+
+/**
+ * {@code StepListener} decorator recording callback time of the origin listener to {@link StebzMetrics}.
+ */
+final class TimedStepListener implements StepListener {
+  private final StepListener origin;
+  private final TimeHistogram startHistogram;
+  private final TimeHistogram successHistogram;
+  private final TimeHistogram failureHistogram;
+
+  /**
+   * Ctor.
+   *
+   * @param origin  the origin listener
+   * @param metrics the metrics
+   */
+  TimedStepListener(final StepListener origin,
+                    final StebzMetrics metrics) {
+    this.origin = origin;
+    final String name = origin.getClass().getName();
+    this.startHistogram = metrics.callbackHistogram(name + "#onStepStart");
+    this.successHistogram = metrics.callbackHistogram(name + "#onStepSuccess");
+    this.failureHistogram = metrics.callbackHistogram(name + "#onStepFailure");
+  }
+
+  /**
+   * Returns decorated listeners.
+   *
+   * @param listeners the listeners
+   * @param metrics   the metrics
+   * @return decorated listeners
+   * @throws NullPointerException if {@code listeners} arg or {@code metrics} arg is null
+   */
+  static StepListener[] wrap(final StepListener[] listeners,
+                             final StebzMetrics metrics) {
+    if (listeners == null) { throw new NullPointerException("listeners arg is null"); }
+    if (metrics == null) { throw new NullPointerException("metrics arg is null"); }
+    final StepListener[] result = new StepListener[listeners.length];
+    for (int idx = 0; idx < listeners.length; ++idx) {
+      result[idx] = new TimedStepListener(listeners[idx], metrics);
+    }
+    return result;
+  }
+
+  @Override
+  public int order() {
+    return this.origin.order();
+  }
+
+  @Override
+  public void onStepStart(final StepObj<?> step,
+                          final NullableOptional<Object> context) {
+    final long start = System.nanoTime();
+    try {
+      this.origin.onStepStart(step, context);
+    } finally {
+      this.startHistogram.record(System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public void onStepSuccess(final StepObj<?> step,
+                            final NullableOptional<Object> context,
+                            final NullableOptional<Object> result) {
+    final long start = System.nanoTime();
+    try {
+      this.origin.onStepSuccess(step, context, result);
+    } finally {
+      this.successHistogram.record(System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public void onStepFailure(final StepObj<?> step,
+                            final NullableOptional<Object> context,
+                            final Throwable exception) {
+    final long start = System.nanoTime();
+    try {
+      this.origin.onStepFailure(step, context, exception);
+    } finally {
+      this.failureHistogram.record(System.nanoTime() - start);
+    }
+  }
+}
@@ -0,0 +1,306 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.core.metrics;
+
+import java.io.PrintStream;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running step metrics. All counters are striped, so parallel step threads do not contend.
+ * Step counters and durations are recorded by metrics extensions (e.g. {@code stebz-jmx}), other counters are recorded
+ * by corresponding modules.
+ */
+public final class StebzMetrics {
+  private static final StebzMetrics GLOBAL = new StebzMetrics(10000);
+  private final int maxStepNames;
+  private final LongAdder stepsStarted;
+  private final LongAdder stepsSucceeded;
+  private final LongAdder stepsFailed;
+  private final LongAdder retryAttempts;
+  private final LongAdder softAssertFailures;
+  private final Map<String, TimeHistogram> callbackHistograms;
+  private final Map<String, LongAccumulator> maxStepNanos;
+
+  /**
+   * Ctor.
+   *
+   * @param maxStepNames the max number of tracked step names for slowest steps
+   */
+  public StebzMetrics(final int maxStepNames) {
+    if (maxStepNames < 0) { throw new IllegalArgumentException("maxStepNames arg is negative"); }
+    this.maxStepNames = maxStepNames;
+    this.stepsStarted = new LongAdder();
+    this.stepsSucceeded = new LongAdder();
+    this.stepsFailed = new LongAdder();
+    this.retryAttempts = new LongAdder();
+    this.softAssertFailures = new LongAdder();
+    this.callbackHistograms = new ConcurrentHashMap<>();
+    this.maxStepNanos = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns global metrics.
+   *
+   * @return global metrics
+   */
+  public static StebzMetrics global() {
+    return GLOBAL;
+  }
+
+  /**
+   * Records step start.
+   */
+  public void stepStarted() {
+    this.stepsStarted.increment();
+  }
+
+  /**
+   * Records step success.
+   *
+   * @param stepName      the step name
+   * @param durationNanos the step duration in nanos
+   * @throws NullPointerException if {@code stepName} arg is null
+   */
+  public void stepSucceeded(final String stepName,
+                            final long durationNanos) {
+    this.stepsSucceeded.increment();
+    this.stepDuration(stepName, durationNanos);
+  }
+
+  /**
+   * Records step failure.
+   *
+   * @param stepName      the step name
+   * @param durationNanos the step duration in nanos
+   * @throws NullPointerException if {@code stepName} arg is null
+   */
+  public void stepFailed(final String stepName,
+                         final long durationNanos) {
+    this.stepsFailed.increment();
+    this.stepDuration(stepName, durationNanos);
+  }
+
+  /**
+   * Records retry attempt (each execution after the first one).
+   */
+  public void retryAttempt() {
+    this.retryAttempts.increment();
+  }
+
+  /**
+   * Records collected soft assertion failure.
+   */
+  public void softAssertFailure() {
+    this.softAssertFailures.increment();
+  }
+
+  /**
+   * Records time spent in a listener or extension callback.
+   *
+   * @param component the component name
+   * @param nanos     the callback time in nanos
+   * @throws NullPointerException if {@code component} arg is null
+   */
+  public void callbackTime(final String component,
+                           final long nanos) {
+    this.callbackHistogram(component).record(nanos);
+  }
+
+  /**
+   * Returns callback time histogram of given component, creating it if needed. The histogram can be cached by the
+   * caller to avoid the lookup on each callback.
+   *
+   * @param component the component name
+   * @return callback time histogram of given component
+   * @throws NullPointerException if {@code component} arg is null
+   */
+  public TimeHistogram callbackHistogram(final String component) {
+    if (component == null) { throw new NullPointerException("component arg is null"); }
+    final TimeHistogram histogram = this.callbackHistograms.get(component);
+    return histogram == null
+      ? this.callbackHistograms.computeIfAbsent(component, key -> new TimeHistogram())
+      : histogram;
+  }
+
+  /**
+   * Returns number of started steps.
+   *
+   * @return number of started steps
+   */
+  public long stepsStarted() {
+    return this.stepsStarted.sum();
+  }
+
+  /**
+   * Returns number of succeeded steps.
+   *
+   * @return number of succeeded steps
+   */
+  public long stepsSucceeded() {
+    return this.stepsSucceeded.sum();
+  }
+
+  /**
+   * Returns number of failed steps.
+   *
+   * @return number of failed steps
+   */
+  public long stepsFailed() {
+    return this.stepsFailed.sum();
+  }
+
+  /**
+   * Returns number of currently executing steps.
+   *
+   * @return number of currently executing steps
+   */
+  public long activeSteps() {
+    final long finished = this.stepsSucceeded.sum() + this.stepsFailed.sum();
+    return Math.max(0L, this.stepsStarted.sum() - finished);
+  }
+
+  /**
+   * Returns number of retry attempts.
+   *
+   * @return number of retry attempts
+   */
+  public long retryAttempts() {
+    return this.retryAttempts.sum();
+  }
+
+  /**
+   * Returns number of collected soft assertion failures.
+   *
+   * @return number of collected soft assertion failures
+   */
+  public long softAssertFailures() {
+    return this.softAssertFailures.sum();
+  }
+
+  /**
+   * Returns cumulative callback time in nanos per component, sorted by time descending.
+   *
+   * @return cumulative callback time in nanos per component
+   */
+  public Map<String, Long> callbackTimes() {
+    final List<Map.Entry<String, Long>> entries = new ArrayList<>();
+    this.callbackHistograms.forEach((component, histogram) ->
+      entries.add(new AbstractMap.SimpleImmutableEntry<>(component, histogram.totalNanos())));
+    return sortedMap(entries, entries.size());
+  }
+
+  /**
+   * Returns callback time histograms per component.
+   *
+   * @return callback time histograms per component
+   */
+  public Map<String, TimeHistogram> callbackHistograms() {
+    return Collections.unmodifiableMap(new TreeMap<>(this.callbackHistograms));
+  }
+
+  /**
+   * Prints callback time report sorted by total time descending.
+   *
+   * @param out the output stream
+   * @throws NullPointerException if {@code out} arg is null
+   */
+  public void printCallbackReport(final PrintStream out) {
+    if (out == null) { throw new NullPointerException("out arg is null"); }
+    final Map<String, TimeHistogram> histograms = this.callbackHistograms();
+    out.println("Stebz callbacks time:");
+    out.printf("%12s %12s %10s %10s %10s  %s%n", "count", "total ms", "p50 us", "p99 us", "max us", "callback");
+    for (final String component : this.callbackTimes().keySet()) {
+      final TimeHistogram histogram = histograms.get(component);
+      if (histogram != null) {
+        out.printf("%12d %12.3f %10.3f %10.3f %10.3f  %s%n",
+          histogram.count(),
+          histogram.totalNanos() / 1_000_000.0,
+          histogram.percentileNanos(50.0) / 1000.0,
+          histogram.percentileNanos(99.0) / 1000.0,
+          histogram.maxNanos() / 1000.0,
+          component
+        );
+      }
+    }
+    out.flush();
+  }
+
+  /**
+   * Returns max duration in nanos of the {@code count} slowest step names, sorted by duration descending.
+   *
+   * @param count the number of step names
+   * @return max duration in nanos of the slowest step names
+   */
+  public Map<String, Long> slowestSteps(final int count) {
+    final List<Map.Entry<String, Long>> entries = new ArrayList<>();
+    this.maxStepNanos.forEach((stepName, max) ->
+      entries.add(new AbstractMap.SimpleImmutableEntry<>(stepName, max.get())));
+    return sortedMap(entries, count);
+  }
+
+  /**
+   * Resets all metrics.
+   */
+  public void reset() {
+    this.stepsStarted.reset();
+    this.stepsSucceeded.reset();
+    this.stepsFailed.reset();
+    this.retryAttempts.reset();
+    this.softAssertFailures.reset();
+    this.callbackHistograms.clear();
+    this.maxStepNanos.clear();
+  }
+
+  private void stepDuration(final String stepName,
+                            final long durationNanos) {
+    if (stepName == null) { throw new NullPointerException("stepName arg is null"); }
+    LongAccumulator max = this.maxStepNanos.get(stepName);
+    if (max == null) {
+      if (this.maxStepNanos.size() >= this.maxStepNames) {
+        return;
+      }
+      max = this.maxStepNanos.computeIfAbsent(stepName, key -> new LongAccumulator(Math::max, 0L));
+    }
+    max.accumulate(durationNanos);
+  }
+
+  private static Map<String, Long> sortedMap(final List<Map.Entry<String, Long>> entries,
+                                             final int count) {
+    entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+    final Map<String, Long> result = new LinkedHashMap<>();
+    for (int idx = 0; idx < entries.size() && idx < count; ++idx) {
+      result.put(entries.get(idx).getKey(), entries.get(idx).getValue());
+    }
+    return Collections.unmodifiableMap(result);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.core.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Striped histogram of durations with power of two buckets.
+ */
+public final class TimeHistogram {
+  private static final int BUCKETS = 64;
+  private final LongAdder[] buckets;
+  private final LongAdder count;
+  private final LongAdder totalNanos;
+  private final LongAccumulator maxNanos;
+
+  /**
+   * Ctor.
+   */
+  public TimeHistogram() {
+    this.buckets = new LongAdder[BUCKETS];
+    for (int idx = 0; idx < BUCKETS; ++idx) {
+      this.buckets[idx] = new LongAdder();
+    }
+    this.count = new LongAdder();
+    this.totalNanos = new LongAdder();
+    this.maxNanos = new LongAccumulator(Math::max, 0L);
+  }
+
+  /**
+   * Records duration.
+   *
+   * @param nanos the duration in nanos
+   */
+  public void record(final long nanos) {
+    final long value = Math.max(0L, nanos);
+    /* bucket N holds values in [2^(N-1), 2^N) range */
+    this.buckets[Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(value))].increment();
+    this.count.increment();
+    this.totalNanos.add(value);
+    this.maxNanos.accumulate(value);
+  }
+
+  /**
+   * Returns number of recorded durations.
+   *
+   * @return number of recorded durations
+   */
+  public long count() {
+    return this.count.sum();
+  }
+
+  /**
+   * Returns sum of recorded durations in nanos.
+   *
+   * @return sum of recorded durations in nanos
+   */
+  public long totalNanos() {
+    return this.totalNanos.sum();
+  }
+
+  /**
+   * Returns max recorded duration in nanos.
+   *
+   * @return max recorded duration in nanos
+   */
+  public long maxNanos() {
+    return this.maxNanos.get();
+  }
+
+  /**
+   * Returns upper bound of the bucket containing given percentile in nanos, but not greater than max duration.
+   *
+   * @param percentile the percentile in {@code (0, 100]} range
+   * @return percentile upper bound in nanos or {@code 0} if no durations were recorded
+   * @throws IllegalArgumentException if {@code percentile} arg is out of {@code (0, 100]} range
+   */
+  public long percentileNanos(final double percentile) {
+    if (percentile <= 0.0 || percentile > 100.0) {
+      throw new IllegalArgumentException("percentile arg is out of (0, 100] range");
+    }
+    final long[] counts = new long[BUCKETS];
+    long total = 0L;
+    for (int idx = 0; idx < BUCKETS; ++idx) {
+      counts[idx] = this.buckets[idx].sum();
+      total += counts[idx];
+    }
+    if (total == 0L) {
+      return 0L;
+    }
+    final long rank = (long) Math.ceil(total * percentile / 100.0);
+    long accumulated = 0L;
+    for (int idx = 0; idx < BUCKETS; ++idx) {
+      accumulated += counts[idx];
+      if (accumulated >= rank) {
+        final long upperBound = idx == BUCKETS - 1 ? Long.MAX_VALUE : (1L << idx) - 1L;
+        return Math.min(upperBound, this.maxNanos());
+      }
+    }
+    return this.maxNanos();
+  }
+}
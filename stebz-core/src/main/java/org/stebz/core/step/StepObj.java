@@ -265,6 +265,23 @@ public interface StepObj<S extends StepObj<S>> {
     return this.get(COMMENT);
   }
 
+  /**
+   * Returns keyword and name separated by a space, or only the keyword or the name if the other one is empty.
+   *
+   * @return keyword and name
+   * @see #getKeyword()
+   * @see #getName()
+   */
+  default String getKeywordAndName() {
+    final String keyword = this.getKeyword().value();
+    final String name = this.getName();
+    return name.isEmpty()
+      ? keyword
+      : keyword.isEmpty()
+      ? name
+      : keyword + ' ' + name;
+  }
+
   /**
    * Returns hidden attribute value.
    *
@@ -0,0 +1,207 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.core.executor;
+
+import org.junit.jupiter.api.Test;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.step.StepObj;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.container.NullableOptional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link StepStack}.
+ */
+final class StepStackTest {
+
+  @Test
+  void stackShouldBeEmptyOutsideOfSteps() {
+    final StepStack stack = StepExecutor.stepStack();
+
+    assertThat(stack.isEmpty()).isTrue();
+    assertThat(stack.depth()).isZero();
+    assertThat(stack.currentStep()).isNull();
+    assertThat(stack.currentStepId()).isZero();
+    assertThat(stack.parentStep()).isNull();
+    assertThat(stack.parentStepId()).isZero();
+    assertThat(stack.currentStepStartNanos()).isZero();
+    assertThat(stack.path()).isEmpty();
+    assertThat(StepExecutor.currentStep()).isNull();
+  }
+
+  @Test
+  void executorShouldMaintainStackForNestedSteps() {
+    final List<String> events = new ArrayList<>();
+    final StepExecutor executor = new StepExecutor.Of(
+      new StepListener[]{new RecordingListener(events)},
+      new StebzExtension[0]
+    );
+    final RunnableStep child = RunnableStep.of(() -> {
+      final StepStack stack = StepExecutor.stepStack();
+      events.add("body " + stack.currentStep().getName() + " " + stack.depth());
+      assertThat(stack.path()).extracting(StepObj::getName).containsExactly("parent", "child");
+      assertThat(stack.parentStep().getName()).isEqualTo("parent");
+      assertThat(stack.parentStepId()).isEqualTo(stack.stepId(0));
+      assertThat(stack.currentStepId()).isEqualTo(stack.stepId(1)).isGreaterThan(stack.stepId(0));
+      assertThat(stack.currentStepStartNanos()).isEqualTo(stack.stepStartNanos(1))
+        .isGreaterThanOrEqualTo(stack.stepStartNanos(0));
+      assertThat(System.nanoTime()).isGreaterThanOrEqualTo(stack.currentStepStartNanos());
+    }).withName("child");
+    final RunnableStep parent = RunnableStep.of(() -> executor.execute(child)).withName("parent");
+
+    executor.execute(parent);
+
+    assertThat(events).containsExactly(
+      "start parent 1",
+      "start child 2",
+      "body child 2",
+      "success child 2",
+      "success parent 1"
+    );
+    assertThat(StepExecutor.stepStack().isEmpty()).isTrue();
+  }
+
+  @Test
+  void executorShouldPopStepOnFailure() {
+    final StepExecutor executor = new StepExecutor.Of(new StepListener[0], new StebzExtension[0]);
+    final RunnableStep step = RunnableStep.of(() -> {
+      throw new IllegalStateException();
+    });
+
+    assertThatCode(() -> executor.execute(step)).isInstanceOf(IllegalStateException.class);
+    assertThat(StepExecutor.stepStack().isEmpty()).isTrue();
+  }
+
+  @Test
+  void stackShouldGrowBeyondInitialCapacity() {
+    final StepExecutor executor = new StepExecutor.Of(new StepListener[0], new StebzExtension[0]);
+    final int[] maxDepth = {0};
+    final RunnableStep[] step = new RunnableStep[1];
+    step[0] = RunnableStep.of(() -> {
+      final int depth = StepExecutor.stepStack().depth();
+      maxDepth[0] = Math.max(maxDepth[0], depth);
+      if (depth < 40) {
+        executor.execute(step[0]);
+      }
+    });
+
+    executor.execute(step[0]);
+
+    assertThat(maxDepth[0]).isEqualTo(40);
+    assertThat(StepExecutor.stepStack().isEmpty()).isTrue();
+  }
+
+  @Test
+  void stepIdsShouldBeUniqueAcrossThreads() throws Exception {
+    final StepExecutor executor = new StepExecutor.Of(new StepListener[0], new StebzExtension[0]);
+    final Set<Long> ids = ConcurrentHashMap.newKeySet();
+    final int stepsPerThread = 3000;
+    final RunnableStep step = RunnableStep.of(() -> ids.add(StepExecutor.stepStack().currentStepId()));
+    final Thread[] threads = new Thread[4];
+    for (int idx = 0; idx < threads.length; ++idx) {
+      threads[idx] = new Thread(() -> {
+        for (int stepIdx = 0; stepIdx < stepsPerThread; ++stepIdx) {
+          executor.execute(step);
+        }
+      });
+      threads[idx].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(ids).hasSize(threads.length * stepsPerThread).doesNotContain(0L);
+  }
+
+  @Test
+  void activeStepShouldBeReadableFromOtherThreads() throws Exception {
+    final StepExecutor executor = new StepExecutor.Of(new StepListener[0], new StebzExtension[0]);
+    final CountDownLatch childStarted = new CountDownLatch(1);
+    final CountDownLatch childReleased = new CountDownLatch(1);
+    final RunnableStep child = RunnableStep.of(() -> {
+      childStarted.countDown();
+      childReleased.await(10, TimeUnit.SECONDS);
+    }).withName("child");
+    final RunnableStep parent = RunnableStep.of(() -> executor.execute(child)).withName("parent");
+    final Thread thread = new Thread(() -> executor.execute(parent));
+
+    assertThat(StepStack.activeStep(thread)).isNull();
+    thread.start();
+    assertThat(childStarted.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(StepStack.activeStep(thread)).isSameAs(child);
+    assertThat(StepStack.activeSteps()).containsEntry(thread, child);
+    childReleased.countDown();
+    thread.join();
+
+    assertThat(StepStack.activeStep(thread)).isNull();
+    assertThat(StepStack.activeSteps()).doesNotContainKey(thread);
+  }
+
+  @Test
+  void stepMethodShouldThrowExceptionForLevelOutOfRange() {
+    final StepStack stack = StepExecutor.stepStack();
+
+    assertThatCode(() -> stack.step(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatCode(() -> stack.stepId(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatCode(() -> stack.stepStartNanos(0)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  private static final class RecordingListener implements StepListener {
+    private final List<String> events;
+
+    private RecordingListener(final List<String> events) {
+      this.events = events;
+    }
+
+    @Override
+    public void onStepStart(final StepObj<?> step,
+                            final NullableOptional<Object> context) {
+      this.events.add("start " + step.getName() + " " + StepExecutor.stepStack().depth());
+    }
+
+    @Override
+    public void onStepSuccess(final StepObj<?> step,
+                              final NullableOptional<Object> context,
+                              final NullableOptional<Object> result) {
+      this.events.add("success " + step.getName() + " " + StepExecutor.stepStack().depth());
+    }
+
+    @Override
+    public void onStepFailure(final StepObj<?> step,
+                              final NullableOptional<Object> context,
+                              final Throwable exception) {
+      this.events.add("failure " + step.getName() + " " + StepExecutor.stepStack().depth());
+    }
+  }
+}
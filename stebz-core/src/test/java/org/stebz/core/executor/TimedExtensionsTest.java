@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.core.executor;
+
+import org.junit.jupiter.api.Test;
+import org.stebz.core.extension.AfterStepSuccess;
+import org.stebz.core.extension.BeforeStepStart;
+import org.stebz.core.extension.InterceptStep;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.metrics.StebzMetrics;
+import org.stebz.core.metrics.TimeHistogram;
+import org.stebz.core.step.StepObj;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.container.NullableOptional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link TimedExtensions}.
+ */
+final class TimedExtensionsTest {
+
+  @Test
+  void wrapShouldThrowExceptionForNullArgs() {
+    assertThatCode(() -> TimedExtensions.wrap(null, new StebzMetrics(10)))
+      .isInstanceOf(NullPointerException.class);
+    assertThatCode(() -> TimedExtensions.wrap(new StebzExtension[0], null))
+      .isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void wrapShouldCreateDecoratorPerPhase() {
+    final StebzExtension[] wrapped = TimedExtensions.wrap(
+      new StebzExtension[]{new MultiPhaseExtension(new ArrayList<>())},
+      new StebzMetrics(10)
+    );
+
+    assertThat(wrapped).hasSize(3);
+    assertThat(wrapped[0]).isInstanceOf(InterceptStep.class).isNotInstanceOf(BeforeStepStart.class);
+    assertThat(wrapped[1]).isInstanceOf(BeforeStepStart.class).isNotInstanceOf(AfterStepSuccess.class);
+    assertThat(wrapped[2]).isInstanceOf(AfterStepSuccess.class).isNotInstanceOf(InterceptStep.class);
+    assertThat(wrapped).allMatch(ext -> ext.order() == 123);
+  }
+
+  @Test
+  void instrumentedExecutorShouldRecordEachPhase() {
+    final List<String> events = new ArrayList<>();
+    final StebzMetrics metrics = new StebzMetrics(10);
+    final StepExecutor executor = new StepExecutor.Of(
+      new StepListener[0],
+      new StebzExtension[]{new MultiPhaseExtension(events)},
+      metrics
+    );
+
+    executor.execute(RunnableStep.of(() -> events.add("body")));
+
+    assertThat(events).containsExactly("interceptStep", "beforeStepStart", "body", "afterStepSuccess");
+    final String name = MultiPhaseExtension.class.getName();
+    final Map<String, TimeHistogram> histograms = metrics.callbackHistograms();
+    assertThat(histograms).containsOnlyKeys(
+      name + "#interceptStep", name + "#beforeStepStart", name + "#afterStepSuccess"
+    );
+    assertThat(histograms.values()).allMatch(histogram -> histogram.count() == 1L);
+  }
+
+  private static final class MultiPhaseExtension implements InterceptStep, BeforeStepStart, AfterStepSuccess {
+    private final List<String> events;
+
+    private MultiPhaseExtension(final List<String> events) {
+      this.events = events;
+    }
+
+    @Override
+    public int order() {
+      return 123;
+    }
+
+    @Override
+    public StepObj<?> interceptStep(final StepObj<?> step,
+                                    final NullableOptional<Object> context) {
+      this.events.add("interceptStep");
+      return step;
+    }
+
+    @Override
+    public void beforeStepStart(final StepObj<?> step,
+                                final NullableOptional<Object> context) {
+      this.events.add("beforeStepStart");
+    }
+
+    @Override
+    public void afterStepSuccess(final StepObj<?> step,
+                                 final NullableOptional<Object> context,
+                                 final NullableOptional<Object> result) {
+      this.events.add("afterStepSuccess");
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.core.executor;
+
+import org.junit.jupiter.api.Test;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.metrics.StebzMetrics;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.container.NullableOptional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link TimedStepListener}.
+ */
+final class TimedStepListenerTest {
+
+  @Test
+  void listenerShouldDelegateCallsAndRecordCallbackTime() {
+    final StepListener origin = mock(StepListener.class);
+    doReturn(42).when(origin).order();
+    final StebzMetrics metrics = new StebzMetrics(10);
+    final TimedStepListener listener = new TimedStepListener(origin, metrics);
+    final RunnableStep step = RunnableStep.of(RunnableStep.emptyBody());
+    final IllegalStateException exception = new IllegalStateException();
+
+    listener.onStepStart(step, NullableOptional.empty());
+    listener.onStepSuccess(step, NullableOptional.empty(), NullableOptional.empty());
+    listener.onStepFailure(step, NullableOptional.empty(), exception);
+
+    assertThat(listener.order()).isEqualTo(42);
+    verify(origin).onStepStart(step, NullableOptional.empty());
+    verify(origin).onStepSuccess(step, NullableOptional.empty(), NullableOptional.empty());
+    verify(origin).onStepFailure(step, NullableOptional.empty(), exception);
+    final String name = origin.getClass().getName();
+    assertThat(metrics.callbackHistograms()).containsOnlyKeys(
+      name + "#onStepStart", name + "#onStepSuccess", name + "#onStepFailure"
+    );
+    assertThat(metrics.callbackHistograms().values()).allMatch(histogram -> histogram.count() == 1L);
+  }
+
+  @Test
+  void listenerShouldRecordCallbackTimeIfOriginThrowsException() {
+    final StepListener origin = mock(StepListener.class);
+    doThrow(new IllegalStateException()).when(origin).onStepStart(any(), any());
+    final StebzMetrics metrics = new StebzMetrics(10);
+    final TimedStepListener listener = new TimedStepListener(origin, metrics);
+
+    assertThatCode(() -> listener.onStepStart(RunnableStep.of(RunnableStep.emptyBody()), NullableOptional.empty()))
+      .isInstanceOf(IllegalStateException.class);
+    assertThat(metrics.callbackHistograms().get(origin.getClass().getName() + "#onStepStart").count())
+      .isEqualTo(1L);
+  }
+}
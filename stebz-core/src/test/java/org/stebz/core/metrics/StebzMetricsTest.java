@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link StebzMetrics}.
+ */
+final class StebzMetricsTest {
+
+  @Test
+  void ctorShouldThrowExceptionForNegativeMaxStepNamesArg() {
+    assertThatCode(() -> new StebzMetrics(-1))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void metricsShouldCountSteps() {
+    final StebzMetrics metrics = new StebzMetrics(100);
+
+    metrics.stepStarted();
+    metrics.stepStarted();
+    metrics.stepStarted();
+    metrics.stepSucceeded("a", 10L);
+    metrics.stepFailed("b", 20L);
+
+    assertThat(metrics.stepsStarted()).isEqualTo(3L);
+    assertThat(metrics.stepsSucceeded()).isEqualTo(1L);
+    assertThat(metrics.stepsFailed()).isEqualTo(1L);
+    assertThat(metrics.activeSteps()).isEqualTo(1L);
+  }
+
+  @Test
+  void slowestStepsShouldReturnMaxDurationsSortedDescending() {
+    final StebzMetrics metrics = new StebzMetrics(100);
+
+    metrics.stepSucceeded("a", 10L);
+    metrics.stepSucceeded("a", 50L);
+    metrics.stepSucceeded("b", 30L);
+    metrics.stepFailed("c", 5L);
+
+    assertThat(metrics.slowestSteps(2)).containsExactly(
+      entry("a", 50L),
+      entry("b", 30L)
+    );
+  }
+
+  @Test
+  void slowestStepsShouldNotTrackMoreThanMaxStepNames() {
+    final StebzMetrics metrics = new StebzMetrics(1);
+
+    metrics.stepSucceeded("a", 10L);
+    metrics.stepSucceeded("b", 30L);
+
+    assertThat(metrics.slowestSteps(10)).containsOnlyKeys("a");
+    assertThat(metrics.stepsSucceeded()).isEqualTo(2L);
+  }
+
+  @Test
+  void callbackTimesShouldBeCumulative() {
+    final StebzMetrics metrics = new StebzMetrics(100);
+
+    metrics.callbackTime("listener1", 10L);
+    metrics.callbackTime("listener2", 5L);
+    metrics.callbackTime("listener1", 15L);
+
+    assertThat(metrics.callbackTimes()).containsExactly(
+      entry("listener1", 25L),
+      entry("listener2", 5L)
+    );
+  }
+
+  @Test
+  void resetShouldClearAllMetrics() {
+    final StebzMetrics metrics = new StebzMetrics(100);
+    metrics.stepStarted();
+    metrics.stepSucceeded("a", 10L);
+    metrics.retryAttempt();
+    metrics.softAssertFailure();
+    metrics.callbackTime("listener", 10L);
+
+    metrics.reset();
+
+    assertThat(metrics.stepsStarted()).isZero();
+    assertThat(metrics.stepsSucceeded()).isZero();
+    assertThat(metrics.retryAttempts()).isZero();
+    assertThat(metrics.softAssertFailures()).isZero();
+    assertThat(metrics.callbackTimes()).isEmpty();
+    assertThat(metrics.slowestSteps(10)).isEmpty();
+  }
+
+  private static Map.Entry<String, Long> entry(final String key,
+                                              final long value) {
+    return new AbstractMap.SimpleImmutableEntry<>(key, value);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link TimeHistogram}.
+ */
+final class TimeHistogramTest {
+
+  @Test
+  void emptyHistogramShouldReturnZeros() {
+    final TimeHistogram histogram = new TimeHistogram();
+
+    assertThat(histogram.count()).isZero();
+    assertThat(histogram.totalNanos()).isZero();
+    assertThat(histogram.maxNanos()).isZero();
+    assertThat(histogram.percentileNanos(99.0)).isZero();
+  }
+
+  @Test
+  void histogramShouldRecordDurations() {
+    final TimeHistogram histogram = new TimeHistogram();
+
+    for (int idx = 0; idx < 99; ++idx) {
+      histogram.record(100L);
+    }
+    histogram.record(1_000_000L);
+
+    assertThat(histogram.count()).isEqualTo(100L);
+    assertThat(histogram.totalNanos()).isEqualTo(99L * 100L + 1_000_000L);
+    assertThat(histogram.maxNanos()).isEqualTo(1_000_000L);
+    assertThat(histogram.percentileNanos(50.0)).isBetween(100L, 127L);
+    assertThat(histogram.percentileNanos(99.0)).isBetween(100L, 127L);
+    assertThat(histogram.percentileNanos(100.0)).isEqualTo(1_000_000L);
+  }
+
+  @Test
+  void histogramShouldTreatNegativeDurationsAsZero() {
+    final TimeHistogram histogram = new TimeHistogram();
+
+    histogram.record(-5L);
+
+    assertThat(histogram.count()).isEqualTo(1L);
+    assertThat(histogram.totalNanos()).isZero();
+    assertThat(histogram.percentileNanos(50.0)).isZero();
+  }
+
+  @Test
+  void percentileShouldThrowExceptionForOutOfRangeArg() {
+    final TimeHistogram histogram = new TimeHistogram();
+
+    assertThatCode(() -> histogram.percentileNanos(0.0))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatCode(() -> histogram.percentileNanos(100.5))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
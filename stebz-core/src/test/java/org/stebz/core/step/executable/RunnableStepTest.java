@@ -25,6 +25,7 @@ package org.stebz.core.step.executable;
 
 import dev.jlet.function.ThrowingRunnable;
 import org.junit.jupiter.api.Test;
+import org.stebz.core.attribute.Keyword;
 import org.stebz.core.attribute.StepAttributes;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,6 +72,18 @@ final class RunnableStepTest {
       .isSameAs(newBody);
   }
 
+  @Test
+  void runnableStepKeywordAndNameShouldSkipEmptyParts() {
+    final RunnableStep step = RunnableStep.of("name", RunnableStep.emptyBody());
+
+    assertThat(step.getKeywordAndName())
+      .isEqualTo("name");
+    assertThat(step.withKeyword(Keyword.of("When")).getKeywordAndName())
+      .isEqualTo("When name");
+    assertThat(step.withKeyword(Keyword.of("When")).withName("").getKeywordAndName())
+      .isEqualTo("When");
+  }
+
   @SuppressWarnings("unchecked")
   private static ThrowingRunnable<Error> mockRunnable() {
     return mock(ThrowingRunnable.class);
@@ -28,6 +28,7 @@ import dev.jlet.function.ThrowingFunction;
 import dev.jlet.function.ThrowingRunnable;
 import dev.jlet.function.ThrowingSupplier;
 import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.executor.StepStack;
 import org.stebz.core.extension.InterceptStep;
 import org.stebz.core.extension.StebzExtension;
 import org.stebz.core.step.StepObj;
@@ -38,14 +39,22 @@ import org.stebz.core.step.executable.SupplierStep;
 import org.stebz.util.container.NullableOptional;
 import org.stebz.util.property.PropertiesReader;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 /**
- * Empty steps {@link StebzExtension}.
+ * Empty steps {@link StebzExtension}. In dry-run mode the extension replaces the body of each step, hides steps from
+ * listeners and records root steps to the step inventory index written at JVM shutdown. Nested steps are not recorded,
+ * because step bodies are not executed. The extension is the last
+ * {@code InterceptStep} extension in dry-run mode by default, so retries, repeats and delays of other extensions are
+ * replaced along with the step body.
  */
 public class EmptyStepsExtension implements InterceptStep {
   private static final ThreadLocal<Integer> THREAD_LOCAL_DEPTH = new ThreadLocal<>();
   private final boolean enabled;
   private final int order;
   private final boolean each;
+  private final StepInventory inventory;
 
   /**
    * Ctor.
@@ -61,8 +70,16 @@ public class EmptyStepsExtension implements InterceptStep {
    */
   public EmptyStepsExtension(final PropertiesReader properties) {
     this.enabled = properties.getBoolean("stebz.emptySteps.enabled", true);
-    this.order = properties.getInteger("stebz.emptySteps.order", LATE_ORDER);
-    this.each = properties.getBoolean("stebz.emptySteps.each", false);
+    final boolean dryRun = properties.getBoolean("stebz.emptySteps.dryRun", false);
+    this.order = properties.getInteger("stebz.emptySteps.order", dryRun ? Integer.MAX_VALUE : LATE_ORDER);
+    this.each = dryRun || properties.getBoolean("stebz.emptySteps.each", false);
+    this.inventory = this.enabled && dryRun ? new StepInventory() : null;
+    if (this.inventory != null && properties.getBoolean("stebz.emptySteps.dryRun.writeIndex", true)) {
+      final Path file = Paths.get(properties.getString("stebz.emptySteps.dryRun.indexFile",
+        "target/stebz-dry-run-index.tsv"));
+      final StepInventory inventory = this.inventory;
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> inventory.write(file), "stebz-dry-run-index"));
+    }
   }
 
   /**
@@ -165,15 +182,31 @@ public class EmptyStepsExtension implements InterceptStep {
   public StepObj<?> interceptStep(final StepObj<?> step,
                                   final NullableOptional<Object> context) {
     if (this.enabled && (this.each || THREAD_LOCAL_DEPTH.get() != null)) {
-      if (step instanceof RunnableStep) {
-        return ((RunnableStep) step).withBody(RunnableStep.emptyBody());
-      } else if (step instanceof ConsumerStep) {
-        return ((ConsumerStep<?>) step).withBody(ConsumerStep.emptyBody());
-      } else if (step instanceof SupplierStep) {
-        return ((SupplierStep<?>) step).withBody(SupplierStep.emptyBody());
-      } else if (step instanceof FunctionStep) {
-        return ((FunctionStep<?, ?>) step).withBody(FunctionStep.emptyBody());
+      if (this.inventory != null) {
+        /* the step is not pushed to the stack yet */
+        if (!step.isHidden() && StepStack.current().isEmpty()) {
+          this.inventory.add(step);
+        }
+        return emptyBody(step).withHiding();
       }
+      return emptyBody(step);
+    }
+    return step;
+  }
+
+  StepInventory inventory() {
+    return this.inventory;
+  }
+
+  private static StepObj<?> emptyBody(final StepObj<?> step) {
+    if (step instanceof RunnableStep) {
+      return ((RunnableStep) step).withBody(RunnableStep.emptyBody());
+    } else if (step instanceof ConsumerStep) {
+      return ((ConsumerStep<?>) step).withBody(ConsumerStep.emptyBody());
+    } else if (step instanceof SupplierStep) {
+      return ((SupplierStep<?>) step).withBody(SupplierStep.emptyBody());
+    } else if (step instanceof FunctionStep) {
+      return ((FunctionStep<?, ?>) step).withBody(FunctionStep.emptyBody());
     }
     return step;
   }
@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.emptysteps;
+
+import org.stebz.core.step.StepObj;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Inventory of root steps executed in dry-run mode, grouped by test. The index is a tab-separated file: a
+ * {@code test} line with the test member is followed by {@code step} lines with keyword, name, params schema and
+ * source member of each step.
+ */
+final class StepInventory {
+  private static final Logger LOGGER = Logger.getLogger(StepInventory.class.getName());
+  private static final String[] FRAMEWORK_CLASS_PREFIXES = {
+    "org.stebz.", "org.aspectj.", "java.", "javax.", "jdk.", "sun.", "com.sun.",
+    "org.junit.", "junit.", "org.testng.", "org.apache.maven.", "org.gradle.", "worker.org.gradle."
+  };
+  private final Map<String, List<String>> tests;
+
+  /**
+   * Ctor.
+   */
+  StepInventory() {
+    this.tests = new LinkedHashMap<>();
+  }
+
+  /**
+   * Adds given step to the inventory.
+   *
+   * @param step the step
+   */
+  void add(final StepObj<?> step) {
+    final StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+    final String line = "step"
+      + '\t' + clean(step.getKeyword().value())
+      + '\t' + clean(step.getName())
+      + '\t' + paramsSchema(step.getParams())
+      + '\t' + member(source(stackTrace));
+    final String test = member(test(stackTrace));
+    synchronized (this.tests) {
+      this.tests.computeIfAbsent(test, key -> new ArrayList<>()).add(line);
+    }
+  }
+
+  /**
+   * Returns index lines of given test.
+   *
+   * @param test the test member
+   * @return index lines of given test
+   */
+  List<String> steps(final String test) {
+    synchronized (this.tests) {
+      final List<String> steps = this.tests.get(test);
+      return steps == null ? new ArrayList<>() : new ArrayList<>(steps);
+    }
+  }
+
+  /**
+   * Prints the index.
+   *
+   * @param out the print stream
+   */
+  void print(final PrintStream out) {
+    synchronized (this.tests) {
+      this.tests.forEach((test, steps) -> {
+        out.println("test\t" + test);
+        steps.forEach(out::println);
+      });
+    }
+  }
+
+  /**
+   * Writes the index to given file.
+   *
+   * @param file the file
+   */
+  void write(final Path file) {
+    try {
+      final Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, "UTF-8")) {
+        this.print(out);
+      }
+    } catch (final IOException ex) {
+      LOGGER.log(Level.WARNING, "Failed to write step inventory index to " + file, ex);
+    }
+  }
+
+  static String member(final StackTraceElement element) {
+    return element == null
+      ? ""
+      : element.getClassName() + '#' + element.getMethodName();
+  }
+
+  /* the first application frame, the step method or the test method for steps without own methods */
+  private static StackTraceElement source(final StackTraceElement[] stackTrace) {
+    for (final StackTraceElement element : stackTrace) {
+      if (isApplicationFrame(element)) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  /* the application frame invoked reflectively by the test framework, or the outermost application frame */
+  private static StackTraceElement test(final StackTraceElement[] stackTrace) {
+    StackTraceElement result = null;
+    for (int idx = 0; idx < stackTrace.length; ++idx) {
+      final StackTraceElement element = stackTrace[idx];
+      if (isApplicationFrame(element)) {
+        result = element;
+        if (idx + 1 < stackTrace.length && isReflectionFrame(stackTrace[idx + 1])) {
+          return element;
+        }
+      }
+    }
+    return result;
+  }
+
+  private static boolean isApplicationFrame(final StackTraceElement element) {
+    final String className = element.getClassName();
+    for (final String prefix : FRAMEWORK_CLASS_PREFIXES) {
+      if (className.startsWith(prefix)) {
+        return false;
+      }
+    }
+    return !className.contains("$AjcClosure") && !element.getMethodName().contains("_aroundBody");
+  }
+
+  private static boolean isReflectionFrame(final StackTraceElement element) {
+    final String className = element.getClassName();
+    return className.startsWith("jdk.internal.reflect.")
+      || className.startsWith("sun.reflect.")
+      || className.equals("java.lang.reflect.Method");
+  }
+
+  private static String paramsSchema(final Map<String, Object> params) {
+    if (params.isEmpty()) {
+      return "";
+    }
+    final StringBuilder sb = new StringBuilder();
+    params.forEach((name, value) -> {
+      if (sb.length() != 0) {
+        sb.append(',');
+      }
+      sb.append(clean(name)).append(':').append(value == null ? "null" : value.getClass().getSimpleName());
+    });
+    return sb.toString();
+  }
+
+  private static String clean(final String value) {
+    return value.replace('\t', ' ').replace('\r', ' ').replace('\n', ' ');
+  }
+}
@@ -25,11 +25,17 @@ package org.stebz.emptysteps;
 
 import dev.jlet.function.ThrowingRunnable;
 import org.junit.jupiter.api.Test;
+import org.stebz.core.attribute.Keyword;
+import org.stebz.core.executor.StepExecutor;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.listener.StepListener;
 import org.stebz.core.step.StepObj;
 import org.stebz.core.step.executable.RunnableStep;
 import org.stebz.util.container.NullableOptional;
 import org.stebz.util.property.PropertiesReader;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.lang.reflect.Field;
 import java.util.Properties;
 
@@ -102,6 +108,66 @@ final class EmptyStepsExtensionTest {
     assertThatTreadLocalsAreCleared();
   }
 
+  @Test
+  void dryRunModeShouldOverrideBodyHideStepAndRecordInventory() throws Exception {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.emptySteps.dryRun", "true");
+    properties.setProperty("stebz.emptySteps.dryRun.writeIndex", "false");
+    final RunnableStep step = RunnableStep.of("open\tpage", () -> { })
+      .withKeyword(Keyword.of("When"))
+      .withParam("id", 1)
+      .withParam("user", null);
+    final EmptyStepsExtension extension = new EmptyStepsExtension(new PropertiesReader.Of(properties));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThat(((RunnableStep) resultStep).getBody())
+      .isSameAs(RunnableStep.emptyBody());
+    assertThat(resultStep.isHidden())
+      .isTrue();
+    assertThat(extension.order())
+      .isEqualTo(Integer.MAX_VALUE);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    extension.inventory().print(new PrintStream(out, true, "UTF-8"));
+    assertThat(out.toString("UTF-8").split("\\R"))
+      .hasSize(2)
+      .satisfies(lines -> assertThat(lines[0]).startsWith("test\t"))
+      .satisfies(lines -> assertThat(lines[1]).startsWith("step\tWhen\topen page\tid:Integer,user:null\t"));
+    assertThatTreadLocalsAreCleared();
+  }
+
+  @Test
+  void dryRunModeShouldNotRecordHiddenSteps() throws Exception {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.emptySteps.dryRun", "true");
+    properties.setProperty("stebz.emptySteps.dryRun.writeIndex", "false");
+    final EmptyStepsExtension extension = new EmptyStepsExtension(new PropertiesReader.Of(properties));
+
+    extension.interceptStep(RunnableStep.of("step", () -> { }).withHiding(), NullableOptional.empty());
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    extension.inventory().print(new PrintStream(out, true, "UTF-8"));
+    assertThat(out.size())
+      .isZero();
+    assertThatTreadLocalsAreCleared();
+  }
+
+  @Test
+  void dryRunModeShouldRecordOnlyRootSteps() throws Exception {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.emptySteps.dryRun", "true");
+    properties.setProperty("stebz.emptySteps.dryRun.writeIndex", "false");
+    final EmptyStepsExtension extension = new EmptyStepsExtension(new PropertiesReader.Of(properties));
+    final StepExecutor executor = new StepExecutor.Of(new StepListener[0], new StebzExtension[0]);
+
+    executor.execute(RunnableStep.of("outer", () ->
+      extension.interceptStep(RunnableStep.of("inner", () -> { }), NullableOptional.empty())
+    ));
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    extension.inventory().print(new PrintStream(out, true, "UTF-8"));
+    assertThat(out.size())
+      .isZero();
+    assertThatTreadLocalsAreCleared();
+  }
+
   @SuppressWarnings("unchecked")
   private static void assertThatTreadLocalsAreCleared() throws Exception {
     final Field depthField = EmptyStepsExtension.class.getDeclaredField("THREAD_LOCAL_DEPTH");
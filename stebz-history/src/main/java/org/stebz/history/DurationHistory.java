@@ -0,0 +1,281 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.history;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Append-only step duration history file. Each line is a summary of one step name in one run:
+ * {@code runId,count,p50Nanos,p90Nanos,stepName}. The step name is the last column, so it needs no escaping. Several
+ * lines of the same step name and run id (written by parallel JVMs of the same run) are treated as one run.
+ */
+final class DurationHistory {
+  private static final String HEADER = "runId,count,p50Nanos,p90Nanos,stepName";
+  private static final String REPORT_HEADER = "runId,metric,baselineNanos,currentNanos,ratio,stepName";
+  private final Path file;
+
+  /**
+   * Ctor.
+   *
+   * @param file the history file
+   */
+  DurationHistory(final Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Returns run id usable as the history column.
+   *
+   * @param runId the run id
+   * @return run id usable as the history column
+   */
+  static String runId(final String runId) {
+    return runId.replace(',', '_').replace('\r', '_').replace('\n', '_');
+  }
+
+  /**
+   * Reads summaries of previous runs per step name, from the oldest to the newest run. Of several summaries of the
+   * same step name and run, the one with the largest count is used.
+   *
+   * @param currentRunId the current run id, its summaries are skipped
+   * @return summaries of previous runs per step name
+   * @throws IOException if an I/O error occurs
+   */
+  Map<String, List<StepDurations.Summary>> read(final String currentRunId) throws IOException {
+    final Map<String, Map<String, StepDurations.Summary>> runs = new HashMap<>();
+    if (!Files.exists(this.file)) {
+      return new HashMap<>();
+    }
+    for (final String line : Files.readAllLines(this.file, StandardCharsets.UTF_8)) {
+      if (line.isEmpty() || line.equals(HEADER)) {
+        continue;
+      }
+      final String[] columns = line.split(",", 5);
+      if (columns.length != 5 || columns[0].equals(currentRunId)) {
+        continue;
+      }
+      final StepDurations.Summary summary;
+      try {
+        summary = new StepDurations.Summary(
+          Long.parseLong(columns[1]), Long.parseLong(columns[2]), Long.parseLong(columns[3])
+        );
+      } catch (final NumberFormatException ex) {
+        /* skip corrupted line */
+        continue;
+      }
+      runs.computeIfAbsent(columns[4], key -> new LinkedHashMap<>()).merge(columns[0], summary,
+        (prev, next) -> next.count() > prev.count() ? next : prev);
+    }
+    final Map<String, List<StepDurations.Summary>> result = new HashMap<>();
+    runs.forEach((name, summaries) -> result.put(name, new ArrayList<>(summaries.values())));
+    return result;
+  }
+
+  /**
+   * Appends summaries of the run.
+   *
+   * @param runId     the run id
+   * @param summaries the summaries per step name
+   * @throws IOException if an I/O error occurs
+   */
+  void append(final String runId,
+              final Map<String, StepDurations.Summary> summaries) throws IOException {
+    final Path parent = this.file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    final boolean newFile = !Files.exists(this.file);
+    try (BufferedWriter writer = Files.newBufferedWriter(this.file, StandardCharsets.UTF_8,
+      StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      if (newFile) {
+        writer.write(HEADER);
+        writer.newLine();
+      }
+      for (final Map.Entry<String, StepDurations.Summary> entry : summaries.entrySet()) {
+        final StepDurations.Summary summary = entry.getValue();
+        writer.write(runId + "," + summary.count() + "," + summary.p50Nanos() + "," + summary.p90Nanos() + ","
+          + entry.getKey().replace('\r', ' ').replace('\n', ' '));
+        writer.newLine();
+      }
+    }
+  }
+
+  /**
+   * Compares summaries of the run with the rolling baseline: the median of the step p50 (p90) over the last runs.
+   *
+   * @param current       the summaries of the run
+   * @param previous      the summaries of previous runs
+   * @param baselineRuns  the number of the last runs in the baseline
+   * @param minRuns       the min number of runs in the baseline to compare
+   * @param threshold     the allowed relative growth, for example {@code 0.2} for 20%
+   * @param minDeltaNanos the min absolute growth in nanos to report
+   * @return regressions
+   */
+  static List<Regression> detect(final Map<String, StepDurations.Summary> current,
+                                 final Map<String, List<StepDurations.Summary>> previous,
+                                 final int baselineRuns,
+                                 final int minRuns,
+                                 final double threshold,
+                                 final long minDeltaNanos) {
+    final List<Regression> result = new ArrayList<>();
+    current.forEach((name, summary) -> {
+      final List<StepDurations.Summary> runs = previous.get(name);
+      if (runs == null || runs.size() < minRuns) {
+        return;
+      }
+      final List<StepDurations.Summary> baseline = runs.subList(Math.max(0, runs.size() - baselineRuns), runs.size());
+      final long[] p50s = new long[baseline.size()];
+      final long[] p90s = new long[baseline.size()];
+      for (int idx = 0; idx < baseline.size(); ++idx) {
+        p50s[idx] = baseline.get(idx).p50Nanos();
+        p90s[idx] = baseline.get(idx).p90Nanos();
+      }
+      addIfRegressed(result, name, "p50", median(p50s), summary.p50Nanos(), threshold, minDeltaNanos);
+      addIfRegressed(result, name, "p90", median(p90s), summary.p90Nanos(), threshold, minDeltaNanos);
+    });
+    return result;
+  }
+
+  /**
+   * Writes regressions report in CSV format. Regressions are appended if the report contains only regressions of the
+   * same run, otherwise the report is overwritten.
+   *
+   * @param reportFile  the report file
+   * @param runId       the run id
+   * @param regressions the regressions
+   * @throws IOException if an I/O error occurs
+   */
+  static void writeReport(final Path reportFile,
+                          final String runId,
+                          final List<Regression> regressions) throws IOException {
+    final Path parent = reportFile.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    final boolean sameRun = sameRunReport(reportFile, runId);
+    try (BufferedWriter writer = sameRun
+      ? Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND)
+      : Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+      if (!sameRun) {
+        writer.write(REPORT_HEADER);
+        writer.newLine();
+      }
+      for (final Regression regression : regressions) {
+        writer.write(String.format(Locale.ROOT, "%s,%s,%d,%d,%.3f,%s", runId, regression.metric,
+          regression.baselineNanos, regression.currentNanos, regression.ratio(),
+          regression.stepName.replace('\r', ' ').replace('\n', ' ')));
+        writer.newLine();
+      }
+    }
+  }
+
+  private static boolean sameRunReport(final Path reportFile,
+                                       final String runId) throws IOException {
+    if (!Files.exists(reportFile)) {
+      return false;
+    }
+    final List<String> lines = Files.readAllLines(reportFile, StandardCharsets.UTF_8);
+    if (lines.isEmpty() || !lines.get(0).equals(REPORT_HEADER)) {
+      return false;
+    }
+    final String prefix = runId + ',';
+    for (int idx = 1; idx < lines.size(); ++idx) {
+      if (!lines.get(idx).isEmpty() && !lines.get(idx).startsWith(prefix)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void addIfRegressed(final List<Regression> result,
+                                     final String stepName,
+                                     final String metric,
+                                     final long baselineNanos,
+                                     final long currentNanos,
+                                     final double threshold,
+                                     final long minDeltaNanos) {
+    if (currentNanos - baselineNanos >= minDeltaNanos && currentNanos > baselineNanos * (1.0 + threshold)) {
+      result.add(new Regression(stepName, metric, baselineNanos, currentNanos));
+    }
+  }
+
+  private static long median(final long[] values) {
+    final long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    final int middle = sorted.length / 2;
+    return sorted.length % 2 == 1
+      ? sorted[middle]
+      : (sorted[middle - 1] + sorted[middle]) / 2;
+  }
+
+  /**
+   * Step duration regression.
+   */
+  static final class Regression {
+    private final String stepName;
+    private final String metric;
+    private final long baselineNanos;
+    private final long currentNanos;
+
+    Regression(final String stepName,
+               final String metric,
+               final long baselineNanos,
+               final long currentNanos) {
+      this.stepName = stepName;
+      this.metric = metric;
+      this.baselineNanos = baselineNanos;
+      this.currentNanos = currentNanos;
+    }
+
+    String stepName() {
+      return this.stepName;
+    }
+
+    String metric() {
+      return this.metric;
+    }
+
+    double ratio() {
+      return this.baselineNanos == 0L ? Double.POSITIVE_INFINITY : (double) this.currentNanos / this.baselineNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.ROOT, "%s %s %.3fms -> %.3fms (x%.2f)",
+        this.stepName, this.metric, this.baselineNanos / 1e6, this.currentNanos / 1e6, this.ratio());
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.history;
+
+import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.executor.StepStack;
+import org.stebz.core.extension.AfterStepSuccess;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.step.StepObj;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Step duration history {@link StebzExtension}. Records durations of successful steps per step name, appends the run
+ * summary (count, p50, p90) to the local history file and reports steps whose p50 or p90 regressed against the
+ * rolling baseline of previous runs. Parallel JVMs (for example, surefire forks) sharing the same run id contribute to
+ * the same run, the history and the report are updated under a file lock.
+ */
+public class HistoryExtension implements AfterStepSuccess {
+  static final String HISTORY_FILE = "history.csv";
+  static final String REPORT_FILE = "regressions.csv";
+  static final String LOCK_FILE = "history.lock";
+  private static final Logger LOGGER = Logger.getLogger(HistoryExtension.class.getName());
+  private static final Queue<HistoryExtension> SHUTDOWN_RUNS = new ConcurrentLinkedQueue<>();
+  private static final AtomicBoolean SHUTDOWN_HOOK = new AtomicBoolean();
+  private final boolean enabled;
+  private final int order;
+  private final Path dir;
+  private final String runId;
+  private final int baselineRuns;
+  private final int minRuns;
+  private final double threshold;
+  private final long minDeltaNanos;
+  private final StepDurations durations;
+
+  /**
+   * Ctor.
+   */
+  public HistoryExtension() {
+    this(StartupPropertiesReader.get());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   * @throws NullPointerException if {@code properties} arg is null
+   */
+  public HistoryExtension(final PropertiesReader properties) {
+    if (properties == null) { throw new NullPointerException("properties arg is null"); }
+    /* near-zero durations of empty dry-run steps would become the baseline of the next runs */
+    this.enabled = properties.getBoolean("stebz.history.enabled", true)
+      && !properties.getBoolean("stebz.emptySteps.dryRun", false);
+    this.order = properties.getInteger("stebz.history.order", EARLY_ORDER);
+    this.dir = Paths.get(properties.getString("stebz.history.dir", "target/stebz-history"));
+    this.runId = DurationHistory.runId(
+      properties.getString("stebz.history.runId", String.valueOf(System.currentTimeMillis()))
+    );
+    this.baselineRuns = properties.getInteger("stebz.history.baselineRuns", 10);
+    this.minRuns = properties.getInteger("stebz.history.minRuns", 3);
+    this.threshold = properties.getDouble("stebz.history.threshold", 0.2);
+    this.minDeltaNanos = properties.getLong("stebz.history.minDeltaMillis", 1L) * 1_000_000L;
+    this.durations = new StepDurations();
+    if (this.enabled && properties.getBoolean("stebz.history.writeOnShutdown", true)) {
+      SHUTDOWN_RUNS.add(this);
+      if (SHUTDOWN_HOOK.compareAndSet(false, true)) {
+        Runtime.getRuntime().addShutdownHook(new Thread(HistoryExtension::completeRuns, "stebz-history-writer"));
+      }
+    }
+  }
+
+  private static void completeRuns() {
+    for (HistoryExtension extension = SHUTDOWN_RUNS.poll(); extension != null; extension = SHUTDOWN_RUNS.poll()) {
+      extension.completeRun();
+    }
+  }
+
+  @Override
+  public int order() {
+    return this.order;
+  }
+
+  @Override
+  public void afterStepSuccess(final StepObj<?> step,
+                               final NullableOptional<Object> context,
+                               final NullableOptional<Object> result) {
+    if (this.enabled) {
+      final StepStack stack = StepStack.current();
+      if (!stack.isEmpty()) {
+        this.durations.add(step.getKeywordAndName(), System.nanoTime() - stack.currentStepStartNanos());
+      }
+    }
+  }
+
+  /**
+   * Compares the current run with the history, writes regressions report and appends the current run to the history.
+   *
+   * @return regressions
+   */
+  List<DurationHistory.Regression> completeRun() {
+    final Map<String, StepDurations.Summary> current = this.durations.summaries();
+    if (current.isEmpty()) {
+      return Collections.emptyList();
+    }
+    try {
+      Files.createDirectories(this.dir);
+      final List<DurationHistory.Regression> regressions;
+      /* parallel JVMs of the same run update the history one by one */
+      try (FileChannel channel = FileChannel.open(this.dir.resolve(LOCK_FILE),
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+           FileLock ignored = channel.lock()) {
+        final DurationHistory history = new DurationHistory(this.dir.resolve(HISTORY_FILE));
+        regressions = DurationHistory.detect(
+          current, history.read(this.runId), this.baselineRuns, this.minRuns, this.threshold, this.minDeltaNanos
+        );
+        DurationHistory.writeReport(this.dir.resolve(REPORT_FILE), this.runId, regressions);
+        history.append(this.runId, current);
+      }
+      if (!regressions.isEmpty() && LOGGER.isLoggable(Level.WARNING)) {
+        final StringBuilder message = new StringBuilder()
+          .append("Stebz history: ").append(regressions.size()).append(" step duration regression(s), see ")
+          .append(this.dir.resolve(REPORT_FILE).toAbsolutePath());
+        regressions.forEach(regression -> message.append(System.lineSeparator()).append("  ").append(regression));
+        LOGGER.warning(message.toString());
+      }
+      return regressions;
+    } catch (final IOException ex) {
+      LOGGER.log(Level.WARNING, "Failed to update step duration history in " + this.dir, ex);
+      return Collections.emptyList();
+    }
+  }
+}
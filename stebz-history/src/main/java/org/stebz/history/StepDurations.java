@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.history;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Step durations of the current run per step name. Each step name keeps a bounded uniform sample of durations.
+ */
+final class StepDurations {
+  private static final int RESERVOIR_SIZE = 1024;
+  private final Map<String, Reservoir> steps;
+
+  /**
+   * Ctor.
+   */
+  StepDurations() {
+    this.steps = new ConcurrentHashMap<>();
+  }
+
+  void add(final String stepName,
+           final long nanos) {
+    this.steps.computeIfAbsent(stepName, key -> new Reservoir()).add(nanos);
+  }
+
+  /**
+   * Returns summaries of step durations sorted by step name.
+   *
+   * @return summaries of step durations
+   */
+  Map<String, Summary> summaries() {
+    final Map<String, Summary> result = new TreeMap<>();
+    this.steps.forEach((name, reservoir) -> result.put(name, reservoir.summary()));
+    return result;
+  }
+
+  private static final class Reservoir {
+    private final long[] samples = new long[RESERVOIR_SIZE];
+    private long count = 0L;
+
+    private synchronized void add(final long nanos) {
+      if (this.count < RESERVOIR_SIZE) {
+        this.samples[(int) this.count] = nanos;
+      } else {
+        final long idx = ThreadLocalRandom.current().nextLong(this.count + 1);
+        if (idx < RESERVOIR_SIZE) {
+          this.samples[(int) idx] = nanos;
+        }
+      }
+      ++this.count;
+    }
+
+    private synchronized Summary summary() {
+      final long[] sorted = Arrays.copyOf(this.samples, (int) Math.min(this.count, RESERVOIR_SIZE));
+      Arrays.sort(sorted);
+      return new Summary(this.count, percentile(sorted, 0.5), percentile(sorted, 0.9));
+    }
+
+    private static long percentile(final long[] sorted,
+                                   final double quantile) {
+      return sorted.length == 0
+        ? 0L
+        : sorted[Math.max(0, (int) Math.ceil(sorted.length * quantile) - 1)];
+    }
+  }
+
+  /**
+   * Step durations summary.
+   */
+  static final class Summary {
+    private final long count;
+    private final long p50Nanos;
+    private final long p90Nanos;
+
+    Summary(final long count,
+            final long p50Nanos,
+            final long p90Nanos) {
+      this.count = count;
+      this.p50Nanos = p50Nanos;
+      this.p90Nanos = p90Nanos;
+    }
+
+    long count() {
+      return this.count;
+    }
+
+    long p50Nanos() {
+      return this.p50Nanos;
+    }
+
+    long p90Nanos() {
+      return this.p90Nanos;
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.stebz.core.executor.StepExecutor;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.property.PropertiesReader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for {@link HistoryExtension}.
+ */
+final class HistoryExtensionTest {
+
+  @Test
+  void completeRunShouldAppendRunSummaryToHistory(@TempDir final Path dir) throws Exception {
+    final HistoryExtension extension = new HistoryExtension(properties(dir, "1"));
+
+    executor(extension).execute(RunnableStep.of("step", () -> { }));
+    assertThat(extension.completeRun())
+      .isEmpty();
+
+    final Map<String, List<StepDurations.Summary>> history =
+      new DurationHistory(dir.resolve(HistoryExtension.HISTORY_FILE)).read("2");
+    assertThat(history)
+      .containsOnlyKeys("step");
+    assertThat(history.get("step").get(0).count())
+      .isEqualTo(1L);
+    assertThat(Files.readAllLines(dir.resolve(HistoryExtension.REPORT_FILE), StandardCharsets.UTF_8))
+      .hasSize(1);
+  }
+
+  @Test
+  void failedStepsShouldNotBeRecorded(@TempDir final Path dir) {
+    final HistoryExtension extension = new HistoryExtension(properties(dir, "1"));
+
+    assertThatCode(() -> executor(extension).execute(RunnableStep.of("step", () -> {
+      throw new AssertionError();
+    })))
+      .isInstanceOf(AssertionError.class);
+    extension.completeRun();
+
+    assertThat(Files.exists(dir.resolve(HistoryExtension.HISTORY_FILE)))
+      .isFalse();
+  }
+
+  @Test
+  void dryRunStepsShouldNotBeRecorded(@TempDir final Path dir) {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.history.dir", dir.toString());
+    properties.setProperty("stebz.history.writeOnShutdown", "false");
+    properties.setProperty("stebz.emptySteps.dryRun", "true");
+    final HistoryExtension extension = new HistoryExtension(new PropertiesReader.Of(properties));
+
+    executor(extension).execute(RunnableStep.of("step", RunnableStep.emptyBody()).withHiding());
+    assertThat(extension.completeRun())
+      .isEmpty();
+    assertThat(Files.exists(dir.resolve(HistoryExtension.HISTORY_FILE)))
+      .isFalse();
+  }
+
+  @Test
+  void parallelJvmsOfTheSameRunShouldShareRunAndReport(@TempDir final Path dir) throws Exception {
+    final DurationHistory history = new DurationHistory(dir.resolve(HistoryExtension.HISTORY_FILE));
+    for (int run = 0; run < 3; ++run) {
+      final Map<String, StepDurations.Summary> summaries = new HashMap<>();
+      summaries.put("step a", summary(1L, 1L));
+      summaries.put("step b", summary(1L, 1L));
+      history.append("previous" + run, summaries);
+    }
+    final HistoryExtension fork1 = new HistoryExtension(properties(dir, "current"));
+    final HistoryExtension fork2 = new HistoryExtension(properties(dir, "current"));
+
+    executor(fork1).execute(RunnableStep.of("step a", () -> Thread.sleep(5L)));
+    executor(fork2).execute(RunnableStep.of("step a", () -> Thread.sleep(5L)));
+    executor(fork2).execute(RunnableStep.of("step b", () -> Thread.sleep(5L)));
+    assertThat(fork1.completeRun())
+      .hasSize(2);
+    assertThat(fork2.completeRun())
+      .hasSize(4);
+
+    assertThat(history.read("next").get("step a"))
+      .hasSize(4);
+    assertThat(Files.readAllLines(dir.resolve(HistoryExtension.REPORT_FILE), StandardCharsets.UTF_8))
+      .hasSize(7)
+      .filteredOn(line -> line.startsWith("current,"))
+      .hasSize(6);
+  }
+
+  @Test
+  void regressionShouldBeDetectedAgainstRollingMedian() {
+    final List<StepDurations.Summary> previous = Arrays.asList(
+      summary(10_000_000L, 20_000_000L),
+      summary(90_000_000L, 90_000_000L),
+      summary(11_000_000L, 21_000_000L),
+      summary(9_000_000L, 19_000_000L)
+    );
+
+    final List<DurationHistory.Regression> regressions = DurationHistory.detect(
+      Collections.singletonMap("step", summary(15_000_000L, 22_000_000L)),
+      Collections.singletonMap("step", previous),
+      10, 3, 0.2, 1_000_000L
+    );
+
+    assertThat(regressions)
+      .hasSize(1);
+    assertThat(regressions.get(0).metric())
+      .isEqualTo("p50");
+    assertThat(regressions.get(0).ratio())
+      .isEqualTo(1.43, within(0.01));
+  }
+
+  @Test
+  void regressionShouldNotBeDetectedWithoutEnoughRuns() {
+    final List<DurationHistory.Regression> regressions = DurationHistory.detect(
+      Collections.singletonMap("step", summary(100_000_000L, 100_000_000L)),
+      Collections.singletonMap("step", Collections.singletonList(summary(1_000_000L, 1_000_000L))),
+      10, 3, 0.2, 1_000_000L
+    );
+
+    assertThat(regressions)
+      .isEmpty();
+  }
+
+  private static StepDurations.Summary summary(final long p50Nanos,
+                                               final long p90Nanos) {
+    return new StepDurations.Summary(10L, p50Nanos, p90Nanos);
+  }
+
+  private static StepExecutor executor(final HistoryExtension extension) {
+    return new StepExecutor.Of(new StepListener[0], new StebzExtension[]{extension});
+  }
+
+  private static PropertiesReader properties(final Path dir,
+                                             final String runId) {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.history.dir", dir.toString());
+    properties.setProperty("stebz.history.runId", runId);
+    properties.setProperty("stebz.history.writeOnShutdown", "false");
+    return new PropertiesReader.Of(properties);
+  }
+}
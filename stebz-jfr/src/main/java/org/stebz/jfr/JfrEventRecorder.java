@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.jfr;
+
+import org.stebz.core.step.StepObj;
+
+import java.util.Arrays;
+
+/**
+ * JFR step events recorder. Compiled for Java 11 and loaded only if JFR events are available.
+ */
+final class JfrEventRecorder extends JfrRecorder {
+  private final long thresholdNanos;
+  private final ThreadLocal<EventStack> events;
+
+  /**
+   * Ctor.
+   *
+   * @param thresholdNanos the min duration of recorded passed steps in nanos
+   */
+  JfrEventRecorder(final long thresholdNanos) {
+    this.thresholdNanos = thresholdNanos;
+    this.events = ThreadLocal.withInitial(EventStack::new);
+  }
+
+  @Override
+  void start(final StepObj<?> step) {
+    final EventStack stack = this.events.get();
+    final StepEvent event = new StepEvent();
+    if (event.isEnabled()) {
+      event.name = step.getName();
+      event.keyword = step.getKeyword().value();
+      event.depth = stack.size;
+      event.begin();
+      stack.push(event, System.nanoTime());
+    } else {
+      stack.push(null, 0L);
+    }
+  }
+
+  @Override
+  void finish(final Throwable exception) {
+    final EventStack stack = this.events.get();
+    if (stack.size == 0) {
+      return;
+    }
+    final long startNanos = stack.startNanos[stack.size - 1];
+    final StepEvent event = stack.pop();
+    if (event == null) {
+      return;
+    }
+    event.end();
+    if (exception == null && System.nanoTime() - startNanos < this.thresholdNanos) {
+      return;
+    }
+    if (event.shouldCommit()) {
+      if (exception == null) {
+        event.outcome = "PASSED";
+      } else {
+        event.outcome = "FAILED";
+        event.exception = exception.getClass().getName();
+      }
+      event.commit();
+    }
+  }
+
+  private static final class EventStack {
+    private StepEvent[] events = new StepEvent[16];
+    private long[] startNanos = new long[16];
+    private int size = 0;
+
+    private void push(final StepEvent event,
+                      final long nanoTime) {
+      if (this.size == this.events.length) {
+        this.events = Arrays.copyOf(this.events, this.size << 1);
+        this.startNanos = Arrays.copyOf(this.startNanos, this.size << 1);
+      }
+      this.events[this.size] = event;
+      this.startNanos[this.size] = nanoTime;
+      this.size++;
+    }
+
+    private StepEvent pop() {
+      final StepEvent event = this.events[--this.size];
+      this.events[this.size] = null;
+      return event;
+    }
+  }
+}
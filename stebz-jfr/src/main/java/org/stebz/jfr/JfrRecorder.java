@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.jfr;
+
+import org.stebz.core.step.StepObj;
+
+/**
+ * JFR step events recorder. The implementation is compiled for Java 11 and loaded reflectively, so the module stays
+ * usable on Java 8 where the listener does nothing.
+ */
+abstract class JfrRecorder {
+  /**
+   * Java 11 implementation class name.
+   */
+  static final String EVENT_RECORDER_CLASS = "org.stebz.jfr.JfrEventRecorder";
+
+  /**
+   * Returns recorder of given class or {@code null} if the class cannot be loaded on the current Java version.
+   *
+   * @param className      the recorder class name
+   * @param thresholdNanos the min duration of recorded passed steps in nanos
+   * @return recorder or {@code null}
+   */
+  static JfrRecorder create(final String className,
+                            final long thresholdNanos) {
+    if (className == null) { throw new NullPointerException("className arg is null"); }
+    try {
+      return Class.forName(className)
+        .asSubclass(JfrRecorder.class)
+        .getDeclaredConstructor(long.class)
+        .newInstance(thresholdNanos);
+    } catch (final ReflectiveOperationException | LinkageError ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Handles step start.
+   *
+   * @param step the step
+   */
+  abstract void start(StepObj<?> step);
+
+  /**
+   * Handles step finish.
+   *
+   * @param exception the step exception or {@code null}
+   */
+  abstract void finish(Throwable exception);
+}
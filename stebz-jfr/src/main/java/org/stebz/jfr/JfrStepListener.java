@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.jfr;
+
+import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.step.StepObj;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDK Flight Recorder {@code StepListener} implementation. Emits {@code org.stebz.Step} event per step on Java 11+,
+ * does nothing on Java 8.
+ */
+public class JfrStepListener implements StepListener {
+  private final int order;
+  private final JfrRecorder recorder;
+
+  /**
+   * Ctor.
+   */
+  public JfrStepListener() {
+    this(StartupPropertiesReader.get());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   */
+  public JfrStepListener(final PropertiesReader properties) {
+    this(properties, JfrRecorder.EVENT_RECORDER_CLASS);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties        the properties reader
+   * @param recorderClassName the recorder class name
+   */
+  JfrStepListener(final PropertiesReader properties,
+                  final String recorderClassName) {
+    this.order = properties.getInteger("stebz.jfr.order", MIDDLE_ORDER);
+    this.recorder = properties.getBoolean("stebz.jfr.enabled", true)
+      ? JfrRecorder.create(
+        recorderClassName, TimeUnit.MILLISECONDS.toNanos(properties.getLong("stebz.jfr.threshold", 0L))
+      )
+      : null;
+  }
+
+  @Override
+  public int order() {
+    return this.order;
+  }
+
+  @Override
+  public void onStepStart(final StepObj<?> step,
+                          final NullableOptional<Object> context) {
+    if (this.recorder == null || step.isHidden()) {
+      return;
+    }
+    this.recorder.start(step);
+  }
+
+  @Override
+  public void onStepSuccess(final StepObj<?> step,
+                            final NullableOptional<Object> context,
+                            final NullableOptional<Object> result) {
+    if (this.recorder == null || step.isHidden()) {
+      return;
+    }
+    this.recorder.finish(null);
+  }
+
+  @Override
+  public void onStepFailure(final StepObj<?> step,
+                            final NullableOptional<Object> context,
+                            final Throwable exception) {
+    if (this.recorder == null || step.isHidden()) {
+      return;
+    }
+    this.recorder.finish(exception);
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.stebz.core.attribute.Keyword;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JfrStepListener}.
+ */
+final class JfrStepListenerTest {
+
+  @Test
+  void listenerShouldEmitStepEvents(@TempDir final Path dir) throws Exception {
+    final JfrStepListener listener = new JfrStepListener(new PropertiesReader.Of(new Properties()));
+    final RunnableStep parent = RunnableStep.of(RunnableStep.emptyBody())
+      .withKeyword(new Keyword.Of("When"))
+      .withName("parent");
+    final RunnableStep child = RunnableStep.of(RunnableStep.emptyBody()).withName("child");
+
+    final List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable("org.stebz.Step");
+      recording.start();
+      listener.onStepStart(parent, NullableOptional.empty());
+      listener.onStepStart(child, NullableOptional.empty());
+      listener.onStepFailure(child, NullableOptional.empty(), new IllegalStateException());
+      listener.onStepSuccess(parent, NullableOptional.empty(), NullableOptional.empty());
+      recording.stop();
+      final Path file = dir.resolve("recording.jfr");
+      recording.dump(file);
+      events = RecordingFile.readAllEvents(file).stream()
+        .filter(event -> event.getEventType().getName().equals("org.stebz.Step"))
+        .collect(Collectors.toList());
+    }
+
+    assertThat(events).hasSize(2);
+    final RecordedEvent childEvent = events.stream()
+      .filter(event -> event.getString("name").equals("child"))
+      .findFirst().orElseThrow(AssertionError::new);
+    final RecordedEvent parentEvent = events.stream()
+      .filter(event -> event.getString("name").equals("parent"))
+      .findFirst().orElseThrow(AssertionError::new);
+    assertThat(childEvent.getInt("depth")).isEqualTo(1);
+    assertThat(childEvent.getString("outcome")).isEqualTo("FAILED");
+    assertThat(childEvent.getString("exception")).isEqualTo(IllegalStateException.class.getName());
+    assertThat(parentEvent.getInt("depth")).isZero();
+    assertThat(parentEvent.getString("keyword")).isEqualTo("When");
+    assertThat(parentEvent.getString("outcome")).isEqualTo("PASSED");
+    assertThat(parentEvent.getDuration()).isGreaterThanOrEqualTo(childEvent.getDuration());
+  }
+
+  @Test
+  void listenerShouldSkipPassedStepsBelowThreshold(@TempDir final Path dir) throws Exception {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.jfr.threshold", "60000");
+    final JfrStepListener listener = new JfrStepListener(new PropertiesReader.Of(properties));
+    final RunnableStep passed = RunnableStep.of(RunnableStep.emptyBody()).withName("passed");
+    final RunnableStep failed = RunnableStep.of(RunnableStep.emptyBody()).withName("failed");
+
+    final List<String> names;
+    try (Recording recording = new Recording()) {
+      recording.enable("org.stebz.Step");
+      recording.start();
+      listener.onStepStart(passed, NullableOptional.empty());
+      listener.onStepSuccess(passed, NullableOptional.empty(), NullableOptional.empty());
+      listener.onStepStart(failed, NullableOptional.empty());
+      listener.onStepFailure(failed, NullableOptional.empty(), new IllegalStateException());
+      recording.stop();
+      final Path file = dir.resolve("recording.jfr");
+      recording.dump(file);
+      names = RecordingFile.readAllEvents(file).stream()
+        .filter(event -> event.getEventType().getName().equals("org.stebz.Step"))
+        .map(event -> event.getString("name"))
+        .collect(Collectors.toList());
+    }
+
+    assertThat(names).containsExactly("failed");
+  }
+
+  @Test
+  void listenerShouldDoNothingIfRecorderCannotBeLoaded(@TempDir final Path dir) throws Exception {
+    final JfrStepListener listener = new JfrStepListener(
+      new PropertiesReader.Of(new Properties()), "org.stebz.jfr.MissingRecorder"
+    );
+    final RunnableStep step = RunnableStep.of(RunnableStep.emptyBody()).withName("step");
+
+    final long count;
+    try (Recording recording = new Recording()) {
+      recording.enable("org.stebz.Step");
+      recording.start();
+      listener.onStepStart(step, NullableOptional.empty());
+      listener.onStepFailure(step, NullableOptional.empty(), new IllegalStateException());
+      recording.stop();
+      final Path file = dir.resolve("recording.jfr");
+      recording.dump(file);
+      count = RecordingFile.readAllEvents(file).stream()
+        .filter(event -> event.getEventType().getName().equals("org.stebz.Step"))
+        .count();
+    }
+
+    assertThat(count).isZero();
+  }
+}
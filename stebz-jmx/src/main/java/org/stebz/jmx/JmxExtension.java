@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.jmx;
+
+import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.executor.StepStack;
+import org.stebz.core.extension.AfterStepFailure;
+import org.stebz.core.extension.AfterStepSuccess;
+import org.stebz.core.extension.BeforeStepStart;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.metrics.StebzMetrics;
+import org.stebz.core.step.StepObj;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * JMX metrics {@link StebzExtension}. Records step counters and durations to {@link StebzMetrics} and exposes them
+ * via {@link StepMetricsMXBean} registered in the platform MBean server.
+ */
+public class JmxExtension implements BeforeStepStart, AfterStepSuccess, AfterStepFailure {
+  private final boolean enabled;
+  private final int order;
+  private final StebzMetrics metrics;
+
+  /**
+   * Ctor.
+   */
+  public JmxExtension() {
+    this(StartupPropertiesReader.get());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   */
+  public JmxExtension(final PropertiesReader properties) {
+    this(properties, StebzMetrics.global());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   * @param metrics    the metrics
+   * @throws NullPointerException if {@code properties} arg or {@code metrics} arg is null
+   * @throws IllegalStateException if MXBean cannot be registered
+   */
+  public JmxExtension(final PropertiesReader properties,
+                      final StebzMetrics metrics) {
+    if (properties == null) { throw new NullPointerException("properties arg is null"); }
+    if (metrics == null) { throw new NullPointerException("metrics arg is null"); }
+    this.enabled = properties.getBoolean("stebz.jmx.enabled", true)
+      && !properties.getBoolean("stebz.emptySteps.dryRun", false);
+    this.order = properties.getInteger("stebz.jmx.order", EARLY_ORDER);
+    this.metrics = metrics;
+    if (this.enabled) {
+      register(
+        properties.getString("stebz.jmx.objectName", "org.stebz:type=StepMetrics"),
+        new StepMetrics(metrics, properties.getInteger("stebz.jmx.topSlowest", 10))
+      );
+    }
+  }
+
+  @Override
+  public int order() {
+    return this.order;
+  }
+
+  @Override
+  public void beforeStepStart(final StepObj<?> step,
+                              final NullableOptional<Object> context) {
+    if (this.enabled) {
+      this.metrics.stepStarted();
+    }
+  }
+
+  @Override
+  public void afterStepSuccess(final StepObj<?> step,
+                               final NullableOptional<Object> context,
+                               final NullableOptional<Object> result) {
+    if (this.enabled) {
+      final long duration = currentStepDuration();
+      if (duration >= 0L) {
+        this.metrics.stepSucceeded(step.getKeywordAndName(), duration);
+      }
+    }
+  }
+
+  @Override
+  public void afterStepFailure(final StepObj<?> step,
+                               final NullableOptional<Object> context,
+                               final Throwable exception) {
+    if (this.enabled) {
+      final long duration = currentStepDuration();
+      if (duration >= 0L) {
+        this.metrics.stepFailed(step.getKeywordAndName(), duration);
+      }
+    }
+  }
+
+  private static long currentStepDuration() {
+    final StepStack stack = StepStack.current();
+    return stack.isEmpty()
+      ? -1L
+      : System.nanoTime() - stack.currentStepStartNanos();
+  }
+
+  private static void register(final String objectName,
+                               final StepMetricsMXBean mxBean) {
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      final ObjectName name = new ObjectName(objectName);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+      server.registerMBean(mxBean, name);
+    } catch (final InstanceAlreadyExistsException ex) {
+      /* registered concurrently */
+    } catch (final JMException ex) {
+      throw new IllegalStateException("Failed to register " + objectName + " MXBean cause " + ex, ex);
+    }
+  }
+}
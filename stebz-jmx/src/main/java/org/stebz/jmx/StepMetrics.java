@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.jmx;
+
+import org.stebz.core.metrics.StebzMetrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Step metrics MXBean implementation, a view of {@link StebzMetrics}.
+ */
+final class StepMetrics implements StepMetricsMXBean {
+  private final StebzMetrics metrics;
+  private final int topSlowest;
+
+  /**
+   * Ctor.
+   *
+   * @param metrics    the metrics
+   * @param topSlowest the number of the slowest step names
+   */
+  StepMetrics(final StebzMetrics metrics,
+              final int topSlowest) {
+    this.metrics = metrics;
+    this.topSlowest = topSlowest;
+  }
+
+  @Override
+  public long getStepsStarted() {
+    return this.metrics.stepsStarted();
+  }
+
+  @Override
+  public long getStepsSucceeded() {
+    return this.metrics.stepsSucceeded();
+  }
+
+  @Override
+  public long getStepsFailed() {
+    return this.metrics.stepsFailed();
+  }
+
+  @Override
+  public long getActiveSteps() {
+    return this.metrics.activeSteps();
+  }
+
+  @Override
+  public long getRetryAttempts() {
+    return this.metrics.retryAttempts();
+  }
+
+  @Override
+  public long getSoftAssertFailures() {
+    return this.metrics.softAssertFailures();
+  }
+
+  @Override
+  public Map<String, Long> getCallbackTimeMillis() {
+    return toMillis(this.metrics.callbackTimes());
+  }
+
+  @Override
+  public Map<String, Long> getCallbackP99Micros() {
+    final Map<String, Long> micros = new LinkedHashMap<>();
+    this.metrics.callbackHistograms().forEach((callback, histogram) ->
+      micros.put(callback, TimeUnit.NANOSECONDS.toMicros(histogram.percentileNanos(99.0))));
+    return Collections.unmodifiableMap(micros);
+  }
+
+  @Override
+  public Map<String, Long> getSlowestStepsMillis() {
+    return toMillis(this.metrics.slowestSteps(this.topSlowest));
+  }
+
+  @Override
+  public void reset() {
+    this.metrics.reset();
+  }
+
+  private static Map<String, Long> toMillis(final Map<String, Long> nanos) {
+    final Map<String, Long> millis = new LinkedHashMap<>();
+    nanos.forEach((key, value) -> millis.put(key, TimeUnit.NANOSECONDS.toMillis(value)));
+    return Collections.unmodifiableMap(millis);
+  }
+}
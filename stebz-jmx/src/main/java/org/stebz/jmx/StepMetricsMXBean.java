@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.jmx;
+
+import java.util.Map;
+
+/**
+ * Step metrics MXBean.
+ */
+public interface StepMetricsMXBean {
+
+  /**
+   * Returns number of started steps.
+   *
+   * @return number of started steps
+   */
+  long getStepsStarted();
+
+  /**
+   * Returns number of succeeded steps.
+   *
+   * @return number of succeeded steps
+   */
+  long getStepsSucceeded();
+
+  /**
+   * Returns number of failed steps.
+   *
+   * @return number of failed steps
+   */
+  long getStepsFailed();
+
+  /**
+   * Returns number of currently executing steps.
+   *
+   * @return number of currently executing steps
+   */
+  long getActiveSteps();
+
+  /**
+   * Returns number of retry attempts.
+   *
+   * @return number of retry attempts
+   */
+  long getRetryAttempts();
+
+  /**
+   * Returns number of collected soft assertion failures.
+   *
+   * @return number of collected soft assertion failures
+   */
+  long getSoftAssertFailures();
+
+  /**
+   * Returns cumulative callback time in millis per listener callback and extension phase.
+   *
+   * @return cumulative callback time in millis per callback
+   */
+  Map<String, Long> getCallbackTimeMillis();
+
+  /**
+   * Returns 99th percentile of callback time in micros per listener callback and extension phase.
+   *
+   * @return 99th percentile of callback time in micros per callback
+   */
+  Map<String, Long> getCallbackP99Micros();
+
+  /**
+   * Returns max duration in millis of the slowest step names.
+   *
+   * @return max duration in millis of the slowest step names
+   */
+  Map<String, Long> getSlowestStepsMillis();
+
+  /**
+   * Resets all metrics.
+   */
+  void reset();
+}
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.jmx;
+
+import org.junit.jupiter.api.Test;
+import org.stebz.core.executor.StepExecutor;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.metrics.StebzMetrics;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.property.PropertiesReader;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link JmxExtension}.
+ */
+final class JmxExtensionTest {
+
+  @Test
+  void extensionShouldExposeStepCountersViaMXBean() throws Exception {
+    final StebzMetrics metrics = new StebzMetrics(100);
+    final String objectName = "org.stebz:type=StepMetrics,name=counters";
+    final StepExecutor executor = executor(objectName, metrics);
+    final RunnableStep child = RunnableStep.of(() -> {
+      throw new IllegalStateException();
+    }).withName("child");
+    final RunnableStep parent = RunnableStep.of(() -> {
+      assertThat(metrics.activeSteps()).isEqualTo(1L);
+      assertThatCode(() -> executor.execute(child)).isInstanceOf(IllegalStateException.class);
+    }).withName("parent");
+
+    executor.execute(parent);
+    metrics.retryAttempt();
+    metrics.softAssertFailure();
+    metrics.callbackTime("listener#onStepStart", 5000L);
+
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    final ObjectName name = new ObjectName(objectName);
+    assertThat(server.getAttribute(name, "StepsStarted")).isEqualTo(2L);
+    assertThat(server.getAttribute(name, "StepsSucceeded")).isEqualTo(1L);
+    assertThat(server.getAttribute(name, "StepsFailed")).isEqualTo(1L);
+    assertThat(server.getAttribute(name, "ActiveSteps")).isEqualTo(0L);
+    assertThat(server.getAttribute(name, "RetryAttempts")).isEqualTo(1L);
+    assertThat(server.getAttribute(name, "SoftAssertFailures")).isEqualTo(1L);
+    final TabularData slowest = (TabularData) server.getAttribute(name, "SlowestStepsMillis");
+    assertThat(slowest.values())
+      .extracting(row -> ((CompositeData) row).get("key"))
+      .containsExactlyInAnyOrder("parent", "child");
+    final TabularData p99 = (TabularData) server.getAttribute(name, "CallbackP99Micros");
+    assertThat(p99.values())
+      .extracting(row -> ((CompositeData) row).get("key"))
+      .containsExactly("listener#onStepStart");
+
+    server.invoke(name, "reset", new Object[0], new String[0]);
+    assertThat(server.getAttribute(name, "StepsStarted")).isEqualTo(0L);
+  }
+
+  @Test
+  void disabledExtensionShouldNotRegisterMXBean() throws Exception {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.jmx.enabled", "false");
+    properties.setProperty("stebz.jmx.objectName", "org.stebz:type=StepMetrics,name=disabled");
+    final StebzMetrics metrics = new StebzMetrics(100);
+    final StepExecutor executor = new StepExecutor.Of(
+      new StepListener[0],
+      new StebzExtension[]{new JmxExtension(new PropertiesReader.Of(properties), metrics)}
+    );
+
+    executor.execute(RunnableStep.of(RunnableStep.emptyBody()));
+
+    assertThat(metrics.stepsStarted()).isZero();
+    assertThat(ManagementFactory.getPlatformMBeanServer()
+      .isRegistered(new ObjectName("org.stebz:type=StepMetrics,name=disabled"))).isFalse();
+  }
+
+  private static StepExecutor executor(final String objectName,
+                                       final StebzMetrics metrics) {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.jmx.objectName", objectName);
+    return new StepExecutor.Of(
+      new StepListener[0],
+      new StebzExtension[]{new JmxExtension(new PropertiesReader.Of(properties), metrics)}
+    );
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.otel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process {@code SpanExporter} implementation. Keeps last finished spans in memory, the oldest spans are evicted
+ * when the capacity is exceeded.
+ */
+public final class InMemorySpanExporter implements SpanExporter {
+  private static final int GLOBAL_CAPACITY = 10_000;
+  private static final InMemorySpanExporter GLOBAL = new InMemorySpanExporter(GLOBAL_CAPACITY);
+  private final int capacity;
+  private final ConcurrentLinkedQueue<OtelSpan> spans;
+  private final AtomicInteger size;
+  private final LongAdder evicted;
+
+  /**
+   * Ctor.
+   */
+  public InMemorySpanExporter() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param capacity the max number of kept spans
+   */
+  public InMemorySpanExporter(final int capacity) {
+    if (capacity < 1) { throw new IllegalArgumentException("capacity arg is less than 1"); }
+    this.capacity = capacity;
+    this.spans = new ConcurrentLinkedQueue<>();
+    this.size = new AtomicInteger();
+    this.evicted = new LongAdder();
+  }
+
+  /**
+   * Returns global {@code InMemorySpanExporter} used by {@link OtelStepListener} with {@code MEMORY} exporter.
+   * Global exporter keeps last 10000 spans.
+   *
+   * @return global {@code InMemorySpanExporter}
+   */
+  public static InMemorySpanExporter global() {
+    return GLOBAL;
+  }
+
+  @Override
+  public void export(final OtelSpan span) {
+    if (span == null) { throw new NullPointerException("span arg is null"); }
+    this.spans.add(span);
+    if (this.size.incrementAndGet() > this.capacity && this.spans.poll() != null) {
+      this.size.decrementAndGet();
+      this.evicted.increment();
+    }
+  }
+
+  /**
+   * Returns number of spans evicted because the capacity was exceeded.
+   *
+   * @return number of evicted spans
+   */
+  public long evictedSpans() {
+    return this.evicted.sum();
+  }
+
+  /**
+   * Returns exported spans in order of finishing.
+   *
+   * @return exported spans
+   */
+  public List<OtelSpan> spans() {
+    return new ArrayList<>(this.spans);
+  }
+
+  /**
+   * Removes all exported spans.
+   */
+  public void reset() {
+    while (this.spans.poll() != null) {
+      this.size.decrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.otel;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Trace context of the current step. Allows to propagate W3C {@code traceparent} header from steps, e.g.
+ * <pre>{@code
+ * final String traceparent = OtelContext.traceparent();
+ * if (traceparent != null) {
+ *   request.header(OtelContext.TRACEPARENT_HEADER, traceparent);
+ * }
+ * }</pre>
+ */
+public final class OtelContext {
+  /**
+   * W3C trace context header name.
+   */
+  public static final String TRACEPARENT_HEADER = "traceparent";
+  private static final long EPOCH_NANOS_BASE = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+  private static final ThreadLocal<SpanStack> STACK = ThreadLocal.withInitial(SpanStack::new);
+
+  private OtelContext() {
+  }
+
+  /**
+   * Returns W3C {@code traceparent} header value of the current step span or {@code null} if there is no current step.
+   *
+   * @return {@code traceparent} header value or {@code null}
+   */
+  public static String traceparent() {
+    final OpenSpan span = STACK.get().peek();
+    return span == null
+      ? null
+      : "00-" + span.traceId + '-' + span.spanId + "-01";
+  }
+
+  /**
+   * Returns trace id of the current step span or {@code null} if there is no current step.
+   *
+   * @return trace id or {@code null}
+   */
+  public static String traceId() {
+    final OpenSpan span = STACK.get().peek();
+    return span == null ? null : span.traceId;
+  }
+
+  /**
+   * Returns span id of the current step span or {@code null} if there is no current step.
+   *
+   * @return span id or {@code null}
+   */
+  public static String spanId() {
+    final OpenSpan span = STACK.get().peek();
+    return span == null ? null : span.spanId;
+  }
+
+  static OpenSpan start(final String remoteTraceId,
+                        final String remoteSpanId,
+                        final String name) {
+    final SpanStack stack = STACK.get();
+    final OpenSpan parent = stack.peek();
+    final OpenSpan span = new OpenSpan(
+      parent != null ? parent.traceId : remoteTraceId != null ? remoteTraceId : randomHex(2),
+      randomHex(1),
+      parent != null ? parent.spanId : remoteSpanId != null ? remoteSpanId : "",
+      name,
+      epochNanos()
+    );
+    stack.push(span);
+    return span;
+  }
+
+  static OpenSpan finish() {
+    return STACK.get().pop();
+  }
+
+  static boolean isRoot() {
+    return STACK.get().size == 0;
+  }
+
+  static long epochNanos() {
+    return EPOCH_NANOS_BASE + System.nanoTime();
+  }
+
+  /**
+   * Parses W3C {@code traceparent} header value.
+   *
+   * @param traceparent the header value
+   * @return array of trace id and parent span id or {@code null} if value is not valid
+   */
+  static String[] parseTraceparent(final String traceparent) {
+    if (traceparent == null) {
+      return null;
+    }
+    final String[] parts = traceparent.trim().split("-");
+    if (parts.length < 4 || parts[0].length() != 2 || parts[1].length() != 32 || parts[2].length() != 16
+      || !isHex(parts[1]) || !isHex(parts[2]) || isZero(parts[1]) || isZero(parts[2])) {
+      return null;
+    }
+    return new String[]{parts[1], parts[2]};
+  }
+
+  private static boolean isHex(final String value) {
+    for (int idx = 0; idx < value.length(); ++idx) {
+      final char ch = value.charAt(idx);
+      if ((ch < '0' || ch > '9') && (ch < 'a' || ch > 'f')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isZero(final String value) {
+    for (int idx = 0; idx < value.length(); ++idx) {
+      if (value.charAt(idx) != '0') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String randomHex(final int longs) {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final char[] chars = new char[longs * 16];
+    for (int longIdx = 0; longIdx < longs; ++longIdx) {
+      long value;
+      do {
+        value = random.nextLong();
+      } while (value == 0L);
+      for (int idx = 15; idx >= 0; --idx) {
+        chars[longIdx * 16 + idx] = HEX[(int) (value & 0xF)];
+        value >>>= 4;
+      }
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Open span.
+   */
+  static final class OpenSpan {
+    final String traceId;
+    final String spanId;
+    final String parentSpanId;
+    final String name;
+    final long startEpochNanos;
+    final Map<String, String> attributes;
+
+    private OpenSpan(final String traceId,
+                     final String spanId,
+                     final String parentSpanId,
+                     final String name,
+                     final long startEpochNanos) {
+      this.traceId = traceId;
+      this.spanId = spanId;
+      this.parentSpanId = parentSpanId;
+      this.name = name;
+      this.startEpochNanos = startEpochNanos;
+      this.attributes = new LinkedHashMap<>();
+    }
+
+    OtelSpan toSpan(final Throwable exception) {
+      return new OtelSpan(this.traceId, this.spanId, this.parentSpanId, this.name,
+        this.startEpochNanos, epochNanos(), this.attributes, exception);
+    }
+  }
+
+  private static final class SpanStack {
+    private OpenSpan[] spans = new OpenSpan[16];
+    private int size = 0;
+
+    private OpenSpan peek() {
+      return this.size == 0 ? null : this.spans[this.size - 1];
+    }
+
+    private void push(final OpenSpan span) {
+      if (this.size == this.spans.length) {
+        this.spans = Arrays.copyOf(this.spans, this.size << 1);
+      }
+      this.spans[this.size++] = span;
+    }
+
+    private OpenSpan pop() {
+      if (this.size == 0) {
+        return null;
+      }
+      final OpenSpan span = this.spans[--this.size];
+      this.spans[this.size] = null;
+      return span;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.otel;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Finished step span.
+ */
+public final class OtelSpan {
+  private final String traceId;
+  private final String spanId;
+  private final String parentSpanId;
+  private final String name;
+  private final long startEpochNanos;
+  private final long endEpochNanos;
+  private final Map<String, String> attributes;
+  private final Throwable exception;
+
+  /**
+   * Ctor.
+   *
+   * @param traceId         the trace id
+   * @param spanId          the span id
+   * @param parentSpanId    the parent span id or empty string
+   * @param name            the name
+   * @param startEpochNanos the start time in epoch nanos
+   * @param endEpochNanos   the end time in epoch nanos
+   * @param attributes      the attributes
+   * @param exception       the exception or {@code null}
+   */
+  OtelSpan(final String traceId,
+           final String spanId,
+           final String parentSpanId,
+           final String name,
+           final long startEpochNanos,
+           final long endEpochNanos,
+           final Map<String, String> attributes,
+           final Throwable exception) {
+    this.traceId = traceId;
+    this.spanId = spanId;
+    this.parentSpanId = parentSpanId;
+    this.name = name;
+    this.startEpochNanos = startEpochNanos;
+    this.endEpochNanos = endEpochNanos;
+    this.attributes = Collections.unmodifiableMap(attributes);
+    this.exception = exception;
+  }
+
+  /**
+   * Returns trace id as 32 lowercase hex chars.
+   *
+   * @return trace id
+   */
+  public String traceId() {
+    return this.traceId;
+  }
+
+  /**
+   * Returns span id as 16 lowercase hex chars.
+   *
+   * @return span id
+   */
+  public String spanId() {
+    return this.spanId;
+  }
+
+  /**
+   * Returns parent span id or empty string for root span.
+   *
+   * @return parent span id or empty string
+   */
+  public String parentSpanId() {
+    return this.parentSpanId;
+  }
+
+  /**
+   * Returns name.
+   *
+   * @return name
+   */
+  public String name() {
+    return this.name;
+  }
+
+  /**
+   * Returns start time in epoch nanos.
+   *
+   * @return start time in epoch nanos
+   */
+  public long startEpochNanos() {
+    return this.startEpochNanos;
+  }
+
+  /**
+   * Returns end time in epoch nanos.
+   *
+   * @return end time in epoch nanos
+   */
+  public long endEpochNanos() {
+    return this.endEpochNanos;
+  }
+
+  /**
+   * Returns unmodifiable attributes.
+   *
+   * @return attributes
+   */
+  public Map<String, String> attributes() {
+    return this.attributes;
+  }
+
+  /**
+   * Returns step exception or {@code null} if step passed.
+   *
+   * @return step exception or {@code null}
+   */
+  public Throwable exception() {
+    return this.exception;
+  }
+
+  /**
+   * Returns {@code true} if step failed.
+   *
+   * @return {@code true} if step failed
+   */
+  public boolean isError() {
+    return this.exception != null;
+  }
+
+  @Override
+  public String toString() {
+    return "OtelSpan{traceId=" + this.traceId + ", spanId=" + this.spanId + ", parentSpanId=" + this.parentSpanId
+      + ", name=" + this.name + ", error=" + this.isError() + '}';
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.otel;
+
+import org.stebz.core.attribute.Keyword;
+import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.step.StepObj;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * OpenTelemetry-compatible {@code StepListener} implementation. Each step is exported as a span, nested steps are
+ * exported as child spans.
+ *
+ * @see OtelContext
+ */
+public class OtelStepListener implements StepListener {
+  private final boolean enabled;
+  private final int order;
+  private final boolean params;
+  private final String remoteTraceId;
+  private final String remoteSpanId;
+  private final SpanExporter exporter;
+
+  /**
+   * Ctor.
+   */
+  public OtelStepListener() {
+    this(StartupPropertiesReader.get());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   */
+  public OtelStepListener(final PropertiesReader properties) {
+    this(properties, null);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   * @param exporter   the span exporter or {@code null} to use exporter from properties
+   */
+  public OtelStepListener(final PropertiesReader properties,
+                          final SpanExporter exporter) {
+    this.enabled = properties.getBoolean("stebz.otel.enabled", true);
+    this.order = properties.getInteger("stebz.otel.order", MIDDLE_ORDER);
+    this.params = properties.getBoolean("stebz.otel.params", true);
+    final String[] remote = OtelContext.parseTraceparent(properties.getString("stebz.otel.traceparent", ""));
+    this.remoteTraceId = remote == null ? null : remote[0];
+    this.remoteSpanId = remote == null ? null : remote[1];
+    if (exporter != null || !this.enabled) {
+      this.exporter = exporter;
+    } else if (properties.getEnum("stebz.otel.exporter", ExporterType.class, ExporterType.FILE) == ExporterType.MEMORY) {
+      this.exporter = InMemorySpanExporter.global();
+    } else {
+      this.exporter = new OtlpJsonFileExporter(
+        Paths.get(properties.getString("stebz.otel.file", "target/stebz-otel-spans.json")),
+        properties.getString("stebz.otel.serviceName", "stebz")
+      );
+    }
+  }
+
+  @Override
+  public int order() {
+    return this.order;
+  }
+
+  @Override
+  public void onStepStart(final StepObj<?> step,
+                          final NullableOptional<Object> context) {
+    if (!this.enabled || step.isHidden()) {
+      return;
+    }
+    final Keyword keyword = step.getKeyword();
+    final String name = step.getName();
+    final OtelContext.OpenSpan span =
+      OtelContext.start(this.remoteTraceId, this.remoteSpanId, step.getKeywordAndName());
+    final Map<String, String> attributes = span.attributes;
+    if (!keyword.value().isEmpty()) {
+      attributes.put("stebz.step.keyword", keyword.value());
+    }
+    attributes.put("stebz.step.name", name);
+    if (this.params) {
+      step.getParams().forEach((key, value) -> attributes.put("stebz.step.param." + key, asString(value)));
+    }
+    final String expectedResult = step.getExpectedResult();
+    if (!expectedResult.isEmpty()) {
+      attributes.put("stebz.step.expected_result", expectedResult);
+    }
+    final String comment = step.getComment();
+    if (!comment.isEmpty()) {
+      attributes.put("stebz.step.comment", comment);
+    }
+  }
+
+  @Override
+  public void onStepSuccess(final StepObj<?> step,
+                            final NullableOptional<Object> context,
+                            final NullableOptional<Object> result) {
+    if (!this.enabled || step.isHidden()) {
+      return;
+    }
+    this.finish(null);
+  }
+
+  @Override
+  public void onStepFailure(final StepObj<?> step,
+                            final NullableOptional<Object> context,
+                            final Throwable exception) {
+    if (!this.enabled || step.isHidden()) {
+      return;
+    }
+    this.finish(exception);
+  }
+
+  private void finish(final Throwable exception) {
+    final OtelContext.OpenSpan span = OtelContext.finish();
+    if (span == null) {
+      return;
+    }
+    this.exporter.export(span.toSpan(exception));
+    if (OtelContext.isRoot()) {
+      this.exporter.flush();
+    }
+  }
+
+  private static String asString(final Object obj) {
+    if (obj != null && obj.getClass().isArray()) {
+      final String str = Arrays.deepToString(new Object[]{obj});
+      return str.substring(1, str.length() - 1);
+    }
+    return String.valueOf(obj);
+  }
+
+  private enum ExporterType {
+    FILE,
+    MEMORY
+  }
+}
@@ -0,0 +1,274 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.otel;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * OTLP JSON file {@code SpanExporter} implementation. Each flush appends one line containing
+ * {@code ExportTraceServiceRequest} JSON, the format of OpenTelemetry Collector file exporter and receiver.
+ * Spans are serialized and written by a single background thread, so step threads never wait for the file.
+ */
+public final class OtlpJsonFileExporter implements SpanExporter {
+  private static final Logger LOGGER = Logger.getLogger(OtlpJsonFileExporter.class.getName());
+  private static final int MAX_BUFFERED_SPANS = 512;
+  private static final int QUEUE_CAPACITY = 65536;
+  private static final Object FLUSH = new Object();
+  private static final Object STOP = new Object();
+  private final Path file;
+  private final String serviceName;
+  private final BlockingQueue<Object> queue;
+  private final List<OtelSpan> buffer;
+  private final AtomicBoolean closed;
+  private final Thread thread;
+  private Writer writer;
+
+  /**
+   * Ctor.
+   *
+   * @param file        the file
+   * @param serviceName the {@code service.name} resource attribute
+   */
+  public OtlpJsonFileExporter(final Path file,
+                              final String serviceName) {
+    if (file == null) { throw new NullPointerException("file arg is null"); }
+    if (serviceName == null) { throw new NullPointerException("serviceName arg is null"); }
+    this.file = file;
+    this.serviceName = serviceName;
+    this.queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    this.buffer = new ArrayList<>();
+    this.closed = new AtomicBoolean();
+    this.thread = new Thread(this::run, "stebz-otel-exporter");
+    this.thread.setDaemon(true);
+    this.thread.start();
+    Runtime.getRuntime().addShutdownHook(new Thread(this::close, "stebz-otel-exporter-shutdown"));
+  }
+
+  @Override
+  public void export(final OtelSpan span) {
+    if (span == null) { throw new NullPointerException("span arg is null"); }
+    if (!this.closed.get()) {
+      this.enqueue(span);
+    }
+  }
+
+  /**
+   * Requests writing of all exported spans as one line. Returns without waiting for the file.
+   */
+  @Override
+  public void flush() {
+    if (!this.closed.get()) {
+      this.enqueue(FLUSH);
+    }
+  }
+
+  /**
+   * Writes all exported spans and closes the file. Spans exported after closing are ignored.
+   */
+  public void close() {
+    if (!this.closed.compareAndSet(false, true)) {
+      return;
+    }
+    this.enqueue(STOP);
+    try {
+      this.thread.join(TimeUnit.SECONDS.toMillis(10));
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void enqueue(final Object item) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        this.queue.put(item);
+        break;
+      } catch (final InterruptedException ex) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    try {
+      while (true) {
+        final Object item = this.queue.take();
+        if (item == STOP) {
+          break;
+        } else if (item == FLUSH) {
+          this.write();
+        } else {
+          this.buffer.add((OtelSpan) item);
+          if (this.buffer.size() >= MAX_BUFFERED_SPANS) {
+            this.write();
+          }
+        }
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } finally {
+      this.write();
+      if (this.writer != null) {
+        try {
+          this.writer.close();
+        } catch (final IOException ex) {
+          LOGGER.log(Level.WARNING, "Failed to close spans file " + this.file, ex);
+        }
+        this.writer = null;
+      }
+    }
+  }
+
+  private void write() {
+    if (this.buffer.isEmpty()) {
+      return;
+    }
+    final StringBuilder sb = new StringBuilder(256 * this.buffer.size());
+    sb.append("{\"resourceSpans\":[{\"resource\":{\"attributes\":[");
+    appendAttribute(sb, "service.name", this.serviceName);
+    sb.append("]},\"scopeSpans\":[{\"scope\":{\"name\":\"org.stebz\"},\"spans\":[");
+    for (int idx = 0; idx < this.buffer.size(); ++idx) {
+      if (idx != 0) {
+        sb.append(',');
+      }
+      appendSpan(sb, this.buffer.get(idx));
+    }
+    sb.append("]}]}]}\n");
+    this.buffer.clear();
+    try {
+      if (this.writer == null) {
+        final Path parent = this.file.toAbsolutePath().getParent();
+        if (parent != null) {
+          Files.createDirectories(parent);
+        }
+        this.writer = Files.newBufferedWriter(this.file, StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+      }
+      this.writer.write(sb.toString());
+      this.writer.flush();
+    } catch (final IOException ex) {
+      LOGGER.log(Level.WARNING, "Failed to write spans to " + this.file, ex);
+    }
+  }
+
+  private static void appendSpan(final StringBuilder sb,
+                                 final OtelSpan span) {
+    sb.append("{\"traceId\":\"").append(span.traceId())
+      .append("\",\"spanId\":\"").append(span.spanId()).append('"');
+    if (!span.parentSpanId().isEmpty()) {
+      sb.append(",\"parentSpanId\":\"").append(span.parentSpanId()).append('"');
+    }
+    sb.append(",\"name\":");
+    appendString(sb, span.name());
+    sb.append(",\"kind\":1,\"startTimeUnixNano\":\"").append(span.startEpochNanos())
+      .append("\",\"endTimeUnixNano\":\"").append(span.endEpochNanos())
+      .append("\",\"attributes\":[");
+    boolean first = true;
+    for (final Map.Entry<String, String> entry : span.attributes().entrySet()) {
+      if (!first) {
+        sb.append(',');
+      }
+      first = false;
+      appendAttribute(sb, entry.getKey(), entry.getValue());
+    }
+    sb.append(']');
+    final Throwable exception = span.exception();
+    if (exception == null) {
+      sb.append(",\"status\":{\"code\":1}}");
+    } else {
+      sb.append(",\"events\":[{\"timeUnixNano\":\"").append(span.endEpochNanos())
+        .append("\",\"name\":\"exception\",\"attributes\":[");
+      appendAttribute(sb, "exception.type", exception.getClass().getName());
+      if (exception.getMessage() != null) {
+        sb.append(',');
+        appendAttribute(sb, "exception.message", exception.getMessage());
+      }
+      sb.append("]}],\"status\":{\"code\":2");
+      if (exception.getMessage() != null) {
+        sb.append(",\"message\":");
+        appendString(sb, exception.getMessage());
+      }
+      sb.append("}}");
+    }
+  }
+
+  private static void appendAttribute(final StringBuilder sb,
+                                      final String key,
+                                      final String value) {
+    sb.append("{\"key\":");
+    appendString(sb, key);
+    sb.append(",\"value\":{\"stringValue\":");
+    appendString(sb, value);
+    sb.append("}}");
+  }
+
+  private static void appendString(final StringBuilder sb,
+                                   final String value) {
+    sb.append('"');
+    for (int idx = 0; idx < value.length(); ++idx) {
+      final char ch = value.charAt(idx);
+      switch (ch) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          if (ch < 0x20) {
+            sb.append(String.format("\\u%04x", (int) ch));
+          } else {
+            sb.append(ch);
+          }
+      }
+    }
+    sb.append('"');
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.otel;
+
+import org.junit.jupiter.api.Test;
+import org.stebz.core.attribute.Keyword;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link OtelStepListener}.
+ */
+final class OtelStepListenerTest {
+
+  @Test
+  void listenerShouldExportNestedSpans() {
+    final InMemorySpanExporter exporter = new InMemorySpanExporter();
+    final OtelStepListener listener = new OtelStepListener(new PropertiesReader.Of(new Properties()), exporter);
+    final RunnableStep parent = RunnableStep.of(RunnableStep.emptyBody())
+      .withKeyword(new Keyword.Of("When"))
+      .withName("parent")
+      .withParam("param", 1);
+    final RunnableStep child = RunnableStep.of(RunnableStep.emptyBody()).withName("child");
+    final IllegalStateException exception = new IllegalStateException("message");
+
+    listener.onStepStart(parent, NullableOptional.empty());
+    final String parentTraceparent = OtelContext.traceparent();
+    listener.onStepStart(child, NullableOptional.empty());
+    final String childTraceparent = OtelContext.traceparent();
+    listener.onStepFailure(child, NullableOptional.empty(), exception);
+    listener.onStepSuccess(parent, NullableOptional.empty(), NullableOptional.empty());
+
+    final List<OtelSpan> spans = exporter.spans();
+    assertThat(spans).hasSize(2);
+    final OtelSpan childSpan = spans.get(0);
+    final OtelSpan parentSpan = spans.get(1);
+    assertThat(parentSpan.name()).isEqualTo("When parent");
+    assertThat(parentSpan.parentSpanId()).isEmpty();
+    assertThat(parentSpan.attributes())
+      .containsEntry("stebz.step.keyword", "When")
+      .containsEntry("stebz.step.name", "parent")
+      .containsEntry("stebz.step.param.param", "1");
+    assertThat(parentSpan.isError()).isFalse();
+    assertThat(childSpan.traceId()).isEqualTo(parentSpan.traceId());
+    assertThat(childSpan.parentSpanId()).isEqualTo(parentSpan.spanId());
+    assertThat(childSpan.exception()).isSameAs(exception);
+    assertThat(childSpan.endEpochNanos()).isGreaterThanOrEqualTo(childSpan.startEpochNanos());
+    assertThat(parentTraceparent).isEqualTo("00-" + parentSpan.traceId() + '-' + parentSpan.spanId() + "-01");
+    assertThat(childTraceparent).isEqualTo("00-" + childSpan.traceId() + '-' + childSpan.spanId() + "-01");
+    assertThat(OtelContext.traceparent()).isNull();
+  }
+
+  @Test
+  void listenerShouldUseRemoteTraceparent() {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.otel.traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+    final InMemorySpanExporter exporter = new InMemorySpanExporter();
+    final OtelStepListener listener = new OtelStepListener(new PropertiesReader.Of(properties), exporter);
+    final RunnableStep step = RunnableStep.of(RunnableStep.emptyBody());
+
+    listener.onStepStart(step, NullableOptional.empty());
+    listener.onStepSuccess(step, NullableOptional.empty(), NullableOptional.empty());
+
+    assertThat(exporter.spans()).singleElement().satisfies(span -> {
+      assertThat(span.traceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+      assertThat(span.parentSpanId()).isEqualTo("b7ad6b7169203331");
+    });
+  }
+
+  @Test
+  void inMemoryExporterShouldEvictOldestSpans() {
+    final InMemorySpanExporter exporter = new InMemorySpanExporter(2);
+    final OtelStepListener listener = new OtelStepListener(new PropertiesReader.Of(new Properties()), exporter);
+
+    for (int idx = 0; idx < 3; ++idx) {
+      final RunnableStep step = RunnableStep.of(RunnableStep.emptyBody()).withName("step " + idx);
+      listener.onStepStart(step, NullableOptional.empty());
+      listener.onStepSuccess(step, NullableOptional.empty(), NullableOptional.empty());
+    }
+
+    assertThat(exporter.spans()).extracting(OtelSpan::name).containsExactly("step 1", "step 2");
+    assertThat(exporter.evictedSpans()).isEqualTo(1L);
+  }
+
+  @Test
+  void disabledListenerShouldNotExportSpans() {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.otel.enabled", "false");
+    final InMemorySpanExporter exporter = new InMemorySpanExporter();
+    final OtelStepListener listener = new OtelStepListener(new PropertiesReader.Of(properties), exporter);
+    final RunnableStep step = RunnableStep.of(RunnableStep.emptyBody());
+
+    listener.onStepStart(step, NullableOptional.empty());
+    assertThat(OtelContext.traceparent()).isNull();
+    listener.onStepSuccess(step, NullableOptional.empty(), NullableOptional.empty());
+
+    assertThat(exporter.spans()).isEmpty();
+  }
+}
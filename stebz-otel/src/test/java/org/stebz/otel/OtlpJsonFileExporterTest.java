@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.otel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link OtlpJsonFileExporter}.
+ */
+final class OtlpJsonFileExporterTest {
+
+  @Test
+  void flushShouldWriteOneLinePerFlush(@TempDir final Path dir) throws IOException {
+    final Path file = dir.resolve("spans.json");
+    final OtlpJsonFileExporter exporter = new OtlpJsonFileExporter(file, "service");
+    final Map<String, String> attributes = new LinkedHashMap<>();
+    attributes.put("stebz.step.name", "name \"quoted\"");
+
+    exporter.export(new OtelSpan("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331", "",
+      "name", 1L, 2L, attributes, null));
+    exporter.flush();
+    exporter.export(new OtelSpan("0af7651916cd43dd8448eb211c80319c", "00f067aa0ba902b7", "b7ad6b7169203331",
+      "child", 1L, 2L, attributes, new IllegalStateException("line1\nline2")));
+    exporter.flush();
+    exporter.close();
+
+    final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    assertThat(lines).hasSize(2);
+    assertThat(lines.get(0))
+      .startsWith("{\"resourceSpans\":[{\"resource\":{\"attributes\":[{\"key\":\"service.name\"")
+      .contains("\"spanId\":\"b7ad6b7169203331\"")
+      .doesNotContain("parentSpanId")
+      .contains("\"startTimeUnixNano\":\"1\"")
+      .contains("{\"key\":\"stebz.step.name\",\"value\":{\"stringValue\":\"name \\\"quoted\\\"\"}}")
+      .contains("\"status\":{\"code\":1}");
+    assertThat(lines.get(1))
+      .contains("\"parentSpanId\":\"b7ad6b7169203331\"")
+      .contains("\"name\":\"exception\"")
+      .contains("\"status\":{\"code\":2,\"message\":\"line1\\nline2\"}");
+  }
+
+  @Test
+  void writeFailureShouldNotBeThrownToStepThread(@TempDir final Path dir) {
+    final OtlpJsonFileExporter exporter = new OtlpJsonFileExporter(dir, "service");
+
+    assertThatCode(() -> {
+      exporter.export(new OtelSpan("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331", "",
+        "name", 1L, 2L, new LinkedHashMap<>(), null));
+      exporter.flush();
+      exporter.close();
+    }).doesNotThrowAnyException();
+  }
+}
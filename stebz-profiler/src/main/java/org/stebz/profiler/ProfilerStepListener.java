@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.profiler;
+
+import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.executor.StepStack;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.step.StepObj;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Sampling profiler {@code StepListener} implementation. A background thread periodically captures stacks of threads
+ * executing steps and attributes each sample to the active step published by {@link StepStack#activeStep(Thread)}.
+ * Collapsed stacks (flamegraph-ready) files are written per step name on JVM shutdown.
+ */
+public class ProfilerStepListener implements StepListener {
+  private static final Logger LOGGER = Logger.getLogger(ProfilerStepListener.class.getName());
+  private final boolean enabled;
+  private final int order;
+  private final StepSampler sampler;
+
+  /**
+   * Ctor.
+   */
+  public ProfilerStepListener() {
+    this(StartupPropertiesReader.get());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   */
+  public ProfilerStepListener(final PropertiesReader properties) {
+    this.enabled = properties.getBoolean("stebz.profiler.enabled", false);
+    this.order = properties.getInteger("stebz.profiler.order", EARLY_ORDER);
+    this.sampler = new StepSampler(
+      properties.getLong("stebz.profiler.interval", 10L),
+      properties.getInteger("stebz.profiler.maxDepth", 128)
+    );
+    if (this.enabled && properties.getBoolean("stebz.profiler.writeOnShutdown", true)) {
+      final Path path = Paths.get(properties.getString("stebz.profiler.dir", "target/stebz-profiler"));
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> this.writeOnShutdown(path),
+        "stebz-profiler-writer"));
+    }
+  }
+
+  @Override
+  public int order() {
+    return this.order;
+  }
+
+  /**
+   * Returns name of the step currently executed by given thread or null if the thread does not execute any step or
+   * the profiler is disabled.
+   *
+   * @param thread the thread
+   * @return name of the step currently executed by given thread or null
+   * @throws NullPointerException if {@code thread} arg is null
+   */
+  public String currentStepName(final Thread thread) {
+    if (thread == null) { throw new NullPointerException("thread arg is null"); }
+    if (!this.enabled) {
+      return null;
+    }
+    final StepObj<?> step = StepStack.activeStep(thread);
+    return step == null ? null : step.getName();
+  }
+
+  /**
+   * Returns copy of collected samples: step name to collapsed stack to number of samples.
+   *
+   * @return copy of collected samples
+   */
+  public Map<String, Map<String, Long>> samples() {
+    return this.sampler.samples();
+  }
+
+  /**
+   * Stops sampling and writes collapsed stacks files, one file per step name.
+   *
+   * @param dir the directory
+   * @throws NullPointerException if {@code dir} arg is null
+   * @throws IOException          if an I/O error occurs
+   */
+  public void stopAndWrite(final Path dir) throws IOException {
+    if (dir == null) { throw new NullPointerException("dir arg is null"); }
+    this.sampler.stop();
+    this.sampler.write(dir);
+  }
+
+  @Override
+  public void onStepStart(final StepObj<?> step,
+                          final NullableOptional<Object> context) {
+    if (this.enabled) {
+      this.sampler.start();
+    }
+  }
+
+  @Override
+  public void onStepSuccess(final StepObj<?> step,
+                            final NullableOptional<Object> context,
+                            final NullableOptional<Object> result) {
+  }
+
+  @Override
+  public void onStepFailure(final StepObj<?> step,
+                            final NullableOptional<Object> context,
+                            final Throwable exception) {
+  }
+
+  private void writeOnShutdown(final Path dir) {
+    try {
+      this.stopAndWrite(dir);
+    } catch (final IOException ex) {
+      LOGGER.log(Level.WARNING, "Failed to write step profiles to " + dir, ex);
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.profiler;
+
+import org.stebz.core.executor.StepStack;
+import org.stebz.core.step.StepObj;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Step sampler. Periodically captures stacks of threads executing steps and attributes each sample to the active step
+ * published by {@link StepStack#activeSteps()}.
+ */
+final class StepSampler {
+  private static final Logger LOGGER = Logger.getLogger(StepSampler.class.getName());
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  private final long intervalMillis;
+  private final int maxDepth;
+  private final Map<String, Map<String, long[]>> samples;
+  private volatile Thread samplerThread;
+  private volatile boolean stopped;
+
+  /**
+   * Ctor.
+   *
+   * @param intervalMillis the sampling interval in millis
+   * @param maxDepth       the max stack depth
+   */
+  StepSampler(final long intervalMillis,
+              final int maxDepth) {
+    if (intervalMillis < 1) { throw new IllegalArgumentException("intervalMillis arg is less than 1"); }
+    if (maxDepth < 1) { throw new IllegalArgumentException("maxDepth arg is less than 1"); }
+    this.intervalMillis = intervalMillis;
+    this.maxDepth = maxDepth;
+    this.samples = new HashMap<>();
+  }
+
+  /**
+   * Returns copy of collected samples: step name to collapsed stack to number of samples.
+   *
+   * @return copy of collected samples
+   */
+  synchronized Map<String, Map<String, Long>> samples() {
+    final Map<String, Map<String, Long>> copy = new HashMap<>();
+    this.samples.forEach((stepName, stacks) -> {
+      final Map<String, Long> stacksCopy = new HashMap<>();
+      stacks.forEach((stack, count) -> stacksCopy.put(stack, count[0]));
+      copy.put(stepName, stacksCopy);
+    });
+    return copy;
+  }
+
+  /**
+   * Takes one sample of all threads executing steps.
+   */
+  void sample() {
+    final Map<Thread, StepObj<?>> activeSteps = StepStack.activeSteps();
+    activeSteps.remove(Thread.currentThread());
+    if (activeSteps.isEmpty()) {
+      return;
+    }
+    final int size = activeSteps.size();
+    final Thread[] threads = new Thread[size];
+    final StepObj<?>[] steps = new StepObj<?>[size];
+    final long[] ids = new long[size];
+    int idx = 0;
+    for (final Map.Entry<Thread, StepObj<?>> entry : activeSteps.entrySet()) {
+      threads[idx] = entry.getKey();
+      steps[idx] = entry.getValue();
+      ids[idx] = entry.getKey().getId();
+      idx++;
+    }
+    final ThreadInfo[] infos = THREAD_MX_BEAN.getThreadInfo(ids, this.maxDepth);
+    synchronized (this) {
+      for (idx = 0; idx < size; ++idx) {
+        final ThreadInfo info = infos[idx];
+        /* skip samples taken after the step finished */
+        if (info == null || StepStack.activeStep(threads[idx]) != steps[idx]) {
+          continue;
+        }
+        final StackTraceElement[] stackTrace = info.getStackTrace();
+        if (stackTrace.length == 0) {
+          continue;
+        }
+        this.samples.computeIfAbsent(steps[idx].getName(), key -> new HashMap<>())
+          .computeIfAbsent(collapse(stackTrace), key -> new long[1])[0]++;
+      }
+    }
+  }
+
+  /**
+   * Writes collapsed stacks files, one file per step name.
+   *
+   * @param dir the directory
+   * @throws IOException if an I/O error occurs
+   */
+  void write(final Path dir) throws IOException {
+    final Map<String, Map<String, Long>> snapshot = this.samples();
+    if (snapshot.isEmpty()) {
+      return;
+    }
+    Files.createDirectories(dir);
+    for (final Map.Entry<String, Map<String, Long>> entry : snapshot.entrySet()) {
+      try (BufferedWriter writer = Files.newBufferedWriter(dir.resolve(fileName(entry.getKey())),
+        StandardCharsets.UTF_8)) {
+        for (final Map.Entry<String, Long> stack : entry.getValue().entrySet()) {
+          writer.write(stack.getKey());
+          writer.write(' ');
+          writer.write(String.valueOf(stack.getValue()));
+          writer.newLine();
+        }
+      }
+    }
+  }
+
+  /**
+   * Stops sampling.
+   */
+  void stop() {
+    this.stopped = true;
+    final Thread thread = this.samplerThread;
+    if (thread != null) {
+      thread.interrupt();
+      try {
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+      } catch (final InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Starts sampling if not started yet.
+   */
+  void start() {
+    if (this.samplerThread == null) {
+      synchronized (this) {
+        if (this.samplerThread == null && !this.stopped) {
+          final Thread thread = new Thread(this::run, "stebz-profiler-sampler");
+          thread.setDaemon(true);
+          thread.start();
+          this.samplerThread = thread;
+        }
+      }
+    }
+  }
+
+  private void run() {
+    while (!this.stopped) {
+      try {
+        Thread.sleep(this.intervalMillis);
+      } catch (final InterruptedException ex) {
+        return;
+      }
+      try {
+        this.sample();
+      } catch (final RuntimeException ex) {
+        LOGGER.log(Level.WARNING, "Failed to sample step threads", ex);
+      }
+    }
+  }
+
+  private static String collapse(final StackTraceElement[] stackTrace) {
+    final StringBuilder sb = new StringBuilder(stackTrace.length * 48);
+    for (int idx = stackTrace.length - 1; idx >= 0; --idx) {
+      final StackTraceElement element = stackTrace[idx];
+      sb.append(element.getClassName()).append('.').append(element.getMethodName());
+      if (idx != 0) {
+        sb.append(';');
+      }
+    }
+    return sb.toString();
+  }
+
+  static String fileName(final String stepName) {
+    final StringBuilder sb = new StringBuilder();
+    for (int idx = 0; idx < stepName.length() && sb.length() < 100; ++idx) {
+      final char ch = stepName.charAt(idx);
+      sb.append(Character.isLetterOrDigit(ch) || ch == '-' || ch == '.' ? ch : '_');
+    }
+    if (sb.length() == 0) {
+      sb.append("unnamed");
+    }
+    return sb.append('-').append(Integer.toHexString(stepName.hashCode())).append(".collapsed").toString();
+  }
+}
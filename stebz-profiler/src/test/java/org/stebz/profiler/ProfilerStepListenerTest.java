@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.profiler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.stebz.core.executor.StepExecutor;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.property.PropertiesReader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ProfilerStepListener}.
+ */
+final class ProfilerStepListenerTest {
+
+  @Test
+  void listenerShouldTrackCurrentStepName() {
+    final ProfilerStepListener listener = new ProfilerStepListener(properties());
+    final StepExecutor executor = executor(listener);
+    final Thread thread = Thread.currentThread();
+    final List<String> names = new ArrayList<>();
+    final RunnableStep child = RunnableStep.of(() -> {
+      names.add(listener.currentStepName(thread));
+      throw new IllegalStateException();
+    }).withName("child");
+    final RunnableStep parent = RunnableStep.of(() -> {
+      names.add(listener.currentStepName(thread));
+      try {
+        executor.execute(child);
+      } catch (final IllegalStateException ex) {
+        names.add(listener.currentStepName(thread));
+      }
+    }).withName("parent");
+
+    assertThat(listener.currentStepName(thread)).isNull();
+    executor.execute(parent);
+
+    assertThat(names).containsExactly("parent", "child", "parent");
+    assertThat(listener.currentStepName(thread)).isNull();
+  }
+
+  @Test
+  void listenerShouldAttributeSamplesToActiveStep(@TempDir final Path dir) throws IOException {
+    final ProfilerStepListener listener = new ProfilerStepListener(properties());
+    final RunnableStep step = RunnableStep.of(() -> busyLoop(300)).withName("busy step");
+
+    executor(listener).execute(step);
+    busyLoop(50);
+    listener.stopAndWrite(dir);
+
+    final Map<String, Map<String, Long>> samples = listener.samples();
+    assertThat(samples).containsOnlyKeys("busy step");
+    assertThat(samples.get("busy step").keySet())
+      .anyMatch(stack -> stack.contains(ProfilerStepListenerTest.class.getName() + ".busyLoop"));
+    try (Stream<Path> files = Files.list(dir)) {
+      final List<Path> list = files.collect(Collectors.toList());
+      assertThat(list).hasSize(1);
+      assertThat(list.get(0).getFileName().toString()).startsWith("busy_step-").endsWith(".collapsed");
+      assertThat(Files.readAllLines(list.get(0), StandardCharsets.UTF_8))
+        .isNotEmpty()
+        .allMatch(line -> line.matches("\\S.* \\d+"));
+    }
+  }
+
+  @Test
+  void listenerShouldBeDisabledByDefault() {
+    final ProfilerStepListener listener = new ProfilerStepListener(new PropertiesReader.Of(new Properties()));
+    final List<String> names = new ArrayList<>();
+    final RunnableStep step = RunnableStep.of(() -> {
+      names.add(listener.currentStepName(Thread.currentThread()));
+      busyLoop(50);
+    }).withName("step");
+
+    executor(listener).execute(step);
+
+    assertThat(names).containsOnlyNulls();
+    assertThat(listener.samples()).isEmpty();
+  }
+
+  private static StepExecutor executor(final ProfilerStepListener listener) {
+    return new StepExecutor.Of(new StepListener[]{listener}, new StebzExtension[0]);
+  }
+
+  private static PropertiesReader properties() {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.profiler.enabled", "true");
+    properties.setProperty("stebz.profiler.interval", "1");
+    properties.setProperty("stebz.profiler.writeOnShutdown", "false");
+    return new PropertiesReader.Of(properties);
+  }
+
+  private static long busyLoop(final long millis) {
+    final long end = System.nanoTime() + millis * 1_000_000L;
+    long acc = 0;
+    while (System.nanoTime() < end) {
+      acc += Long.numberOfTrailingZeros(acc + System.nanoTime());
+    }
+    return acc;
+  }
+}
@@ -0,0 +1,394 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import dev.jlet.function.ThrowingConsumer;
+import dev.jlet.function.ThrowingFunction;
+import dev.jlet.function.ThrowingPredicate;
+import dev.jlet.function.ThrowingRunnable;
+import dev.jlet.function.ThrowingSupplier;
+import org.stebz.core.attribute.SimpleStepAttribute;
+import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.extension.InterceptStep;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.step.StepObj;
+import org.stebz.core.step.executable.ConsumerStep;
+import org.stebz.core.step.executable.FunctionStep;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.core.step.executable.SupplierStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.stebz.repeatandretry.RepeatExtension.exceptionMatches;
+
+/**
+ * Await {@link StebzExtension}. Evaluates the step body until the condition holds for the step result, with adaptive
+ * delays between evaluations that start small and back off, but not longer than the timeout. The step is reported
+ * once, its attempts count and elapsed time are available to listeners via {@link #AWAIT_STATS} attribute.
+ *
+ * @see #AWAIT
+ * @see #await
+ * @see WithAwait
+ */
+public class AwaitExtension implements InterceptStep {
+
+  /**
+   * Await step attribute.
+   *
+   * @see WithAwait
+   */
+  public static final SimpleStepAttribute<AwaitOptions> AWAIT = SimpleStepAttribute.nullable("extension:await");
+
+  /**
+   * Await step attribute. Alias for {@link #AWAIT}.
+   *
+   * @see WithAwait
+   */
+  public static final SimpleStepAttribute<AwaitOptions> await = AWAIT;
+
+  /**
+   * Await statistics attribute. Available to step success and failure listeners of awaited steps.
+   */
+  public static final SimpleStepAttribute<AwaitStats> AWAIT_STATS =
+    SimpleStepAttribute.nullable("extension:await_stats");
+  private static final SimpleStepAttribute<WithAwait> AWAIT_ANNOT = SimpleStepAttribute.nullable(WithAwait.KEY);
+  private final boolean enabled;
+  private final int order;
+
+  /**
+   * Ctor.
+   */
+  public AwaitExtension() {
+    this(StartupPropertiesReader.get());
+  }
+
+  /**
+   * Ctor
+   *
+   * @param properties the properties reader
+   */
+  public AwaitExtension(final PropertiesReader properties) {
+    this.enabled = properties.getBoolean("stebz.await.enabled", true);
+    this.order = properties.getInteger("stebz.await.order", MIDDLE_ORDER);
+  }
+
+  /**
+   * Returns {@code AwaitOptions} with default values: atMost = 10 seconds, pollDelay = 10 millis, maxPollDelay = 1
+   * second, pollInterval = FIBONACCI, until = any result, on = {Throwable.class}, but = {}. Alias for
+   * {@link #awaitOptions()} method.
+   *
+   * @return {@code AwaitOptions}
+   */
+  public static AwaitOptions await() {
+    return awaitOptions();
+  }
+
+  /**
+   * Returns {@code AwaitOptions} with default values: atMost = 10 seconds, pollDelay = 10 millis, maxPollDelay = 1
+   * second, pollInterval = FIBONACCI, until = any result, on = {Throwable.class}, but = {}.
+   *
+   * @return {@code AwaitOptions}
+   */
+  public static AwaitOptions awaitOptions() {
+    return AwaitOptions.DEFAULT;
+  }
+
+  @Override
+  public int order() {
+    return this.order;
+  }
+
+  @Override
+  public StepObj<?> interceptStep(final StepObj<?> step,
+                                  final NullableOptional<Object> context) {
+    if (!this.enabled) {
+      return step;
+    }
+
+    final AwaitPolicy policy;
+    final WithAwait annot = step.get(AWAIT_ANNOT);
+    if (annot != null) {
+      policy = new AwaitPolicy(
+        annot.unit().toNanos(annot.atMost()),
+        annot.unit().toMillis(annot.pollDelay()),
+        annot.unit().toMillis(annot.maxPollDelay()),
+        annot.pollInterval(),
+        AwaitOptions.ANY_RESULT,
+        annot.on(),
+        annot.but()
+      );
+    } else {
+      final AwaitOptions options = step.get(AWAIT);
+      if (options == null) {
+        return step;
+      }
+      policy = new AwaitPolicy(
+        options.atMost.toNanos(),
+        options.pollDelay.toMillis(),
+        options.maxPollDelay.toMillis(),
+        options.pollInterval,
+        options.until,
+        options.on,
+        options.but
+      );
+    }
+
+    final AwaitStats stats = new AwaitStats();
+    if (step instanceof RunnableStep) {
+      final RunnableStep runnableStep = (RunnableStep) step.with(AWAIT_STATS, stats);
+      final ThrowingRunnable<?> origin = runnableStep.getBody();
+      return runnableStep.withBody(() -> {
+        policy.await(() -> {
+          origin.run();
+          return null;
+        }, stats);
+      });
+    } else if (step instanceof ConsumerStep) {
+      @SuppressWarnings("unchecked")
+      final ConsumerStep<Object> consumerStep = (ConsumerStep<Object>) step.with(AWAIT_STATS, stats);
+      final ThrowingConsumer<Object, ?> origin = consumerStep.getBody();
+      return consumerStep.withBody(ctx -> {
+        policy.await(() -> {
+          origin.accept(ctx);
+          return null;
+        }, stats);
+      });
+    } else if (step instanceof SupplierStep) {
+      @SuppressWarnings("unchecked")
+      final SupplierStep<Object> supplierStep = (SupplierStep<Object>) step.with(AWAIT_STATS, stats);
+      final ThrowingSupplier<Object, ?> origin = supplierStep.getBody();
+      return supplierStep.withBody(() -> policy.await(origin, stats));
+    } else if (step instanceof FunctionStep) {
+      @SuppressWarnings("unchecked")
+      final FunctionStep<Object, Object> functionStep = (FunctionStep<Object, Object>) step.with(AWAIT_STATS, stats);
+      final ThrowingFunction<Object, Object, ?> origin = functionStep.getBody();
+      return functionStep.withBody(ctx -> policy.await(() -> origin.apply(ctx), stats));
+    }
+    return step;
+  }
+
+  private static final class AwaitPolicy {
+    private final long atMostNanos;
+    private final long pollDelayMillis;
+    private final long maxPollDelayMillis;
+    private final RetryBackoff pollInterval;
+    private final ThrowingPredicate<Object, ?> until;
+    private final Class<? extends Throwable>[] on;
+    private final Class<? extends Throwable>[] but;
+
+    private AwaitPolicy(final long atMostNanos,
+                        final long pollDelayMillis,
+                        final long maxPollDelayMillis,
+                        final RetryBackoff pollInterval,
+                        final ThrowingPredicate<Object, ?> until,
+                        final Class<? extends Throwable>[] on,
+                        final Class<? extends Throwable>[] but) {
+      this.atMostNanos = atMostNanos;
+      this.pollDelayMillis = pollDelayMillis;
+      this.maxPollDelayMillis = maxPollDelayMillis;
+      this.pollInterval = pollInterval;
+      this.until = until;
+      this.on = on;
+      this.but = but;
+    }
+
+    private Object await(final ThrowingSupplier<Object, ?> body,
+                         final AwaitStats stats) throws Throwable {
+      final long startNanos = System.nanoTime();
+      final long deadlineNanos = startNanos + this.atMostNanos;
+      long previousDelayMillis = 0L;
+      Throwable lastException = null;
+      Object lastResult = null;
+      int attempt = 0;
+      while (true) {
+        ++attempt;
+        try {
+          final Object result = body.get();
+          if (this.until.test(result)) {
+            stats.complete(attempt, System.nanoTime() - startNanos);
+            return result;
+          }
+          lastException = null;
+          lastResult = result;
+        } catch (final Throwable ex) {
+          if (exceptionMatches(ex, this.but) || !exceptionMatches(ex, this.on)) {
+            stats.complete(attempt, System.nanoTime() - startNanos);
+            throw ex;
+          }
+          lastException = ex;
+        }
+        final long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0L) {
+          stats.complete(attempt, System.nanoTime() - startNanos);
+          throw new AwaitTimeoutError(
+            "Condition was not satisfied within " + TimeUnit.NANOSECONDS.toMillis(this.atMostNanos) + " ms after "
+              + attempt + " attempts" + (lastException == null ? ", last result: " + lastResult : ""),
+            lastException
+          );
+        }
+        final long delayMillis = this.pollInterval.delayMillis(
+          this.pollDelayMillis, this.maxPollDelayMillis, attempt, previousDelayMillis
+        );
+        previousDelayMillis = delayMillis;
+        TimeUnit.NANOSECONDS.sleep(Math.min(TimeUnit.MILLISECONDS.toNanos(delayMillis), remainingNanos));
+      }
+    }
+  }
+
+  /**
+   * Await options.
+   *
+   * @see #AWAIT
+   */
+  public static final class AwaitOptions {
+    private static final ThrowingPredicate<Object, ?> ANY_RESULT = result -> true;
+    @SuppressWarnings("unchecked")
+    private static final AwaitOptions DEFAULT = new AwaitOptions(Duration.ofSeconds(10L), Duration.ofMillis(10L),
+      Duration.ofSeconds(1L), RetryBackoff.FIBONACCI, ANY_RESULT, new Class[]{Throwable.class}, new Class[0]);
+    private final Duration atMost;
+    private final Duration pollDelay;
+    private final Duration maxPollDelay;
+    private final RetryBackoff pollInterval;
+    private final ThrowingPredicate<Object, ?> until;
+    private final Class<? extends Throwable>[] on;
+    private final Class<? extends Throwable>[] but;
+
+    /**
+     * Ctor.
+     */
+    private AwaitOptions(final Duration atMost,
+                         final Duration pollDelay,
+                         final Duration maxPollDelay,
+                         final RetryBackoff pollInterval,
+                         final ThrowingPredicate<Object, ?> until,
+                         final Class<? extends Throwable>[] on,
+                         final Class<? extends Throwable>[] but) {
+      this.atMost = atMost;
+      this.pollDelay = pollDelay;
+      this.maxPollDelay = maxPollDelay;
+      this.pollInterval = pollInterval;
+      this.until = until;
+      this.on = on;
+      this.but = but;
+    }
+
+    /**
+     * Returns {@code AwaitOptions} with given await timeout.
+     *
+     * @param atMost the await timeout
+     * @return {@code AwaitOptions} with given await timeout
+     * @throws NullPointerException if {@code atMost} arg is null
+     */
+    public AwaitOptions atMost(final Duration atMost) {
+      if (atMost == null) { throw new NullPointerException("atMost arg is null"); }
+      return new AwaitOptions(atMost, this.pollDelay, this.maxPollDelay, this.pollInterval, this.until, this.on,
+        this.but);
+    }
+
+    /**
+     * Returns {@code AwaitOptions} with given initial delay between evaluations.
+     *
+     * @param pollDelay the initial delay between evaluations
+     * @return {@code AwaitOptions} with given initial delay
+     * @throws NullPointerException if {@code pollDelay} arg is null
+     */
+    public AwaitOptions pollDelay(final Duration pollDelay) {
+      if (pollDelay == null) { throw new NullPointerException("pollDelay arg is null"); }
+      return new AwaitOptions(this.atMost, pollDelay, this.maxPollDelay, this.pollInterval, this.until, this.on,
+        this.but);
+    }
+
+    /**
+     * Returns {@code AwaitOptions} with given max delay between evaluations.
+     *
+     * @param maxPollDelay the max delay between evaluations
+     * @return {@code AwaitOptions} with given max delay
+     * @throws NullPointerException if {@code maxPollDelay} arg is null
+     */
+    public AwaitOptions maxPollDelay(final Duration maxPollDelay) {
+      if (maxPollDelay == null) { throw new NullPointerException("maxPollDelay arg is null"); }
+      return new AwaitOptions(this.atMost, this.pollDelay, maxPollDelay, this.pollInterval, this.until, this.on,
+        this.but);
+    }
+
+    /**
+     * Returns {@code AwaitOptions} with given backoff of delay between evaluations.
+     *
+     * @param pollInterval the backoff of delay between evaluations
+     * @return {@code AwaitOptions} with given backoff
+     * @throws NullPointerException if {@code pollInterval} arg is null
+     */
+    public AwaitOptions pollInterval(final RetryBackoff pollInterval) {
+      if (pollInterval == null) { throw new NullPointerException("pollInterval arg is null"); }
+      return new AwaitOptions(this.atMost, this.pollDelay, this.maxPollDelay, pollInterval, this.until, this.on,
+        this.but);
+    }
+
+    /**
+     * Returns {@code AwaitOptions} with given condition for the step result. The result of steps without result is
+     * {@code null}.
+     *
+     * @param condition the condition for the step result
+     * @return {@code AwaitOptions} with given condition
+     * @throws NullPointerException if {@code condition} arg is null
+     */
+    public AwaitOptions until(final ThrowingPredicate<Object, ?> condition) {
+      if (condition == null) { throw new NullPointerException("condition arg is null"); }
+      return new AwaitOptions(this.atMost, this.pollDelay, this.maxPollDelay, this.pollInterval, condition, this.on,
+        this.but);
+    }
+
+    /**
+     * Returns {@code AwaitOptions} with given exceptions list when to continue awaiting (in case of what exception
+     * types).
+     *
+     * @param types the exceptions list when to continue awaiting
+     * @return {@code AwaitOptions} with given exceptions list when to continue awaiting
+     * @throws NullPointerException if {@code types} arg is null
+     */
+    @SafeVarargs
+    public final AwaitOptions on(final Class<? extends Throwable>... types) {
+      if (types == null) { throw new NullPointerException("types arg is null"); }
+      return new AwaitOptions(this.atMost, this.pollDelay, this.maxPollDelay, this.pollInterval, this.until, types,
+        this.but);
+    }
+
+    /**
+     * Returns {@code AwaitOptions} with given exceptions list when to stop awaiting (in case of what exception types).
+     *
+     * @param types the exceptions list when to stop awaiting
+     * @return {@code AwaitOptions} with given exceptions list when to stop awaiting
+     * @throws NullPointerException if {@code types} arg is null
+     */
+    @SafeVarargs
+    public final AwaitOptions but(final Class<? extends Throwable>... types) {
+      if (types == null) { throw new NullPointerException("types arg is null"); }
+      return new AwaitOptions(this.atMost, this.pollDelay, this.maxPollDelay, this.pollInterval, this.until, this.on,
+        types);
+    }
+  }
+}
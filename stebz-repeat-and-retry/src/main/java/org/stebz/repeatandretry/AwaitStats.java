@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import java.util.Locale;
+
+/**
+ * Statistics of the awaited step.
+ *
+ * @see AwaitExtension#AWAIT_STATS
+ */
+public final class AwaitStats {
+  private volatile int attempts;
+  private volatile long elapsedNanos;
+
+  /**
+   * Ctor.
+   */
+  AwaitStats() {
+    this.attempts = 0;
+    this.elapsedNanos = 0L;
+  }
+
+  void complete(final int attempts,
+                final long elapsedNanos) {
+    this.attempts = attempts;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Returns number of step body evaluations, or {@code 0} if the step is not completed yet.
+   *
+   * @return number of step body evaluations
+   */
+  public int attempts() {
+    return this.attempts;
+  }
+
+  /**
+   * Returns time spent awaiting in nanos, or {@code 0} if the step is not completed yet.
+   *
+   * @return time spent awaiting in nanos
+   */
+  public long elapsedNanos() {
+    return this.elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT, "attempts=%d, elapsed=%.3fms", this.attempts, this.elapsedNanos / 1e6);
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import dev.jlet.function.ThrowingSupplier;
+
+import java.util.Locale;
+
+import static org.stebz.repeatandretry.RepeatExtension.exceptionMatches;
+
+/**
+ * Benchmark repeat of the step body: warmup iterations, then measured iterations checked against thresholds.
+ */
+final class BenchmarkRepeat {
+  private final int warmup;
+  private final int count;
+  private final long delayMillis;
+  private final Class<? extends Throwable>[] skip;
+  private final Class<? extends Throwable>[] but;
+  private final long meanUnderNanos;
+  private final long p99UnderNanos;
+
+  /**
+   * Ctor.
+   *
+   * @param warmup         the warmup iterations count
+   * @param count          the measured iterations count
+   * @param delayMillis    the delay between iterations
+   * @param skip           the exceptions to ignore
+   * @param but            the exceptions not to ignore
+   * @param meanUnderNanos the mean latency threshold, not checked if not positive
+   * @param p99UnderNanos  the p99 latency threshold, not checked if not positive
+   */
+  BenchmarkRepeat(final int warmup,
+                  final int count,
+                  final long delayMillis,
+                  final Class<? extends Throwable>[] skip,
+                  final Class<? extends Throwable>[] but,
+                  final long meanUnderNanos,
+                  final long p99UnderNanos) {
+    this.warmup = Math.max(0, warmup);
+    this.count = Math.max(1, count);
+    this.delayMillis = delayMillis;
+    this.skip = skip;
+    this.but = but;
+    this.meanUnderNanos = meanUnderNanos;
+    this.p99UnderNanos = p99UnderNanos;
+  }
+
+  Object run(final ThrowingSupplier<Object, ?> body,
+             final BenchmarkStats stats) throws Throwable {
+    for (int idx = 0; idx < this.warmup; ++idx) {
+      this.iteration(body, false);
+      this.pause();
+    }
+    final long[] samples = new long[this.count];
+    Object result = null;
+    for (int idx = 0; idx < this.count; ++idx) {
+      final long startNanos = System.nanoTime();
+      result = this.iteration(body, idx == this.count - 1);
+      samples[idx] = System.nanoTime() - startNanos;
+      this.pause();
+    }
+    stats.complete(this.warmup, samples);
+
+    if (this.meanUnderNanos > 0L && stats.meanNanos() > this.meanUnderNanos) {
+      throw new AssertionError(String.format(Locale.ROOT, "Mean latency %.3fms exceeds %.3fms threshold (%s)",
+        stats.meanNanos() / 1e6, this.meanUnderNanos / 1e6, stats));
+    }
+    if (this.p99UnderNanos > 0L && stats.percentileNanos(99.0) > this.p99UnderNanos) {
+      throw new AssertionError(String.format(Locale.ROOT, "p99 latency %.3fms exceeds %.3fms threshold (%s)",
+        stats.percentileNanos(99.0) / 1e6, this.p99UnderNanos / 1e6, stats));
+    }
+    return result;
+  }
+
+  private Object iteration(final ThrowingSupplier<Object, ?> body,
+                           final boolean last) throws Throwable {
+    if (last) {
+      return body.get();
+    }
+    Object result = null;
+    try {
+      result = body.get();
+    } catch (final Throwable ex) {
+      if (exceptionMatches(ex, this.but) || !exceptionMatches(ex, this.skip)) {
+        throw ex;
+      }
+    }
+    return result;
+  }
+
+  private void pause() throws InterruptedException {
+    if (this.delayMillis > 0L) {
+      Thread.sleep(this.delayMillis);
+    }
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Statistics of the benchmark repeat mode. Percentiles are nearest-rank values of measured iterations, confidence
+ * intervals are 95% intervals: normal approximation for the mean and distribution-free order statistics for
+ * percentiles.
+ *
+ * @see RepeatExtension#BENCHMARK_STATS
+ */
+public final class BenchmarkStats {
+  private static final double Z_95 = 1.96;
+  private volatile Computed computed;
+
+  /**
+   * Ctor.
+   */
+  BenchmarkStats() {
+    this.computed = null;
+  }
+
+  void complete(final int warmupIterations,
+                final long[] samples) {
+    this.computed = new Computed(warmupIterations, samples);
+  }
+
+  /**
+   * Returns number of warmup iterations.
+   *
+   * @return number of warmup iterations
+   */
+  public int warmupIterations() {
+    final Computed current = this.computed;
+    return current == null ? 0 : current.warmupIterations;
+  }
+
+  /**
+   * Returns number of measured iterations, or {@code 0} if the step is not completed yet.
+   *
+   * @return number of measured iterations
+   */
+  public int iterations() {
+    final Computed current = this.computed;
+    return current == null ? 0 : current.sorted.length;
+  }
+
+  /**
+   * Returns min iteration latency in nanos.
+   *
+   * @return min iteration latency in nanos
+   */
+  public long minNanos() {
+    final Computed current = this.computed;
+    return current == null ? 0L : current.sorted[0];
+  }
+
+  /**
+   * Returns max iteration latency in nanos.
+   *
+   * @return max iteration latency in nanos
+   */
+  public long maxNanos() {
+    final Computed current = this.computed;
+    return current == null ? 0L : current.sorted[current.sorted.length - 1];
+  }
+
+  /**
+   * Returns mean iteration latency in nanos.
+   *
+   * @return mean iteration latency in nanos
+   */
+  public double meanNanos() {
+    final Computed current = this.computed;
+    return current == null ? 0.0 : current.mean;
+  }
+
+  /**
+   * Returns standard deviation of iteration latency in nanos.
+   *
+   * @return standard deviation of iteration latency in nanos
+   */
+  public double stdDevNanos() {
+    final Computed current = this.computed;
+    return current == null ? 0.0 : current.stdDev;
+  }
+
+  /**
+   * Returns lower bound of the mean iteration latency confidence interval in nanos.
+   *
+   * @return lower bound of the mean confidence interval in nanos
+   */
+  public double meanLowerNanos() {
+    final Computed current = this.computed;
+    return current == null ? 0.0 : current.mean - current.meanError;
+  }
+
+  /**
+   * Returns upper bound of the mean iteration latency confidence interval in nanos.
+   *
+   * @return upper bound of the mean confidence interval in nanos
+   */
+  public double meanUpperNanos() {
+    final Computed current = this.computed;
+    return current == null ? 0.0 : current.mean + current.meanError;
+  }
+
+  /**
+   * Returns iteration latency percentile in nanos.
+   *
+   * @param percentile the percentile in {@code (0, 100]} range
+   * @return iteration latency percentile in nanos
+   * @throws IllegalArgumentException if {@code percentile} arg is out of {@code (0, 100]} range
+   */
+  public long percentileNanos(final double percentile) {
+    checkPercentile(percentile);
+    final Computed current = this.computed;
+    return current == null ? 0L : current.sorted[rank(current.sorted.length, percentile / 100.0)];
+  }
+
+  /**
+   * Returns lower bound of the iteration latency percentile confidence interval in nanos.
+   *
+   * @param percentile the percentile in {@code (0, 100]} range
+   * @return lower bound of the percentile confidence interval in nanos
+   * @throws IllegalArgumentException if {@code percentile} arg is out of {@code (0, 100]} range
+   */
+  public long percentileLowerNanos(final double percentile) {
+    checkPercentile(percentile);
+    final Computed current = this.computed;
+    if (current == null) {
+      return 0L;
+    }
+    final int count = current.sorted.length;
+    final double quantile = percentile / 100.0;
+    final double error = Z_95 * Math.sqrt(count * quantile * (1.0 - quantile));
+    return current.sorted[Math.max(0, (int) Math.floor(count * quantile - error) - 1)];
+  }
+
+  /**
+   * Returns upper bound of the iteration latency percentile confidence interval in nanos.
+   *
+   * @param percentile the percentile in {@code (0, 100]} range
+   * @return upper bound of the percentile confidence interval in nanos
+   * @throws IllegalArgumentException if {@code percentile} arg is out of {@code (0, 100]} range
+   */
+  public long percentileUpperNanos(final double percentile) {
+    checkPercentile(percentile);
+    final Computed current = this.computed;
+    if (current == null) {
+      return 0L;
+    }
+    final int count = current.sorted.length;
+    final double quantile = percentile / 100.0;
+    final double error = Z_95 * Math.sqrt(count * quantile * (1.0 - quantile));
+    return current.sorted[Math.min(count - 1, (int) Math.ceil(count * quantile + error) - 1)];
+  }
+
+  private static int rank(final int count,
+                          final double quantile) {
+    return Math.min(count - 1, Math.max(0, (int) Math.ceil(count * quantile) - 1));
+  }
+
+  private static void checkPercentile(final double percentile) {
+    if (percentile <= 0.0 || percentile > 100.0) {
+      throw new IllegalArgumentException("percentile arg is out of (0, 100] range");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT,
+      "warmup=%d, iterations=%d, min=%.3fms, mean=%.3fms [%.3f, %.3f], p50=%.3fms [%.3f, %.3f], "
+        + "p99=%.3fms [%.3f, %.3f], max=%.3fms",
+      this.warmupIterations(), this.iterations(), this.minNanos() / 1e6,
+      this.meanNanos() / 1e6, this.meanLowerNanos() / 1e6, this.meanUpperNanos() / 1e6,
+      this.percentileNanos(50.0) / 1e6, this.percentileLowerNanos(50.0) / 1e6, this.percentileUpperNanos(50.0) / 1e6,
+      this.percentileNanos(99.0) / 1e6, this.percentileLowerNanos(99.0) / 1e6, this.percentileUpperNanos(99.0) / 1e6,
+      this.maxNanos() / 1e6
+    );
+  }
+
+  private static final class Computed {
+    private final int warmupIterations;
+    private final long[] sorted;
+    private final double mean;
+    private final double stdDev;
+    private final double meanError;
+
+    private Computed(final int warmupIterations,
+                     final long[] samples) {
+      this.warmupIterations = warmupIterations;
+      this.sorted = samples.clone();
+      Arrays.sort(this.sorted);
+      final int count = this.sorted.length;
+      double sum = 0.0;
+      for (final long sample : this.sorted) {
+        sum += sample;
+      }
+      this.mean = sum / count;
+      double squares = 0.0;
+      for (final long sample : this.sorted) {
+        squares += (sample - this.mean) * (sample - this.mean);
+      }
+      this.stdDev = count > 1 ? Math.sqrt(squares / (count - 1)) : 0.0;
+      this.meanError = Z_95 * this.stdDev / Math.sqrt(count);
+    }
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import dev.jlet.function.ThrowingSupplier;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.stebz.repeatandretry.RepeatExtension.exceptionMatches;
+
+/**
+ * Concurrent repeat of the step body. Iterations are executed by worker threads (virtual threads if available) and
+ * measured to {@link RepeatStats}.
+ */
+final class ConcurrentRepeat {
+  private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = virtualThreadExecutorFactory();
+  private final int count;
+  private final int parallelism;
+  private final long rampUpNanos;
+  private final long durationNanos;
+  private final long delayMillis;
+  private final Class<? extends Throwable>[] skip;
+  private final Class<? extends Throwable>[] but;
+
+  /**
+   * Ctor.
+   *
+   * @param count         the total iterations count, ignored if {@code durationNanos} is positive
+   * @param parallelism   the number of worker threads
+   * @param rampUpNanos   the time over which worker threads are started
+   * @param durationNanos the time for which iterations are executed
+   * @param delayMillis   the delay between iterations of each worker thread
+   * @param skip          the exceptions to ignore
+   * @param but           the exceptions not to ignore
+   */
+  ConcurrentRepeat(final int count,
+                   final int parallelism,
+                   final long rampUpNanos,
+                   final long durationNanos,
+                   final long delayMillis,
+                   final Class<? extends Throwable>[] skip,
+                   final Class<? extends Throwable>[] but) {
+    this.count = count;
+    this.parallelism = Math.max(1, parallelism);
+    this.rampUpNanos = Math.max(0L, rampUpNanos);
+    this.durationNanos = Math.max(0L, durationNanos);
+    this.delayMillis = delayMillis;
+    this.skip = skip;
+    this.but = but;
+  }
+
+  int parallelism() {
+    return this.parallelism;
+  }
+
+  Object run(final ThrowingSupplier<Object, ?> body,
+             final RepeatStats stats) throws Throwable {
+    final AtomicInteger remaining = new AtomicInteger(this.count);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final AtomicReference<Object> result = new AtomicReference<>();
+    final long startNanos = System.nanoTime();
+    final long deadlineNanos = startNanos + this.durationNanos;
+    final ExecutorService workers = newWorkers(this.parallelism);
+    try {
+      final List<Future<?>> futures = new ArrayList<>(this.parallelism);
+      for (int idx = 0; idx < this.parallelism; ++idx) {
+        final long startOffsetNanos = this.rampUpNanos * idx / this.parallelism;
+        futures.add(workers.submit(() -> this.work(
+          body, stats, startNanos + startOffsetNanos, deadlineNanos, remaining, failure, result
+        )));
+      }
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } catch (final InterruptedException ex) {
+      workers.shutdownNow();
+      throw ex;
+    } finally {
+      workers.shutdown();
+      stats.complete(System.nanoTime() - startNanos);
+    }
+    final Throwable exception = failure.get();
+    if (exception != null) {
+      throw exception;
+    }
+    return result.get();
+  }
+
+  private void work(final ThrowingSupplier<Object, ?> body,
+                    final RepeatStats stats,
+                    final long workerStartNanos,
+                    final long deadlineNanos,
+                    final AtomicInteger remaining,
+                    final AtomicReference<Throwable> failure,
+                    final AtomicReference<Object> result) {
+    try {
+      final long waitNanos = workerStartNanos - System.nanoTime();
+      if (waitNanos > 0L) {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      }
+      while (failure.get() == null && this.hasNextIteration(deadlineNanos, remaining)) {
+        final long iterationStartNanos = System.nanoTime();
+        try {
+          result.set(body.get());
+          stats.record(System.nanoTime() - iterationStartNanos, false);
+        } catch (final Throwable ex) {
+          stats.record(System.nanoTime() - iterationStartNanos, true);
+          if (exceptionMatches(ex, this.but) || !exceptionMatches(ex, this.skip)) {
+            failure.compareAndSet(null, ex);
+            return;
+          }
+        }
+        if (this.delayMillis > 0L) {
+          Thread.sleep(this.delayMillis);
+        }
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private boolean hasNextIteration(final long deadlineNanos,
+                                   final AtomicInteger remaining) {
+    return this.durationNanos > 0L
+      ? System.nanoTime() - deadlineNanos < 0L
+      : remaining.getAndDecrement() > 0;
+  }
+
+  private static ExecutorService newWorkers(final int parallelism) {
+    if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+      try {
+        return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+      } catch (final ReflectiveOperationException ignored) {
+        /* fallback to platform threads */
+      }
+    }
+    final AtomicInteger counter = new AtomicInteger();
+    return Executors.newFixedThreadPool(parallelism, runnable -> {
+      final Thread thread = new Thread(runnable, "stebz-repeat-worker-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  private static Method virtualThreadExecutorFactory() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (final NoSuchMethodException ex) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parser of duration strings in annotations.
+ */
+final class DurationStrings {
+  private static final Pattern PATTERN = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(ns|us|ms|s|m|h)");
+
+  /**
+   * Utility class ctor.
+   */
+  private DurationStrings() {
+  }
+
+  /**
+   * Parses duration string such as {@code 20ms}, {@code 1.5s} (units: ns, us, ms, s, m, h) or ISO-8601 duration such
+   * as {@code PT0.02S}.
+   *
+   * @param value the duration string
+   * @return duration or {@link Duration#ZERO} for empty string
+   * @throws NullPointerException     if {@code value} arg is null
+   * @throws IllegalArgumentException if {@code value} arg is not a duration
+   */
+  static Duration parse(final String value) {
+    if (value == null) { throw new NullPointerException("value arg is null"); }
+    final String trimmed = value.trim().toLowerCase(Locale.ROOT);
+    if (trimmed.isEmpty()) {
+      return Duration.ZERO;
+    }
+    if (trimmed.startsWith("pt")) {
+      return Duration.parse(trimmed);
+    }
+    final Matcher matcher = PATTERN.matcher(trimmed);
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException("Incorrect duration value: " + value);
+    }
+    final double amount = Double.parseDouble(matcher.group(1));
+    final double nanosPerUnit;
+    switch (matcher.group(2)) {
+      case "ns":
+        nanosPerUnit = 1.0;
+        break;
+      case "us":
+        nanosPerUnit = 1e3;
+        break;
+      case "ms":
+        nanosPerUnit = 1e6;
+        break;
+      case "s":
+        nanosPerUnit = 1e9;
+        break;
+      case "m":
+        nanosPerUnit = 60e9;
+        break;
+      default:
+        nanosPerUnit = 3600e9;
+        break;
+    }
+    return Duration.ofNanos(Math.round(amount * nanosPerUnit));
+  }
+}
@@ -0,0 +1,344 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import dev.jlet.function.ThrowingFunction;
+import dev.jlet.function.ThrowingSupplier;
+import org.stebz.core.attribute.SimpleStepAttribute;
+import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.extension.InterceptStep;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.step.StepObj;
+import org.stebz.core.step.executable.FunctionStep;
+import org.stebz.core.step.executable.SupplierStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hedge {@link StebzExtension}. If the idempotent {@link SupplierStep} or {@link FunctionStep} has not completed within
+ * the delay, one more concurrent attempt is started. The first successful result is used, other attempts are
+ * cancelled (interrupted). Attempts are executed on worker threads, so the step body should not execute nested steps.
+ * Attempts are not reported as steps, their statistics, start times, durations and outcomes are available to listeners
+ * via {@link #HEDGE_STATS} attribute.
+ *
+ * @see #HEDGE
+ * @see #hedge
+ * @see WithHedge
+ */
+public class HedgeExtension implements InterceptStep {
+
+  /**
+   * Hedge step attribute.
+   *
+   * @see WithHedge
+   */
+  public static final SimpleStepAttribute<HedgeOptions> HEDGE = SimpleStepAttribute.nullable("extension:hedge");
+
+  /**
+   * Hedge step attribute. Alias for {@link #HEDGE}.
+   *
+   * @see WithHedge
+   */
+  public static final SimpleStepAttribute<HedgeOptions> hedge = HEDGE;
+
+  /**
+   * Hedge statistics attribute. Available to step success and failure listeners of hedged steps.
+   */
+  public static final SimpleStepAttribute<HedgeStats> HEDGE_STATS =
+    SimpleStepAttribute.nullable("extension:hedge_stats");
+  private static final SimpleStepAttribute<WithHedge> HEDGE_ANNOT = SimpleStepAttribute.nullable(WithHedge.KEY);
+  private final boolean enabled;
+  private final int order;
+  private final ExecutorService workers;
+
+  /**
+   * Ctor.
+   */
+  public HedgeExtension() {
+    this(StartupPropertiesReader.get());
+  }
+
+  /**
+   * Ctor
+   *
+   * @param properties the properties reader
+   */
+  public HedgeExtension(final PropertiesReader properties) {
+    this.enabled = properties.getBoolean("stebz.hedge.enabled", true);
+    this.order = properties.getInteger("stebz.hedge.order", MIDDLE_ORDER);
+    this.workers = this.enabled
+      ? Executors.newCachedThreadPool(new WorkerThreadFactory())
+      : null;
+  }
+
+  /**
+   * Returns {@code HedgeOptions} with default values: count = 2, delay = 1 second. Alias for {@link #hedgeOptions()}
+   * method.
+   *
+   * @return {@code HedgeOptions}
+   */
+  public static HedgeOptions hedge() {
+    return hedgeOptions();
+  }
+
+  /**
+   * Returns {@code HedgeOptions} with default values: count = 2, delay = 1 second.
+   *
+   * @return {@code HedgeOptions}
+   */
+  public static HedgeOptions hedgeOptions() {
+    return HedgeOptions.DEFAULT;
+  }
+
+  @Override
+  public int order() {
+    return this.order;
+  }
+
+  @Override
+  public StepObj<?> interceptStep(final StepObj<?> step,
+                                  final NullableOptional<Object> context) {
+    if (!this.enabled) {
+      return step;
+    }
+
+    final int count;
+    final long delayMillis;
+    final WithHedge annot = step.get(HEDGE_ANNOT);
+    if (annot != null) {
+      count = annot.count();
+      delayMillis = annot.unit().toMillis(annot.delay());
+    } else {
+      final HedgeOptions options = step.get(HEDGE);
+      if (options != null) {
+        count = options.count;
+        delayMillis = options.delay.toMillis();
+      } else {
+        return step;
+      }
+    }
+    if (count < 2) {
+      return step;
+    }
+
+    final HedgeStats stats = new HedgeStats();
+    if (step instanceof SupplierStep) {
+      @SuppressWarnings("unchecked")
+      final SupplierStep<Object> supplierStep = (SupplierStep<Object>) step.with(HEDGE_STATS, stats);
+      final ThrowingSupplier<Object, ?> origin = supplierStep.getBody();
+      return supplierStep.withBody(() -> this.hedge(origin, count, delayMillis, stats));
+    } else if (step instanceof FunctionStep) {
+      @SuppressWarnings("unchecked")
+      final FunctionStep<Object, Object> functionStep = (FunctionStep<Object, Object>) step.with(HEDGE_STATS, stats);
+      final ThrowingFunction<Object, Object, ?> origin = functionStep.getBody();
+      return functionStep.withBody(ctx -> this.hedge(() -> origin.apply(ctx), count, delayMillis, stats));
+    }
+    return step;
+  }
+
+  private Object hedge(final ThrowingSupplier<Object, ?> origin,
+                       final int count,
+                       final long delayMillis,
+                       final HedgeStats stats) throws Throwable {
+    final BlockingQueue<Attempt> completed = new LinkedBlockingQueue<>();
+    final List<Attempt> attempts = new ArrayList<>(count);
+    Attempt winner = null;
+    try {
+      attempts.add(this.start(1, origin, completed));
+      int failed = 0;
+      while (true) {
+        final Attempt attempt = attempts.size() < count
+          ? completed.poll(delayMillis, TimeUnit.MILLISECONDS)
+          : completed.take();
+        if (attempt == null) {
+          attempts.add(this.start(attempts.size() + 1, origin, completed));
+          continue;
+        }
+        attempt.finished = true;
+        if (attempt.exception == null) {
+          winner = attempt;
+          break;
+        }
+        if (++failed == attempts.size()) {
+          break;
+        }
+      }
+    } finally {
+      for (final Attempt attempt : attempts) {
+        if (!attempt.finished) {
+          attempt.future.cancel(true);
+        }
+      }
+    }
+
+    final long completeNanos = System.nanoTime();
+    final List<HedgeStats.Attempt> attemptList = new ArrayList<>(attempts.size());
+    for (final Attempt attempt : attempts) {
+      attemptList.add(new HedgeStats.Attempt(
+        attempt.number,
+        attempt.startTimeMillis,
+        (attempt.finished ? attempt.endNanos : completeNanos) - attempt.startNanos,
+        attempt == winner
+          ? HedgeStats.Outcome.USED
+          : attempt.finished ? HedgeStats.Outcome.FAILED : HedgeStats.Outcome.CANCELLED,
+        attempt.finished ? attempt.exception : null
+      ));
+    }
+    stats.complete(winner == null ? 0 : winner.number, attemptList);
+    if (winner != null) {
+      return winner.result;
+    }
+    final Throwable exception = attempts.get(0).exception;
+    for (int idx = 1; idx < attempts.size(); idx++) {
+      final Throwable suppressed = attempts.get(idx).exception;
+      if (!isSameInstance(suppressed, exception, attempts, idx)) {
+        exception.addSuppressed(suppressed);
+      }
+    }
+    throw exception;
+  }
+
+  private static boolean isSameInstance(final Throwable suppressed,
+                                        final Throwable exception,
+                                        final List<Attempt> attempts,
+                                        final int index) {
+    if (suppressed == exception) {
+      return true;
+    }
+    for (int idx = 1; idx < index; idx++) {
+      if (attempts.get(idx).exception == suppressed) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Attempt start(final int number,
+                        final ThrowingSupplier<Object, ?> origin,
+                        final BlockingQueue<Attempt> completed) {
+    final Attempt attempt = new Attempt(number, origin, completed);
+    attempt.future = this.workers.submit(attempt);
+    return attempt;
+  }
+
+  private static final class Attempt implements Runnable {
+    private final int number;
+    private final ThrowingSupplier<Object, ?> body;
+    private final BlockingQueue<Attempt> completed;
+    private final long startTimeMillis;
+    private final long startNanos;
+    private Future<?> future;
+    private boolean finished;
+    private volatile long endNanos;
+    private volatile Object result;
+    private volatile Throwable exception;
+
+    private Attempt(final int number,
+                    final ThrowingSupplier<Object, ?> body,
+                    final BlockingQueue<Attempt> completed) {
+      this.number = number;
+      this.body = body;
+      this.completed = completed;
+      this.startTimeMillis = System.currentTimeMillis();
+      this.startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void run() {
+      try {
+        this.result = this.body.get();
+      } catch (final Throwable ex) {
+        this.exception = ex;
+      } finally {
+        this.endNanos = System.nanoTime();
+        this.completed.add(this);
+      }
+    }
+  }
+
+  private static final class WorkerThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+      final Thread thread = new Thread(runnable, "stebz-hedge-worker-" + this.counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+  /**
+   * Hedge options.
+   *
+   * @see #HEDGE
+   */
+  public static final class HedgeOptions {
+    private static final HedgeOptions DEFAULT = new HedgeOptions(2, Duration.ofSeconds(1L));
+    private final int count;
+    private final Duration delay;
+
+    /**
+     * Ctor.
+     */
+    private HedgeOptions(final int count,
+                         final Duration delay) {
+      this.count = count;
+      this.delay = delay;
+    }
+
+    /**
+     * Returns {@code HedgeOptions} with given maximum concurrent attempts count (including the first attempt).
+     *
+     * @param count the attempts count
+     * @return {@code HedgeOptions} with given attempts count
+     */
+    public HedgeOptions count(final int count) {
+      return new HedgeOptions(count, this.delay);
+    }
+
+    /**
+     * Returns {@code HedgeOptions} with given delay after which the next attempt is started.
+     *
+     * @param delay the delay before the next attempt
+     * @return {@code HedgeOptions} with given delay
+     * @throws NullPointerException if {@code delay} arg is null
+     */
+    public HedgeOptions delay(final Duration delay) {
+      if (delay == null) { throw new NullPointerException("delay arg is null"); }
+      return new HedgeOptions(this.count, delay);
+    }
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Statistics of the hedged step. Attempts are executed on worker threads and are not reported as steps, their start
+ * times, durations and outcomes are available via {@link #attemptList()}.
+ *
+ * @see HedgeExtension#HEDGE_STATS
+ */
+public final class HedgeStats {
+  private volatile int attempts;
+  private volatile int winner;
+  private volatile int failed;
+  private volatile int cancelled;
+  private volatile List<Attempt> attemptList;
+
+  /**
+   * Ctor.
+   */
+  HedgeStats() {
+    this.attempts = 0;
+    this.winner = 0;
+    this.failed = 0;
+    this.cancelled = 0;
+    this.attemptList = Collections.emptyList();
+  }
+
+  void complete(final int winner,
+                final List<Attempt> attemptList) {
+    int failed = 0;
+    int cancelled = 0;
+    for (final Attempt attempt : attemptList) {
+      if (attempt.outcome == Outcome.FAILED) {
+        failed++;
+      } else if (attempt.outcome == Outcome.CANCELLED) {
+        cancelled++;
+      }
+    }
+    this.winner = winner;
+    this.failed = failed;
+    this.cancelled = cancelled;
+    this.attemptList = Collections.unmodifiableList(attemptList);
+    this.attempts = attemptList.size();
+  }
+
+  /**
+   * Returns number of started attempts, or {@code 0} if the step is not completed yet.
+   *
+   * @return number of started attempts
+   */
+  public int attempts() {
+    return this.attempts;
+  }
+
+  /**
+   * Returns number of the attempt whose result was used, starting from {@code 1}, or {@code 0} if all attempts failed
+   * or the step is not completed yet.
+   *
+   * @return number of the winning attempt or {@code 0}
+   */
+  public int winner() {
+    return this.winner;
+  }
+
+  /**
+   * Returns number of failed attempts.
+   *
+   * @return number of failed attempts
+   */
+  public int failedAttempts() {
+    return this.failed;
+  }
+
+  /**
+   * Returns number of attempts cancelled in favor of the winning attempt.
+   *
+   * @return number of cancelled attempts
+   */
+  public int cancelledAttempts() {
+    return this.cancelled;
+  }
+
+  /**
+   * Returns started attempts in the start order, or empty list if the step is not completed yet.
+   *
+   * @return started attempts
+   */
+  public List<Attempt> attemptList() {
+    return this.attemptList;
+  }
+
+  @Override
+  public String toString() {
+    return "attempts=" + this.attempts + ", winner=" + this.winner
+      + ", failed=" + this.failed + ", cancelled=" + this.cancelled;
+  }
+
+  /**
+   * Attempt outcome.
+   */
+  public enum Outcome {
+
+    /**
+     * Result of the attempt is used.
+     */
+    USED,
+
+    /**
+     * Attempt failed.
+     */
+    FAILED,
+
+    /**
+     * Attempt is cancelled in favor of the winning attempt.
+     */
+    CANCELLED
+  }
+
+  /**
+   * Attempt of the hedged step.
+   */
+  public static final class Attempt {
+    private final int number;
+    private final long startTimeMillis;
+    private final long durationNanos;
+    private final Outcome outcome;
+    private final Throwable exception;
+
+    Attempt(final int number,
+            final long startTimeMillis,
+            final long durationNanos,
+            final Outcome outcome,
+            final Throwable exception) {
+      this.number = number;
+      this.startTimeMillis = startTimeMillis;
+      this.durationNanos = durationNanos;
+      this.outcome = outcome;
+      this.exception = exception;
+    }
+
+    /**
+     * Returns attempt number, starting from {@code 1}.
+     *
+     * @return attempt number
+     */
+    public int number() {
+      return this.number;
+    }
+
+    /**
+     * Returns attempt start time in epoch millis.
+     *
+     * @return attempt start time in epoch millis
+     */
+    public long startTimeMillis() {
+      return this.startTimeMillis;
+    }
+
+    /**
+     * Returns attempt duration in nanos. Duration of the cancelled attempt is measured until the cancellation.
+     *
+     * @return attempt duration in nanos
+     */
+    public long durationNanos() {
+      return this.durationNanos;
+    }
+
+    /**
+     * Returns attempt outcome.
+     *
+     * @return attempt outcome
+     */
+    public Outcome outcome() {
+      return this.outcome;
+    }
+
+    /**
+     * Returns attempt exception, or {@code null} if the attempt did not fail.
+     *
+     * @return attempt exception or {@code null}
+     */
+    public Throwable exception() {
+      return this.exception;
+    }
+
+    @Override
+    public String toString() {
+      return "attempt " + this.number + ' ' + this.outcome + ' ' + this.durationNanos / 1_000_000L + "ms"
+        + (this.exception == null ? "" : ": " + this.exception);
+    }
+  }
+}
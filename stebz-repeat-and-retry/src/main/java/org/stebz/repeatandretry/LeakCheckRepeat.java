@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import dev.jlet.function.ThrowingSupplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.stebz.repeatandretry.RepeatExtension.exceptionMatches;
+
+/**
+ * Leak check repeat of the step body. Iterations are executed in batches, retained heap is measured after each batch
+ * with forced GC, and the step fails if retained heap grows linearly beyond the tolerance.
+ */
+final class LeakCheckRepeat {
+  private static final double MIN_CORRELATION = 0.8;
+  private static final String DIAGNOSTIC_COMMAND = "com.sun.management:type=DiagnosticCommand";
+  private final int count;
+  private final int batch;
+  private final long toleranceBytes;
+  private final long delayMillis;
+  private final Class<? extends Throwable>[] skip;
+  private final Class<? extends Throwable>[] but;
+  private final Path histogramDir;
+  private final String stepName;
+
+  /**
+   * Ctor.
+   *
+   * @param count          the total iterations count
+   * @param batch          the iterations count between retained heap measurements
+   * @param toleranceBytes the allowed retained heap growth
+   * @param delayMillis    the delay between iterations
+   * @param skip           the exceptions to ignore
+   * @param but            the exceptions not to ignore
+   * @param histogramDir   the directory for the heap histogram in case of leak, null to not write
+   * @param stepName       the step name
+   */
+  LeakCheckRepeat(final int count,
+                  final int batch,
+                  final long toleranceBytes,
+                  final long delayMillis,
+                  final Class<? extends Throwable>[] skip,
+                  final Class<? extends Throwable>[] but,
+                  final Path histogramDir,
+                  final String stepName) {
+    this.count = count;
+    this.batch = batch;
+    this.toleranceBytes = toleranceBytes;
+    this.delayMillis = delayMillis;
+    this.skip = skip;
+    this.but = but;
+    this.histogramDir = histogramDir;
+    this.stepName = stepName;
+  }
+
+  Object run(final ThrowingSupplier<Object, ?> body) throws Throwable {
+    final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    final int batches = (this.count + this.batch - 1) / this.batch;
+    final long[] retained = new long[batches];
+    Object result = null;
+    int iteration = 0;
+    for (int batchIdx = 0; batchIdx < batches; ++batchIdx) {
+      for (int idx = 0; idx < this.batch && iteration < this.count; ++idx, ++iteration) {
+        result = this.iteration(body, iteration == this.count - 1);
+      }
+      retained[batchIdx] = retainedHeap(memory);
+    }
+    this.check(retained);
+    return result;
+  }
+
+  private Object iteration(final ThrowingSupplier<Object, ?> body,
+                           final boolean last) throws Throwable {
+    Object result = null;
+    try {
+      result = body.get();
+    } catch (final Throwable ex) {
+      if (last || exceptionMatches(ex, this.but) || !exceptionMatches(ex, this.skip)) {
+        throw ex;
+      }
+    }
+    if (this.delayMillis > 0L) {
+      Thread.sleep(this.delayMillis);
+    }
+    return result;
+  }
+
+  private void check(final long[] retained) {
+    /* the first batch is a warmup, it includes lazy initialization of the code under test */
+    final int points = retained.length - 1;
+    if (points < 3) {
+      return;
+    }
+    double meanX = 0.0;
+    double meanY = 0.0;
+    for (int idx = 0; idx < points; ++idx) {
+      meanX += idx;
+      meanY += retained[idx + 1];
+    }
+    meanX /= points;
+    meanY /= points;
+    double covariance = 0.0;
+    double varianceX = 0.0;
+    double varianceY = 0.0;
+    for (int idx = 0; idx < points; ++idx) {
+      final double dx = idx - meanX;
+      final double dy = retained[idx + 1] - meanY;
+      covariance += dx * dy;
+      varianceX += dx * dx;
+      varianceY += dy * dy;
+    }
+    final double slope = covariance / varianceX;
+    final double correlation = varianceY == 0.0 ? 0.0 : covariance / Math.sqrt(varianceX * varianceY);
+    final double growth = slope * (points - 1);
+    if (growth > this.toleranceBytes && correlation >= MIN_CORRELATION) {
+      final StringBuilder message = new StringBuilder(String.format(Locale.ROOT,
+        "Retained heap grows by %.1f KB per %d iterations (correlation %.2f), %.1f KB in total exceeds %.1f KB "
+          + "tolerance. Retained heap after each batch, bytes: %s",
+        slope / 1024.0, this.batch, correlation, growth / 1024.0, this.toleranceBytes / 1024.0,
+        Arrays.toString(retained)
+      ));
+      if (this.histogramDir != null) {
+        message.append(". ").append(this.writeHistogram());
+      }
+      throw new AssertionError(message.toString());
+    }
+  }
+
+  private String writeHistogram() {
+    try {
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      final String histogram = (String) server.invoke(
+        new ObjectName(DIAGNOSTIC_COMMAND), "gcClassHistogram",
+        new Object[]{new String[0]}, new String[]{String[].class.getName()}
+      );
+      Files.createDirectories(this.histogramDir);
+      final Path file = this.histogramDir.resolve(
+        this.stepName.replaceAll("[^A-Za-z0-9._-]+", "_") + '-' + System.currentTimeMillis() + ".histogram.txt"
+      );
+      Files.write(file, histogram.getBytes(StandardCharsets.UTF_8));
+      return "Heap histogram: " + file.toAbsolutePath();
+    } catch (final IOException | JMException ex) {
+      return "Heap histogram is not available: " + ex;
+    }
+  }
+
+  private static long retainedHeap(final MemoryMXBean memory) throws InterruptedException {
+    memory.gc();
+    Thread.sleep(10L);
+    memory.gc();
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
@@ -39,10 +39,13 @@ import org.stebz.core.step.executable.SupplierStep;
 import org.stebz.util.container.NullableOptional;
 import org.stebz.util.property.PropertiesReader;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 
 /**
- * Repeat {@link StebzExtension}.
+ * Repeat {@link StebzExtension}. Concurrent, leak check and benchmark modes are mutually exclusive, a step with options
+ * enabling several of them fails with {@link IllegalArgumentException}.
  *
  * @see #REPEAT
  * @see #repeat
@@ -63,9 +66,30 @@ public class RepeatExtension implements InterceptStep {
    * @see WithRepeat
    */
   public static final SimpleStepAttribute<RepeatOptions> repeat = REPEAT;
+
+  /**
+   * Concurrent repeat mode statistics attribute. Available to step success and failure listeners of steps repeated in
+   * concurrent mode.
+   *
+   * @see RepeatOptions#parallelism(int)
+   * @see RepeatOptions#duration(Duration)
+   */
+  public static final SimpleStepAttribute<RepeatStats> REPEAT_STATS =
+    SimpleStepAttribute.nullable("extension:repeat_stats");
+
+  /**
+   * Benchmark repeat mode statistics attribute. Available to step success and failure listeners of steps repeated in
+   * benchmark mode.
+   *
+   * @see RepeatOptions#warmup(int)
+   * @see RepeatOptions#p99Under(Duration)
+   */
+  public static final SimpleStepAttribute<BenchmarkStats> BENCHMARK_STATS =
+    SimpleStepAttribute.nullable("extension:benchmark_stats");
   private static final SimpleStepAttribute<WithRepeat> REPEAT_ANNOT = SimpleStepAttribute.nullable(WithRepeat.KEY);
   private final boolean enabled;
   private final int order;
+  private final Path leakCheckHistogramDir;
 
   /**
    * Ctor.
@@ -82,6 +106,9 @@ public class RepeatExtension implements InterceptStep {
   public RepeatExtension(final PropertiesReader properties) {
     this.enabled = properties.getBoolean("stebz.repeat.enabled", true);
     this.order = properties.getInteger("stebz.repeat.order", MIDDLE_ORDER);
+    this.leakCheckHistogramDir = properties.getBoolean("stebz.repeat.leakCheck.histogram", true)
+      ? Paths.get(properties.getString("stebz.repeat.leakCheck.dir", "target/stebz-leak-check"))
+      : null;
   }
 
   /**
@@ -119,12 +146,28 @@ public class RepeatExtension implements InterceptStep {
     final long delayMillis;
     final Class<? extends Throwable>[] skip;
     final Class<? extends Throwable>[] but;
+    final int parallelism;
+    final long rampUpNanos;
+    final long durationNanos;
+    final int warmup;
+    final long meanUnderNanos;
+    final long p99UnderNanos;
+    final int leakCheckBatch;
+    final long leakToleranceBytes;
     final WithRepeat annot = step.get(REPEAT_ANNOT);
     if (annot != null) {
       count = annot.count();
       delayMillis = annot.unit().toMillis(annot.delay());
       skip = annot.skip();
       but = annot.but();
+      parallelism = annot.parallelism();
+      rampUpNanos = annot.unit().toNanos(annot.rampUp());
+      durationNanos = annot.unit().toNanos(annot.duration());
+      warmup = annot.warmup();
+      meanUnderNanos = DurationStrings.parse(annot.meanUnder()).toNanos();
+      p99UnderNanos = DurationStrings.parse(annot.p99Under()).toNanos();
+      leakCheckBatch = annot.leakCheckBatch();
+      leakToleranceBytes = annot.leakTolerance();
     } else {
       final RepeatOptions options = step.get(REPEAT);
       if (options != null) {
@@ -132,10 +175,43 @@ public class RepeatExtension implements InterceptStep {
         delayMillis = options.delay.toMillis();
         skip = options.skip;
         but = options.but;
+        parallelism = options.parallelism;
+        rampUpNanos = options.rampUp.toNanos();
+        durationNanos = options.duration.toNanos();
+        warmup = options.warmup;
+        meanUnderNanos = options.meanUnder.toNanos();
+        p99UnderNanos = options.p99Under.toNanos();
+        leakCheckBatch = options.leakCheckBatch;
+        leakToleranceBytes = options.leakTolerance;
       } else {
         return step;
       }
     }
+    final boolean concurrent = parallelism > 1 || durationNanos > 0L;
+    final boolean leakCheck = leakCheckBatch > 0;
+    final boolean benchmark = warmup > 0 || meanUnderNanos > 0L || p99UnderNanos > 0L;
+    if ((concurrent ? 1 : 0) + (leakCheck ? 1 : 0) + (benchmark ? 1 : 0) > 1) {
+      throw new IllegalArgumentException("Repeat options of step \"" + step.getName() + "\" enable several modes "
+        + "(concurrent: " + concurrent + ", leak check: " + leakCheck + ", benchmark: " + benchmark
+        + "), only one of concurrent, leak check and benchmark modes can be enabled");
+    }
+    if (concurrent) {
+      final ConcurrentRepeat repeat =
+        new ConcurrentRepeat(count, parallelism, rampUpNanos, durationNanos, delayMillis, skip, but);
+      final RepeatStats stats = new RepeatStats(repeat.parallelism());
+      return measuredRepeat(step, REPEAT_STATS, stats, body -> repeat.run(body, stats));
+    }
+    if (leakCheck) {
+      final LeakCheckRepeat repeat = new LeakCheckRepeat(count, leakCheckBatch, leakToleranceBytes, delayMillis, skip,
+        but, this.leakCheckHistogramDir, step.getName());
+      return measuredRepeat(step, null, null, repeat::run);
+    }
+    if (benchmark) {
+      final BenchmarkRepeat repeat =
+        new BenchmarkRepeat(warmup, count, delayMillis, skip, but, meanUnderNanos, p99UnderNanos);
+      final BenchmarkStats stats = new BenchmarkStats();
+      return measuredRepeat(step, BENCHMARK_STATS, stats, body -> repeat.run(body, stats));
+    }
     if (count < 2) {
       return step;
     }
@@ -167,6 +243,44 @@ public class RepeatExtension implements InterceptStep {
     return step;
   }
 
+  private static <S> StepObj<?> measuredRepeat(final StepObj<?> originStep,
+                                               final SimpleStepAttribute<S> statsAttribute,
+                                               final S stats,
+                                               final MeasuredRepeat repeat) {
+    final StepObj<?> step = statsAttribute == null ? originStep : originStep.with(statsAttribute, stats);
+    if (step instanceof RunnableStep) {
+      final RunnableStep runnableStep = (RunnableStep) step;
+      final ThrowingRunnable<?> origin = runnableStep.getBody();
+      return runnableStep.withBody(() -> {
+        repeat.run(() -> {
+          origin.run();
+          return null;
+        });
+      });
+    } else if (step instanceof ConsumerStep) {
+      @SuppressWarnings("unchecked")
+      final ConsumerStep<Object> consumerStep = (ConsumerStep<Object>) step;
+      final ThrowingConsumer<Object, ?> origin = consumerStep.getBody();
+      return consumerStep.withBody(context -> {
+        repeat.run(() -> {
+          origin.accept(context);
+          return null;
+        });
+      });
+    } else if (step instanceof SupplierStep) {
+      @SuppressWarnings("unchecked")
+      final SupplierStep<Object> supplierStep = (SupplierStep<Object>) step;
+      final ThrowingSupplier<Object, ?> origin = supplierStep.getBody();
+      return supplierStep.withBody(() -> repeat.run(origin));
+    } else if (step instanceof FunctionStep) {
+      @SuppressWarnings("unchecked")
+      final FunctionStep<Object, Object> functionStep = (FunctionStep<Object, Object>) step;
+      final ThrowingFunction<Object, Object, ?> origin = functionStep.getBody();
+      return functionStep.withBody(context -> repeat.run(() -> origin.apply(context)));
+    }
+    return step;
+  }
+
   private static ThrowingRunnable<?> repeatRunnable(final ThrowingRunnable<?> origin,
                                                     final int count,
                                                     final long delayMillis,
@@ -281,7 +395,7 @@ public class RepeatExtension implements InterceptStep {
     };
   }
 
-  private static boolean exceptionMatches(final Throwable exception,
+  static boolean exceptionMatches(final Throwable exception,
                                           final Class<? extends Throwable>[] types) {
     if (types.length > 0) {
       final Class<? extends Throwable> exceptionType = exception.getClass();
@@ -294,17 +408,31 @@ public class RepeatExtension implements InterceptStep {
     return false;
   }
 
+  @FunctionalInterface
+  private interface MeasuredRepeat {
+    Object run(ThrowingSupplier<Object, ?> body) throws Throwable;
+  }
+
   /**
    * Repeat options.
    *
    * @see #REPEAT
    */
   public static final class RepeatOptions {
+    private static final long DEFAULT_LEAK_TOLERANCE = 1024L * 1024L;
     private static final RepeatOptions DEFAULT = new RepeatOptions(2, Duration.ZERO);
     private final int count;
     private final Duration delay;
     private final Class<? extends Throwable>[] skip;
     private final Class<? extends Throwable>[] but;
+    private final int parallelism;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final int warmup;
+    private final Duration meanUnder;
+    private final Duration p99Under;
+    private final int leakCheckBatch;
+    private final long leakTolerance;
 
     /**
      * Ctor.
@@ -317,6 +445,14 @@ public class RepeatExtension implements InterceptStep {
       this.delay = delay;
       this.skip = emptyThrowableArray;
       this.but = emptyThrowableArray;
+      this.parallelism = 1;
+      this.rampUp = Duration.ZERO;
+      this.duration = Duration.ZERO;
+      this.warmup = 0;
+      this.meanUnder = Duration.ZERO;
+      this.p99Under = Duration.ZERO;
+      this.leakCheckBatch = 0;
+      this.leakTolerance = DEFAULT_LEAK_TOLERANCE;
     }
 
     /**
@@ -325,11 +461,27 @@ public class RepeatExtension implements InterceptStep {
     private RepeatOptions(final int count,
                           final Duration delay,
                           final Class<? extends Throwable>[] skip,
-                          final Class<? extends Throwable>[] but) {
+                          final Class<? extends Throwable>[] but,
+                          final int parallelism,
+                          final Duration rampUp,
+                          final Duration duration,
+                          final int warmup,
+                          final Duration meanUnder,
+                          final Duration p99Under,
+                          final int leakCheckBatch,
+                          final long leakTolerance) {
       this.count = count;
       this.delay = delay;
       this.skip = skip;
       this.but = but;
+      this.parallelism = parallelism;
+      this.rampUp = rampUp;
+      this.duration = duration;
+      this.warmup = warmup;
+      this.meanUnder = meanUnder;
+      this.p99Under = p99Under;
+      this.leakCheckBatch = leakCheckBatch;
+      this.leakTolerance = leakTolerance;
     }
 
     /**
@@ -339,7 +491,9 @@ public class RepeatExtension implements InterceptStep {
      * @return {@code RepeatOptions} with given repeat count
      */
     public RepeatOptions count(final int count) {
-      return new RepeatOptions(count, this.delay, this.skip, this.but);
+      return new RepeatOptions(count, this.delay, this.skip, this.but,
+        this.parallelism, this.rampUp, this.duration, this.warmup, this.meanUnder, this.p99Under,
+        this.leakCheckBatch, this.leakTolerance);
     }
 
     /**
@@ -351,7 +505,9 @@ public class RepeatExtension implements InterceptStep {
      */
     public RepeatOptions delay(final Duration delay) {
       if (delay == null) { throw new NullPointerException("delay arg is null"); }
-      return new RepeatOptions(this.count, delay, this.skip, this.but);
+      return new RepeatOptions(this.count, delay, this.skip, this.but,
+        this.parallelism, this.rampUp, this.duration, this.warmup, this.meanUnder, this.p99Under,
+        this.leakCheckBatch, this.leakTolerance);
     }
 
     /**
@@ -365,7 +521,9 @@ public class RepeatExtension implements InterceptStep {
     @SafeVarargs
     public final RepeatOptions skip(final Class<? extends Throwable>... types) {
       if (types == null) { throw new NullPointerException("types arg is null"); }
-      return new RepeatOptions(this.count, this.delay, types, this.but);
+      return new RepeatOptions(this.count, this.delay, types, this.but,
+        this.parallelism, this.rampUp, this.duration, this.warmup, this.meanUnder, this.p99Under,
+        this.leakCheckBatch, this.leakTolerance);
     }
 
     /**
@@ -379,7 +537,124 @@ public class RepeatExtension implements InterceptStep {
     @SafeVarargs
     public final RepeatOptions but(final Class<? extends Throwable>... types) {
       if (types == null) { throw new NullPointerException("types arg is null"); }
-      return new RepeatOptions(this.count, this.delay, this.skip, types);
+      return new RepeatOptions(this.count, this.delay, this.skip, types,
+        this.parallelism, this.rampUp, this.duration, this.warmup, this.meanUnder, this.p99Under,
+        this.leakCheckBatch, this.leakTolerance);
+    }
+
+    /**
+     * Returns {@code RepeatOptions} with given number of worker threads executing the step body concurrently. Values
+     * greater than 1 enable concurrent mode, in which {@link #count(int)} is the total count of all worker threads.
+     *
+     * @param parallelism the number of worker threads
+     * @return {@code RepeatOptions} with given number of worker threads
+     * @see #REPEAT_STATS
+     */
+    public RepeatOptions parallelism(final int parallelism) {
+      return new RepeatOptions(this.count, this.delay, this.skip, this.but,
+        parallelism, this.rampUp, this.duration, this.warmup, this.meanUnder, this.p99Under,
+        this.leakCheckBatch, this.leakTolerance);
+    }
+
+    /**
+     * Returns {@code RepeatOptions} with given time over which worker threads are started in concurrent mode.
+     *
+     * @param rampUp the ramp-up time
+     * @return {@code RepeatOptions} with given ramp-up time
+     * @throws NullPointerException if {@code rampUp} arg is null
+     */
+    public RepeatOptions rampUp(final Duration rampUp) {
+      if (rampUp == null) { throw new NullPointerException("rampUp arg is null"); }
+      return new RepeatOptions(this.count, this.delay, this.skip, this.but,
+        this.parallelism, rampUp, this.duration, this.warmup, this.meanUnder, this.p99Under,
+        this.leakCheckBatch, this.leakTolerance);
+    }
+
+    /**
+     * Returns {@code RepeatOptions} with given time for which the step body is repeated. Positive value enables
+     * concurrent mode and overrides {@link #count(int)}.
+     *
+     * @param duration the duration
+     * @return {@code RepeatOptions} with given duration
+     * @throws NullPointerException if {@code duration} arg is null
+     */
+    public RepeatOptions duration(final Duration duration) {
+      if (duration == null) { throw new NullPointerException("duration arg is null"); }
+      return new RepeatOptions(this.count, this.delay, this.skip, this.but,
+        this.parallelism, this.rampUp, duration, this.warmup, this.meanUnder, this.p99Under,
+        this.leakCheckBatch, this.leakTolerance);
+    }
+
+    /**
+     * Returns {@code RepeatOptions} with given warmup iterations count. Positive value enables benchmark mode, in which
+     * warmup iterations are executed before {@link #count(int)} measured iterations.
+     *
+     * @param warmup the warmup iterations count
+     * @return {@code RepeatOptions} with given warmup iterations count
+     * @see #BENCHMARK_STATS
+     */
+    public RepeatOptions warmup(final int warmup) {
+      return new RepeatOptions(this.count, this.delay, this.skip, this.but,
+        this.parallelism, this.rampUp, this.duration, warmup, this.meanUnder, this.p99Under,
+        this.leakCheckBatch, this.leakTolerance);
+    }
+
+    /**
+     * Returns {@code RepeatOptions} with given mean iteration latency threshold. Positive value enables benchmark mode,
+     * the step fails if the mean latency of measured iterations exceeds the threshold.
+     *
+     * @param meanUnder the mean latency threshold
+     * @return {@code RepeatOptions} with given mean latency threshold
+     * @throws NullPointerException if {@code meanUnder} arg is null
+     * @see #BENCHMARK_STATS
+     */
+    public RepeatOptions meanUnder(final Duration meanUnder) {
+      if (meanUnder == null) { throw new NullPointerException("meanUnder arg is null"); }
+      return new RepeatOptions(this.count, this.delay, this.skip, this.but,
+        this.parallelism, this.rampUp, this.duration, this.warmup, meanUnder, this.p99Under,
+        this.leakCheckBatch, this.leakTolerance);
+    }
+
+    /**
+     * Returns {@code RepeatOptions} with given p99 iteration latency threshold. Positive value enables benchmark mode,
+     * the step fails if the p99 latency of measured iterations exceeds the threshold.
+     *
+     * @param p99Under the p99 latency threshold
+     * @return {@code RepeatOptions} with given p99 latency threshold
+     * @throws NullPointerException if {@code p99Under} arg is null
+     * @see #BENCHMARK_STATS
+     */
+    public RepeatOptions p99Under(final Duration p99Under) {
+      if (p99Under == null) { throw new NullPointerException("p99Under arg is null"); }
+      return new RepeatOptions(this.count, this.delay, this.skip, this.but,
+        this.parallelism, this.rampUp, this.duration, this.warmup, this.meanUnder, p99Under,
+        this.leakCheckBatch, this.leakTolerance);
+    }
+
+    /**
+     * Returns {@code RepeatOptions} with given iterations count between retained heap measurements. Positive value
+     * enables leak check mode: after each batch GC is forced and retained heap is measured, the step fails if retained
+     * heap grows linearly beyond the tolerance. At least 4 batches are needed, the first one is a warmup.
+     *
+     * @param leakCheckBatch the iterations count between retained heap measurements
+     * @return {@code RepeatOptions} with given iterations count between retained heap measurements
+     */
+    public RepeatOptions leakCheckBatch(final int leakCheckBatch) {
+      return new RepeatOptions(this.count, this.delay, this.skip, this.but,
+        this.parallelism, this.rampUp, this.duration, this.warmup, this.meanUnder, this.p99Under,
+        leakCheckBatch, this.leakTolerance);
+    }
+
+    /**
+     * Returns {@code RepeatOptions} with given allowed retained heap growth in leak check mode.
+     *
+     * @param leakTolerance the allowed retained heap growth in bytes
+     * @return {@code RepeatOptions} with given allowed retained heap growth
+     */
+    public RepeatOptions leakTolerance(final long leakTolerance) {
+      return new RepeatOptions(this.count, this.delay, this.skip, this.but,
+        this.parallelism, this.rampUp, this.duration, this.warmup, this.meanUnder, this.p99Under,
+        this.leakCheckBatch, leakTolerance);
     }
   }
 }
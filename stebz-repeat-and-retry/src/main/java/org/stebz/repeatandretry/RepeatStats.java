@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import org.stebz.core.metrics.TimeHistogram;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the concurrent repeat mode.
+ *
+ * @see RepeatExtension#REPEAT_STATS
+ */
+public final class RepeatStats {
+  private final int parallelism;
+  private final TimeHistogram histogram;
+  private final LongAdder failures;
+  private volatile long elapsedNanos;
+
+  /**
+   * Ctor.
+   *
+   * @param parallelism the number of worker threads
+   */
+  RepeatStats(final int parallelism) {
+    this.parallelism = parallelism;
+    this.histogram = new TimeHistogram();
+    this.failures = new LongAdder();
+    this.elapsedNanos = 0L;
+  }
+
+  void record(final long nanos,
+              final boolean failed) {
+    this.histogram.record(nanos);
+    if (failed) {
+      this.failures.increment();
+    }
+  }
+
+  void complete(final long elapsedNanos) {
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Returns number of worker threads.
+   *
+   * @return number of worker threads
+   */
+  public int parallelism() {
+    return this.parallelism;
+  }
+
+  /**
+   * Returns number of executed iterations, including failed ones.
+   *
+   * @return number of executed iterations
+   */
+  public long iterations() {
+    return this.histogram.count();
+  }
+
+  /**
+   * Returns number of failed (skipped) iterations.
+   *
+   * @return number of failed iterations
+   */
+  public long failures() {
+    return this.failures.sum();
+  }
+
+  /**
+   * Returns wall-clock time of all iterations in nanos, or {@code 0} if the step is not completed yet.
+   *
+   * @return wall-clock time in nanos
+   */
+  public long elapsedNanos() {
+    return this.elapsedNanos;
+  }
+
+  /**
+   * Returns number of iterations per second.
+   *
+   * @return number of iterations per second
+   */
+  public double throughputPerSecond() {
+    final long elapsed = this.elapsedNanos;
+    return elapsed == 0L
+      ? 0.0
+      : this.iterations() * 1_000_000_000.0 / elapsed;
+  }
+
+  /**
+   * Returns mean iteration latency in nanos.
+   *
+   * @return mean iteration latency in nanos
+   */
+  public long meanNanos() {
+    final long count = this.histogram.count();
+    return count == 0L
+      ? 0L
+      : this.histogram.totalNanos() / count;
+  }
+
+  /**
+   * Returns max iteration latency in nanos.
+   *
+   * @return max iteration latency in nanos
+   */
+  public long maxNanos() {
+    return this.histogram.maxNanos();
+  }
+
+  /**
+   * Returns the upper bound of the iteration latency percentile in nanos.
+   *
+   * @param percentile the percentile in {@code (0, 100]} range
+   * @return iteration latency percentile upper bound in nanos
+   * @throws IllegalArgumentException if {@code percentile} arg is out of {@code (0, 100]} range
+   * @see TimeHistogram#percentileNanos(double)
+   */
+  public long percentileNanos(final double percentile) {
+    return this.histogram.percentileNanos(percentile);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT,
+      "iterations=%d, failures=%d, parallelism=%d, throughput=%.1f/s, mean=%.3fms, p50=%.3fms, p99=%.3fms, max=%.3fms",
+      this.iterations(), this.failures(), this.parallelism, this.throughputPerSecond(),
+      this.meanNanos() / 1e6, this.percentileNanos(50.0) / 1e6, this.percentileNanos(99.0) / 1e6,
+      this.maxNanos() / 1e6
+    );
+  }
+}
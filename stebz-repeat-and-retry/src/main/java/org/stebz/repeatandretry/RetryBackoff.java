@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry backoff, computes delay before the next retry.
+ *
+ * @see RetryExtension.RetryOptions#backoff(RetryBackoff)
+ * @see WithRetry#backoff()
+ * @see AwaitExtension.AwaitOptions#pollInterval(RetryBackoff)
+ */
+public enum RetryBackoff {
+
+  /**
+   * Fixed delay: {@code delay}.
+   */
+  FIXED {
+    @Override
+    long delayMillis(final long baseMillis,
+                     final long maxMillis,
+                     final int retry,
+                     final long previousMillis) {
+      return Math.min(baseMillis, maxMillis);
+    }
+  },
+
+  /**
+   * Exponential delay: {@code delay * 2^(retry - 1)}, limited by max delay.
+   */
+  EXPONENTIAL {
+    @Override
+    long delayMillis(final long baseMillis,
+                     final long maxMillis,
+                     final int retry,
+                     final long previousMillis) {
+      final int shift = Math.min(retry - 1, 62);
+      final long delay = baseMillis > (Long.MAX_VALUE >> shift)
+        ? Long.MAX_VALUE
+        : baseMillis << shift;
+      return Math.min(delay, maxMillis);
+    }
+  },
+
+  /**
+   * Fibonacci delay: {@code delay * fib(retry)} (1, 1, 2, 3, 5, 8...), limited by max delay. Grows slower than
+   * exponential delay, suitable for polling.
+   */
+  FIBONACCI {
+    @Override
+    long delayMillis(final long baseMillis,
+                     final long maxMillis,
+                     final int retry,
+                     final long previousMillis) {
+      long previous = 0L;
+      long current = 1L;
+      for (int idx = 1; idx < retry; ++idx) {
+        final long next = previous + current;
+        previous = current;
+        current = next;
+        if (baseMillis != 0L && current > maxMillis / baseMillis) {
+          return maxMillis;
+        }
+      }
+      return Math.min(baseMillis * current, maxMillis);
+    }
+  },
+
+  /**
+   * Decorrelated jitter delay: random value between {@code delay} and {@code previous delay * 3}, limited by max delay.
+   * Spreads retries of parallel steps in time.
+   */
+  DECORRELATED_JITTER {
+    @Override
+    long delayMillis(final long baseMillis,
+                     final long maxMillis,
+                     final int retry,
+                     final long previousMillis) {
+      final long previous = Math.max(baseMillis, previousMillis);
+      final long upper = previous > Long.MAX_VALUE / 3 ? Long.MAX_VALUE : previous * 3;
+      final long delay = upper <= baseMillis
+        ? baseMillis
+        : ThreadLocalRandom.current().nextLong(baseMillis, upper);
+      return Math.min(delay, maxMillis);
+    }
+  };
+
+  /**
+   * Returns delay before the retry.
+   *
+   * @param baseMillis     the base delay in millis
+   * @param maxMillis      the max delay in millis
+   * @param retry          the retry number, starting from 1
+   * @param previousMillis the previous delay in millis, 0 before the first retry
+   * @return delay before the retry in millis
+   */
+  abstract long delayMillis(long baseMillis,
+                            long maxMillis,
+                            int retry,
+                            long previousMillis);
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket retry budget. Each retry takes one token, tokens are refilled at a fixed rate up to the capacity. When
+ * the budget is exhausted, retries are refused, so a failing environment fails fast.
+ */
+public final class RetryBudget {
+  private final long capacity;
+  private final double refillPerNano;
+  private final boolean perStepName;
+  private final Bucket global;
+  private final Map<String, Bucket> buckets;
+
+  /**
+   * Ctor.
+   *
+   * @param capacity        the max number of tokens
+   * @param refillPerSecond the number of tokens refilled per second
+   * @param perStepName     separate bucket for each step name
+   * @throws IllegalArgumentException if {@code capacity} arg is less than 1 or {@code refillPerSecond} arg is negative
+   */
+  public RetryBudget(final long capacity,
+                     final double refillPerSecond,
+                     final boolean perStepName) {
+    if (capacity < 1) { throw new IllegalArgumentException("capacity arg is less than 1"); }
+    if (refillPerSecond < 0.0) { throw new IllegalArgumentException("refillPerSecond arg is negative"); }
+    this.capacity = capacity;
+    this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+    this.perStepName = perStepName;
+    this.global = new Bucket(capacity, System.nanoTime());
+    this.buckets = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Tries to take a token for the retry of given step.
+   *
+   * @param stepName the step name
+   * @return {@code true} if the retry is allowed
+   * @throws NullPointerException if {@code stepName} arg is null
+   */
+  public boolean tryAcquire(final String stepName) {
+    if (stepName == null) { throw new NullPointerException("stepName arg is null"); }
+    final Bucket bucket = this.perStepName
+      ? this.buckets.computeIfAbsent(stepName, key -> new Bucket(this.capacity, System.nanoTime()))
+      : this.global;
+    return bucket.tryAcquire(this.capacity, this.refillPerNano, System.nanoTime());
+  }
+
+  private static final class Bucket {
+    private double tokens;
+    private long lastRefill;
+
+    private Bucket(final double tokens,
+                   final long lastRefill) {
+      this.tokens = tokens;
+      this.lastRefill = lastRefill;
+    }
+
+    private synchronized boolean tryAcquire(final long capacity,
+                                            final double refillPerNano,
+                                            final long now) {
+      this.tokens = Math.min(capacity, this.tokens + (now - this.lastRefill) * refillPerNano);
+      this.lastRefill = now;
+      if (this.tokens >= 1.0) {
+        this.tokens -= 1.0;
+        return true;
+      }
+      return false;
+    }
+  }
+}
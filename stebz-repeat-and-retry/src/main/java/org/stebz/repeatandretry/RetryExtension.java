@@ -66,6 +66,7 @@ public class RetryExtension implements InterceptStep {
   private static final SimpleStepAttribute<WithRetry> RETRY_ANNOT = SimpleStepAttribute.nullable(WithRetry.KEY);
   private final boolean enabled;
   private final int order;
+  private final RetryBudget budget;
 
   /**
    * Ctor.
@@ -82,11 +83,18 @@ public class RetryExtension implements InterceptStep {
   public RetryExtension(final PropertiesReader properties) {
     this.enabled = properties.getBoolean("stebz.retry.enabled", true);
     this.order = properties.getInteger("stebz.retry.order", MIDDLE_ORDER);
+    this.budget = properties.getBoolean("stebz.retry.budget.enabled", false)
+      ? new RetryBudget(
+        properties.getLong("stebz.retry.budget.capacity", 100L),
+        properties.getDouble("stebz.retry.budget.refillPerSecond", 1.0),
+        properties.getBoolean("stebz.retry.budget.perStepName", false)
+      )
+      : null;
   }
 
   /**
-   * Returns {@code RetryOptions} with default values: count = 2, delay = ZERO, on = {Throwable.class}, but = {}. Alias
-   * for {@link #retryOptions()} method.
+   * Returns {@code RetryOptions} with default values: count = 2, delay = ZERO, backoff = FIXED, on = {Throwable.class},
+   * but = {}. Alias for {@link #retryOptions()} method.
    *
    * @return {@code RetryOptions}
    */
@@ -95,7 +103,8 @@ public class RetryExtension implements InterceptStep {
   }
 
   /**
-   * Returns {@code RetryOptions} with default values: count = 2, delay = ZERO, on = {Throwable.class}, but = {}.
+   * Returns {@code RetryOptions} with default values: count = 2, delay = ZERO, backoff = FIXED, on = {Throwable.class},
+   * but = {}.
    *
    * @return {@code RetryOptions}
    */
@@ -115,187 +124,128 @@ public class RetryExtension implements InterceptStep {
       return step;
     }
 
-    final int count;
-    final long delayMillis;
-    final Class<? extends Throwable>[] on;
-    final Class<? extends Throwable>[] but;
+    final RetryPolicy policy;
     final WithRetry annot = step.get(RETRY_ANNOT);
     if (annot != null) {
-      count = annot.count();
-      delayMillis = annot.unit().toMillis(annot.delay());
-      on = annot.on();
-      but = annot.but();
+      if (annot.count() < 2 || annot.on().length == 0) {
+        return step;
+      }
+      policy = new RetryPolicy(
+        annot.count(),
+        annot.unit().toMillis(annot.delay()),
+        annot.unit().toMillis(annot.maxDelay()),
+        annot.backoff(),
+        annot.on(),
+        annot.but(),
+        this.budget,
+        step.getName()
+      );
     } else {
       final RetryOptions options = step.get(RETRY);
-      if (options != null) {
-        count = options.count;
-        delayMillis = options.delay.toMillis();
-        on = options.on;
-        but = options.but;
-      } else {
+      if (options == null || options.count < 2 || options.on.length == 0) {
         return step;
       }
-    }
-    if (count < 2 || on.length == 0) {
-      return step;
+      policy = new RetryPolicy(
+        options.count,
+        options.delay.toMillis(),
+        options.maxDelay == null ? Long.MAX_VALUE : options.maxDelay.toMillis(),
+        options.backoff,
+        options.on,
+        options.but,
+        this.budget,
+        step.getName()
+      );
     }
 
     if (step instanceof RunnableStep) {
       final RunnableStep runnableStep = (RunnableStep) step;
-      return runnableStep.withBody(retryRunnable(
-        runnableStep.getBody(), count, delayMillis, on, but
-      ));
+      return runnableStep.withBody(retryRunnable(runnableStep.getBody(), policy));
     } else if (step instanceof ConsumerStep) {
       @SuppressWarnings("unchecked")
       final ConsumerStep<Object> consumerStep = (ConsumerStep<Object>) step;
-      return consumerStep.withBody(retryConsumer(
-        consumerStep.getBody(), count, delayMillis, on, but
-      ));
+      return consumerStep.withBody(retryConsumer(consumerStep.getBody(), policy));
     } else if (step instanceof SupplierStep) {
       @SuppressWarnings("unchecked")
       final SupplierStep<Object> supplierStep = (SupplierStep<Object>) step;
-      return supplierStep.withBody(retrySupplier(
-        supplierStep.getBody(), count, delayMillis, on, but
-      ));
+      return supplierStep.withBody(retrySupplier(supplierStep.getBody(), policy));
     } else if (step instanceof FunctionStep) {
       @SuppressWarnings("unchecked")
       final FunctionStep<Object, Object> functionStep = (FunctionStep<Object, Object>) step;
-      return functionStep.withBody(retryFunction(
-        functionStep.getBody(), count, delayMillis, on, but
-      ));
+      return functionStep.withBody(retryFunction(functionStep.getBody(), policy));
     }
     return step;
   }
 
   private static ThrowingRunnable<?> retryRunnable(final ThrowingRunnable<?> origin,
-                                                   final int count,
-                                                   final long delayMillis,
-                                                   final Class<? extends Throwable>[] on,
-                                                   final Class<? extends Throwable>[] but) {
+                                                   final RetryPolicy policy) {
     return () -> {
-      for (int attempt = 0; attempt < count; attempt++) {
-        if (attempt == count - 1) {
+      long delay = 0L;
+      for (int attempt = 1; ; ++attempt) {
+        try {
           origin.run();
-        } else {
-          try {
-            origin.run();
-            return;
-          } catch (final Throwable ex) {
-            if (exceptionMatches(ex, but)) {
-              throw ex;
-            }
-            if (!exceptionMatches(ex, on)) {
-              throw ex;
-            }
+          return;
+        } catch (final Throwable ex) {
+          if (!policy.shouldRetry(attempt, ex)) {
+            throw ex;
           }
         }
-        if (delayMillis > 0L) {
-          Thread.sleep(delayMillis);
-        }
+        delay = policy.awaitRetry(attempt, delay);
       }
     };
   }
 
   private static ThrowingConsumer<Object, ?> retryConsumer(final ThrowingConsumer<Object, ?> origin,
-                                                           final int count,
-                                                           final long delayMillis,
-                                                           final Class<? extends Throwable>[] on,
-                                                           final Class<? extends Throwable>[] but) {
+                                                           final RetryPolicy policy) {
     return context -> {
-      for (int attempt = 0; attempt < count; attempt++) {
-        if (attempt == count - 1) {
+      long delay = 0L;
+      for (int attempt = 1; ; ++attempt) {
+        try {
           origin.accept(context);
-        } else {
-          try {
-            origin.accept(context);
-            return;
-          } catch (final Throwable ex) {
-            if (exceptionMatches(ex, but)) {
-              throw ex;
-            }
-            if (!exceptionMatches(ex, on)) {
-              throw ex;
-            }
+          return;
+        } catch (final Throwable ex) {
+          if (!policy.shouldRetry(attempt, ex)) {
+            throw ex;
           }
         }
-        if (delayMillis > 0L) {
-          Thread.sleep(delayMillis);
-        }
+        delay = policy.awaitRetry(attempt, delay);
       }
     };
   }
 
   private static ThrowingSupplier<Object, ?> retrySupplier(final ThrowingSupplier<Object, ?> origin,
-                                                           final int count,
-                                                           final long delayMillis,
-                                                           final Class<? extends Throwable>[] on,
-                                                           final Class<? extends Throwable>[] but) {
+                                                           final RetryPolicy policy) {
     return () -> {
-      for (int attempt = 0; attempt < count; attempt++) {
-        if (attempt == count - 1) {
+      long delay = 0L;
+      for (int attempt = 1; ; ++attempt) {
+        try {
           return origin.get();
-        } else {
-          try {
-            return origin.get();
-          } catch (final Throwable ex) {
-            if (exceptionMatches(ex, but)) {
-              throw ex;
-            }
-            if (!exceptionMatches(ex, on)) {
-              throw ex;
-            }
+        } catch (final Throwable ex) {
+          if (!policy.shouldRetry(attempt, ex)) {
+            throw ex;
           }
         }
-        if (delayMillis > 0L) {
-          Thread.sleep(delayMillis);
-        }
+        delay = policy.awaitRetry(attempt, delay);
       }
-      return null; /* unreachable */
     };
   }
 
   private static ThrowingFunction<Object, Object, ?> retryFunction(final ThrowingFunction<Object, Object, ?> origin,
-                                                                   final int count,
-                                                                   final long delayMillis,
-                                                                   final Class<? extends Throwable>[] on,
-                                                                   final Class<? extends Throwable>[] but) {
+                                                                   final RetryPolicy policy) {
     return context -> {
-      for (int attempt = 0; attempt < count; attempt++) {
-        if (attempt == count - 1) {
+      long delay = 0L;
+      for (int attempt = 1; ; ++attempt) {
+        try {
           return origin.apply(context);
-        } else {
-          try {
-            return origin.apply(context);
-          } catch (final Throwable ex) {
-            if (exceptionMatches(ex, but)) {
-              throw ex;
-            }
-            if (!exceptionMatches(ex, on)) {
-              throw ex;
-            }
+        } catch (final Throwable ex) {
+          if (!policy.shouldRetry(attempt, ex)) {
+            throw ex;
           }
         }
-        if (delayMillis > 0L) {
-          Thread.sleep(delayMillis);
-        }
+        delay = policy.awaitRetry(attempt, delay);
       }
-      return null; /* unreachable */
     };
   }
 
-  private static boolean exceptionMatches(final Throwable exception,
-                                          final Class<? extends Throwable>[] types) {
-    if (types.length > 0) {
-      final Class<? extends Throwable> exceptionType = exception.getClass();
-      for (final Class<? extends Throwable> currentType : types) {
-        if (currentType.isAssignableFrom(exceptionType)) {
-          return true;
-        }
-      }
-    }
-    return false;
-  }
-
   /**
    * Retry options.
    *
@@ -304,9 +254,11 @@ public class RetryExtension implements InterceptStep {
   public static final class RetryOptions {
     @SuppressWarnings("unchecked")
     private static final RetryOptions DEFAULT =
-      new RetryOptions(2, Duration.ZERO, new Class[]{Throwable.class}, new Class[0]);
+      new RetryOptions(2, Duration.ZERO, null, RetryBackoff.FIXED, new Class[]{Throwable.class}, new Class[0]);
     private final int count;
     private final Duration delay;
+    private final Duration maxDelay;
+    private final RetryBackoff backoff;
     private final Class<? extends Throwable>[] on;
     private final Class<? extends Throwable>[] but;
 
@@ -315,10 +267,14 @@ public class RetryExtension implements InterceptStep {
      */
     private RetryOptions(final int count,
                          final Duration delay,
+                         final Duration maxDelay,
+                         final RetryBackoff backoff,
                          final Class<? extends Throwable>[] on,
                          final Class<? extends Throwable>[] but) {
       this.count = count;
       this.delay = delay;
+      this.maxDelay = maxDelay;
+      this.backoff = backoff;
       this.on = on;
       this.but = but;
     }
@@ -330,7 +286,7 @@ public class RetryExtension implements InterceptStep {
      * @return {@code RetryOptions} with given retry count
      */
     public RetryOptions count(final int count) {
-      return new RetryOptions(count, this.delay, this.on, this.but);
+      return new RetryOptions(count, this.delay, this.maxDelay, this.backoff, this.on, this.but);
     }
 
     /**
@@ -342,7 +298,31 @@ public class RetryExtension implements InterceptStep {
      */
     public RetryOptions delay(final Duration delay) {
       if (delay == null) { throw new NullPointerException("delay arg is null"); }
-      return new RetryOptions(this.count, delay, this.on, this.but);
+      return new RetryOptions(this.count, delay, this.maxDelay, this.backoff, this.on, this.but);
+    }
+
+    /**
+     * Returns {@code RetryOptions} with given max delay between retries. Without max delay the delay is not limited.
+     *
+     * @param maxDelay the max delay between retries
+     * @return {@code RetryOptions} with given max delay between retries
+     * @throws NullPointerException if {@code maxDelay} arg is null
+     */
+    public RetryOptions maxDelay(final Duration maxDelay) {
+      if (maxDelay == null) { throw new NullPointerException("maxDelay arg is null"); }
+      return new RetryOptions(this.count, this.delay, maxDelay, this.backoff, this.on, this.but);
+    }
+
+    /**
+     * Returns {@code RetryOptions} with given backoff of delay between retries.
+     *
+     * @param backoff the backoff
+     * @return {@code RetryOptions} with given backoff
+     * @throws NullPointerException if {@code backoff} arg is null
+     */
+    public RetryOptions backoff(final RetryBackoff backoff) {
+      if (backoff == null) { throw new NullPointerException("backoff arg is null"); }
+      return new RetryOptions(this.count, this.delay, this.maxDelay, backoff, this.on, this.but);
     }
 
     /**
@@ -355,7 +335,7 @@ public class RetryExtension implements InterceptStep {
     @SafeVarargs
     public final RetryOptions on(final Class<? extends Throwable>... types) {
       if (types == null) { throw new NullPointerException("types arg is null"); }
-      return new RetryOptions(this.count, this.delay, types, this.but);
+      return new RetryOptions(this.count, this.delay, this.maxDelay, this.backoff, types, this.but);
     }
 
     /**
@@ -368,7 +348,7 @@ public class RetryExtension implements InterceptStep {
     @SafeVarargs
     public final RetryOptions but(final Class<? extends Throwable>... types) {
       if (types == null) { throw new NullPointerException("types arg is null"); }
-      return new RetryOptions(this.count, this.delay, this.on, types);
+      return new RetryOptions(this.count, this.delay, this.maxDelay, this.backoff, this.on, types);
     }
   }
 }
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import org.stebz.core.metrics.StebzMetrics;
+
+/**
+ * Retry policy of a single step.
+ */
+final class RetryPolicy {
+  private final int count;
+  private final long delayMillis;
+  private final long maxDelayMillis;
+  private final RetryBackoff backoff;
+  private final Class<? extends Throwable>[] on;
+  private final Class<? extends Throwable>[] but;
+  private final RetryBudget budget;
+  private final String stepName;
+
+  RetryPolicy(final int count,
+              final long delayMillis,
+              final long maxDelayMillis,
+              final RetryBackoff backoff,
+              final Class<? extends Throwable>[] on,
+              final Class<? extends Throwable>[] but,
+              final RetryBudget budget,
+              final String stepName) {
+    this.count = count;
+    this.delayMillis = delayMillis;
+    this.maxDelayMillis = maxDelayMillis;
+    this.backoff = backoff;
+    this.on = on;
+    this.but = but;
+    this.budget = budget;
+    this.stepName = stepName;
+  }
+
+  /**
+   * Returns {@code true} if the step should be retried after given attempt failed with given exception.
+   *
+   * @param attempt   the failed attempt number, starting from 1
+   * @param exception the exception
+   * @return {@code true} if the step should be retried
+   */
+  boolean shouldRetry(final int attempt,
+                      final Throwable exception) {
+    if (attempt >= this.count || exceptionMatches(exception, this.but) || !exceptionMatches(exception, this.on)) {
+      return false;
+    }
+    return this.budget == null || this.budget.tryAcquire(this.stepName);
+  }
+
+  /**
+   * Waits before the retry.
+   *
+   * @param retry          the retry number, starting from 1
+   * @param previousMillis the previous delay in millis, 0 before the first retry
+   * @return the delay in millis
+   * @throws InterruptedException if the thread is interrupted
+   */
+  long awaitRetry(final int retry,
+                  final long previousMillis) throws InterruptedException {
+    StebzMetrics.global().retryAttempt();
+    final long delay = this.backoff.delayMillis(this.delayMillis, this.maxDelayMillis, retry, previousMillis);
+    if (delay > 0L) {
+      Thread.sleep(delay);
+    }
+    return delay;
+  }
+
+  private static boolean exceptionMatches(final Throwable exception,
+                                          final Class<? extends Throwable>[] types) {
+    if (types.length > 0) {
+      final Class<? extends Throwable> exceptionType = exception.getClass();
+      for (final Class<? extends Throwable> currentType : types) {
+        if (currentType.isAssignableFrom(exceptionType)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import org.stebz.annotation.StepAttributeAnnotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Await the step: evaluate the step body until it completes without exception. Annotation attribute alternative to
+ * {@link AwaitExtension#AWAIT} attribute.
+ *
+ * @see AwaitExtension
+ */
+@Documented
+@Target(value = {ElementType.METHOD, ElementType.CONSTRUCTOR, ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+@StepAttributeAnnotation(WithAwait.KEY)
+public @interface WithAwait {
+  /**
+   * {@link WithAwait} step attribute annotation key.
+   */
+  String KEY = "extension:with_await";
+
+  /**
+   * Await timeout, in time units.
+   *
+   * @return await timeout
+   * @see #unit()
+   */
+  long atMost() default 10_000L;
+
+  /**
+   * Initial delay between evaluations, in time units.
+   *
+   * @return initial delay
+   * @see #unit()
+   */
+  long pollDelay() default 10L;
+
+  /**
+   * Max delay between evaluations, in time units.
+   *
+   * @return max delay
+   * @see #unit()
+   */
+  long maxPollDelay() default 1_000L;
+
+  /**
+   * Time unit.
+   *
+   * @return time unit
+   */
+  TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+  /**
+   * Backoff of delay between evaluations.
+   *
+   * @return backoff
+   */
+  RetryBackoff pollInterval() default RetryBackoff.FIBONACCI;
+
+  /**
+   * When to continue awaiting (in case of what exception types).
+   *
+   * @return exceptions list when to continue awaiting
+   */
+  Class<? extends Throwable>[] on() default {Throwable.class};
+
+  /**
+   * When to stop awaiting (in case of what exception types).
+   *
+   * @return exceptions list when to stop awaiting
+   */
+  Class<? extends Throwable>[] but() default {};
+}
@@ -33,7 +33,8 @@ import java.lang.annotation.Target;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Repeat the step. Annotation attribute alternative to {@link RepeatExtension#REPEAT} attribute.
+ * Repeat the step. Annotation attribute alternative to {@link RepeatExtension#REPEAT} attribute. Concurrent, benchmark
+ * and leak check modes are mutually exclusive.
  *
  * @see RepeatExtension
  */
@@ -48,7 +49,7 @@ public @interface WithRepeat {
   String KEY = "extension:with_repeat";
 
   /**
-   * Step executions count (including the first execution).
+   * Step executions count (including the first execution). In concurrent mode, total count of all worker threads.
    *
    * @return step executions count
    */
@@ -70,6 +71,74 @@ public @interface WithRepeat {
    */
   TimeUnit unit() default TimeUnit.SECONDS;
 
+  /**
+   * Number of worker threads executing the step body concurrently. Values greater than 1 enable concurrent mode.
+   *
+   * @return number of worker threads
+   * @see RepeatExtension#REPEAT_STATS
+   */
+  int parallelism() default 1;
+
+  /**
+   * Time over which worker threads are started in concurrent mode, in time units.
+   *
+   * @return ramp-up time
+   * @see #unit()
+   */
+  long rampUp() default 0L;
+
+  /**
+   * Time for which the step body is repeated, in time units. Positive value enables concurrent mode and overrides
+   * {@link #count()}.
+   *
+   * @return duration
+   * @see #unit()
+   */
+  long duration() default 0L;
+
+  /**
+   * Warmup iterations count. Positive value enables benchmark mode, in which warmup iterations are executed before
+   * {@link #count()} measured iterations.
+   *
+   * @return warmup iterations count
+   * @see RepeatExtension#BENCHMARK_STATS
+   */
+  int warmup() default 0;
+
+  /**
+   * Mean iteration latency threshold, such as {@code 20ms} or {@code 1.5s}. Not empty value enables benchmark mode,
+   * the step fails if the mean latency of measured iterations exceeds the threshold.
+   *
+   * @return mean latency threshold
+   */
+  String meanUnder() default "";
+
+  /**
+   * P99 iteration latency threshold, such as {@code 20ms} or {@code 1.5s}. Not empty value enables benchmark mode,
+   * the step fails if the p99 latency of measured iterations exceeds the threshold.
+   *
+   * @return p99 latency threshold
+   */
+  String p99Under() default "";
+
+  /**
+   * Iterations count between retained heap measurements. Positive value enables leak check mode: after each batch GC
+   * is forced and retained heap is measured, the step fails if retained heap grows linearly beyond the tolerance. At
+   * least 4 batches are needed, the first one is a warmup.
+   *
+   * @return iterations count between retained heap measurements
+   * @see #leakTolerance()
+   */
+  int leakCheckBatch() default 0;
+
+  /**
+   * Allowed retained heap growth in leak check mode, in bytes.
+   *
+   * @return allowed retained heap growth in bytes
+   * @see #leakCheckBatch()
+   */
+  long leakTolerance() default 1024L * 1024L;
+
   /**
    * Which exception to ignore (in case of what exception types).
    *
@@ -70,6 +70,21 @@ public @interface WithRetry {
    */
   TimeUnit unit() default TimeUnit.SECONDS;
 
+  /**
+   * Max delay between retries, in time units. Not limited by default.
+   *
+   * @return max delay
+   * @see #unit()
+   */
+  long maxDelay() default Long.MAX_VALUE;
+
+  /**
+   * Backoff of delay between retries.
+   *
+   * @return backoff
+   */
+  RetryBackoff backoff() default RetryBackoff.FIXED;
+
   /**
    * When to retry (in case of what exception types).
    *
@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import org.junit.jupiter.api.Test;
+import org.stebz.core.attribute.StepAttributes;
+import org.stebz.core.step.StepObj;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.core.step.executable.SupplierStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.stebz.repeatandretry.AwaitExtension.awaitOptions;
+
+/**
+ * Tests for {@link AwaitExtension}.
+ */
+final class AwaitExtensionTest {
+
+  @Test
+  void awaitSupplierStepUntilConditionHolds() throws Throwable {
+    final AtomicInteger calls = new AtomicInteger();
+    final SupplierStep<Object> step = SupplierStep.of(
+      StepAttributes.of(
+        AwaitExtension.AWAIT, awaitOptions().pollDelay(Duration.ofMillis(1L)).until(result -> (Integer) result >= 5)
+      ),
+      calls::incrementAndGet
+    );
+    final AwaitExtension extension = new AwaitExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThat(((SupplierStep<?>) resultStep).getBody().get())
+      .isEqualTo(5);
+    final AwaitStats stats = resultStep.get(AwaitExtension.AWAIT_STATS);
+    assertThat(stats.attempts())
+      .isEqualTo(5);
+    assertThat(stats.elapsedNanos())
+      .isPositive();
+  }
+
+  @Test
+  void awaitRunnableStepUntilNoException() throws Throwable {
+    final AtomicInteger calls = new AtomicInteger();
+    final RunnableStep step = RunnableStep.of(
+      StepAttributes.of(
+        AwaitExtension.AWAIT, awaitOptions().pollDelay(Duration.ofMillis(1L))
+      ),
+      () -> {
+        if (calls.incrementAndGet() < 3) {
+          throw new AssertionError("not yet");
+        }
+      }
+    );
+    final AwaitExtension extension = new AwaitExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    ((RunnableStep) resultStep).getBody().run();
+    assertThat(resultStep.get(AwaitExtension.AWAIT_STATS).attempts())
+      .isEqualTo(3);
+  }
+
+  @Test
+  void awaitShouldFailAfterTimeout() {
+    final AssertionError lastException = new AssertionError("not yet");
+    final RunnableStep step = RunnableStep.of(
+      StepAttributes.of(
+        AwaitExtension.AWAIT, awaitOptions().atMost(Duration.ofMillis(100L)).pollDelay(Duration.ofMillis(5L))
+      ),
+      () -> {
+        throw lastException;
+      }
+    );
+    final AwaitExtension extension = new AwaitExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    final long startNanos = System.nanoTime();
+    assertThatCode(() -> ((RunnableStep) resultStep).getBody().run())
+      .isInstanceOf(AwaitTimeoutError.class)
+      .hasCause(lastException);
+    assertThat(System.nanoTime() - startNanos)
+      .isBetween(Duration.ofMillis(100L).toNanos(), Duration.ofSeconds(5L).toNanos());
+    assertThat(resultStep.get(AwaitExtension.AWAIT_STATS).attempts())
+      .isGreaterThan(1);
+  }
+
+  @Test
+  void awaitShouldStopOnButException() {
+    final IllegalStateException exception = new IllegalStateException();
+    final AtomicInteger calls = new AtomicInteger();
+    final RunnableStep step = RunnableStep.of(
+      StepAttributes.of(
+        AwaitExtension.AWAIT, awaitOptions().but(IllegalStateException.class)
+      ),
+      () -> {
+        calls.incrementAndGet();
+        throw exception;
+      }
+    );
+    final AwaitExtension extension = new AwaitExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThatCode(() -> ((RunnableStep) resultStep).getBody().run())
+      .isSameAs(exception);
+    assertThat(calls.get())
+      .isEqualTo(1);
+  }
+}
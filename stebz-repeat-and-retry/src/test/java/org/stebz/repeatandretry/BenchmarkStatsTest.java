@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for {@link BenchmarkStats}.
+ */
+final class BenchmarkStatsTest {
+
+  @Test
+  void statsShouldBeComputedFromSamples() {
+    final long[] samples = new long[100];
+    for (int idx = 0; idx < samples.length; ++idx) {
+      samples[idx] = (samples.length - idx) * 1000L;
+    }
+    final BenchmarkStats stats = new BenchmarkStats();
+    stats.complete(10, samples);
+
+    assertThat(stats.warmupIterations()).isEqualTo(10);
+    assertThat(stats.iterations()).isEqualTo(100);
+    assertThat(stats.minNanos()).isEqualTo(1000L);
+    assertThat(stats.maxNanos()).isEqualTo(100_000L);
+    assertThat(stats.meanNanos()).isCloseTo(50_500.0, within(0.001));
+    assertThat(stats.percentileNanos(50.0)).isEqualTo(50_000L);
+    assertThat(stats.percentileNanos(99.0)).isEqualTo(99_000L);
+    assertThat(stats.meanLowerNanos()).isLessThan(stats.meanNanos());
+    assertThat(stats.meanUpperNanos()).isGreaterThan(stats.meanNanos());
+    assertThat(stats.percentileLowerNanos(50.0)).isLessThan(50_000L);
+    assertThat(stats.percentileUpperNanos(50.0)).isGreaterThan(50_000L);
+    assertThat(stats.percentileUpperNanos(99.0)).isEqualTo(100_000L);
+  }
+
+  @Test
+  void statsShouldBeZeroBeforeCompletion() {
+    final BenchmarkStats stats = new BenchmarkStats();
+
+    assertThat(stats.iterations()).isZero();
+    assertThat(stats.percentileNanos(99.0)).isZero();
+    assertThat(stats.meanNanos()).isZero();
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link DurationStrings}.
+ */
+final class DurationStringsTest {
+
+  @Test
+  void parseShouldSupportUnits() {
+    assertThat(DurationStrings.parse("")).isEqualTo(Duration.ZERO);
+    assertThat(DurationStrings.parse("500ns")).isEqualTo(Duration.ofNanos(500L));
+    assertThat(DurationStrings.parse("250us")).isEqualTo(Duration.ofNanos(250_000L));
+    assertThat(DurationStrings.parse("20ms")).isEqualTo(Duration.ofMillis(20L));
+    assertThat(DurationStrings.parse("1.5s")).isEqualTo(Duration.ofMillis(1500L));
+    assertThat(DurationStrings.parse("2m")).isEqualTo(Duration.ofMinutes(2L));
+    assertThat(DurationStrings.parse("1h")).isEqualTo(Duration.ofHours(1L));
+    assertThat(DurationStrings.parse("PT0.02S")).isEqualTo(Duration.ofMillis(20L));
+  }
+
+  @Test
+  void parseShouldThrowExceptionForIncorrectValue() {
+    assertThatCode(() -> DurationStrings.parse("20 parsecs"))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,262 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import dev.jlet.function.ThrowingFunction;
+import org.junit.jupiter.api.Test;
+import org.stebz.core.attribute.StepAttributes;
+import org.stebz.core.executor.StepExecutor;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.step.StepObj;
+import org.stebz.core.step.executable.FunctionStep;
+import org.stebz.core.step.executable.SupplierStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.stebz.repeatandretry.HedgeExtension.hedgeOptions;
+
+/**
+ * Tests for {@link HedgeExtension}.
+ */
+final class HedgeExtensionTest {
+
+  @Test
+  void hedgeShouldNotStartSecondAttemptForFastStep() {
+    final AtomicInteger calls = new AtomicInteger();
+    final SupplierStep<Object> step = SupplierStep.of(
+      StepAttributes.of(
+        HedgeExtension.HEDGE, hedgeOptions().delay(Duration.ofSeconds(10L))
+      ),
+      () -> "result " + calls.incrementAndGet()
+    );
+    final HedgeExtension extension = new HedgeExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThatCode(() -> assertThat(((SupplierStep<?>) resultStep).getBody().get())
+      .isEqualTo("result 1"))
+      .doesNotThrowAnyException();
+    assertThat(calls.get())
+      .isEqualTo(1);
+    assertThat(resultStep.get(HedgeExtension.HEDGE_STATS))
+      .satisfies(stats -> {
+        assertThat(stats.attempts()).isEqualTo(1);
+        assertThat(stats.winner()).isEqualTo(1);
+        assertThat(stats.failedAttempts()).isZero();
+        assertThat(stats.cancelledAttempts()).isZero();
+      });
+  }
+
+  @Test
+  void hedgeShouldReturnFirstSuccessfulResultAndCancelLoser() throws Throwable {
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch loserInterrupted = new CountDownLatch(1);
+    final FunctionStep<Object, Object> step = FunctionStep.of(
+      StepAttributes.of(
+        HedgeExtension.HEDGE, hedgeOptions().delay(Duration.ofMillis(50L))
+      ),
+      ctx -> {
+        if (calls.incrementAndGet() == 1) {
+          try {
+            Thread.sleep(10_000L);
+          } catch (final InterruptedException ex) {
+            loserInterrupted.countDown();
+            throw ex;
+          }
+          return "slow";
+        }
+        return "fast " + ctx;
+      }
+    );
+    final HedgeExtension extension = new HedgeExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    @SuppressWarnings("unchecked")
+    final Object result = ((FunctionStep<Object, Object>) resultStep).getBody().apply("ctx");
+    assertThat(result)
+      .isEqualTo("fast ctx");
+    assertThat(loserInterrupted.await(5L, TimeUnit.SECONDS))
+      .isTrue();
+    assertThat(resultStep.get(HedgeExtension.HEDGE_STATS))
+      .satisfies(stats -> {
+        assertThat(stats.attempts()).isEqualTo(2);
+        assertThat(stats.winner()).isEqualTo(2);
+        assertThat(stats.cancelledAttempts()).isEqualTo(1);
+      });
+  }
+
+  @Test
+  void hedgeShouldThrowFirstAttemptExceptionIfAllAttemptsFailed() {
+    final AtomicInteger calls = new AtomicInteger();
+    final RuntimeException firstException = new RuntimeException("first");
+    final SupplierStep<Object> step = SupplierStep.of(
+      StepAttributes.of(
+        HedgeExtension.HEDGE, hedgeOptions().delay(Duration.ofMillis(10L))
+      ),
+      () -> {
+        if (calls.incrementAndGet() == 1) {
+          Thread.sleep(200L);
+          throw firstException;
+        }
+        throw new IllegalStateException("second");
+      }
+    );
+    final HedgeExtension extension = new HedgeExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThatCode(() -> ((SupplierStep<?>) resultStep).getBody().get())
+      .isSameAs(firstException);
+    assertThat(firstException.getSuppressed())
+      .hasSize(1);
+  }
+
+  @Test
+  void hedgeShouldNotSuppressSharedExceptionInstanceInItself() {
+    final RuntimeException sharedException = new RuntimeException("shared");
+    final SupplierStep<Object> step = SupplierStep.of(
+      StepAttributes.of(
+        HedgeExtension.HEDGE, hedgeOptions().count(3).delay(Duration.ofMillis(10L))
+      ),
+      () -> {
+        Thread.sleep(100L);
+        throw sharedException;
+      }
+    );
+    final HedgeExtension extension = new HedgeExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThatCode(() -> ((SupplierStep<?>) resultStep).getBody().get())
+      .isSameAs(sharedException);
+    assertThat(sharedException.getSuppressed())
+      .isEmpty();
+    assertThat(resultStep.get(HedgeExtension.HEDGE_STATS).failedAttempts())
+      .isEqualTo(3);
+  }
+
+  @Test
+  void hedgeShouldNotReportAttemptsAsSteps() {
+    final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    final HedgeExtension extension = new HedgeExtension(new PropertiesReader.Of(new Properties()));
+    final StepExecutor executor = new StepExecutor.Of(
+      new StepListener[]{new RecordingListener(events)},
+      new StebzExtension[]{extension}
+    );
+    final AtomicInteger calls = new AtomicInteger();
+    final RuntimeException firstException = new RuntimeException("first");
+
+    assertThatCode(() -> executor.execute(SupplierStep.of("step", () -> {
+      if (calls.incrementAndGet() == 1) {
+        Thread.sleep(200L);
+        throw firstException;
+      }
+      throw new IllegalStateException("second");
+    }).with(HedgeExtension.HEDGE, hedgeOptions().delay(Duration.ofMillis(50L)))))
+      .isSameAs(firstException);
+
+    assertThat(events)
+      .containsExactly("start step", "failure step");
+  }
+
+  @Test
+  void hedgeStatsShouldContainAttemptsTimeline() throws Throwable {
+    final FunctionStep<Object, Object> step = FunctionStep.of(
+      StepAttributes.of(
+        HedgeExtension.HEDGE, hedgeOptions().count(3).delay(Duration.ofMillis(50L))
+      ),
+      new ThrowingFunction<Object, Object, Throwable>() {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Object apply(final Object ctx) throws Throwable {
+          final int call = this.calls.incrementAndGet();
+          if (call == 1) {
+            Thread.sleep(10_000L);
+          } else if (call == 2) {
+            throw new IllegalStateException("second");
+          }
+          Thread.sleep(20L);
+          return "third";
+        }
+      }
+    );
+    final HedgeExtension extension = new HedgeExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    @SuppressWarnings("unchecked")
+    final Object result = ((FunctionStep<Object, Object>) resultStep).getBody().apply("ctx");
+    assertThat(result)
+      .isEqualTo("third");
+    final List<HedgeStats.Attempt> attempts = resultStep.get(HedgeExtension.HEDGE_STATS).attemptList();
+    assertThat(attempts)
+      .extracting(HedgeStats.Attempt::outcome)
+      .containsExactly(HedgeStats.Outcome.CANCELLED, HedgeStats.Outcome.FAILED, HedgeStats.Outcome.USED);
+    assertThat(attempts.get(1).exception())
+      .hasMessage("second");
+    assertThat(attempts.get(2).durationNanos())
+      .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20L));
+    assertThat(attempts.get(0).durationNanos())
+      .isGreaterThan(attempts.get(2).durationNanos());
+    assertThat(attempts.get(0).startTimeMillis())
+      .isLessThanOrEqualTo(attempts.get(2).startTimeMillis());
+  }
+
+  private static final class RecordingListener implements StepListener {
+    private final List<String> events;
+
+    private RecordingListener(final List<String> events) {
+      this.events = events;
+    }
+
+    @Override
+    public void onStepStart(final StepObj<?> step,
+                            final NullableOptional<Object> context) {
+      this.events.add("start " + step.getName());
+    }
+
+    @Override
+    public void onStepSuccess(final StepObj<?> step,
+                              final NullableOptional<Object> context,
+                              final NullableOptional<Object> result) {
+      this.events.add("success " + step.getName());
+    }
+
+    @Override
+    public void onStepFailure(final StepObj<?> step,
+                              final NullableOptional<Object> context,
+                              final Throwable exception) {
+      this.events.add("failure " + step.getName());
+    }
+  }
+}
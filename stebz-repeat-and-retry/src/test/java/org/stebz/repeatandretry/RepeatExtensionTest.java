@@ -25,7 +25,9 @@ package org.stebz.repeatandretry;
 
 import dev.jlet.function.ThrowingRunnable;
 import dev.jlet.function.ThrowingSupplier;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.stebz.core.attribute.StepAttributes;
 import org.stebz.core.step.StepObj;
 import org.stebz.core.step.executable.RunnableStep;
@@ -33,8 +35,16 @@ import org.stebz.core.step.executable.SupplierStep;
 import org.stebz.util.container.NullableOptional;
 import org.stebz.util.property.PropertiesReader;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.Mockito.doReturn;
@@ -208,6 +218,220 @@ final class RepeatExtensionTest {
     return mock;
   }
 
+  @Test
+  void concurrentRepeatShouldRunBodyFromWorkerThreadsAndCollectStats() throws Throwable {
+    final AtomicInteger calls = new AtomicInteger();
+    final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    final SupplierStep<Object> step = SupplierStep.of(
+      StepAttributes.of(
+        RepeatExtension.REPEAT, repeatOptions().count(100).parallelism(4)
+      ),
+      () -> {
+        threads.add(Thread.currentThread());
+        Thread.sleep(1L);
+        return calls.incrementAndGet();
+      }
+    );
+    final RepeatExtension extension = new RepeatExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    final Object result = ((SupplierStep<?>) resultStep).getBody().get();
+    assertThat(result)
+      .isInstanceOf(Integer.class);
+    assertThat(calls.get())
+      .isEqualTo(100);
+    assertThat(threads)
+      .hasSizeGreaterThan(1)
+      .doesNotContain(Thread.currentThread());
+    final RepeatStats stats = resultStep.get(RepeatExtension.REPEAT_STATS);
+    assertThat(stats)
+      .isNotNull();
+    assertThat(stats.iterations())
+      .isEqualTo(100L);
+    assertThat(stats.failures())
+      .isZero();
+    assertThat(stats.throughputPerSecond())
+      .isPositive();
+    assertThat(stats.percentileNanos(99.0))
+      .isGreaterThanOrEqualTo(stats.percentileNanos(50.0))
+      .isPositive();
+  }
+
+  @Test
+  void concurrentRepeatWithDurationShouldRepeatUntilDeadline() throws Throwable {
+    final AtomicInteger calls = new AtomicInteger();
+    final RunnableStep step = RunnableStep.of(
+      StepAttributes.of(
+        RepeatExtension.REPEAT, repeatOptions().parallelism(2).duration(Duration.ofMillis(100L))
+      ),
+      () -> {
+        calls.incrementAndGet();
+        Thread.sleep(5L);
+      }
+    );
+    final RepeatExtension extension = new RepeatExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    ((RunnableStep) resultStep).getBody().run();
+    final RepeatStats stats = resultStep.get(RepeatExtension.REPEAT_STATS);
+    assertThat(stats.elapsedNanos())
+      .isGreaterThanOrEqualTo(Duration.ofMillis(100L).toNanos());
+    assertThat(stats.iterations())
+      .isEqualTo(calls.get())
+      .isGreaterThan(2L);
+  }
+
+  @Test
+  void concurrentRepeatShouldStopOnNotSkippedException() {
+    final RuntimeException exception = new RuntimeException();
+    final AtomicInteger calls = new AtomicInteger();
+    final RunnableStep step = RunnableStep.of(
+      StepAttributes.of(
+        RepeatExtension.REPEAT, repeatOptions().count(1000).parallelism(2)
+      ),
+      () -> {
+        if (calls.incrementAndGet() == 10) {
+          throw exception;
+        }
+      }
+    );
+    final RepeatExtension extension = new RepeatExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThatCode(() -> ((RunnableStep) resultStep).getBody().run())
+      .isSameAs(exception);
+    assertThat(calls.get())
+      .isLessThan(1000);
+    assertThat(resultStep.get(RepeatExtension.REPEAT_STATS).failures())
+      .isEqualTo(1L);
+  }
+
+  @Test
+  void benchmarkRepeatShouldRunWarmupAndMeasuredIterations() throws Throwable {
+    final AtomicInteger calls = new AtomicInteger();
+    final SupplierStep<Object> step = SupplierStep.of(
+      StepAttributes.of(
+        RepeatExtension.REPEAT, repeatOptions().count(20).warmup(5).p99Under(Duration.ofSeconds(10L))
+      ),
+      calls::incrementAndGet
+    );
+    final RepeatExtension extension = new RepeatExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThat(((SupplierStep<?>) resultStep).getBody().get())
+      .isEqualTo(25);
+    final BenchmarkStats stats = resultStep.get(RepeatExtension.BENCHMARK_STATS);
+    assertThat(stats.warmupIterations())
+      .isEqualTo(5);
+    assertThat(stats.iterations())
+      .isEqualTo(20);
+  }
+
+  @Test
+  void benchmarkRepeatShouldFailIfThresholdIsExceeded() {
+    final RunnableStep step = RunnableStep.of(
+      StepAttributes.of(
+        RepeatExtension.REPEAT, repeatOptions().count(3).p99Under(Duration.ofNanos(1L))
+      ),
+      () -> Thread.sleep(1L)
+    );
+    final RepeatExtension extension = new RepeatExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThatCode(() -> ((RunnableStep) resultStep).getBody().run())
+      .isInstanceOf(AssertionError.class)
+      .hasMessageContaining("p99 latency");
+    assertThat(resultStep.get(RepeatExtension.BENCHMARK_STATS).iterations())
+      .isEqualTo(3);
+  }
+
+  @Test
+  void benchmarkRepeatShouldThrowSkippedExceptionOfLastIteration() {
+    final AtomicInteger calls = new AtomicInteger();
+    final RuntimeException exception = new IllegalStateException();
+    final RunnableStep step = RunnableStep.of(
+      StepAttributes.of(
+        RepeatExtension.REPEAT, repeatOptions().count(5).warmup(2).skip(IllegalStateException.class)
+      ),
+      () -> {
+        calls.incrementAndGet();
+        throw exception;
+      }
+    );
+    final RepeatExtension extension = new RepeatExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThatCode(() -> ((RunnableStep) resultStep).getBody().run())
+      .isSameAs(exception);
+    assertThat(calls.get())
+      .isEqualTo(7);
+  }
+
+  @Test
+  void repeatShouldRejectSeveralModes() {
+    final RepeatExtension extension = new RepeatExtension(new PropertiesReader.Of(new Properties()));
+
+    assertThatCode(() -> extension.interceptStep(
+      RunnableStep.of(StepAttributes.of(
+        RepeatExtension.REPEAT, repeatOptions().parallelism(8).p99Under(Duration.ofMillis(20L))
+      ), () -> { }),
+      NullableOptional.empty()
+    ))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("concurrent: true, leak check: false, benchmark: true");
+    assertThatCode(() -> extension.interceptStep(
+      RunnableStep.of(StepAttributes.of(
+        RepeatExtension.REPEAT, repeatOptions().leakCheckBatch(5).warmup(5)
+      ), () -> { }),
+      NullableOptional.empty()
+    ))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("concurrent: false, leak check: true, benchmark: true");
+  }
+
+  @Test
+  void leakCheckRepeatShouldFailIfRetainedHeapGrows(@TempDir final Path dir) {
+    final List<byte[]> leak = new ArrayList<>();
+    final RunnableStep step = RunnableStep.of("leaky step", () -> leak.add(new byte[128 * 1024]))
+      .with(RepeatExtension.REPEAT, repeatOptions().count(40).leakCheckBatch(5).leakTolerance(512L * 1024L));
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.repeat.leakCheck.dir", dir.toString());
+    final RepeatExtension extension = new RepeatExtension(new PropertiesReader.Of(properties));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThatCode(() -> ((RunnableStep) resultStep).getBody().run())
+      .isInstanceOf(AssertionError.class)
+      .hasMessageContaining("Retained heap grows");
+    assertThat(leak)
+      .hasSize(40);
+    assertThat(dir.toFile().list())
+      .singleElement(as(InstanceOfAssertFactories.STRING))
+      .startsWith("leaky_step-")
+      .endsWith(".histogram.txt");
+  }
+
+  @Test
+  void leakCheckRepeatShouldPassIfRetainedHeapIsStable() {
+    final AtomicInteger calls = new AtomicInteger();
+    final RunnableStep step = RunnableStep.of(
+      StepAttributes.of(
+        RepeatExtension.REPEAT, repeatOptions().count(40).leakCheckBatch(5).leakTolerance(4L * 1024L * 1024L)
+      ),
+      () -> {
+        calls.incrementAndGet();
+        final byte[] garbage = new byte[128 * 1024];
+        garbage[0] = 1;
+      }
+    );
+    final RepeatExtension extension = new RepeatExtension(new PropertiesReader.Of(new Properties()));
+
+    final StepObj<?> resultStep = extension.interceptStep(step, NullableOptional.empty());
+    assertThatCode(() -> ((RunnableStep) resultStep).getBody().run())
+      .doesNotThrowAnyException();
+    assertThat(calls.get())
+      .isEqualTo(40);
+  }
+
   @SuppressWarnings("unchecked")
   private static ThrowingSupplier<Object, Error> mockSupplier(final Object result) {
     final ThrowingSupplier<Object, Error> mock = mock(ThrowingSupplier.class);
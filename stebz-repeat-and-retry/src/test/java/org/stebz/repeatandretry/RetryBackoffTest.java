@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RetryBackoff}.
+ */
+final class RetryBackoffTest {
+
+  @Test
+  void fixedBackoffShouldReturnBaseDelay() {
+    assertThat(RetryBackoff.FIXED.delayMillis(100L, Long.MAX_VALUE, 1, 0L)).isEqualTo(100L);
+    assertThat(RetryBackoff.FIXED.delayMillis(100L, Long.MAX_VALUE, 5, 100L)).isEqualTo(100L);
+    assertThat(RetryBackoff.FIXED.delayMillis(100L, 50L, 1, 0L)).isEqualTo(50L);
+  }
+
+  @Test
+  void exponentialBackoffShouldDoubleDelay() {
+    assertThat(RetryBackoff.EXPONENTIAL.delayMillis(100L, Long.MAX_VALUE, 1, 0L)).isEqualTo(100L);
+    assertThat(RetryBackoff.EXPONENTIAL.delayMillis(100L, Long.MAX_VALUE, 2, 100L)).isEqualTo(200L);
+    assertThat(RetryBackoff.EXPONENTIAL.delayMillis(100L, Long.MAX_VALUE, 4, 400L)).isEqualTo(800L);
+    assertThat(RetryBackoff.EXPONENTIAL.delayMillis(100L, 300L, 4, 400L)).isEqualTo(300L);
+    assertThat(RetryBackoff.EXPONENTIAL.delayMillis(100L, Long.MAX_VALUE, 100, 0L)).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  void fibonacciBackoffShouldGrowAsFibonacciSequence() {
+    assertThat(RetryBackoff.FIBONACCI.delayMillis(10L, Long.MAX_VALUE, 1, 0L)).isEqualTo(10L);
+    assertThat(RetryBackoff.FIBONACCI.delayMillis(10L, Long.MAX_VALUE, 2, 10L)).isEqualTo(10L);
+    assertThat(RetryBackoff.FIBONACCI.delayMillis(10L, Long.MAX_VALUE, 3, 10L)).isEqualTo(20L);
+    assertThat(RetryBackoff.FIBONACCI.delayMillis(10L, Long.MAX_VALUE, 6, 50L)).isEqualTo(80L);
+    assertThat(RetryBackoff.FIBONACCI.delayMillis(10L, 1000L, 20, 0L)).isEqualTo(1000L);
+    assertThat(RetryBackoff.FIBONACCI.delayMillis(10L, Long.MAX_VALUE, 1000, 0L)).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  void decorrelatedJitterBackoffShouldReturnDelayInRange() {
+    long previous = 0L;
+    for (int retry = 1; retry <= 20; ++retry) {
+      final long delay = RetryBackoff.DECORRELATED_JITTER.delayMillis(100L, 5000L, retry, previous);
+      assertThat(delay).isBetween(100L, Math.min(5000L, Math.max(100L, previous) * 3));
+      previous = delay;
+    }
+  }
+
+  @Test
+  void decorrelatedJitterBackoffShouldReturnZeroForZeroBaseDelay() {
+    assertThat(RetryBackoff.DECORRELATED_JITTER.delayMillis(0L, Long.MAX_VALUE, 3, 0L)).isZero();
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.repeatandretry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link RetryBudget}.
+ */
+final class RetryBudgetTest {
+
+  @Test
+  void ctorShouldThrowExceptionForIllegalArgs() {
+    assertThatCode(() -> new RetryBudget(0L, 1.0, false))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatCode(() -> new RetryBudget(1L, -1.0, false))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void budgetShouldRefuseRetriesWhenExhausted() {
+    final RetryBudget budget = new RetryBudget(2L, 0.0, false);
+
+    assertThat(budget.tryAcquire("a")).isTrue();
+    assertThat(budget.tryAcquire("b")).isTrue();
+    assertThat(budget.tryAcquire("a")).isFalse();
+  }
+
+  @Test
+  void budgetShouldBeRefilled() throws InterruptedException {
+    final RetryBudget budget = new RetryBudget(1L, 1000.0, false);
+
+    assertThat(budget.tryAcquire("a")).isTrue();
+    Thread.sleep(20);
+    assertThat(budget.tryAcquire("a")).isTrue();
+  }
+
+  @Test
+  void perStepNameBudgetShouldUseSeparateBuckets() {
+    final RetryBudget budget = new RetryBudget(1L, 0.0, true);
+
+    assertThat(budget.tryAcquire("a")).isTrue();
+    assertThat(budget.tryAcquire("a")).isFalse();
+    assertThat(budget.tryAcquire("b")).isTrue();
+  }
+}
@@ -27,13 +27,16 @@ import dev.jlet.function.ThrowingRunnable;
 import dev.jlet.function.ThrowingSupplier;
 import org.junit.jupiter.api.Test;
 import org.stebz.core.attribute.StepAttributes;
+import org.stebz.core.metrics.StebzMetrics;
 import org.stebz.core.step.StepObj;
 import org.stebz.core.step.executable.RunnableStep;
 import org.stebz.core.step.executable.SupplierStep;
 import org.stebz.util.container.NullableOptional;
 import org.stebz.util.property.PropertiesReader;
 
+import java.time.Duration;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -93,6 +96,76 @@ final class RetryExtensionTest {
     verify(originBody, times(2)).run();
   }
 
+  @Test
+  void retryShouldRecordRetryAttemptsMetric() throws Throwable {
+    final ThrowingRunnable<?> originBody = mockRunnableWithException(new Throwable());
+    final RunnableStep step = RunnableStep.of(
+      StepAttributes.of(
+        RetryExtension.RETRY, retryOptions().count(3)
+      ),
+      originBody
+    );
+    final RetryExtension extension = new RetryExtension(new PropertiesReader.Of(new Properties()));
+    final long attemptsBefore = StebzMetrics.global().retryAttempts();
+
+    final ThrowingRunnable<?> body = ((RunnableStep) extension.interceptStep(step, NullableOptional.empty())).getBody();
+    assertThatCode(() -> body.run())
+      .isInstanceOf(Throwable.class);
+    assertThat(StebzMetrics.global().retryAttempts() - attemptsBefore)
+      .isEqualTo(2L);
+  }
+
+  @Test
+  void retryShouldBeRefusedWhenBudgetIsExhausted() throws Throwable {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.retry.budget.enabled", "true");
+    properties.setProperty("stebz.retry.budget.capacity", "1");
+    properties.setProperty("stebz.retry.budget.refillPerSecond", "0");
+    final RetryExtension extension = new RetryExtension(new PropertiesReader.Of(properties));
+    final ThrowingRunnable<?> firstBody = mockRunnableWithException(new Throwable());
+    final ThrowingRunnable<?> secondBody = mockRunnableWithException(new Throwable());
+
+    final ThrowingRunnable<?> first = ((RunnableStep) extension.interceptStep(
+      RunnableStep.of(StepAttributes.of(RetryExtension.RETRY, retryOptions().count(3)), firstBody),
+      NullableOptional.empty()
+    )).getBody();
+    final ThrowingRunnable<?> second = ((RunnableStep) extension.interceptStep(
+      RunnableStep.of(StepAttributes.of(RetryExtension.RETRY, retryOptions().count(3)), secondBody),
+      NullableOptional.empty()
+    )).getBody();
+    assertThatCode(() -> first.run())
+      .isInstanceOf(Throwable.class);
+    assertThatCode(() -> second.run())
+      .isInstanceOf(Throwable.class);
+    verify(firstBody, times(2)).run();
+    verify(secondBody, times(1)).run();
+  }
+
+  @Test
+  void retryWithExponentialBackoffShouldIncreaseDelay() throws Throwable {
+    final ThrowingRunnable<?> originBody = mockRunnableWithException(new Throwable());
+    final RunnableStep step = RunnableStep.of(
+      StepAttributes.of(
+        RetryExtension.RETRY, retryOptions()
+          .count(4)
+          .delay(Duration.ofMillis(20))
+          .maxDelay(Duration.ofMillis(50))
+          .backoff(RetryBackoff.EXPONENTIAL)
+      ),
+      originBody
+    );
+    final RetryExtension extension = new RetryExtension(new PropertiesReader.Of(new Properties()));
+
+    final ThrowingRunnable<?> body = ((RunnableStep) extension.interceptStep(step, NullableOptional.empty())).getBody();
+    final long start = System.nanoTime();
+    assertThatCode(() -> body.run())
+      .isInstanceOf(Throwable.class);
+    /* 20 + 40 + 50 (limited) */
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+      .isGreaterThanOrEqualTo(110L);
+    verify(originBody, times(4)).run();
+  }
+
   @Test
   void retryRunnableStepWithFirstTimeException() throws Throwable {
     final Throwable originException = new Throwable();
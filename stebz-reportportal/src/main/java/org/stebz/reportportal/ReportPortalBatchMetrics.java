@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.reportportal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the ReportPortal steps batching mode.
+ *
+ * @see ReportPortalStepListener
+ */
+public final class ReportPortalBatchMetrics {
+  private static final ReportPortalBatchMetrics INSTANCE = new ReportPortalBatchMetrics();
+  private final LongAdder batched;
+  private final LongAdder reported;
+  private final LongAdder delayed;
+  private final LongAdder dropped;
+  private final LongAdder flushes;
+
+  /**
+   * Ctor.
+   */
+  ReportPortalBatchMetrics() {
+    this.batched = new LongAdder();
+    this.reported = new LongAdder();
+    this.delayed = new LongAdder();
+    this.dropped = new LongAdder();
+    this.flushes = new LongAdder();
+  }
+
+  /**
+   * Returns global {@code ReportPortalBatchMetrics}.
+   *
+   * @return global {@code ReportPortalBatchMetrics}
+   */
+  public static ReportPortalBatchMetrics get() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns number of leaf steps placed into the batch queue.
+   *
+   * @return number of leaf steps placed into the batch queue
+   */
+  public long batchedItems() {
+    return this.batched.sum();
+  }
+
+  /**
+   * Returns number of batched leaf steps sent to ReportPortal.
+   *
+   * @return number of batched leaf steps sent to ReportPortal
+   */
+  public long reportedItems() {
+    return this.reported.sum();
+  }
+
+  /**
+   * Returns number of leaf steps that waited for free space in the batch queue.
+   *
+   * @return number of leaf steps that waited for free space in the batch queue
+   */
+  public long delayedItems() {
+    return this.delayed.sum();
+  }
+
+  /**
+   * Returns number of leaf steps dropped because the batch queue stayed full.
+   *
+   * @return number of leaf steps dropped because the batch queue stayed full
+   */
+  public long droppedItems() {
+    return this.dropped.sum();
+  }
+
+  /**
+   * Returns number of batch queue flushes.
+   *
+   * @return number of batch queue flushes
+   */
+  public long flushes() {
+    return this.flushes.sum();
+  }
+
+  void onBatched() {
+    this.batched.increment();
+  }
+
+  void onReported() {
+    this.reported.increment();
+  }
+
+  void onDelayed() {
+    this.delayed.increment();
+  }
+
+  void onDropped() {
+    this.dropped.increment();
+  }
+
+  void onFlush() {
+    this.flushes.increment();
+  }
+
+  @Override
+  public String toString() {
+    return "ReportPortalBatchMetrics{batched=" + this.batchedItems()
+      + ", reported=" + this.reportedItems()
+      + ", delayed=" + this.delayedItems()
+      + ", dropped=" + this.droppedItems()
+      + ", flushes=" + this.flushes() + '}';
+  }
+}
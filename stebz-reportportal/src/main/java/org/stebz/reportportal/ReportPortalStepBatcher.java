@@ -0,0 +1,380 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.reportportal;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.step.StepRequestUtils;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.reactivex.Maybe;
+import org.stebz.core.step.StepObj;
+import org.stebz.util.container.NullableOptional;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * ReportPortal steps batcher. Start of each step is deferred until the step gets a child or finishes. Short passed
+ * leaf steps are reported as a single start/finish item via bounded queue, other steps are reported synchronously.
+ * The queue is drained by a background thread; a step thread submits only its own pending leaf steps, and only when
+ * the parent step or the root step finishes.
+ */
+final class ReportPortalStepBatcher {
+  private static final Logger LOGGER = Logger.getLogger(ReportPortalStepBatcher.class.getName());
+  private final RequestFactory requestFactory;
+  private final long leafThresholdNanos;
+  private final long offerTimeoutMillis;
+  private final long flushIntervalMillis;
+  private final BlockingQueue<LeafItem> queue;
+  private final ReportPortalBatchMetrics metrics;
+  private final ThreadLocal<FrameStack> frames;
+  private volatile ScheduledExecutorService flusher;
+
+  /**
+   * Ctor.
+   *
+   * @param requestFactory      the start request factory
+   * @param queueCapacity       the queue capacity
+   * @param flushIntervalMillis the flush interval in millis
+   * @param leafThresholdMillis the max duration of batched leaf step in millis
+   * @param offerTimeoutMillis  the max time to wait for free space in queue in millis, negative to wait without limit
+   * @param metrics             the metrics
+   */
+  ReportPortalStepBatcher(final RequestFactory requestFactory,
+                          final int queueCapacity,
+                          final long flushIntervalMillis,
+                          final long leafThresholdMillis,
+                          final long offerTimeoutMillis,
+                          final ReportPortalBatchMetrics metrics) {
+    if (requestFactory == null) { throw new NullPointerException("requestFactory arg is null"); }
+    if (metrics == null) { throw new NullPointerException("metrics arg is null"); }
+    if (queueCapacity < 1) { throw new IllegalArgumentException("queueCapacity arg is less than 1"); }
+    if (flushIntervalMillis < 1) { throw new IllegalArgumentException("flushIntervalMillis arg is less than 1"); }
+    this.requestFactory = requestFactory;
+    this.leafThresholdNanos = TimeUnit.MILLISECONDS.toNanos(leafThresholdMillis);
+    this.offerTimeoutMillis = offerTimeoutMillis;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.metrics = metrics;
+    this.frames = ThreadLocal.withInitial(FrameStack::new);
+  }
+
+  /**
+   * Handles step start.
+   *
+   * @param launch  the launch
+   * @param step    the step
+   * @param context the context
+   */
+  void start(final Launch launch,
+             final StepObj<?> step,
+             final NullableOptional<Object> context) {
+    final FrameStack stack = this.frames.get();
+    if (stack.size != 0) {
+      stack.materializeAll();
+    }
+    stack.push(launch, step, context);
+  }
+
+  /**
+   * Handles step finish.
+   *
+   * @param exception the step exception or {@code null}
+   */
+  void finish(final Throwable exception) {
+    final FrameStack stack = this.frames.get();
+    if (stack.size == 0) {
+      return;
+    }
+    final Frame frame = stack.pop();
+    final Launch launch = frame.launch;
+    if (frame.materialized) {
+      stack.submitPending();
+      finishNested(launch, exception);
+    } else if (exception == null && System.nanoTime() - frame.startNanos <= this.leafThresholdNanos) {
+      this.enqueue(stack, new LeafItem(stack, launch, launch.getStepReporter().getParent(),
+        frame.step, frame.context, frame.startTime, currentTime(launch)));
+      if (stack.size == 0) {
+        stack.submitPending();
+      }
+    } else {
+      stack.materialize(frame);
+      finishNested(launch, exception);
+    }
+    frame.clear();
+  }
+
+  /**
+   * Sends all queued leaf steps that are not yet sent by their step threads.
+   */
+  void flush() {
+    if (this.queue.isEmpty()) {
+      return;
+    }
+    final List<LeafItem> items = new ArrayList<>(this.queue.size());
+    this.queue.drainTo(items);
+    int reported = 0;
+    for (final LeafItem item : items) {
+      synchronized (item.owner) {
+        if (this.submit(item)) {
+          reported++;
+        }
+      }
+    }
+    if (reported != 0) {
+      this.metrics.onFlush();
+    }
+  }
+
+  private boolean submit(final LeafItem item) {
+    if (item.submitted) {
+      return false;
+    }
+    item.submitted = true;
+    final Maybe<String> itemId = item.launch.startTestItem(
+      item.parent, this.requestFactory.build(item.step, item.context, item.startTime)
+    );
+    item.launch.finishTestItem(
+      itemId, StepRequestUtils.buildFinishTestItemRequest(ItemStatus.PASSED, item.endTime)
+    );
+    this.metrics.onReported();
+    return true;
+  }
+
+  private void enqueue(final FrameStack stack,
+                       final LeafItem item) {
+    final ScheduledExecutorService service = this.flusher();
+    if (this.queue.offer(item)) {
+      this.metrics.onBatched();
+      stack.addPending(item);
+      return;
+    }
+    this.metrics.onDelayed();
+    boolean offered;
+    try {
+      if (this.offerTimeoutMillis < 0) {
+        service.execute(this::flushSafely);
+        this.queue.put(item);
+        offered = true;
+      } else {
+        offered = this.queue.offer(item, this.offerTimeoutMillis, TimeUnit.MILLISECONDS);
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      offered = false;
+    }
+    if (offered) {
+      this.metrics.onBatched();
+      stack.addPending(item);
+    } else {
+      this.metrics.onDropped();
+    }
+  }
+
+  private ScheduledExecutorService flusher() {
+    ScheduledExecutorService service = this.flusher;
+    if (service == null) {
+      synchronized (this) {
+        service = this.flusher;
+        if (service == null) {
+          service = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "stebz-reportportal-flusher");
+            thread.setDaemon(true);
+            return thread;
+          });
+          service.scheduleWithFixedDelay(this::flushSafely,
+            this.flushIntervalMillis, this.flushIntervalMillis, TimeUnit.MILLISECONDS);
+          this.flusher = service;
+        }
+      }
+    }
+    return service;
+  }
+
+  private void flushSafely() {
+    try {
+      this.flush();
+    } catch (final RuntimeException ex) {
+      LOGGER.log(Level.WARNING, "Failed to send batched ReportPortal steps", ex);
+    }
+  }
+
+  private static void finishNested(final Launch launch,
+                                   final Throwable exception) {
+    if (exception == null) {
+      launch.getStepReporter().finishNestedStep();
+    } else {
+      launch.getStepReporter().finishNestedStep(exception);
+    }
+  }
+
+  private static Comparable<? extends Comparable<?>> currentTime(final Launch launch) {
+    return launch.useMicroseconds() ? Instant.now() : new Date();
+  }
+
+  /**
+   * Start request factory.
+   */
+  @FunctionalInterface
+  interface RequestFactory {
+
+    /**
+     * Returns start request.
+     *
+     * @param step      the step
+     * @param context   the context
+     * @param startTime the start time
+     * @return start request
+     */
+    StartTestItemRQ build(StepObj<?> step,
+                          NullableOptional<Object> context,
+                          Comparable<? extends Comparable<?>> startTime);
+  }
+
+  private final class FrameStack {
+    private final ArrayDeque<LeafItem> pending = new ArrayDeque<>();
+    private Frame[] frames = new Frame[16];
+    private int size = 0;
+
+    private void addPending(final LeafItem item) {
+      LeafItem head;
+      while ((head = this.pending.peekFirst()) != null && head.submitted) {
+        this.pending.pollFirst();
+      }
+      this.pending.addLast(item);
+    }
+
+    private void submitPending() {
+      if (this.pending.isEmpty()) {
+        return;
+      }
+      int reported = 0;
+      synchronized (this) {
+        LeafItem item;
+        while ((item = this.pending.pollFirst()) != null) {
+          if (ReportPortalStepBatcher.this.submit(item)) {
+            reported++;
+          }
+        }
+      }
+      if (reported != 0) {
+        ReportPortalStepBatcher.this.metrics.onFlush();
+      }
+    }
+
+    private void push(final Launch launch,
+                      final StepObj<?> step,
+                      final NullableOptional<Object> context) {
+      if (this.size == this.frames.length) {
+        this.frames = Arrays.copyOf(this.frames, this.size << 1);
+      }
+      Frame frame = this.frames[this.size];
+      if (frame == null) {
+        frame = new Frame();
+        this.frames[this.size] = frame;
+      }
+      frame.launch = launch;
+      frame.step = step;
+      frame.context = context;
+      frame.startTime = currentTime(launch);
+      frame.startNanos = System.nanoTime();
+      frame.materialized = false;
+      this.size++;
+    }
+
+    private Frame pop() {
+      return this.frames[--this.size];
+    }
+
+    private void materializeAll() {
+      for (int idx = 0; idx < this.size; ++idx) {
+        final Frame frame = this.frames[idx];
+        if (!frame.materialized) {
+          this.materialize(frame);
+        }
+      }
+    }
+
+    private void materialize(final Frame frame) {
+      frame.launch.getStepReporter().startNestedStep(
+        ReportPortalStepBatcher.this.requestFactory.build(frame.step, frame.context, frame.startTime)
+      );
+      frame.materialized = true;
+    }
+  }
+
+  private static final class Frame {
+    private Launch launch;
+    private StepObj<?> step;
+    private NullableOptional<Object> context;
+    private Comparable<? extends Comparable<?>> startTime;
+    private long startNanos;
+    private boolean materialized;
+
+    private void clear() {
+      this.launch = null;
+      this.step = null;
+      this.context = null;
+      this.startTime = null;
+    }
+  }
+
+  private static final class LeafItem {
+    private final Object owner;
+    private final Launch launch;
+    private final Maybe<String> parent;
+    private final StepObj<?> step;
+    private final NullableOptional<Object> context;
+    private final Comparable<? extends Comparable<?>> startTime;
+    private final Comparable<? extends Comparable<?>> endTime;
+    private volatile boolean submitted;
+
+    private LeafItem(final Object owner,
+                     final Launch launch,
+                     final Maybe<String> parent,
+                     final StepObj<?> step,
+                     final NullableOptional<Object> context,
+                     final Comparable<? extends Comparable<?>> startTime,
+                     final Comparable<? extends Comparable<?>> endTime) {
+      this.owner = owner;
+      this.launch = launch;
+      this.parent = parent;
+      this.step = step;
+      this.context = context;
+      this.startTime = startTime;
+      this.endTime = endTime;
+    }
+  }
+}
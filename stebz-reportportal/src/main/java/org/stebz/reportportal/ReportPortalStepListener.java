@@ -39,7 +39,7 @@ import org.stebz.util.container.NullableOptional;
 import org.stebz.util.property.PropertiesReader;
 
 import java.time.Instant;
-import java.util.Calendar;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -64,6 +64,7 @@ public class ReportPortalStepListener implements StepListener {
   private final boolean commentDesc;
   private final String commentDescName;
   private final boolean isStebzAnnotationsUsed;
+  private final ReportPortalStepBatcher batcher;
 
   /**
    * Ctor.
@@ -95,6 +96,16 @@ public class ReportPortalStepListener implements StepListener {
     this.commentDesc = properties.getBoolean("stebz.reportportal.commentDesc", true);
     this.commentDescName = properties.getString("stebz.reportportal.commentDescName", "Comment");
     this.isStebzAnnotationsUsed = isStebzAnnotationsUsed();
+    this.batcher = this.enabled && properties.getBoolean("stebz.reportportal.batch", false)
+      ? new ReportPortalStepBatcher(
+        this::startTestItemRQ,
+        properties.getInteger("stebz.reportportal.batchQueueCapacity", 1024),
+        properties.getLong("stebz.reportportal.batchFlushInterval", 1000L),
+        properties.getLong("stebz.reportportal.batchLeafThreshold", 1000L),
+        properties.getLong("stebz.reportportal.batchOfferTimeout", -1L),
+        ReportPortalBatchMetrics.get()
+      )
+      : null;
   }
 
   @Override
@@ -117,20 +128,13 @@ public class ReportPortalStepListener implements StepListener {
       return;
     }
 
-    final Map<String, Object> params = step.getParams();
-    if (this.contextParam && context.isPresent()) {
-      params.putIfAbsent(this.contextParamName, context.get());
+    if (this.batcher != null) {
+      this.batcher.start(launch, step, context);
+    } else {
+      launch.getStepReporter().startNestedStep(
+        this.startTestItemRQ(step, context, launch.useMicroseconds() ? Instant.now() : new Date())
+      );
     }
-    final StartTestItemRQ startTestItemRQ = StepRequestUtils.buildStartStepRequest(
-      this.keywordPosition.concat(
-        this.keywordValue(keyword),
-        this.processStepName(step, step.getName(), step.getParams())
-      ),
-      this.processStepDescription(context, step.getExpectedResult(), step.getComment()),
-      launch.useMicroseconds() ? Instant.now() : Calendar.getInstance().getTime()
-    );
-
-    launch.getStepReporter().startNestedStep(startTestItemRQ);
   }
 
   @Override
@@ -148,7 +152,11 @@ public class ReportPortalStepListener implements StepListener {
       return;
     }
 
-    launch.getStepReporter().finishNestedStep();
+    if (this.batcher != null) {
+      this.batcher.finish(null);
+    } else {
+      launch.getStepReporter().finishNestedStep();
+    }
   }
 
   @Override
@@ -166,7 +174,11 @@ public class ReportPortalStepListener implements StepListener {
       return;
     }
 
-    launch.getStepReporter().finishNestedStep(exception);
+    if (this.batcher != null) {
+      this.batcher.finish(exception);
+    } else {
+      launch.getStepReporter().finishNestedStep(exception);
+    }
   }
 
   private static boolean isStebzAnnotationsUsed() {
@@ -178,6 +190,23 @@ public class ReportPortalStepListener implements StepListener {
     }
   }
 
+  private StartTestItemRQ startTestItemRQ(final StepObj<?> step,
+                                          final NullableOptional<Object> context,
+                                          final Comparable<? extends Comparable<?>> startTime) {
+    final Map<String, Object> params = step.getParams();
+    if (this.contextParam && context.isPresent()) {
+      params.putIfAbsent(this.contextParamName, context.get());
+    }
+    return StepRequestUtils.buildStartStepRequest(
+      this.keywordPosition.concat(
+        this.keywordValue(step.getKeyword()),
+        this.processStepName(step, step.getName(), step.getParams())
+      ),
+      this.processStepDescription(context, step.getExpectedResult(), step.getComment()),
+      startTime
+    );
+  }
+
   private String processStepName(final StepObj<?> step,
                                  final String name,
                                  final Map<String, Object> params) {
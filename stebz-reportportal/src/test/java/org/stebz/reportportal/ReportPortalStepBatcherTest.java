@@ -0,0 +1,341 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.reportportal;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.container.NullableOptional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ReportPortalStepBatcher}.
+ */
+final class ReportPortalStepBatcherTest {
+
+  @Test
+  void shortPassedLeafStepShouldBeReportedAsSingleItem() {
+    final Launch launch = launch();
+    final StepReporter reporter = launch.getStepReporter();
+    final ReportPortalBatchMetrics metrics = new ReportPortalBatchMetrics();
+    final ReportPortalStepBatcher batcher = batcher(16, 1000L, 0L, metrics);
+
+    batcher.start(launch, step(), NullableOptional.empty());
+    batcher.start(launch, step(), NullableOptional.empty());
+    batcher.finish(null);
+    verify(launch, never()).startTestItem(any(), any());
+    batcher.finish(null);
+
+    final InOrder inOrder = inOrder(reporter, launch);
+    inOrder.verify(reporter).startNestedStep(any(StartTestItemRQ.class));
+    inOrder.verify(launch).startTestItem(any(), any(StartTestItemRQ.class));
+    inOrder.verify(launch).finishTestItem(any(), any(FinishTestItemRQ.class));
+    inOrder.verify(reporter).finishNestedStep();
+    assertThat(metrics.batchedItems()).isEqualTo(1L);
+    assertThat(metrics.reportedItems()).isEqualTo(1L);
+    assertThat(metrics.flushes()).isEqualTo(1L);
+  }
+
+  @Test
+  void failedLeafStepShouldBeReportedSynchronously() {
+    final Launch launch = launch();
+    final StepReporter reporter = launch.getStepReporter();
+    final ReportPortalBatchMetrics metrics = new ReportPortalBatchMetrics();
+    final ReportPortalStepBatcher batcher = batcher(16, 1000L, 0L, metrics);
+    final Throwable exception = new Throwable();
+
+    batcher.start(launch, step(), NullableOptional.empty());
+    batcher.finish(exception);
+
+    verify(reporter).startNestedStep(any(StartTestItemRQ.class));
+    verify(reporter).finishNestedStep(exception);
+    verify(launch, never()).startTestItem(any(), any());
+    assertThat(metrics.batchedItems()).isZero();
+  }
+
+  @Test
+  void longLeafStepShouldBeReportedSynchronously() {
+    final Launch launch = launch();
+    final StepReporter reporter = launch.getStepReporter();
+    final ReportPortalBatchMetrics metrics = new ReportPortalBatchMetrics();
+    final ReportPortalStepBatcher batcher = new ReportPortalStepBatcher(
+      (step, context, startTime) -> new StartTestItemRQ(), 16, 1000L, -1L, 0L, metrics
+    );
+
+    batcher.start(launch, step(), NullableOptional.empty());
+    batcher.finish(null);
+
+    verify(reporter).startNestedStep(any(StartTestItemRQ.class));
+    verify(reporter).finishNestedStep();
+    verify(launch, never()).startTestItem(any(), any());
+  }
+
+  @Test
+  void leafStepsShouldWaitForFreeQueueSpaceByDefault() {
+    final Launch launch = launch();
+    final ReportPortalBatchMetrics metrics = new ReportPortalBatchMetrics();
+    final ReportPortalStepBatcher batcher = batcher(1, 60_000L, -1L, metrics);
+
+    batcher.start(launch, step(), NullableOptional.empty());
+    for (int idx = 0; idx < 3; ++idx) {
+      batcher.start(launch, step(), NullableOptional.empty());
+      batcher.finish(null);
+    }
+    batcher.finish(null);
+
+    verify(launch, times(3)).startTestItem(any(), any(StartTestItemRQ.class));
+    verify(launch, times(3)).finishTestItem(any(), any(FinishTestItemRQ.class));
+    assertThat(metrics.batchedItems()).isEqualTo(3L);
+    assertThat(metrics.reportedItems()).isEqualTo(3L);
+    assertThat(metrics.droppedItems()).isZero();
+  }
+
+  @Test
+  void leafStepsShouldBeDroppedIfQueueIsFull() {
+    final Launch launch = launch();
+    final ReportPortalBatchMetrics metrics = new ReportPortalBatchMetrics();
+    final ReportPortalStepBatcher batcher = batcher(1, 60_000L, 0L, metrics);
+
+    batcher.start(launch, step(), NullableOptional.empty());
+    for (int idx = 0; idx < 3; ++idx) {
+      batcher.start(launch, step(), NullableOptional.empty());
+      batcher.finish(null);
+    }
+    batcher.finish(null);
+
+    verify(launch, times(1)).startTestItem(any(), any(StartTestItemRQ.class));
+    assertThat(metrics.batchedItems()).isEqualTo(1L);
+    assertThat(metrics.delayedItems()).isEqualTo(2L);
+    assertThat(metrics.droppedItems()).isEqualTo(2L);
+  }
+
+  @Test
+  void batchedStepsShouldBeReportedToServer() throws Exception {
+    final StubServer server = new StubServer();
+    try {
+      final ReportPortal reportPortal = ReportPortal.builder().withParameters(server.parameters()).build();
+      final StartLaunchRQ launchRQ = new StartLaunchRQ();
+      launchRQ.setName("stebz");
+      launchRQ.setStartTime(new Date());
+      final Launch launch = reportPortal.newLaunch(launchRQ);
+      launch.start();
+      final Maybe<String> testId = launch.startTestItem(startRQ("test", new Date()));
+      launch.getStepReporter().setParent(testId);
+      final ReportPortalBatchMetrics metrics = new ReportPortalBatchMetrics();
+      final ReportPortalStepBatcher batcher = new ReportPortalStepBatcher(
+        (step, context, startTime) -> startRQ(step.getName(), startTime), 16, 60_000L, 60_000L, -1L, metrics
+      );
+
+      batcher.start(launch, RunnableStep.of("root", RunnableStep.emptyBody()), NullableOptional.empty());
+      for (int idx = 0; idx < 3; ++idx) {
+        batcher.start(launch, RunnableStep.of("leaf " + idx, RunnableStep.emptyBody()), NullableOptional.empty());
+        batcher.finish(null);
+      }
+      batcher.finish(null);
+      final FinishTestItemRQ testFinishRQ = new FinishTestItemRQ();
+      testFinishRQ.setStatus("PASSED");
+      testFinishRQ.setEndTime(new Date());
+      launch.finishTestItem(testId, testFinishRQ);
+      final FinishExecutionRQ launchFinishRQ = new FinishExecutionRQ();
+      launchFinishRQ.setEndTime(new Date());
+      launch.finish(launchFinishRQ);
+
+      final String testItem = server.itemId("test");
+      final String rootItem = server.itemId("root");
+      assertThat(server.parentOf(rootItem)).isEqualTo(testItem);
+      for (int idx = 0; idx < 3; ++idx) {
+        final String leafItem = server.itemId("leaf " + idx);
+        assertThat(server.parentOf(leafItem)).isEqualTo(rootItem);
+        assertThat(server.events()).containsSubsequence("start " + leafItem, "finish " + leafItem + " PASSED");
+        assertThat(server.events()).containsSubsequence("start " + leafItem, "finish " + rootItem + " PASSED");
+      }
+      assertThat(server.events()).containsSubsequence("finish " + rootItem + " PASSED", "finish " + testItem + " PASSED");
+      assertThat(metrics.reportedItems()).isEqualTo(3L);
+    } finally {
+      server.stop();
+    }
+  }
+
+  private static StartTestItemRQ startRQ(final String name,
+                                         final Comparable<? extends Comparable<?>> startTime) {
+    final StartTestItemRQ rq = new StartTestItemRQ();
+    rq.setName(name);
+    rq.setType("STEP");
+    rq.setStartTime(startTime);
+    return rq;
+  }
+
+  private static ReportPortalStepBatcher batcher(final int queueCapacity,
+                                                 final long flushIntervalMillis,
+                                                 final long offerTimeoutMillis,
+                                                 final ReportPortalBatchMetrics metrics) {
+    return new ReportPortalStepBatcher(
+      (step, context, startTime) -> new StartTestItemRQ(),
+      queueCapacity, flushIntervalMillis, 60_000L, offerTimeoutMillis, metrics
+    );
+  }
+
+  private static Launch launch() {
+    final Launch launch = mock(Launch.class);
+    final StepReporter reporter = mock(StepReporter.class);
+    when(launch.getStepReporter()).thenReturn(reporter);
+    when(reporter.getParent()).thenReturn(Maybe.just("parent"));
+    when(launch.startTestItem(any(), any(StartTestItemRQ.class))).thenReturn(Maybe.just("item"));
+    return launch;
+  }
+
+  private static RunnableStep step() {
+    return RunnableStep.of(RunnableStep.emptyBody());
+  }
+
+  private static final class StubServer {
+    private static final Pattern ITEM_PATH = Pattern.compile(".*/item(?:/([^/]+))?$");
+    private static final Pattern NAME = Pattern.compile("\"name\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern STATUS = Pattern.compile("\"status\"\\s*:\\s*\"([^\"]*)\"");
+    private final HttpServer server;
+    private final AtomicInteger ids;
+    private final List<String> events;
+    private final Map<String, String> itemIds;
+    private final Map<String, String> parents;
+
+    private StubServer() throws IOException {
+      this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+      this.ids = new AtomicInteger();
+      this.events = Collections.synchronizedList(new ArrayList<>());
+      this.itemIds = new ConcurrentHashMap<>();
+      this.parents = new ConcurrentHashMap<>();
+      this.server.createContext("/", this::handle);
+      this.server.start();
+    }
+
+    private ListenerParameters parameters() {
+      final ListenerParameters parameters = new ListenerParameters();
+      parameters.setBaseUrl("http://localhost:" + this.server.getAddress().getPort());
+      parameters.setProjectName("stebz");
+      parameters.setApiKey("key");
+      parameters.setLaunchName("stebz");
+      parameters.setEnable(true);
+      parameters.setClientJoin(false);
+      return parameters;
+    }
+
+    private String itemId(final String name) {
+      assertThat(this.itemIds).containsKey(name);
+      return this.itemIds.get(name);
+    }
+
+    private String parentOf(final String itemId) {
+      return this.parents.get(itemId);
+    }
+
+    private List<String> events() {
+      synchronized (this.events) {
+        return new ArrayList<>(this.events);
+      }
+    }
+
+    private void stop() {
+      this.server.stop(0);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+      final String method = exchange.getRequestMethod();
+      final String path = exchange.getRequestURI().getPath();
+      final String body = read(exchange.getRequestBody());
+      final Matcher itemPath = ITEM_PATH.matcher(path);
+      final String response;
+      if ("POST".equals(method) && path.endsWith("/launch")) {
+        response = "{\"id\":\"launch\",\"number\":1}";
+      } else if ("POST".equals(method) && itemPath.matches()) {
+        final String itemId = "item-" + this.ids.incrementAndGet();
+        final Matcher name = NAME.matcher(body);
+        if (name.find()) {
+          this.itemIds.put(name.group(1), itemId);
+        }
+        if (itemPath.group(1) != null) {
+          this.parents.put(itemId, itemPath.group(1));
+        }
+        this.events.add("start " + itemId);
+        response = "{\"id\":\"" + itemId + "\"}";
+      } else if ("PUT".equals(method) && itemPath.matches()) {
+        final Matcher status = STATUS.matcher(body);
+        this.events.add("finish " + itemPath.group(1) + (status.find() ? " " + status.group(1) : ""));
+        response = "{\"message\":\"ok\"}";
+      } else {
+        response = "{\"message\":\"ok\"}";
+      }
+      final byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, bytes.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(bytes);
+      }
+    }
+
+    private static String read(final InputStream in) throws IOException {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[4096];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+      return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+  }
+}
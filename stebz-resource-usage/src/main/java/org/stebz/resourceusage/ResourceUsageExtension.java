@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.resourceusage;
+
+import org.stebz.core.attribute.SimpleStepAttribute;
+import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.extension.AfterStepStart;
+import org.stebz.core.extension.BeforeStepFailure;
+import org.stebz.core.extension.BeforeStepSuccess;
+import org.stebz.core.extension.InterceptStep;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.step.StepObj;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Resource usage {@link StebzExtension}. Measures CPU time and allocated bytes of the step thread between step start
+ * and step finish, and exposes them via {@link #RESOURCE_USAGE} attribute to step success and failure listeners.
+ */
+public class ResourceUsageExtension implements InterceptStep, AfterStepStart, BeforeStepSuccess, BeforeStepFailure {
+  /**
+   * Step resource usage attribute.
+   */
+  public static final SimpleStepAttribute<StepResourceUsage> RESOURCE_USAGE =
+    SimpleStepAttribute.nullable("extension:resource_usage");
+  private static final Logger LOGGER = Logger.getLogger(ResourceUsageExtension.class.getName());
+  private final boolean enabled;
+  private final int order;
+  private final boolean cpuTime;
+  private final boolean allocatedBytes;
+  private final ResourceUsageReport report;
+
+  /**
+   * Ctor.
+   */
+  public ResourceUsageExtension() {
+    this(StartupPropertiesReader.get());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   */
+  public ResourceUsageExtension(final PropertiesReader properties) {
+    this(properties, ResourceUsageReport.global());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   * @param report     the report
+   */
+  public ResourceUsageExtension(final PropertiesReader properties,
+                                final ResourceUsageReport report) {
+    if (report == null) { throw new NullPointerException("report arg is null"); }
+    this.cpuTime = properties.getBoolean("stebz.resourceUsage.cpuTime", true)
+      && ThreadResources.cpuTimeSupported();
+    this.allocatedBytes = properties.getBoolean("stebz.resourceUsage.allocatedBytes", true)
+      && ThreadResources.allocatedBytesSupported();
+    this.enabled = properties.getBoolean("stebz.resourceUsage.enabled", false)
+      && !properties.getBoolean("stebz.emptySteps.dryRun", false)
+      && (this.cpuTime || this.allocatedBytes);
+    this.order = properties.getInteger("stebz.resourceUsage.order", MIDDLE_ORDER);
+    this.report = report;
+    final String reportFile = properties.getString("stebz.resourceUsage.reportFile", "");
+    if (this.enabled && !reportFile.isEmpty()) {
+      final Path file = Paths.get(reportFile);
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> writeReport(report, file),
+        "stebz-resource-usage-report"));
+    }
+  }
+
+  @Override
+  public int order() {
+    return this.order;
+  }
+
+  @Override
+  public StepObj<?> interceptStep(final StepObj<?> step,
+                                  final NullableOptional<Object> context) {
+    return this.enabled
+      ? step.with(RESOURCE_USAGE, new StepResourceUsage())
+      : step;
+  }
+
+  @Override
+  public void afterStepStart(final StepObj<?> step,
+                             final NullableOptional<Object> context) {
+    if (this.enabled) {
+      final StepResourceUsage usage = step.get(RESOURCE_USAGE);
+      if (usage != null) {
+        usage.start(this.cpuTime, this.allocatedBytes);
+      }
+    }
+  }
+
+  @Override
+  public void beforeStepSuccess(final StepObj<?> step,
+                                final NullableOptional<Object> context,
+                                final NullableOptional<Object> result) {
+    this.finish(step);
+  }
+
+  @Override
+  public void beforeStepFailure(final StepObj<?> step,
+                                final NullableOptional<Object> context,
+                                final Throwable exception) {
+    this.finish(step);
+  }
+
+  private void finish(final StepObj<?> step) {
+    if (this.enabled) {
+      final StepResourceUsage usage = step.get(RESOURCE_USAGE);
+      if (usage != null && usage.finish()) {
+        this.report.add(step.getKeywordAndName(), usage);
+      }
+    }
+  }
+
+  private static void writeReport(final ResourceUsageReport report,
+                                  final Path file) {
+    try {
+      final Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, "UTF-8")) {
+        report.print(out);
+      }
+    } catch (final IOException ex) {
+      LOGGER.log(Level.WARNING, "Failed to write resource usage report to " + file, ex);
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.resourceusage;
+
+import java.io.PrintStream;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resource usage aggregated per step name.
+ */
+public final class ResourceUsageReport {
+  private static final ResourceUsageReport GLOBAL = new ResourceUsageReport();
+  private final Map<String, Entry> entries;
+
+  /**
+   * Ctor.
+   */
+  public ResourceUsageReport() {
+    this.entries = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns global {@code ResourceUsageReport} filled by {@link ResourceUsageExtension}.
+   *
+   * @return global {@code ResourceUsageReport}
+   */
+  public static ResourceUsageReport global() {
+    return GLOBAL;
+  }
+
+  /**
+   * Adds step resource usage.
+   *
+   * @param stepName the step name
+   * @param usage    the step resource usage
+   */
+  public void add(final String stepName,
+                  final StepResourceUsage usage) {
+    if (stepName == null) { throw new NullPointerException("stepName arg is null"); }
+    if (usage == null) { throw new NullPointerException("usage arg is null"); }
+    this.entries.computeIfAbsent(stepName, key -> new Entry()).add(usage);
+  }
+
+  /**
+   * Returns entries sorted by total CPU time in descending order.
+   *
+   * @return entries
+   */
+  public Map<String, Entry> entries() {
+    final Map<String, Entry> result = new LinkedHashMap<>();
+    this.entries.entrySet().stream()
+      .sorted(Comparator.comparingLong((Map.Entry<String, Entry> entry) -> entry.getValue().cpuTimeNanos())
+        .thenComparingLong(entry -> entry.getValue().allocatedBytes())
+        .reversed())
+      .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+    return result;
+  }
+
+  /**
+   * Removes all entries.
+   */
+  public void reset() {
+    this.entries.clear();
+  }
+
+  /**
+   * Prints report.
+   *
+   * @param out the print stream
+   */
+  public void print(final PrintStream out) {
+    if (out == null) { throw new NullPointerException("out arg is null"); }
+    out.println(String.format(Locale.ROOT, "%10s %16s %16s %18s %18s  %s",
+      "count", "cpu total ms", "cpu avg ms", "alloc total bytes", "alloc avg bytes", "step"));
+    this.entries().forEach((name, entry) -> {
+      final long count = entry.count();
+      out.println(String.format(Locale.ROOT, "%10d %16.3f %16.3f %18d %18d  %s",
+        count,
+        entry.cpuTimeNanos() / 1_000_000.0,
+        count == 0 ? 0.0 : entry.cpuTimeNanos() / 1_000_000.0 / count,
+        entry.allocatedBytes(),
+        count == 0 ? 0L : entry.allocatedBytes() / count,
+        name));
+    });
+  }
+
+  /**
+   * Resource usage of steps with the same name.
+   */
+  public static final class Entry {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder cpuTime = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    private void add(final StepResourceUsage usage) {
+      this.count.increment();
+      if (usage.cpuTimeNanos() != -1L) {
+        this.cpuTime.add(usage.cpuTimeNanos());
+      }
+      if (usage.allocatedBytes() != -1L) {
+        this.allocatedBytes.add(usage.allocatedBytes());
+      }
+    }
+
+    /**
+     * Returns number of steps.
+     *
+     * @return number of steps
+     */
+    public long count() {
+      return this.count.sum();
+    }
+
+    /**
+     * Returns total CPU time in nanos.
+     *
+     * @return total CPU time in nanos
+     */
+    public long cpuTimeNanos() {
+      return this.cpuTime.sum();
+    }
+
+    /**
+     * Returns total allocated bytes.
+     *
+     * @return total allocated bytes
+     */
+    public long allocatedBytes() {
+      return this.allocatedBytes.sum();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.resourceusage;
+
+/**
+ * Step resource usage. Values are available in step success and failure listeners and extensions.
+ *
+ * @see ResourceUsageExtension#RESOURCE_USAGE
+ */
+public final class StepResourceUsage {
+  private long startCpuTime;
+  private long startAllocatedBytes;
+  private long cpuTime;
+  private long allocatedBytes;
+
+  StepResourceUsage() {
+    this.startCpuTime = -1L;
+    this.startAllocatedBytes = -1L;
+    this.cpuTime = -1L;
+    this.allocatedBytes = -1L;
+  }
+
+  /**
+   * Returns step CPU time in nanos or {@code -1} if it is not measured.
+   *
+   * @return step CPU time in nanos or {@code -1}
+   */
+  public long cpuTimeNanos() {
+    return this.cpuTime;
+  }
+
+  /**
+   * Returns bytes allocated by the step thread or {@code -1} if they are not measured.
+   *
+   * @return bytes allocated by the step thread or {@code -1}
+   */
+  public long allocatedBytes() {
+    return this.allocatedBytes;
+  }
+
+  void start(final boolean measureCpuTime,
+             final boolean measureAllocatedBytes) {
+    this.startAllocatedBytes = measureAllocatedBytes ? ThreadResources.allocatedBytes() : -1L;
+    this.startCpuTime = measureCpuTime ? ThreadResources.cpuTime() : -1L;
+  }
+
+  boolean finish() {
+    if (this.startCpuTime == -1L && this.startAllocatedBytes == -1L) {
+      return false;
+    }
+    if (this.startCpuTime != -1L) {
+      this.cpuTime = ThreadResources.cpuTime() - this.startCpuTime;
+      this.startCpuTime = -1L;
+    }
+    if (this.startAllocatedBytes != -1L) {
+      this.allocatedBytes = ThreadResources.allocatedBytes() - this.startAllocatedBytes;
+      this.startAllocatedBytes = -1L;
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "StepResourceUsage{cpuTimeNanos=" + this.cpuTime + ", allocatedBytes=" + this.allocatedBytes + '}';
+  }
+}
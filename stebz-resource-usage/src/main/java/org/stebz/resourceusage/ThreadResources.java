@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.resourceusage;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Current thread resources sampler. Returns {@code -1} for values not supported by the JVM.
+ */
+final class ThreadResources {
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  private static final boolean CPU_TIME_SUPPORTED = isCpuTimeSupported();
+  private static final boolean ALLOCATED_BYTES_SUPPORTED = isAllocatedBytesSupported();
+
+  private ThreadResources() {
+  }
+
+  /**
+   * Returns {@code true} if current thread CPU time is supported.
+   *
+   * @return {@code true} if current thread CPU time is supported
+   */
+  static boolean cpuTimeSupported() {
+    return CPU_TIME_SUPPORTED;
+  }
+
+  /**
+   * Returns {@code true} if thread allocated bytes are supported.
+   *
+   * @return {@code true} if thread allocated bytes are supported
+   */
+  static boolean allocatedBytesSupported() {
+    return ALLOCATED_BYTES_SUPPORTED;
+  }
+
+  /**
+   * Returns current thread CPU time in nanos or {@code -1}.
+   *
+   * @return current thread CPU time in nanos or {@code -1}
+   */
+  static long cpuTime() {
+    return CPU_TIME_SUPPORTED
+      ? THREAD_MX_BEAN.getCurrentThreadCpuTime()
+      : -1L;
+  }
+
+  /**
+   * Returns current thread allocated bytes or {@code -1}.
+   *
+   * @return current thread allocated bytes or {@code -1}
+   */
+  static long allocatedBytes() {
+    return ALLOCATED_BYTES_SUPPORTED
+      ? Allocation.allocatedBytes(THREAD_MX_BEAN)
+      : -1L;
+  }
+
+  private static boolean isCpuTimeSupported() {
+    try {
+      if (!THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+        return false;
+      }
+      if (!THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+        THREAD_MX_BEAN.setThreadCpuTimeEnabled(true);
+      }
+      return THREAD_MX_BEAN.getCurrentThreadCpuTime() != -1L;
+    } catch (final UnsupportedOperationException | SecurityException ex) {
+      return false;
+    }
+  }
+
+  private static boolean isAllocatedBytesSupported() {
+    try {
+      Class.forName("com.sun.management.ThreadMXBean");
+      return Allocation.isSupported(THREAD_MX_BEAN);
+    } catch (final ClassNotFoundException | LinkageError | UnsupportedOperationException | SecurityException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Allocation sampler, loaded only if {@code com.sun.management.ThreadMXBean} is present.
+   */
+  private static final class Allocation {
+
+    private static boolean isSupported(final ThreadMXBean bean) {
+      if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+        return false;
+      }
+      final com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+      if (!sunBean.isThreadAllocatedMemorySupported()) {
+        return false;
+      }
+      if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+        sunBean.setThreadAllocatedMemoryEnabled(true);
+      }
+      return allocatedBytes(bean) != -1L;
+    }
+
+    private static long allocatedBytes(final ThreadMXBean bean) {
+      return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+  }
+}
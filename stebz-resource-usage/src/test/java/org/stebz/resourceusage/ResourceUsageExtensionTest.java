@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.resourceusage;
+
+import org.junit.jupiter.api.Test;
+import org.stebz.core.executor.StepExecutor;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.step.StepObj;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ResourceUsageExtension}.
+ */
+final class ResourceUsageExtensionTest {
+
+  @Test
+  void extensionShouldExposeResourceUsageToListeners() {
+    final ResourceUsageReport report = new ResourceUsageReport();
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.resourceUsage.enabled", "true");
+    final ResourceUsageExtension extension = new ResourceUsageExtension(new PropertiesReader.Of(properties), report);
+    final List<StepResourceUsage> usages = new ArrayList<>();
+    final StepExecutor executor = new StepExecutor.Of(
+      new StepListener[]{new CapturingListener(usages)},
+      new StebzExtension[]{extension}
+    );
+    final int arraySize = 1024 * 1024;
+
+    executor.execute(RunnableStep.of(() -> {
+      final byte[] array = new byte[arraySize];
+      assertThat(array).hasSize(arraySize);
+    }).withName("step"));
+    executor.execute(RunnableStep.of(RunnableStep.emptyBody()).withName("step"));
+
+    assertThat(usages).hasSize(2);
+    final StepResourceUsage usage = usages.get(0);
+    if (ThreadResources.allocatedBytesSupported()) {
+      assertThat(usage.allocatedBytes()).isGreaterThanOrEqualTo(arraySize);
+    } else {
+      assertThat(usage.allocatedBytes()).isEqualTo(-1L);
+    }
+    if (ThreadResources.cpuTimeSupported()) {
+      assertThat(usage.cpuTimeNanos()).isGreaterThanOrEqualTo(0L);
+    } else {
+      assertThat(usage.cpuTimeNanos()).isEqualTo(-1L);
+    }
+    assertThat(report.entries()).containsOnlyKeys("step");
+    assertThat(report.entries().get("step").count()).isEqualTo(2L);
+  }
+
+  @Test
+  void extensionShouldBeDisabledByDefault() {
+    final ResourceUsageReport report = new ResourceUsageReport();
+    final ResourceUsageExtension extension =
+      new ResourceUsageExtension(new PropertiesReader.Of(new Properties()), report);
+    final RunnableStep step = RunnableStep.of(RunnableStep.emptyBody());
+
+    assertThat(extension.interceptStep(step, NullableOptional.empty())).isSameAs(step);
+    assertThat(report.entries()).isEmpty();
+  }
+
+  private static final class CapturingListener implements StepListener {
+    private final List<StepResourceUsage> usages;
+
+    private CapturingListener(final List<StepResourceUsage> usages) {
+      this.usages = usages;
+    }
+
+    @Override
+    public void onStepStart(final StepObj<?> step,
+                            final NullableOptional<Object> context) {
+    }
+
+    @Override
+    public void onStepSuccess(final StepObj<?> step,
+                              final NullableOptional<Object> context,
+                              final NullableOptional<Object> result) {
+      this.usages.add(step.get(ResourceUsageExtension.RESOURCE_USAGE));
+    }
+
+    @Override
+    public void onStepFailure(final StepObj<?> step,
+                              final NullableOptional<Object> context,
+                              final Throwable exception) {
+      this.usages.add(step.get(ResourceUsageExtension.RESOURCE_USAGE));
+    }
+  }
+}
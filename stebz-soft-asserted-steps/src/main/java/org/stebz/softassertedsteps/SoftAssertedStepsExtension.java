@@ -31,14 +31,13 @@ import org.opentest4j.MultipleFailuresError;
 import org.stebz.core.executor.StartupPropertiesReader;
 import org.stebz.core.extension.InterceptStepException;
 import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.metrics.StebzMetrics;
 import org.stebz.core.step.StepObj;
 import org.stebz.util.container.NullableOptional;
 import org.stebz.util.property.PropertiesReader;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 import static org.stebz.util.Throw.unchecked;
 
@@ -46,11 +45,12 @@ import static org.stebz.util.Throw.unchecked;
  * Soft assertions {@link StebzExtension}.
  */
 public class SoftAssertedStepsExtension implements InterceptStepException {
-  private static final ThreadLocal<Integer> THREAD_LOCAL_DEPTH = new ThreadLocal<>();
-  private static final ThreadLocal<Map<Integer, List<Throwable>>> THREAD_LOCAL_EXCEPTIONS = new ThreadLocal<>();
-  private static final ThreadLocal<MultipleFailuresError> LAST_ASSERTION_ERROR = new ThreadLocal<>();
+  private static final ThreadLocal<Scopes> THREAD_LOCAL_SCOPES = new ThreadLocal<>();
   private final boolean enabled;
   private final int order;
+  private final int maxFailures;
+  private final boolean deduplicate;
+  private final int stackTraceDepth;
 
   /**
    * Ctor.
@@ -67,6 +67,9 @@ public class SoftAssertedStepsExtension implements InterceptStepException {
   public SoftAssertedStepsExtension(final PropertiesReader properties) {
     this.enabled = properties.getBoolean("stebz.softAssertedSteps.enabled", true);
     this.order = properties.getInteger("stebz.softAssertedSteps.order", LATE_ORDER);
+    this.maxFailures = properties.getInteger("stebz.softAssertedSteps.maxFailures", 1000);
+    this.deduplicate = properties.getBoolean("stebz.softAssertedSteps.deduplicate", false);
+    this.stackTraceDepth = properties.getInteger("stebz.softAssertedSteps.stackTraceDepth", -1);
   }
 
   /**
@@ -161,50 +164,81 @@ public class SoftAssertedStepsExtension implements InterceptStepException {
     return null; /* unreachable */
   }
 
+  /**
+   * Returns failures collector of the current soft assertions block. The collector can be shared with worker threads
+   * to collect their step failures to the block failures.
+   *
+   * @return failures collector of the current soft assertions block
+   * @throws IllegalStateException if soft assertions block is not started in the current thread
+   */
+  public static SoftAssertionsScope softAssertionsScope() {
+    final Scopes scopes = THREAD_LOCAL_SCOPES.get();
+    if (scopes == null) {
+      throw new IllegalStateException("Soft assertions block is not started in the current thread");
+    }
+    return scopes.current();
+  }
+
+  static <R> R runInScope(final SoftAssertionsScope scope,
+                          final ThrowingSupplier<? extends R, ?> steps) {
+    Scopes scopes = THREAD_LOCAL_SCOPES.get();
+    if (scopes == null) {
+      scopes = new Scopes();
+      THREAD_LOCAL_SCOPES.set(scopes);
+    }
+    scopes.push(scope);
+    try {
+      return steps.get();
+    } catch (final Throwable ex) {
+      /* error of the nested soft assertions block */
+      if (ex != scopes.lastAssertionError || !scope.addNested((MultipleFailuresError) ex)) {
+        throw unchecked(ex);
+      }
+      return null;
+    } finally {
+      scopes.lastAssertionError = null;
+      scopes.pop();
+      if (scopes.depth == 0) {
+        THREAD_LOCAL_SCOPES.remove();
+      }
+    }
+  }
+
   private static void startSoftAssertions() {
-    final Integer currentDepth = THREAD_LOCAL_DEPTH.get();
-    if (currentDepth == null) {
-      THREAD_LOCAL_DEPTH.set(0);
-    } else {
-      THREAD_LOCAL_DEPTH.set(currentDepth + 1);
+    Scopes scopes = THREAD_LOCAL_SCOPES.get();
+    if (scopes == null) {
+      scopes = new Scopes();
+      THREAD_LOCAL_SCOPES.set(scopes);
     }
+    scopes.push(new SoftAssertionsScope());
   }
 
   private static void finishSoftAssertions(final Throwable blockException) {
-    final Integer currentDepth = THREAD_LOCAL_DEPTH.get();
-    if (currentDepth == 0) {
-      THREAD_LOCAL_DEPTH.remove();
-    } else {
-      THREAD_LOCAL_DEPTH.set(currentDepth - 1);
+    final Scopes scopes = THREAD_LOCAL_SCOPES.get();
+    final SoftAssertionsScope scope = scopes.pop();
+    final MultipleFailuresError lastAssertionError = scopes.lastAssertionError;
+    scopes.lastAssertionError = null;
+    if (scopes.depth == 0) {
+      THREAD_LOCAL_SCOPES.remove();
     }
 
-    final Map<Integer, List<Throwable>> exceptions = THREAD_LOCAL_EXCEPTIONS.get();
-    if (exceptions != null) {
-      final List<Throwable> currentExceptions = exceptions.remove(currentDepth);
-      if (exceptions.isEmpty()) {
-        THREAD_LOCAL_EXCEPTIONS.remove();
-      }
-      if (currentExceptions != null && !currentExceptions.isEmpty()) {
-        if (blockException != null) {
-          if (blockException != LAST_ASSERTION_ERROR.get()) {
-            LAST_ASSERTION_ERROR.remove();
-            currentExceptions.forEach(blockException::addSuppressed);
-            throw unchecked(blockException);
-          }
-          currentExceptions.add(blockException);
-        }
-        final MultipleFailuresError error = new MultipleFailuresError(null, currentExceptions);
-        currentExceptions.forEach(error::addSuppressed);
-        if (currentDepth == 0) {
-          LAST_ASSERTION_ERROR.remove();
-        } else {
-          LAST_ASSERTION_ERROR.set(error);
+    final List<Throwable> failures = scope.close();
+    if (!failures.isEmpty()) {
+      if (blockException != null) {
+        if (blockException != lastAssertionError) {
+          failures.forEach(blockException::addSuppressed);
+          throw unchecked(blockException);
         }
-        throw error;
+        failures.add(blockException);
       }
+      final MultipleFailuresError error = new MultipleFailuresError(scope.heading(), failures);
+      failures.forEach(error::addSuppressed);
+      if (scopes.depth != 0) {
+        scopes.lastAssertionError = error;
+      }
+      throw error;
     }
     if (blockException != null) {
-      LAST_ASSERTION_ERROR.remove();
       throw unchecked(blockException);
     }
   }
@@ -220,26 +254,40 @@ public class SoftAssertedStepsExtension implements InterceptStepException {
                                      final Throwable exception,
                                      final boolean currentState) {
     if (this.enabled) {
-      final Integer currentDepth = THREAD_LOCAL_DEPTH.get();
-      if (currentDepth != null) {
-        Map<Integer, List<Throwable>> allExceptions = THREAD_LOCAL_EXCEPTIONS.get();
-        List<Throwable> currentExceptions;
-        if (allExceptions == null) {
-          currentExceptions = new ArrayList<>();
-          allExceptions = new HashMap<>();
-          allExceptions.put(currentDepth, currentExceptions);
-          THREAD_LOCAL_EXCEPTIONS.set(allExceptions);
-        } else {
-          currentExceptions = allExceptions.get(currentDepth);
-          if (currentExceptions == null) {
-            currentExceptions = new ArrayList<>();
-            allExceptions.put(currentDepth, currentExceptions);
-          }
-        }
-        currentExceptions.add(exception);
+      final Scopes scopes = THREAD_LOCAL_SCOPES.get();
+      if (scopes != null
+        && scopes.current().add(exception, this.maxFailures, this.deduplicate, this.stackTraceDepth)) {
+        StebzMetrics.global().softAssertFailure();
         return false;
       }
     }
     return currentState;
   }
+
+  /**
+   * Stack of soft assertions blocks of the thread.
+   */
+  private static final class Scopes {
+    private SoftAssertionsScope[] stack = new SoftAssertionsScope[4];
+    private int depth = 0;
+    private MultipleFailuresError lastAssertionError = null;
+
+    private void push(final SoftAssertionsScope scope) {
+      if (this.depth == this.stack.length) {
+        this.stack = Arrays.copyOf(this.stack, this.depth << 1);
+      }
+      this.stack[this.depth++] = scope;
+    }
+
+    private SoftAssertionsScope pop() {
+      final int idx = --this.depth;
+      final SoftAssertionsScope scope = this.stack[idx];
+      this.stack[idx] = null;
+      return scope;
+    }
+
+    private SoftAssertionsScope current() {
+      return this.stack[this.depth - 1];
+    }
+  }
 }
@@ -0,0 +1,229 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.softassertedsteps;
+
+import dev.jlet.function.ThrowingRunnable;
+import dev.jlet.function.ThrowingSupplier;
+import org.opentest4j.MultipleFailuresError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Failures collector of the soft assertions block. The collector is thread-safe and can be shared with worker
+ * threads started inside the block, step failures of these threads are collected to the block failures.
+ *
+ * <pre>{@code
+ * softAssertedSteps(() -> {
+ *   final SoftAssertionsScope scope = softAssertionsScope();
+ *   final List<Future<?>> futures = new ArrayList<>();
+ *   for (final Item item : items) {
+ *     futures.add(executor.submit(scope.runnable(() -> step(check(item)))));
+ *   }
+ *   for (final Future<?> future : futures) {
+ *     future.get();
+ *   }
+ * });
+ * }</pre>
+ * Failures reported after the block completion are thrown as usual.
+ */
+public final class SoftAssertionsScope {
+  private final Queue<Throwable> failures;
+  private final Set<String> messages;
+  private final AtomicInteger retained;
+  private final AtomicInteger omitted;
+  private final AtomicInteger duplicates;
+  /* failures are added under the read lock, so close() under the write lock sees all accepted failures */
+  private final ReadWriteLock lock;
+  private volatile boolean closed;
+
+  /**
+   * Ctor.
+   */
+  SoftAssertionsScope() {
+    this.failures = new ConcurrentLinkedQueue<>();
+    this.messages = ConcurrentHashMap.newKeySet();
+    this.retained = new AtomicInteger();
+    this.omitted = new AtomicInteger();
+    this.duplicates = new AtomicInteger();
+    this.lock = new ReentrantReadWriteLock();
+    this.closed = false;
+  }
+
+  /**
+   * Executes given steps in the current thread as part of the soft assertions block.
+   *
+   * @param steps the steps
+   * @throws NullPointerException if {@code steps} arg is null
+   */
+  public void run(final ThrowingRunnable<?> steps) {
+    if (steps == null) { throw new NullPointerException("steps arg is null"); }
+    SoftAssertedStepsExtension.runInScope(this, () -> {
+      steps.run();
+      return null;
+    });
+  }
+
+  /**
+   * Executes given steps in the current thread as part of the soft assertions block and returns execution result.
+   *
+   * @param steps the steps
+   * @param <R>   the type of the result
+   * @return execution result
+   * @throws NullPointerException if {@code steps} arg is null
+   */
+  public <R> R get(final ThrowingSupplier<? extends R, ?> steps) {
+    if (steps == null) { throw new NullPointerException("steps arg is null"); }
+    return SoftAssertedStepsExtension.runInScope(this, steps);
+  }
+
+  /**
+   * Returns {@code Runnable} that executes given steps as part of the soft assertions block.
+   *
+   * @param steps the steps
+   * @return {@code Runnable}
+   * @throws NullPointerException if {@code steps} arg is null
+   */
+  public Runnable runnable(final ThrowingRunnable<?> steps) {
+    if (steps == null) { throw new NullPointerException("steps arg is null"); }
+    return () -> this.run(steps);
+  }
+
+  /**
+   * Returns {@code Callable} that executes given steps as part of the soft assertions block.
+   *
+   * @param steps the steps
+   * @param <R>   the type of the result
+   * @return {@code Callable}
+   * @throws NullPointerException if {@code steps} arg is null
+   */
+  public <R> Callable<R> callable(final ThrowingSupplier<? extends R, ?> steps) {
+    if (steps == null) { throw new NullPointerException("steps arg is null"); }
+    return () -> this.get(steps);
+  }
+
+  /**
+   * Returns true if the soft assertions block is completed.
+   *
+   * @return true if the soft assertions block is completed
+   */
+  public boolean isClosed() {
+    return this.closed;
+  }
+
+  boolean add(final Throwable exception,
+              final int maxFailures,
+              final boolean deduplicate,
+              final int stackTraceDepth) {
+    final Lock readLock = this.lock.readLock();
+    readLock.lock();
+    try {
+      if (this.closed) {
+        return false;
+      }
+      if (deduplicate && !this.messages.add(exception.getClass().getName() + ':' + exception.getMessage())) {
+        this.duplicates.incrementAndGet();
+        return true;
+      }
+      if (maxFailures > 0 && this.retained.getAndIncrement() >= maxFailures) {
+        this.omitted.incrementAndGet();
+        return true;
+      }
+      if (stackTraceDepth >= 0) {
+        trimStackTrace(exception, stackTraceDepth);
+      }
+      this.failures.add(exception);
+      return true;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  boolean addNested(final MultipleFailuresError error) {
+    final Lock readLock = this.lock.readLock();
+    readLock.lock();
+    try {
+      if (this.closed) {
+        return false;
+      }
+      this.failures.add(error);
+      return true;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  List<Throwable> close() {
+    final Lock writeLock = this.lock.writeLock();
+    writeLock.lock();
+    try {
+      this.closed = true;
+      return new ArrayList<>(this.failures);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  String heading() {
+    final int omitted = this.omitted.get();
+    final int duplicates = this.duplicates.get();
+    if (omitted == 0 && duplicates == 0) {
+      return null;
+    }
+    final StringBuilder sb = new StringBuilder("Multiple Failures, ");
+    if (omitted != 0) {
+      sb.append(omitted).append(" over the limit");
+      if (duplicates != 0) {
+        sb.append(" and ");
+      }
+    }
+    if (duplicates != 0) {
+      sb.append(duplicates).append(" duplicate");
+    }
+    return sb.append(" failures omitted").toString();
+  }
+
+  private static void trimStackTrace(final Throwable exception,
+                                     final int stackTraceDepth) {
+    Throwable current = exception;
+    /* limit the causes chain in case of cycles */
+    for (int idx = 0; current != null && idx < 16; ++idx) {
+      final StackTraceElement[] stackTrace = current.getStackTrace();
+      if (stackTrace.length > stackTraceDepth) {
+        current.setStackTrace(Arrays.copyOf(stackTrace, stackTraceDepth));
+      }
+      current = current.getCause();
+    }
+  }
+}
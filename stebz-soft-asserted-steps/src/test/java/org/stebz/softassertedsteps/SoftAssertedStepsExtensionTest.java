@@ -32,15 +32,20 @@ import org.stebz.util.container.NullableOptional;
 import org.stebz.util.property.PropertiesReader;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.stebz.softassertedsteps.SoftAssertedStepsExtension.softAssertedSteps;
 import static org.stebz.softassertedsteps.SoftAssertedStepsExtension.softAssertedStepsResult;
+import static org.stebz.softassertedsteps.SoftAssertedStepsExtension.softAssertionsScope;
 
 /**
  * Tests for {@link SoftAssertedStepsExtension}.
@@ -266,22 +271,138 @@ final class SoftAssertedStepsExtensionTest {
     assertThatTreadLocalsAreCleared();
   }
 
-  @SuppressWarnings("unchecked")
+  @Test
+  void failuresOverTheLimitShouldBeOmitted() throws Exception {
+    final RunnableStep step = RunnableStep.empty();
+    final Throwable exception1 = new Throwable("1");
+    final Throwable exception2 = new Throwable("2");
+    final Throwable exception3 = new Throwable("3");
+    final SoftAssertedStepsExtension extension =
+      new SoftAssertedStepsExtension(properties("stebz.softAssertedSteps.maxFailures", "2"));
+
+    final Throwable resultException = assertThrows(MultipleFailuresError.class, () ->
+      softAssertedSteps((ThrowingRunnable<?>) () -> {
+        extension.thrownStepException(step, NullableOptional.empty(), exception1, true);
+        extension.thrownStepException(step, NullableOptional.empty(), exception2, true);
+        extension.thrownStepException(step, NullableOptional.empty(), exception3, true);
+      })
+    );
+    assertThat(resultException.getSuppressed())
+      .containsExactly(exception1, exception2);
+    assertThat(resultException)
+      .hasMessageContaining("1 over the limit failures omitted");
+    assertThatTreadLocalsAreCleared();
+  }
+
+  @Test
+  void duplicateFailuresShouldBeOmitted() throws Exception {
+    final RunnableStep step = RunnableStep.empty();
+    final Throwable exception1 = new AssertionError("same");
+    final Throwable exception2 = new AssertionError("same");
+    final Throwable exception3 = new IllegalStateException("same");
+    final SoftAssertedStepsExtension extension =
+      new SoftAssertedStepsExtension(properties("stebz.softAssertedSteps.deduplicate", "true"));
+
+    final Throwable resultException = assertThrows(MultipleFailuresError.class, () ->
+      softAssertedSteps((ThrowingRunnable<?>) () -> {
+        extension.thrownStepException(step, NullableOptional.empty(), exception1, true);
+        extension.thrownStepException(step, NullableOptional.empty(), exception2, true);
+        extension.thrownStepException(step, NullableOptional.empty(), exception3, true);
+      })
+    );
+    assertThat(resultException.getSuppressed())
+      .containsExactly(exception1, exception3);
+    assertThat(resultException)
+      .hasMessageContaining("1 duplicate failures omitted");
+    assertThatTreadLocalsAreCleared();
+  }
+
+  @Test
+  void stackTracesOfRetainedFailuresShouldBeTrimmed() throws Exception {
+    final RunnableStep step = RunnableStep.empty();
+    final Throwable exception = new Throwable("1", new Throwable("cause"));
+    final SoftAssertedStepsExtension extension =
+      new SoftAssertedStepsExtension(properties("stebz.softAssertedSteps.stackTraceDepth", "1"));
+
+    assertThrows(MultipleFailuresError.class, () ->
+      softAssertedSteps((ThrowingRunnable<?>) () ->
+        extension.thrownStepException(step, NullableOptional.empty(), exception, true)
+      )
+    );
+    assertThat(exception.getStackTrace())
+      .hasSize(1);
+    assertThat(exception.getCause().getStackTrace())
+      .hasSize(1);
+    assertThatTreadLocalsAreCleared();
+  }
+
+  @Test
+  void softAssertedStepsMethodShouldCollectStepExceptionsOfWorkerThreads() throws Exception {
+    final RunnableStep step = RunnableStep.empty();
+    final SoftAssertedStepsExtension extension =
+      new SoftAssertedStepsExtension(new PropertiesReader.Of(new Properties()));
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final Throwable resultException = assertThrows(MultipleFailuresError.class, () ->
+        softAssertedSteps((ThrowingRunnable<?>) () -> {
+          final SoftAssertionsScope scope = softAssertionsScope();
+          final List<Future<?>> futures = new ArrayList<>();
+          for (int idx = 0; idx < 8; ++idx) {
+            final Throwable exception = new Throwable(String.valueOf(idx));
+            futures.add(executor.submit(scope.runnable(() ->
+              assertThat(extension.thrownStepException(step, NullableOptional.empty(), exception, true))
+                .isFalse()
+            )));
+          }
+          for (final Future<?> future : futures) {
+            future.get();
+          }
+        })
+      );
+      assertThat(resultException.getSuppressed())
+        .hasSize(8);
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThatTreadLocalsAreCleared();
+  }
+
+  @Test
+  void closedSoftAssertionsScopeShouldNotCollectStepExceptions() throws Exception {
+    final RunnableStep step = RunnableStep.empty();
+    final Throwable exception = new Throwable();
+    final SoftAssertedStepsExtension extension =
+      new SoftAssertedStepsExtension(new PropertiesReader.Of(new Properties()));
+    final AtomicReference<SoftAssertionsScope> scope = new AtomicReference<>();
+
+    softAssertedSteps((ThrowingRunnable<?>) () -> scope.set(softAssertionsScope()));
+    assertThat(scope.get().isClosed())
+      .isTrue();
+    scope.get().run(() ->
+      assertThat(extension.thrownStepException(step, NullableOptional.empty(), exception, true))
+        .isTrue()
+    );
+    assertThatTreadLocalsAreCleared();
+  }
+
+  @Test
+  void softAssertionsScopeMethodShouldThrowExceptionOutsideOfBlock() {
+    assertThatCode(SoftAssertedStepsExtension::softAssertionsScope)
+      .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static PropertiesReader properties(final String name,
+                                             final String value) {
+    final Properties properties = new Properties();
+    properties.setProperty(name, value);
+    return new PropertiesReader.Of(properties);
+  }
+
   private static void assertThatTreadLocalsAreCleared() throws Exception {
-    final Field depthField =
-      SoftAssertedStepsExtension.class.getDeclaredField("THREAD_LOCAL_DEPTH");
-    depthField.setAccessible(true);
-    assertThat(((ThreadLocal<Integer>) depthField.get(null)).get())
-      .isNull();
-    final Field exceptionsField =
-      SoftAssertedStepsExtension.class.getDeclaredField("THREAD_LOCAL_EXCEPTIONS");
-    exceptionsField.setAccessible(true);
-    assertThat(((ThreadLocal<Map<Integer, List<Throwable>>>) depthField.get(null)).get())
-      .isNull();
-    final Field lastAssertionErrorField =
-      SoftAssertedStepsExtension.class.getDeclaredField("LAST_ASSERTION_ERROR");
-    lastAssertionErrorField.setAccessible(true);
-    assertThat(((ThreadLocal<MultipleFailuresError>) lastAssertionErrorField.get(null)).get())
+    final Field scopesField =
+      SoftAssertedStepsExtension.class.getDeclaredField("THREAD_LOCAL_SCOPES");
+    scopesField.setAccessible(true);
+    assertThat(((ThreadLocal<?>) scopesField.get(null)).get())
       .isNull();
   }
 }
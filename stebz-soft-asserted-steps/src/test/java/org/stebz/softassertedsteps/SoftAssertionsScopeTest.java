@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.softassertedsteps;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SoftAssertionsScope}.
+ */
+final class SoftAssertionsScopeTest {
+
+  @Test
+  void failuresAcceptedBeforeCloseShouldNotBeLost() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (int round = 0; round < 200; ++round) {
+        final SoftAssertionsScope scope = new SoftAssertionsScope();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Integer>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 4; ++thread) {
+          futures.add(executor.submit(() -> {
+            start.await();
+            int accepted = 0;
+            while (scope.add(new AssertionError(), 0, false, -1)) {
+              ++accepted;
+            }
+            return accepted;
+          }));
+        }
+        start.countDown();
+        Thread.sleep(0L, 100_000);
+        final List<Throwable> failures = scope.close();
+
+        int accepted = 0;
+        for (final Future<Integer> future : futures) {
+          accepted += future.get(10L, TimeUnit.SECONDS);
+        }
+        assertThat(failures)
+          .hasSize(accepted);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
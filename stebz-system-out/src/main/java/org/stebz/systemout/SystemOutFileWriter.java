@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.systemout;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Asynchronous file writer. Chunks are written by a single background thread, so test threads never wait for the file
+ * unless the queue is full. Each chunk is appended with one write, so parallel forks sharing the file do not overwrite
+ * each other.
+ */
+final class SystemOutFileWriter {
+  private static final Logger LOGGER = Logger.getLogger(SystemOutFileWriter.class.getName());
+  private static final int QUEUE_CAPACITY = 1024;
+  private static final Object STOP = new Object();
+  private final FileChannel channel;
+  private final BlockingQueue<Object> queue;
+  private final Thread thread;
+
+  private SystemOutFileWriter(final FileChannel channel) {
+    this.channel = channel;
+    this.queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    this.thread = new Thread(this::run, "stebz-system-out-writer");
+    this.thread.setDaemon(true);
+  }
+
+  /**
+   * Starts new {@code SystemOutFileWriter}.
+   *
+   * @param file the file
+   * @return started {@code SystemOutFileWriter}
+   */
+  static SystemOutFileWriter start(final Path file) {
+    try {
+      final Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      final SystemOutFileWriter writer = new SystemOutFileWriter(FileChannel.open(file,
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+      writer.thread.start();
+      return writer;
+    } catch (final IOException ex) {
+      throw new UncheckedIOException("Cannot open file " + file, ex);
+    }
+  }
+
+  /**
+   * Enqueues given chunk, waiting for the queue space if needed.
+   *
+   * @param chunk the chunk
+   */
+  void write(final String chunk) {
+    this.enqueue(chunk);
+  }
+
+  /**
+   * Writes all enqueued chunks and closes the file.
+   */
+  void stop() {
+    this.enqueue(STOP);
+    try {
+      this.thread.join(TimeUnit.SECONDS.toMillis(10));
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void enqueue(final Object item) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        this.queue.put(item);
+        break;
+      } catch (final InterruptedException ex) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    try {
+      while (true) {
+        final Object chunk = this.queue.take();
+        if (chunk == STOP) {
+          break;
+        }
+        final ByteBuffer bytes = ByteBuffer.wrap(((String) chunk).getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+          this.channel.write(bytes);
+        }
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (final IOException ex) {
+      LOGGER.log(Level.WARNING, "Failed to write steps output", ex);
+    } finally {
+      try {
+        this.channel.close();
+      } catch (final IOException ex) {
+        LOGGER.log(Level.WARNING, "Failed to close steps output file", ex);
+      }
+    }
+  }
+}
@@ -31,17 +31,21 @@ import org.stebz.util.container.NullableOptional;
 import org.stebz.util.property.PropertiesReader;
 
 import java.io.PrintStream;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * System.out {@code StepListener} implementation.
  */
 public class SystemOutStepListener implements StepListener {
-  private final ThreadLocal<AtomicInteger> depth;
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+  private final ThreadLocal<ThreadState> state;
+  private final Set<ThreadState> activeStates;
   private final PrintStream printStream;
+  private final SystemOutFileWriter fileWriter;
   private final boolean enabled;
   private final int order;
   private final boolean onlyKeywordSteps;
@@ -51,6 +55,8 @@ public class SystemOutStepListener implements StepListener {
   private final boolean logParams;
   private final boolean logExpectedResult;
   private final boolean logComment;
+  private final boolean buffered;
+  private final int bufferSize;
 
   /**
    * Ctor.
@@ -76,7 +82,8 @@ public class SystemOutStepListener implements StepListener {
    */
   public SystemOutStepListener(final PrintStream printStream,
                                final PropertiesReader properties) {
-    this.depth = ThreadLocal.withInitial(AtomicInteger::new);
+    this.state = ThreadLocal.withInitial(ThreadState::new);
+    this.activeStates = ConcurrentHashMap.newKeySet();
     this.printStream = printStream;
     this.enabled = properties.getBoolean("stebz.systemOut.enabled", true);
     this.order = properties.getInteger("stebz.systemOut.order", MIDDLE_ORDER);
@@ -88,6 +95,15 @@ public class SystemOutStepListener implements StepListener {
     this.logParams = properties.getBoolean("stebz.systemOut.params", true);
     this.logExpectedResult = properties.getBoolean("stebz.systemOut.expectedResult", true);
     this.logComment = properties.getBoolean("stebz.systemOut.comment", true);
+    final String file = properties.getString("stebz.systemOut.file", "");
+    this.fileWriter = this.enabled && !file.isEmpty()
+      ? SystemOutFileWriter.start(Paths.get(file))
+      : null;
+    this.buffered = this.fileWriter != null || properties.getBoolean("stebz.systemOut.buffered", false);
+    this.bufferSize = properties.getInteger("stebz.systemOut.bufferSize", 65536);
+    if (this.buffered && this.enabled) {
+      Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "stebz-system-out-shutdown"));
+    }
   }
 
   @Override
@@ -105,11 +121,14 @@ public class SystemOutStepListener implements StepListener {
     if (this.onlyKeywordSteps && keyword.value().isEmpty()) {
       return;
     }
-    final int currentDepth = this.depth.get().getAndIncrement();
-    final String indentStr = multiplyString(this.indent, currentDepth);
-    final StringBuilder sb = new StringBuilder();
-    sb.append(indentStr)
-      .append("Step: ")
+    final ThreadState threadState = this.state.get();
+    if (threadState.depth == 0 && this.buffered) {
+      this.activeStates.add(threadState);
+    }
+    final StringBuilder sb = threadState.line;
+    sb.setLength(0);
+    this.appendIndent(sb, threadState.depth++);
+    sb.append("Step: ")
       .append(this.keywordPosition.concat(
         this.keywordValue(step.getKeyword()),
         step.getName()
@@ -117,14 +136,16 @@ public class SystemOutStepListener implements StepListener {
     if (this.logParams) {
       final Map<String, Object> params = step.getParams();
       if (!params.isEmpty()) {
-        sb.append(" (")
-          .append(
-            params.entrySet()
-              .stream()
-              .map(entry -> entry.getKey() + " = " + asString(entry.getValue()))
-              .collect(Collectors.joining(", "))
-          )
-          .append(')');
+        sb.append(" (");
+        boolean first = true;
+        for (final Map.Entry<String, Object> entry : params.entrySet()) {
+          if (!first) {
+            sb.append(", ");
+          }
+          first = false;
+          sb.append(entry.getKey()).append(" = ").append(asString(entry.getValue()));
+        }
+        sb.append(')');
       }
     }
     if (this.logExpectedResult) {
@@ -143,7 +164,7 @@ public class SystemOutStepListener implements StepListener {
           .append(comment);
       }
     }
-    this.printStream.println(sb);
+    this.writeLine(threadState);
   }
 
   @Override
@@ -157,9 +178,9 @@ public class SystemOutStepListener implements StepListener {
     if (this.onlyKeywordSteps && keyword.value().isEmpty()) {
       return;
     }
-    final int currentDepth = this.depth.get().decrementAndGet();
-    if (currentDepth == 0) {
-      this.depth.remove();
+    final ThreadState threadState = this.state.get();
+    if (--threadState.depth == 0) {
+      this.finishRoot(threadState);
     }
   }
 
@@ -174,10 +195,71 @@ public class SystemOutStepListener implements StepListener {
     if (this.onlyKeywordSteps && keyword.value().isEmpty()) {
       return;
     }
-    final int currentDepth = this.depth.get().decrementAndGet();
-    this.printStream.println(multiplyString(this.indent, currentDepth) + "Failure: " + exception);
-    if (currentDepth == 0) {
-      this.depth.remove();
+    final ThreadState threadState = this.state.get();
+    final StringBuilder sb = threadState.line;
+    sb.setLength(0);
+    this.appendIndent(sb, --threadState.depth);
+    sb.append("Failure: ").append(exception);
+    this.writeLine(threadState);
+    if (threadState.depth == 0) {
+      this.finishRoot(threadState);
+    }
+  }
+
+  /**
+   * Writes buffered output of root steps that have not finished yet and closes the output file.
+   */
+  void shutdown() {
+    for (final ThreadState threadState : this.activeStates) {
+      this.flush(threadState);
+    }
+    if (this.fileWriter != null) {
+      this.fileWriter.stop();
+    }
+  }
+
+  private void finishRoot(final ThreadState threadState) {
+    if (this.buffered) {
+      this.flush(threadState);
+      this.activeStates.remove(threadState);
+    }
+    threadState.line.setLength(0);
+    threadState.buffer.setLength(0);
+  }
+
+  private void writeLine(final ThreadState threadState) {
+    if (!this.buffered) {
+      this.printStream.println(threadState.line);
+      return;
+    }
+    synchronized (threadState) {
+      final StringBuilder buffer = threadState.buffer;
+      buffer.append(threadState.line).append(LINE_SEPARATOR);
+      if (buffer.length() >= this.bufferSize) {
+        this.flush(threadState);
+      }
+    }
+  }
+
+  private void flush(final ThreadState threadState) {
+    synchronized (threadState) {
+      final StringBuilder buffer = threadState.buffer;
+      if (buffer.length() == 0) {
+        return;
+      }
+      if (this.fileWriter != null) {
+        this.fileWriter.write(buffer.toString());
+      } else {
+        this.printStream.print(buffer);
+      }
+      buffer.setLength(0);
+    }
+  }
+
+  private void appendIndent(final StringBuilder sb,
+                            final int number) {
+    for (int idx = 0; idx < number; idx++) {
+      sb.append(this.indent);
     }
   }
 
@@ -231,6 +313,12 @@ public class SystemOutStepListener implements StepListener {
       : keyword.value();
   }
 
+  private static final class ThreadState {
+    private final StringBuilder line = new StringBuilder(128);
+    private final StringBuilder buffer = new StringBuilder();
+    private int depth = 0;
+  }
+
   private enum KeywordPosition {
     AT_START {
       @Override
@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.systemout;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SystemOutStepListener}.
+ */
+final class SystemOutStepListenerTest {
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  @Test
+  void unbufferedModeShouldPrintEachLineImmediately() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final SystemOutStepListener listener = listener(out, new Properties());
+
+    listener.onStepStart(step("root"), NullableOptional.empty());
+    listener.onStepStart(step("child"), NullableOptional.empty());
+    assertThat(text(out)).isEqualTo("Step: root" + LINE_SEPARATOR + "  Step: child" + LINE_SEPARATOR);
+    listener.onStepSuccess(step("child"), NullableOptional.empty(), NullableOptional.empty());
+    listener.onStepFailure(step("root"), NullableOptional.empty(), new AssertionError("failed"));
+
+    assertThat(text(out)).isEqualTo("Step: root" + LINE_SEPARATOR
+      + "  Step: child" + LINE_SEPARATOR
+      + "Failure: java.lang.AssertionError: failed" + LINE_SEPARATOR);
+  }
+
+  @Test
+  void bufferedModeShouldPrintRootStepOutputAtOnce() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.systemOut.buffered", "true");
+    final SystemOutStepListener listener = listener(out, properties);
+
+    listener.onStepStart(step("root"), NullableOptional.empty());
+    listener.onStepStart(step("child"), NullableOptional.empty());
+    listener.onStepSuccess(step("child"), NullableOptional.empty(), NullableOptional.empty());
+    assertThat(text(out)).isEmpty();
+    listener.onStepSuccess(step("root"), NullableOptional.empty(), NullableOptional.empty());
+
+    assertThat(text(out)).isEqualTo("Step: root" + LINE_SEPARATOR + "  Step: child" + LINE_SEPARATOR);
+  }
+
+  @Test
+  void bufferedModeShouldFlushEarlyIfBufferIsFull() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.systemOut.buffered", "true");
+    properties.setProperty("stebz.systemOut.bufferSize", "1");
+    final SystemOutStepListener listener = listener(out, properties);
+
+    listener.onStepStart(step("root"), NullableOptional.empty());
+
+    assertThat(text(out)).isEqualTo("Step: root" + LINE_SEPARATOR);
+  }
+
+  @Test
+  void bufferedModeShouldPrintUnfinishedRootStepOutputOnShutdown() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.systemOut.buffered", "true");
+    final SystemOutStepListener listener = listener(out, properties);
+
+    final Thread thread = new Thread(() -> {
+      listener.onStepStart(step("root"), NullableOptional.empty());
+      listener.onStepStart(step("child"), NullableOptional.empty());
+    });
+    thread.start();
+    thread.join();
+    assertThat(text(out)).isEmpty();
+    listener.shutdown();
+
+    assertThat(text(out)).isEqualTo("Step: root" + LINE_SEPARATOR + "  Step: child" + LINE_SEPARATOR);
+  }
+
+  @Test
+  void fileModeShouldWriteRootStepsOutputToFile(@TempDir final Path dir) throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final Path file = dir.resolve("output").resolve("steps.log");
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.systemOut.file", file.toString());
+    final SystemOutStepListener listener = listener(out, properties);
+
+    final Thread[] threads = new Thread[4];
+    for (int idx = 0; idx < threads.length; ++idx) {
+      final String name = "root " + idx;
+      threads[idx] = new Thread(() -> {
+        listener.onStepStart(step(name), NullableOptional.empty());
+        listener.onStepStart(step("child"), NullableOptional.empty());
+        listener.onStepSuccess(step("child"), NullableOptional.empty(), NullableOptional.empty());
+        listener.onStepSuccess(step(name), NullableOptional.empty(), NullableOptional.empty());
+      });
+      threads[idx].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    listener.shutdown();
+
+    final String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    for (int idx = 0; idx < threads.length; ++idx) {
+      assertThat(content).contains("Step: root " + idx + LINE_SEPARATOR + "  Step: child" + LINE_SEPARATOR);
+    }
+    assertThat(content.split(LINE_SEPARATOR)).hasSize(threads.length * 2);
+    assertThat(text(out)).isEmpty();
+  }
+
+  @Test
+  void fileModeShouldAppendToExistingFile(@TempDir final Path dir) throws Exception {
+    final Path file = dir.resolve("steps.log");
+    Files.write(file, ("previous" + LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8));
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.systemOut.file", file.toString());
+    final SystemOutStepListener first = listener(new ByteArrayOutputStream(), properties);
+    final SystemOutStepListener second = listener(new ByteArrayOutputStream(), properties);
+
+    first.onStepStart(step("first"), NullableOptional.empty());
+    first.onStepSuccess(step("first"), NullableOptional.empty(), NullableOptional.empty());
+    second.onStepStart(step("second"), NullableOptional.empty());
+    second.onStepSuccess(step("second"), NullableOptional.empty(), NullableOptional.empty());
+    first.shutdown();
+    second.shutdown();
+
+    assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).split(LINE_SEPARATOR))
+      .containsExactlyInAnyOrder("previous", "Step: first", "Step: second");
+  }
+
+  @Test
+  void listenerShouldReuseThreadStateAfterRootStep() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.systemOut.buffered", "true");
+    final SystemOutStepListener listener = listener(out, properties);
+
+    listener.onStepStart(step("first"), NullableOptional.empty());
+    listener.onStepFailure(step("first"), NullableOptional.empty(), new AssertionError("failed"));
+    listener.onStepStart(step("second"), NullableOptional.empty());
+    listener.onStepSuccess(step("second"), NullableOptional.empty(), NullableOptional.empty());
+
+    assertThat(text(out)).isEqualTo("Step: first" + LINE_SEPARATOR
+      + "Failure: java.lang.AssertionError: failed" + LINE_SEPARATOR
+      + "Step: second" + LINE_SEPARATOR);
+  }
+
+  private static SystemOutStepListener listener(final ByteArrayOutputStream out,
+                                                final Properties properties) {
+    return new SystemOutStepListener(
+      new PrintStream(out, true), new PropertiesReader.Of(properties)
+    );
+  }
+
+  private static String text(final ByteArrayOutputStream out) {
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private static RunnableStep step(final String name) {
+    return RunnableStep.of(name, RunnableStep.emptyBody());
+  }
+}
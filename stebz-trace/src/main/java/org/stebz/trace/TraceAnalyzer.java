@@ -0,0 +1,392 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.trace;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.stebz.trace.TraceWriter.FAILURE;
+import static org.stebz.trace.TraceWriter.FILE_SUFFIX;
+import static org.stebz.trace.TraceWriter.HEADER_LENGTH;
+import static org.stebz.trace.TraceWriter.MAGIC;
+import static org.stebz.trace.TraceWriter.NAME;
+import static org.stebz.trace.TraceWriter.SEGMENT;
+import static org.stebz.trace.TraceWriter.START;
+import static org.stebz.trace.TraceWriter.SUCCESS;
+import static org.stebz.trace.TraceWriter.THREAD;
+
+/**
+ * Trace analyzer. Reads segment files written by {@link TraceStepListener} and prints the slowest steps, per-name
+ * aggregates and per-thread timelines.
+ *
+ * <p>Usage: {@code java -cp stebz-trace.jar org.stebz.trace.TraceAnalyzer [--top N] [--no-timeline] <dir|file>}.
+ * If directory is specified, the latest trace run in it is analyzed.
+ */
+public final class TraceAnalyzer {
+  private final String runId;
+  private final long startEpochMillis;
+  private final long startNanoTime;
+  private final Map<Long, String> threads;
+  private final List<Step> steps;
+
+  private TraceAnalyzer(final String runId,
+                        final long startEpochMillis,
+                        final long startNanoTime,
+                        final Map<Long, String> threads,
+                        final List<Step> steps) {
+    this.runId = runId;
+    this.startEpochMillis = startEpochMillis;
+    this.startNanoTime = startNanoTime;
+    this.threads = threads;
+    this.steps = steps;
+  }
+
+  /**
+   * Command line entry point.
+   *
+   * @param args the args
+   */
+  public static void main(final String[] args) {
+    int top = 20;
+    boolean timeline = true;
+    String path = null;
+    for (int idx = 0; idx < args.length; ++idx) {
+      final String arg = args[idx];
+      if ("--top".equals(arg) && idx + 1 < args.length) {
+        top = Integer.parseInt(args[++idx]);
+      } else if ("--no-timeline".equals(arg)) {
+        timeline = false;
+      } else if (path == null && !arg.startsWith("--")) {
+        path = arg;
+      } else {
+        path = null;
+        break;
+      }
+    }
+    if (path == null) {
+      System.err.println("Usage: TraceAnalyzer [--top N] [--no-timeline] <dir|file>");
+      return;
+    }
+    read(Paths.get(path)).printReport(System.out, top, timeline);
+  }
+
+  /**
+   * Reads trace run. If directory is specified, the latest trace run in it is read. If segment file is specified, all
+   * segments of its run are read.
+   *
+   * @param path the trace directory or segment file
+   * @return {@code TraceAnalyzer}
+   */
+  public static TraceAnalyzer read(final Path path) {
+    if (path == null) { throw new NullPointerException("path arg is null"); }
+    final Path dir = Files.isDirectory(path) ? path : path.toAbsolutePath().getParent();
+    final List<Path> files;
+    try (Stream<Path> list = Files.list(dir)) {
+      files = list.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+        .sorted()
+        .collect(Collectors.toList());
+    } catch (final IOException ex) {
+      throw new UncheckedIOException("Cannot list trace directory " + dir, ex);
+    }
+    final String runId = Files.isDirectory(path)
+      ? files.stream().map(TraceAnalyzer::runIdOf).max(Comparator.naturalOrder()).orElse(null)
+      : runIdOf(path);
+    if (runId == null) {
+      throw new IllegalArgumentException("Trace files not found in " + dir);
+    }
+    final Reader reader = new Reader();
+    for (final Path file : files) {
+      if (runIdOf(file).equals(runId)) {
+        reader.read(file);
+      }
+    }
+    return new TraceAnalyzer(runId, reader.startEpochMillis, reader.startNanoTime, reader.threads,
+      new ArrayList<>(reader.steps.values()));
+  }
+
+  /**
+   * Prints report.
+   *
+   * @param out      the print stream
+   * @param top      the number of slowest steps
+   * @param timeline print per-thread timelines
+   */
+  public void printReport(final PrintStream out,
+                          final int top,
+                          final boolean timeline) {
+    if (out == null) { throw new NullPointerException("out arg is null"); }
+    out.println("Trace " + this.runId + ": " + this.steps.size() + " steps, " + this.threads.size()
+      + " threads, started at " + Instant.ofEpochMilli(this.startEpochMillis));
+
+    final List<Step> unfinished = this.steps.stream()
+      .filter(step -> !step.isFinished())
+      .collect(Collectors.toList());
+    if (!unfinished.isEmpty()) {
+      out.println();
+      out.println("Unfinished steps:");
+      for (final Step step : unfinished) {
+        out.println("  " + this.offset(step.startNanos) + "  " + step.displayName()
+          + "  [" + this.threadName(step.threadId) + ']');
+      }
+    }
+
+    out.println();
+    out.println("Slowest steps:");
+    this.steps.stream()
+      .filter(Step::isFinished)
+      .sorted(Comparator.comparingLong(Step::duration).reversed())
+      .limit(top)
+      .forEach(step -> out.println("  " + millis(step.duration()) + "  " + step.outcome() + "  "
+        + step.displayName() + "  [" + this.threadName(step.threadId) + ']'));
+
+    out.println();
+    out.println("Steps by name:");
+    out.println(String.format(Locale.ROOT, "  %8s %8s %14s %14s %14s  %s",
+      "count", "failed", "total", "avg", "max", "name"));
+    final Map<String, Aggregate> aggregates = new HashMap<>();
+    for (final Step step : this.steps) {
+      if (step.isFinished()) {
+        aggregates.computeIfAbsent(step.displayName(), key -> new Aggregate()).add(step);
+      }
+    }
+    aggregates.entrySet().stream()
+      .sorted(Comparator.comparingLong((Map.Entry<String, Aggregate> entry) -> entry.getValue().total).reversed())
+      .forEach(entry -> {
+        final Aggregate aggregate = entry.getValue();
+        out.println(String.format(Locale.ROOT, "  %8d %8d %14s %14s %14s  %s",
+          aggregate.count, aggregate.failed, millis(aggregate.total), millis(aggregate.total / aggregate.count),
+          millis(aggregate.max), entry.getKey()));
+      });
+
+    if (timeline) {
+      final Map<Long, List<Step>> byThread = this.steps.stream()
+        .sorted(Comparator.comparingLong(step -> step.startNanos))
+        .collect(Collectors.groupingBy(step -> step.threadId, LinkedHashMap::new, Collectors.toList()));
+      final Map<Long, Step> byId = new HashMap<>();
+      this.steps.forEach(step -> byId.put(step.id, step));
+      byThread.forEach((threadId, threadSteps) -> {
+        out.println();
+        out.println("Timeline of thread \"" + this.threadName(threadId) + "\" (id " + threadId + "):");
+        for (final Step step : threadSteps) {
+          final StringBuilder sb = new StringBuilder("  ").append(this.offset(step.startNanos)).append("  ");
+          sb.append(step.isFinished() ? millis(step.duration()) : "unfinished").append("  ");
+          for (Step parent = byId.get(step.parentId); parent != null; parent = byId.get(parent.parentId)) {
+            sb.append("  ");
+          }
+          sb.append(step.displayName());
+          if (step.exception != null) {
+            sb.append("  (").append(step.exception).append(')');
+          }
+          out.println(sb);
+        }
+      });
+    }
+  }
+
+  /**
+   * Returns read steps.
+   *
+   * @return read steps
+   */
+  List<Step> steps() {
+    return this.steps;
+  }
+
+  private String threadName(final long threadId) {
+    return this.threads.getOrDefault(threadId, String.valueOf(threadId));
+  }
+
+  private String offset(final long nanoTime) {
+    return '+' + millis(nanoTime - this.startNanoTime);
+  }
+
+  private static String millis(final long nanos) {
+    return String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000.0);
+  }
+
+  private static String runIdOf(final Path file) {
+    final String fileName = file.getFileName().toString();
+    final int seqIdx = fileName.lastIndexOf('-', fileName.length() - FILE_SUFFIX.length());
+    return seqIdx > 0
+      ? fileName.substring(0, seqIdx)
+      : fileName;
+  }
+
+  /**
+   * Trace step.
+   */
+  static final class Step {
+    final long id;
+    final long parentId;
+    final long threadId;
+    final String name;
+    final String keyword;
+    final long startNanos;
+    long endNanos;
+    String exception;
+
+    private Step(final long id,
+                 final long parentId,
+                 final long threadId,
+                 final String name,
+                 final String keyword,
+                 final long startNanos) {
+      this.id = id;
+      this.parentId = parentId;
+      this.threadId = threadId;
+      this.name = name;
+      this.keyword = keyword;
+      this.startNanos = startNanos;
+      this.endNanos = -1L;
+    }
+
+    boolean isFinished() {
+      return this.endNanos != -1L;
+    }
+
+    long duration() {
+      return this.endNanos - this.startNanos;
+    }
+
+    String outcome() {
+      return this.exception == null ? "PASSED" : "FAILED";
+    }
+
+    String displayName() {
+      return this.name.isEmpty()
+        ? this.keyword
+        : this.keyword.isEmpty()
+        ? this.name
+        : this.keyword + ' ' + this.name;
+    }
+  }
+
+  private static final class Aggregate {
+    private long count;
+    private long failed;
+    private long total;
+    private long max;
+
+    private void add(final Step step) {
+      final long duration = step.duration();
+      this.count++;
+      if (step.exception != null) {
+        this.failed++;
+      }
+      this.total += duration;
+      this.max = Math.max(this.max, duration);
+    }
+  }
+
+  private static final class Reader {
+    private final Map<Integer, String> names = new HashMap<>();
+    private final Map<Long, String> threads = new LinkedHashMap<>();
+    private final Map<Long, Step> steps = new LinkedHashMap<>();
+    private long startEpochMillis = -1L;
+    private long startNanoTime;
+
+    private void read(final Path file) {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        int pos = 0;
+        while (pos <= buffer.limit() - HEADER_LENGTH) {
+          final int length = buffer.getInt(pos);
+          if (length < HEADER_LENGTH || length > buffer.limit() - pos) {
+            break;
+          }
+          this.readRecord(buffer, pos, buffer.get(pos + 4));
+          pos += length;
+        }
+      } catch (final IOException ex) {
+        throw new UncheckedIOException("Cannot read trace segment " + file, ex);
+      }
+    }
+
+    private void readRecord(final ByteBuffer buffer,
+                            final int pos,
+                            final byte type) {
+      final int body = pos + HEADER_LENGTH;
+      switch (type) {
+        case SEGMENT:
+          if (buffer.getInt(body) != MAGIC) {
+            throw new IllegalArgumentException("Not a trace segment");
+          }
+          if (this.startEpochMillis == -1L) {
+            this.startEpochMillis = buffer.getLong(body + 4);
+            this.startNanoTime = buffer.getLong(body + 12);
+          }
+          break;
+        case NAME:
+          final byte[] bytes = new byte[buffer.getInt(body + 4)];
+          for (int idx = 0; idx < bytes.length; ++idx) {
+            bytes[idx] = buffer.get(body + 8 + idx);
+          }
+          this.names.put(buffer.getInt(body), new String(bytes, StandardCharsets.UTF_8));
+          break;
+        case THREAD:
+          this.threads.put(buffer.getLong(body), this.name(buffer.getInt(body + 8)));
+          break;
+        case START:
+          final long stepId = buffer.getLong(body + 8);
+          this.steps.put(stepId, new Step(stepId, buffer.getLong(body + 16), buffer.getLong(body),
+            this.name(buffer.getInt(body + 24)), this.name(buffer.getInt(body + 28)), buffer.getLong(body + 32)));
+          break;
+        case SUCCESS:
+        case FAILURE:
+          final Step step = this.steps.get(buffer.getLong(body + 8));
+          if (step != null) {
+            step.endNanos = buffer.getLong(body + 16);
+            if (type == FAILURE) {
+              step.exception = this.name(buffer.getInt(body + 24));
+            }
+          }
+          break;
+        default:
+          break;
+      }
+    }
+
+    private String name(final int id) {
+      return this.names.getOrDefault(id, "");
+    }
+  }
+}
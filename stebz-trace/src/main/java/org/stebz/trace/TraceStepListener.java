@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.trace;
+
+import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.step.StepObj;
+import org.stebz.util.Cached;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Binary trace {@code StepListener} implementation. Step records are appended to memory-mapped segment files which
+ * can be read with {@link TraceAnalyzer}.
+ */
+public class TraceStepListener implements StepListener {
+  private final boolean enabled;
+  private final int order;
+  private final Cached<TraceWriter> writer;
+  private final AtomicLong stepSeq;
+  private final ThreadLocal<ThreadState> state;
+
+  /**
+   * Ctor.
+   */
+  public TraceStepListener() {
+    this(StartupPropertiesReader.get());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   */
+  public TraceStepListener(final PropertiesReader properties) {
+    this.enabled = properties.getBoolean("stebz.trace.enabled", true);
+    this.order = properties.getInteger("stebz.trace.order", EARLY_ORDER);
+    final String dir = properties.getString("stebz.trace.dir", "target/stebz-trace");
+    final int segmentSize = properties.getInteger("stebz.trace.segmentSize", 16 * 1024 * 1024);
+    this.writer = new Cached<>(() -> new TraceWriter(Paths.get(dir), segmentSize));
+    this.stepSeq = new AtomicLong();
+    this.state = ThreadLocal.withInitial(this::newThreadState);
+  }
+
+  @Override
+  public int order() {
+    return this.order;
+  }
+
+  @Override
+  public void onStepStart(final StepObj<?> step,
+                          final NullableOptional<Object> context) {
+    if (!this.enabled || step.isHidden()) {
+      return;
+    }
+    final TraceWriter traceWriter = this.writer.get();
+    final ThreadState threadState = this.state.get();
+    final long stepId = this.stepSeq.incrementAndGet();
+    traceWriter.writeStart(
+      threadState.threadId,
+      stepId,
+      threadState.depth == 0 ? 0L : threadState.stack[threadState.depth - 1],
+      traceWriter.nameId(step.getName()),
+      traceWriter.nameId(step.getKeyword().value()),
+      System.nanoTime()
+    );
+    threadState.push(stepId);
+  }
+
+  @Override
+  public void onStepSuccess(final StepObj<?> step,
+                            final NullableOptional<Object> context,
+                            final NullableOptional<Object> result) {
+    if (!this.enabled || step.isHidden()) {
+      return;
+    }
+    final ThreadState threadState = this.state.get();
+    if (threadState.depth == 0) {
+      return;
+    }
+    this.writer.get().writeSuccess(threadState.threadId, threadState.pop(), System.nanoTime());
+  }
+
+  @Override
+  public void onStepFailure(final StepObj<?> step,
+                            final NullableOptional<Object> context,
+                            final Throwable exception) {
+    if (!this.enabled || step.isHidden()) {
+      return;
+    }
+    final ThreadState threadState = this.state.get();
+    if (threadState.depth == 0) {
+      return;
+    }
+    final long nanoTime = System.nanoTime();
+    final TraceWriter traceWriter = this.writer.get();
+    traceWriter.writeFailure(
+      threadState.threadId, threadState.pop(), nanoTime, traceWriter.nameId(exception.getClass().getName())
+    );
+  }
+
+  private ThreadState newThreadState() {
+    final Thread thread = Thread.currentThread();
+    final TraceWriter traceWriter = this.writer.get();
+    traceWriter.writeThread(thread.getId(), traceWriter.nameId(thread.getName()));
+    return new ThreadState(thread.getId());
+  }
+
+  private static final class ThreadState {
+    private final long threadId;
+    private long[] stack;
+    private int depth;
+
+    private ThreadState(final long threadId) {
+      this.threadId = threadId;
+      this.stack = new long[16];
+      this.depth = 0;
+    }
+
+    private void push(final long stepId) {
+      if (this.depth == this.stack.length) {
+        this.stack = Arrays.copyOf(this.stack, this.depth << 1);
+      }
+      this.stack[this.depth++] = stepId;
+    }
+
+    private long pop() {
+      return this.stack[--this.depth];
+    }
+  }
+}
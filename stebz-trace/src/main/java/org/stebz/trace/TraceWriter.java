@@ -0,0 +1,300 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.trace;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Trace writer. Records are appended to memory-mapped segment files, so written records survive a JVM crash.
+ *
+ * <p>Each record starts with {@code int} record length and {@code byte} record type. Record length is written last,
+ * so a reader stops at the first incomplete record.
+ */
+final class TraceWriter {
+  static final String FILE_SUFFIX = ".stebz-trace";
+  static final int MAGIC = 0x5354425A;
+  static final byte SEGMENT = 1;
+  static final byte NAME = 2;
+  static final byte THREAD = 3;
+  static final byte START = 4;
+  static final byte SUCCESS = 5;
+  static final byte FAILURE = 6;
+  static final int HEADER_LENGTH = 5;
+  static final int SEGMENT_LENGTH = HEADER_LENGTH + 4 + 8 + 8;
+  static final int THREAD_LENGTH = HEADER_LENGTH + 8 + 4;
+  static final int START_LENGTH = HEADER_LENGTH + 8 + 8 + 8 + 4 + 4 + 8;
+  static final int SUCCESS_LENGTH = HEADER_LENGTH + 8 + 8 + 8;
+  static final int FAILURE_LENGTH = SUCCESS_LENGTH + 4;
+  private static final int MAX_NAME_BYTES = 4096;
+  private final Path dir;
+  private final String runId;
+  private final int segmentSize;
+  private final Map<String, Integer> names;
+  private final AtomicInteger nameSeq;
+  private int segmentSeq;
+  private volatile Segment segment;
+
+  /**
+   * Ctor.
+   *
+   * @param dir         the trace directory
+   * @param segmentSize the segment file size in bytes
+   */
+  TraceWriter(final Path dir,
+              final int segmentSize) {
+    if (dir == null) { throw new NullPointerException("dir arg is null"); }
+    if (segmentSize < 1024) { throw new IllegalArgumentException("segmentSize arg is less than 1024"); }
+    this.dir = dir;
+    this.runId = "trace-" + System.currentTimeMillis() + "-" + processId();
+    this.segmentSize = segmentSize;
+    this.names = new ConcurrentHashMap<>();
+    this.nameSeq = new AtomicInteger();
+    this.segmentSeq = 0;
+    try {
+      Files.createDirectories(dir);
+    } catch (final IOException ex) {
+      throw new UncheckedIOException("Cannot create trace directory " + dir, ex);
+    }
+    this.segment = this.openSegment();
+  }
+
+  /**
+   * Returns id of given name, the name is written on first use.
+   *
+   * @param name the name
+   * @return id of given name
+   */
+  int nameId(final String name) {
+    final Integer id = this.names.get(name);
+    return id == null
+      ? this.names.computeIfAbsent(name, this::writeName)
+      : id;
+  }
+
+  /**
+   * Writes thread record.
+   *
+   * @param threadId the thread id
+   * @param nameId   the thread name id
+   */
+  void writeThread(final long threadId,
+                   final int nameId) {
+    final MappedByteBuffer buffer;
+    int pos;
+    while (true) {
+      final Segment seg = this.segment;
+      if ((pos = seg.claim(THREAD_LENGTH, this.segmentSize)) >= 0) {
+        buffer = seg.buffer;
+        break;
+      }
+      this.roll(seg);
+    }
+    buffer.putLong(pos + HEADER_LENGTH, threadId);
+    buffer.putInt(pos + HEADER_LENGTH + 8, nameId);
+    commit(buffer, pos, THREAD, THREAD_LENGTH);
+  }
+
+  /**
+   * Writes step start record.
+   *
+   * @param threadId  the thread id
+   * @param stepId    the step id
+   * @param parentId  the parent step id or {@code 0}
+   * @param nameId    the step name id
+   * @param keywordId the step keyword id
+   * @param nanoTime  the timestamp
+   */
+  void writeStart(final long threadId,
+                  final long stepId,
+                  final long parentId,
+                  final int nameId,
+                  final int keywordId,
+                  final long nanoTime) {
+    final MappedByteBuffer buffer;
+    int pos;
+    while (true) {
+      final Segment seg = this.segment;
+      if ((pos = seg.claim(START_LENGTH, this.segmentSize)) >= 0) {
+        buffer = seg.buffer;
+        break;
+      }
+      this.roll(seg);
+    }
+    buffer.putLong(pos + HEADER_LENGTH, threadId);
+    buffer.putLong(pos + HEADER_LENGTH + 8, stepId);
+    buffer.putLong(pos + HEADER_LENGTH + 16, parentId);
+    buffer.putInt(pos + HEADER_LENGTH + 24, nameId);
+    buffer.putInt(pos + HEADER_LENGTH + 28, keywordId);
+    buffer.putLong(pos + HEADER_LENGTH + 32, nanoTime);
+    commit(buffer, pos, START, START_LENGTH);
+  }
+
+  /**
+   * Writes step success record.
+   *
+   * @param threadId the thread id
+   * @param stepId   the step id
+   * @param nanoTime the timestamp
+   */
+  void writeSuccess(final long threadId,
+                    final long stepId,
+                    final long nanoTime) {
+    final MappedByteBuffer buffer;
+    int pos;
+    while (true) {
+      final Segment seg = this.segment;
+      if ((pos = seg.claim(SUCCESS_LENGTH, this.segmentSize)) >= 0) {
+        buffer = seg.buffer;
+        break;
+      }
+      this.roll(seg);
+    }
+    buffer.putLong(pos + HEADER_LENGTH, threadId);
+    buffer.putLong(pos + HEADER_LENGTH + 8, stepId);
+    buffer.putLong(pos + HEADER_LENGTH + 16, nanoTime);
+    commit(buffer, pos, SUCCESS, SUCCESS_LENGTH);
+  }
+
+  /**
+   * Writes step failure record.
+   *
+   * @param threadId    the thread id
+   * @param stepId      the step id
+   * @param nanoTime    the timestamp
+   * @param exceptionId the exception class name id
+   */
+  void writeFailure(final long threadId,
+                    final long stepId,
+                    final long nanoTime,
+                    final int exceptionId) {
+    final MappedByteBuffer buffer;
+    int pos;
+    while (true) {
+      final Segment seg = this.segment;
+      if ((pos = seg.claim(FAILURE_LENGTH, this.segmentSize)) >= 0) {
+        buffer = seg.buffer;
+        break;
+      }
+      this.roll(seg);
+    }
+    buffer.putLong(pos + HEADER_LENGTH, threadId);
+    buffer.putLong(pos + HEADER_LENGTH + 8, stepId);
+    buffer.putLong(pos + HEADER_LENGTH + 16, nanoTime);
+    buffer.putInt(pos + HEADER_LENGTH + 24, exceptionId);
+    commit(buffer, pos, FAILURE, FAILURE_LENGTH);
+  }
+
+  private Integer writeName(final String name) {
+    final int id = this.nameSeq.incrementAndGet();
+    byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > MAX_NAME_BYTES) {
+      bytes = new String(bytes, 0, MAX_NAME_BYTES, StandardCharsets.UTF_8).getBytes(StandardCharsets.UTF_8);
+    }
+    final int length = HEADER_LENGTH + 4 + 4 + bytes.length;
+    final MappedByteBuffer buffer;
+    int pos;
+    while (true) {
+      final Segment seg = this.segment;
+      if ((pos = seg.claim(length, this.segmentSize)) >= 0) {
+        buffer = seg.buffer;
+        break;
+      }
+      this.roll(seg);
+    }
+    buffer.putInt(pos + HEADER_LENGTH, id);
+    buffer.putInt(pos + HEADER_LENGTH + 4, bytes.length);
+    for (int idx = 0; idx < bytes.length; ++idx) {
+      buffer.put(pos + HEADER_LENGTH + 8 + idx, bytes[idx]);
+    }
+    commit(buffer, pos, NAME, length);
+    return id;
+  }
+
+  private synchronized void roll(final Segment full) {
+    if (this.segment == full) {
+      this.segment = this.openSegment();
+    }
+  }
+
+  private Segment openSegment() {
+    final Path file = this.dir.resolve(String.format("%s-%05d%s", this.runId, ++this.segmentSeq, FILE_SUFFIX));
+    try (FileChannel channel = FileChannel.open(file,
+      StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, this.segmentSize);
+      buffer.putInt(HEADER_LENGTH, MAGIC);
+      buffer.putLong(HEADER_LENGTH + 4, System.currentTimeMillis());
+      buffer.putLong(HEADER_LENGTH + 12, System.nanoTime());
+      commit(buffer, 0, SEGMENT, SEGMENT_LENGTH);
+      return new Segment(buffer, SEGMENT_LENGTH);
+    } catch (final IOException ex) {
+      throw new UncheckedIOException("Cannot create trace segment " + file, ex);
+    }
+  }
+
+  private static void commit(final MappedByteBuffer buffer,
+                             final int pos,
+                             final byte type,
+                             final int length) {
+    buffer.put(pos + 4, type);
+    buffer.putInt(pos, length);
+  }
+
+  private static String processId() {
+    final String name = ManagementFactory.getRuntimeMXBean().getName();
+    final int atIdx = name.indexOf('@');
+    return atIdx > 0
+      ? name.substring(0, atIdx)
+      : "0";
+  }
+
+  private static final class Segment {
+    private final MappedByteBuffer buffer;
+    private final AtomicInteger cursor;
+
+    private Segment(final MappedByteBuffer buffer,
+                    final int start) {
+      this.buffer = buffer;
+      this.cursor = new AtomicInteger(start);
+    }
+
+    private int claim(final int length,
+                      final int capacity) {
+      final int pos = this.cursor.getAndAdd(length);
+      return pos >= 0 && pos <= capacity - length
+        ? pos
+        : -1;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.trace;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link TraceAnalyzer}.
+ */
+final class TraceAnalyzerTest {
+
+  @Test
+  void reportShouldContainAllSections(@TempDir final Path dir) {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.trace.dir", dir.toString());
+    final TraceStepListener listener = new TraceStepListener(new PropertiesReader.Of(properties));
+    final RunnableStep root = RunnableStep.of(RunnableStep.emptyBody()).withName("root");
+    final RunnableStep leaf = RunnableStep.of(RunnableStep.emptyBody()).withName("leaf");
+    listener.onStepStart(root, NullableOptional.empty());
+    listener.onStepStart(leaf, NullableOptional.empty());
+    listener.onStepSuccess(leaf, NullableOptional.empty(), NullableOptional.empty());
+    listener.onStepStart(leaf, NullableOptional.empty());
+    listener.onStepSuccess(leaf, NullableOptional.empty(), NullableOptional.empty());
+    listener.onStepStart(leaf, NullableOptional.empty());
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    TraceAnalyzer.read(dir).printReport(new PrintStream(output, true), 10, true);
+    final String report = new String(output.toByteArray(), StandardCharsets.UTF_8);
+
+    assertThat(report)
+      .contains("4 steps, 1 threads")
+      .contains("Unfinished steps:")
+      .contains("Slowest steps:")
+      .contains("Steps by name:")
+      .contains("Timeline of thread \"" + Thread.currentThread().getName() + "\"")
+      .containsPattern("\\s2\\s+0\\s+.*leaf");
+  }
+
+  @Test
+  void mainMethodWithoutArgs() {
+    assertThatCode(() -> TraceAnalyzer.main(new String[0]))
+      .doesNotThrowAnyException();
+  }
+}
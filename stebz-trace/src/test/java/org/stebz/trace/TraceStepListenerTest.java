@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.trace;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.stebz.core.attribute.Keyword;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TraceStepListener}.
+ */
+final class TraceStepListenerTest {
+
+  @Test
+  void listenerShouldWriteStepRecords(@TempDir final Path dir) {
+    final TraceStepListener listener = new TraceStepListener(properties(dir, 1024 * 1024));
+    final RunnableStep parent = RunnableStep.of(RunnableStep.emptyBody())
+      .withKeyword(new Keyword.Of("When"))
+      .withName("parent");
+    final RunnableStep child = RunnableStep.of(RunnableStep.emptyBody()).withName("child");
+
+    listener.onStepStart(parent, NullableOptional.empty());
+    listener.onStepStart(child, NullableOptional.empty());
+    listener.onStepFailure(child, NullableOptional.empty(), new IllegalStateException());
+    listener.onStepSuccess(parent, NullableOptional.empty(), NullableOptional.empty());
+
+    final List<TraceAnalyzer.Step> steps = TraceAnalyzer.read(dir).steps();
+    assertThat(steps).hasSize(2);
+    final TraceAnalyzer.Step parentStep = steps.get(0);
+    final TraceAnalyzer.Step childStep = steps.get(1);
+    assertThat(parentStep.displayName()).isEqualTo("When parent");
+    assertThat(parentStep.parentId).isZero();
+    assertThat(parentStep.isFinished()).isTrue();
+    assertThat(parentStep.exception).isNull();
+    assertThat(childStep.displayName()).isEqualTo("child");
+    assertThat(childStep.parentId).isEqualTo(parentStep.id);
+    assertThat(childStep.exception).isEqualTo(IllegalStateException.class.getName());
+  }
+
+  @Test
+  void listenerShouldRollSegments(@TempDir final Path dir) throws IOException {
+    final TraceStepListener listener = new TraceStepListener(properties(dir, 1024));
+    final RunnableStep step = RunnableStep.of(RunnableStep.emptyBody()).withName("step");
+
+    for (int idx = 0; idx < 100; ++idx) {
+      listener.onStepStart(step, NullableOptional.empty());
+      listener.onStepSuccess(step, NullableOptional.empty(), NullableOptional.empty());
+    }
+
+    try (Stream<Path> files = Files.list(dir)) {
+      assertThat(files.collect(Collectors.toList())).hasSizeGreaterThan(1);
+    }
+    final List<TraceAnalyzer.Step> steps = TraceAnalyzer.read(dir).steps();
+    assertThat(steps)
+      .hasSize(100)
+      .allMatch(TraceAnalyzer.Step::isFinished)
+      .isSortedAccordingTo(Comparator.comparingLong(s -> s.id));
+  }
+
+  @Test
+  void disabledListenerShouldNotCreateFiles(@TempDir final Path dir) throws IOException {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.trace.enabled", "false");
+    properties.setProperty("stebz.trace.dir", dir.resolve("trace").toString());
+    final TraceStepListener listener = new TraceStepListener(new PropertiesReader.Of(properties));
+    final RunnableStep step = RunnableStep.of(RunnableStep.emptyBody());
+
+    listener.onStepStart(step, NullableOptional.empty());
+    listener.onStepSuccess(step, NullableOptional.empty(), NullableOptional.empty());
+
+    assertThat(dir.resolve("trace")).doesNotExist();
+  }
+
+  private static PropertiesReader properties(final Path dir,
+                                             final int segmentSize) {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.trace.dir", dir.toString());
+    properties.setProperty("stebz.trace.segmentSize", String.valueOf(segmentSize));
+    return new PropertiesReader.Of(properties);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.watchdog;
+
+import java.util.List;
+
+/**
+ * Hung step.
+ */
+public final class HungStep {
+  private final String threadName;
+  private final long threadId;
+  private final List<String> path;
+  private final long durationMillis;
+  private final String dump;
+
+  HungStep(final String threadName,
+           final long threadId,
+           final List<String> path,
+           final long durationMillis,
+           final String dump) {
+    this.threadName = threadName;
+    this.threadId = threadId;
+    this.path = path;
+    this.durationMillis = durationMillis;
+    this.dump = dump;
+  }
+
+  /**
+   * Returns step thread name.
+   *
+   * @return step thread name
+   */
+  public String threadName() {
+    return this.threadName;
+  }
+
+  /**
+   * Returns step thread id.
+   *
+   * @return step thread id
+   */
+  public long threadId() {
+    return this.threadId;
+  }
+
+  /**
+   * Returns unmodifiable active step path from the root step to the hung step.
+   *
+   * @return active step path
+   */
+  public List<String> path() {
+    return this.path;
+  }
+
+  /**
+   * Returns step duration at the moment of detection in millis.
+   *
+   * @return step duration in millis
+   */
+  public long durationMillis() {
+    return this.durationMillis;
+  }
+
+  /**
+   * Returns dump of the step thread: state, stack trace and lock owner information.
+   *
+   * @return dump of the step thread
+   */
+  public String dump() {
+    return this.dump;
+  }
+
+  @Override
+  public String toString() {
+    return this.dump;
+  }
+}
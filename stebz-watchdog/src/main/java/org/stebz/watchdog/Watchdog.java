@@ -0,0 +1,323 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.watchdog;
+
+import org.stebz.core.executor.StepStack;
+import org.stebz.core.step.StepObj;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watchdog. Keeps a registry of currently executing steps and periodically checks it from a daemon thread. Entries are
+ * keyed by {@link StepStack} depth and checked against {@link StepStack#activeStep(Thread)}, so an entry left behind
+ * by a step whose after-callbacks were skipped (for example, by a throwing listener) is never reported as hung.
+ */
+final class Watchdog {
+  private static final Logger LOGGER = Logger.getLogger(Watchdog.class.getName());
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+  private final long thresholdNanos;
+  private final long checkIntervalMillis;
+  private final List<HungStepListener> listeners;
+  private final Map<Thread, ThreadSteps> registry;
+  private final ThreadLocal<ThreadSteps> threadSteps;
+  private volatile Thread watchdogThread;
+
+  /**
+   * Ctor.
+   *
+   * @param thresholdMillis     the hung step threshold in millis
+   * @param checkIntervalMillis the check interval in millis
+   * @param listeners           the hung step listeners
+   */
+  Watchdog(final long thresholdMillis,
+           final long checkIntervalMillis,
+           final List<HungStepListener> listeners) {
+    if (thresholdMillis < 1) { throw new IllegalArgumentException("thresholdMillis arg is less than 1"); }
+    if (checkIntervalMillis < 1) { throw new IllegalArgumentException("checkIntervalMillis arg is less than 1"); }
+    this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    this.checkIntervalMillis = checkIntervalMillis;
+    this.listeners = listeners;
+    this.registry = new ConcurrentHashMap<>();
+    this.threadSteps = ThreadLocal.withInitial(() -> new ThreadSteps(Thread.currentThread()));
+  }
+
+  /**
+   * Registers step start in the current thread, dropping entries at the same or deeper level.
+   *
+   * @param step  the step
+   * @param level the step level in the {@link StepStack}
+   */
+  void push(final StepObj<?> step,
+            final int level) {
+    final ThreadSteps steps = this.threadSteps.get();
+    if (steps.push(step, level, System.nanoTime())) {
+      this.registry.put(steps.thread, steps);
+      this.start();
+    }
+  }
+
+  /**
+   * Registers step finish in the current thread, dropping entries at the same or deeper level.
+   *
+   * @param level the step level in the {@link StepStack}
+   */
+  void pop(final int level) {
+    final ThreadSteps steps = this.threadSteps.get();
+    if (steps.pop(level)) {
+      this.registry.remove(steps.thread);
+    }
+  }
+
+  /**
+   * Checks all registered threads and notifies listeners about steps exceeding the threshold.
+   */
+  void check() {
+    final long now = System.nanoTime();
+    for (final ThreadSteps steps : this.registry.values()) {
+      if (!steps.thread.isAlive()) {
+        this.registry.remove(steps.thread, steps);
+        continue;
+      }
+      final HungStepCandidate candidate = steps.hungStep(StepStack.activeStep(steps.thread), now, this.thresholdNanos);
+      if (candidate != null) {
+        final HungStep hungStep = new HungStep(
+          steps.thread.getName(),
+          steps.thread.getId(),
+          candidate.path,
+          TimeUnit.NANOSECONDS.toMillis(candidate.durationNanos),
+          dump(steps.thread, candidate)
+        );
+        for (final HungStepListener listener : this.listeners) {
+          try {
+            listener.onHungStep(hungStep);
+          } catch (final RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Hung step listener failed", ex);
+          }
+        }
+      }
+    }
+  }
+
+  private void start() {
+    if (this.watchdogThread == null) {
+      synchronized (this) {
+        if (this.watchdogThread == null) {
+          final Thread thread = new Thread(this::run, "stebz-watchdog");
+          thread.setDaemon(true);
+          thread.start();
+          this.watchdogThread = thread;
+        }
+      }
+    }
+  }
+
+  private void run() {
+    while (true) {
+      try {
+        Thread.sleep(this.checkIntervalMillis);
+      } catch (final InterruptedException ex) {
+        return;
+      }
+      try {
+        this.check();
+      } catch (final RuntimeException ex) {
+        LOGGER.log(Level.WARNING, "Failed to check step threads", ex);
+      }
+    }
+  }
+
+  private static String dump(final Thread thread,
+                             final HungStepCandidate candidate) {
+    final StringBuilder sb = new StringBuilder(4096);
+    sb.append("Hung step: ").append(candidate.path.get(candidate.path.size() - 1))
+      .append(" (running ").append(TimeUnit.NANOSECONDS.toMillis(candidate.durationNanos)).append(" ms)\n");
+    sb.append("Step path: ").append(String.join(" -> ", candidate.path)).append('\n');
+    final ThreadInfo info = threadInfo(thread.getId());
+    if (info == null) {
+      sb.append("Thread: \"").append(thread.getName()).append("\" id=").append(thread.getId()).append('\n');
+      appendStackTrace(sb, thread.getStackTrace(), null);
+      return sb.toString();
+    }
+    sb.append("Thread: \"").append(info.getThreadName()).append("\" id=").append(info.getThreadId())
+      .append(" state=").append(info.getThreadState()).append('\n');
+    if (info.getLockName() != null) {
+      sb.append("Waiting on: ").append(info.getLockName());
+      if (info.getLockOwnerName() != null) {
+        sb.append(" owned by \"").append(info.getLockOwnerName()).append("\" id=").append(info.getLockOwnerId());
+      }
+      sb.append('\n');
+    }
+    final LockInfo[] synchronizers = info.getLockedSynchronizers();
+    if (synchronizers != null && synchronizers.length != 0) {
+      sb.append("Locked synchronizers: ").append(Arrays.toString(synchronizers)).append('\n');
+    }
+    final long[] deadlocked = THREAD_MX_BEAN.isSynchronizerUsageSupported()
+      ? THREAD_MX_BEAN.findDeadlockedThreads()
+      : THREAD_MX_BEAN.findMonitorDeadlockedThreads();
+    if (deadlocked != null) {
+      for (final long id : deadlocked) {
+        if (id == info.getThreadId()) {
+          sb.append("Deadlock detected with threads: ").append(Arrays.toString(deadlocked)).append('\n');
+          break;
+        }
+      }
+    }
+    sb.append("Stack trace:\n");
+    appendStackTrace(sb, info.getStackTrace(), info.getLockedMonitors());
+    if (info.getLockOwnerId() != -1) {
+      final ThreadInfo ownerInfo = threadInfo(info.getLockOwnerId());
+      if (ownerInfo != null) {
+        sb.append("Lock owner \"").append(ownerInfo.getThreadName()).append("\" id=").append(ownerInfo.getThreadId())
+          .append(" state=").append(ownerInfo.getThreadState()).append(" stack trace:\n");
+        appendStackTrace(sb, ownerInfo.getStackTrace(), ownerInfo.getLockedMonitors());
+      }
+    }
+    return sb.toString();
+  }
+
+  private static ThreadInfo threadInfo(final long threadId) {
+    final ThreadInfo[] infos = THREAD_MX_BEAN.getThreadInfo(
+      new long[]{threadId},
+      THREAD_MX_BEAN.isObjectMonitorUsageSupported(),
+      THREAD_MX_BEAN.isSynchronizerUsageSupported()
+    );
+    return infos.length == 0 ? null : infos[0];
+  }
+
+  private static void appendStackTrace(final StringBuilder sb,
+                                       final StackTraceElement[] stackTrace,
+                                       final MonitorInfo[] lockedMonitors) {
+    for (int idx = 0; idx < stackTrace.length; ++idx) {
+      sb.append("\tat ").append(stackTrace[idx]).append('\n');
+      if (lockedMonitors != null) {
+        for (final MonitorInfo monitor : lockedMonitors) {
+          if (monitor.getLockedStackDepth() == idx) {
+            sb.append("\t- locked ").append(monitor).append('\n');
+          }
+        }
+      }
+    }
+  }
+
+  private static final class HungStepCandidate {
+    private final List<String> path;
+    private final long durationNanos;
+
+    private HungStepCandidate(final List<String> path,
+                              final long durationNanos) {
+      this.path = path;
+      this.durationNanos = durationNanos;
+    }
+  }
+
+  private static final class ThreadSteps {
+    private final Thread thread;
+    private StepObj<?>[] steps;
+    private long[] startTimes;
+    private boolean[] reported;
+    private int depth;
+
+    private ThreadSteps(final Thread thread) {
+      this.thread = thread;
+      this.steps = new StepObj<?>[16];
+      this.startTimes = new long[16];
+      this.reported = new boolean[16];
+      this.depth = 0;
+    }
+
+    private synchronized boolean push(final StepObj<?> step,
+                                      final int level,
+                                      final long startTime) {
+      this.truncate(level);
+      if (level >= this.steps.length) {
+        final int length = Math.max(this.steps.length << 1, level + 1);
+        this.steps = Arrays.copyOf(this.steps, length);
+        this.startTimes = Arrays.copyOf(this.startTimes, length);
+        this.reported = Arrays.copyOf(this.reported, length);
+      }
+      this.steps[level] = step;
+      this.startTimes[level] = startTime;
+      this.reported[level] = false;
+      this.depth = level + 1;
+      return level == 0;
+    }
+
+    private synchronized boolean pop(final int level) {
+      if (this.depth == 0) {
+        return false;
+      }
+      this.truncate(level);
+      return this.depth == 0;
+    }
+
+    private void truncate(final int level) {
+      while (this.depth > level) {
+        this.steps[--this.depth] = null;
+      }
+    }
+
+    /* deepest not reported step exceeding the threshold, its ancestors are marked as reported too */
+    private synchronized HungStepCandidate hungStep(final StepObj<?> activeStep,
+                                                    final long now,
+                                                    final long thresholdNanos) {
+      /* entries above the active step are stale, left by steps whose after-callbacks were skipped */
+      int activeDepth = 0;
+      if (activeStep != null) {
+        for (int idx = this.depth - 1; idx >= 0; --idx) {
+          if (this.steps[idx] == activeStep) {
+            activeDepth = idx + 1;
+            break;
+          }
+        }
+      }
+      for (int idx = activeDepth - 1; idx >= 0; --idx) {
+        if (now - this.startTimes[idx] >= thresholdNanos) {
+          if (this.reported[idx]) {
+            return null;
+          }
+          final List<String> path = new ArrayList<>(idx + 1);
+          for (int pathIdx = 0; pathIdx <= idx; ++pathIdx) {
+            path.add(this.steps[pathIdx].getKeywordAndName());
+            this.reported[pathIdx] = true;
+          }
+          return new HungStepCandidate(Collections.unmodifiableList(path), now - this.startTimes[idx]);
+        }
+      }
+      return null;
+    }
+  }
+}
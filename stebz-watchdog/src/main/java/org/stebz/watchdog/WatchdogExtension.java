@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.watchdog;
+
+import org.stebz.core.executor.StartupPropertiesReader;
+import org.stebz.core.executor.StepStack;
+import org.stebz.core.extension.AfterStepFailure;
+import org.stebz.core.extension.AfterStepSuccess;
+import org.stebz.core.extension.BeforeStepStart;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.step.StepObj;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hung step watchdog {@link StebzExtension}. Tracks currently executing steps of all threads and, when a step exceeds
+ * the threshold, dumps the step thread stack, the active step path and lock owner information to a file and to
+ * {@link HungStepListener}s. The watchdog only observes, it never interrupts steps.
+ */
+public class WatchdogExtension implements BeforeStepStart, AfterStepSuccess, AfterStepFailure {
+  private static final Logger LOGGER = Logger.getLogger(WatchdogExtension.class.getName());
+  private final boolean enabled;
+  private final int order;
+  private final Watchdog watchdog;
+
+  /**
+   * Ctor.
+   */
+  public WatchdogExtension() {
+    this(StartupPropertiesReader.get());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   */
+  public WatchdogExtension(final PropertiesReader properties) {
+    this(properties, loadListeners());
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param properties the properties reader
+   * @param listeners  the hung step listeners
+   * @throws NullPointerException if {@code properties} arg or {@code listeners} arg is null
+   */
+  public WatchdogExtension(final PropertiesReader properties,
+                           final List<HungStepListener> listeners) {
+    if (properties == null) { throw new NullPointerException("properties arg is null"); }
+    if (listeners == null) { throw new NullPointerException("listeners arg is null"); }
+    this.enabled = properties.getBoolean("stebz.watchdog.enabled", true);
+    this.order = properties.getInteger("stebz.watchdog.order", EARLY_ORDER);
+    final List<HungStepListener> allListeners = new ArrayList<>(listeners);
+    if (properties.getBoolean("stebz.watchdog.writeFile", true)) {
+      allListeners.add(new FileListener(
+        Paths.get(properties.getString("stebz.watchdog.file", "target/stebz-watchdog.log"))
+      ));
+    }
+    this.watchdog = this.enabled
+      ? new Watchdog(
+        properties.getLong("stebz.watchdog.threshold", 60000L),
+        properties.getLong("stebz.watchdog.checkInterval", 1000L),
+        allListeners
+      )
+      : null;
+  }
+
+  @Override
+  public int order() {
+    return this.order;
+  }
+
+  @Override
+  public void beforeStepStart(final StepObj<?> step,
+                              final NullableOptional<Object> context) {
+    if (this.enabled) {
+      this.watchdog.push(step, StepStack.current().depth() - 1);
+    }
+  }
+
+  @Override
+  public void afterStepSuccess(final StepObj<?> step,
+                               final NullableOptional<Object> context,
+                               final NullableOptional<Object> result) {
+    if (this.enabled) {
+      this.watchdog.pop(StepStack.current().depth() - 1);
+    }
+  }
+
+  @Override
+  public void afterStepFailure(final StepObj<?> step,
+                               final NullableOptional<Object> context,
+                               final Throwable exception) {
+    if (this.enabled) {
+      this.watchdog.pop(StepStack.current().depth() - 1);
+    }
+  }
+
+  private static List<HungStepListener> loadListeners() {
+    final List<HungStepListener> listeners = new ArrayList<>();
+    ServiceLoader.load(HungStepListener.class).forEach(listeners::add);
+    return listeners;
+  }
+
+  private static final class FileListener implements HungStepListener {
+    private final Path file;
+
+    private FileListener(final Path file) {
+      this.file = file;
+    }
+
+    @Override
+    public synchronized void onHungStep(final HungStep hungStep) {
+      try {
+        final Path parent = this.file.toAbsolutePath().getParent();
+        if (parent != null) {
+          Files.createDirectories(parent);
+        }
+        Files.write(this.file, (hungStep.dump() + '\n').getBytes(StandardCharsets.UTF_8),
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+      } catch (final IOException ex) {
+        LOGGER.log(Level.WARNING, "Failed to write hung step dump to " + this.file, ex);
+      }
+    }
+  }
+}
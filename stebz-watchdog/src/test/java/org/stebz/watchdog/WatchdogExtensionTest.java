@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025-2026 Evgenii Plugatar
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.stebz.watchdog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.stebz.core.attribute.Keyword;
+import org.stebz.core.executor.StepExecutor;
+import org.stebz.core.extension.StebzExtension;
+import org.stebz.core.listener.StepListener;
+import org.stebz.core.step.StepObj;
+import org.stebz.core.step.executable.RunnableStep;
+import org.stebz.util.container.NullableOptional;
+import org.stebz.util.property.PropertiesReader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for {@link WatchdogExtension}.
+ */
+final class WatchdogExtensionTest {
+
+  @Test
+  void extensionShouldReportBlockedStepWithLockOwner(@TempDir final Path dir) throws Exception {
+    final List<HungStep> hungSteps = new CopyOnWriteArrayList<>();
+    final Path file = dir.resolve("watchdog.log");
+    final StepExecutor executor = executor(properties(file), hungSteps::add);
+    final Object lock = new Object();
+    final RunnableStep child = RunnableStep.of(() -> {
+      synchronized (lock) {
+        lock.hashCode();
+      }
+    }).withName("child");
+    final RunnableStep parent = RunnableStep.of(() -> executor.execute(child))
+      .withKeyword(new Keyword.Of("When"))
+      .withName("parent");
+
+    final Thread stepThread;
+    synchronized (lock) {
+      stepThread = new Thread(() -> executor.execute(parent), "step-thread");
+      stepThread.start();
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (hungSteps.isEmpty() && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+    }
+    stepThread.join(5000);
+
+    assertThat(hungSteps).hasSize(1);
+    final HungStep hungStep = hungSteps.get(0);
+    assertThat(hungStep.threadName()).isEqualTo("step-thread");
+    assertThat(hungStep.path()).containsExactly("When parent", "child");
+    assertThat(hungStep.durationMillis()).isGreaterThanOrEqualTo(50L);
+    assertThat(hungStep.dump())
+      .contains("Step path: When parent -> child")
+      .contains("state=BLOCKED")
+      .contains("owned by \"" + Thread.currentThread().getName() + "\"")
+      .contains("Lock owner \"" + Thread.currentThread().getName() + "\"");
+    assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).contains("Step path: When parent -> child");
+  }
+
+  @Test
+  void extensionShouldNotReportFastSteps(@TempDir final Path dir) throws Exception {
+    final List<HungStep> hungSteps = new CopyOnWriteArrayList<>();
+    final Path file = dir.resolve("watchdog.log");
+    final StepExecutor executor = executor(properties(file), hungSteps::add);
+
+    for (int idx = 0; idx < 100; ++idx) {
+      executor.execute(RunnableStep.of(RunnableStep.emptyBody()).withName("step"));
+    }
+    Thread.sleep(150);
+
+    assertThat(hungSteps).isEmpty();
+    assertThat(file).doesNotExist();
+  }
+
+  @Test
+  void extensionShouldIgnoreStepsLeftByThrowingListener(@TempDir final Path dir) throws Exception {
+    final List<HungStep> hungSteps = new CopyOnWriteArrayList<>();
+    final StepExecutor executor = new StepExecutor.Of(
+      new StepListener[]{new ThrowingListener("leaky")},
+      new StebzExtension[]{new WatchdogExtension(properties(dir.resolve("watchdog.log")),
+        Collections.singletonList(hungSteps::add))}
+    );
+    final RunnableStep leaky = RunnableStep.of(RunnableStep.emptyBody()).withName("leaky");
+    final RunnableStep parent = RunnableStep.of(() -> {
+      assertThatCode(() -> executor.execute(leaky)).isInstanceOf(IllegalStateException.class);
+      Thread.sleep(150);
+    }).withName("parent");
+
+    executor.execute(parent);
+    assertThatCode(() -> executor.execute(leaky)).isInstanceOf(IllegalStateException.class);
+    Thread.sleep(150);
+
+    assertThat(hungSteps).hasSize(1);
+    assertThat(hungSteps.get(0).path()).containsExactly("parent");
+  }
+
+  @Test
+  void disabledExtensionShouldNotReportSteps() throws Exception {
+    final List<HungStep> hungSteps = new CopyOnWriteArrayList<>();
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.watchdog.enabled", "false");
+    properties.setProperty("stebz.watchdog.writeFile", "false");
+    final StepExecutor executor = executor(new PropertiesReader.Of(properties), hungSteps::add);
+
+    executor.execute(RunnableStep.of(() -> Thread.sleep(150)).withName("step"));
+
+    assertThat(hungSteps).isEmpty();
+  }
+
+  private static StepExecutor executor(final PropertiesReader properties,
+                                       final HungStepListener listener) {
+    return new StepExecutor.Of(
+      new StepListener[0],
+      new StebzExtension[]{new WatchdogExtension(properties, Collections.singletonList(listener))}
+    );
+  }
+
+  private static final class ThrowingListener implements StepListener {
+    private final String stepName;
+
+    private ThrowingListener(final String stepName) {
+      this.stepName = stepName;
+    }
+
+    @Override
+    public void onStepStart(final StepObj<?> step,
+                            final NullableOptional<Object> context) {
+    }
+
+    @Override
+    public void onStepSuccess(final StepObj<?> step,
+                              final NullableOptional<Object> context,
+                              final NullableOptional<Object> result) {
+      if (step.getName().equals(this.stepName)) {
+        throw new IllegalStateException("listener failure");
+      }
+    }
+
+    @Override
+    public void onStepFailure(final StepObj<?> step,
+                              final NullableOptional<Object> context,
+                              final Throwable exception) {
+    }
+  }
+
+  private static PropertiesReader properties(final Path file) {
+    final Properties properties = new Properties();
+    properties.setProperty("stebz.watchdog.threshold", "50");
+    properties.setProperty("stebz.watchdog.checkInterval", "10");
+    properties.setProperty("stebz.watchdog.file", file.toString());
+    return new PropertiesReader.Of(properties);
+  }
+}